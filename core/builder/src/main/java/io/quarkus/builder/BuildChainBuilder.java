@@ -437,7 +437,7 @@ public final class BuildChainBuilder {
                 includedDependents++;
             }
         }
-        final StepInfo stepInfo = new StepInfo(toBuild, includedDependencies, dependentStepInfos);
+        final StepInfo stepInfo = new StepInfo(toBuild, mapped.size(), includedDependencies, dependentStepInfos);
         mapped.put(toBuild, stepInfo);
         if (includedDependencies == 0) {
             // it's a start step!
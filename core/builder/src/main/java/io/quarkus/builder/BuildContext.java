@@ -3,6 +3,7 @@ package io.quarkus.builder;
 import static io.quarkus.builder.Execution.*;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -28,6 +29,8 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    // the indexes of the steps this step transitively depends on, guarded by itself
+    private final BitSet stepDependencies = new BitSet();
     private volatile boolean running;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
@@ -47,6 +50,27 @@ public final class BuildContext {
         return execution.getBuildTargetName();
     }
 
+    /**
+     * Get the index of this build step, which identifies it among the steps of the build chain.
+     *
+     * @return the index of this build step
+     */
+    public int getStepIndex() {
+        return stepInfo.getIndex();
+    }
+
+    /**
+     * Get the indexes of the build steps this step transitively depends on. Those steps always complete before this
+     * one starts, whereas the other steps may run before, after or concurrently with it.
+     *
+     * @return a copy of the indexes of the build steps this step depends on (not {@code null})
+     */
+    public BitSet getStepDependencies() {
+        synchronized (stepDependencies) {
+            return (BitSet) stepDependencies.clone();
+        }
+    }
+
     /**
      * Produce the given item. If the {@code type} refers to a item which is declared with multiplicity, then this
      * method can be called more than once for the given {@code type}, otherwise it must be called no more than once.
@@ -254,6 +278,14 @@ public final class BuildContext {
         }
     }
 
+    void addStepDependencies(BuildContext dependency) {
+        BitSet inherited = dependency.getStepDependencies();
+        inherited.set(dependency.getStepIndex());
+        synchronized (stepDependencies) {
+            stepDependencies.or(inherited);
+        }
+    }
+
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
@@ -291,7 +323,9 @@ public final class BuildContext {
         final Set<StepInfo> dependents = stepInfo.getDependents();
         if (!dependents.isEmpty()) {
             for (StepInfo info : dependents) {
-                execution.getBuildContext(info).depFinished();
+                final BuildContext dependent = execution.getBuildContext(info);
+                dependent.addStepDependencies(this);
+                dependent.depFinished();
             }
         } else {
             execution.depFinished();
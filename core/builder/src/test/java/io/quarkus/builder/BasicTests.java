@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Assertions;
@@ -23,6 +25,12 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem4 extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -288,4 +296,53 @@ public class BasicTests {
         stepBuilder.build();
         builder.build();
     }
+
+    @Test
+    public void testStepDependencies() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final ConcurrentHashMap<String, Integer> indexes = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, BitSet> dependencies = new ConcurrentHashMap<>();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                indexes.put("first", context.getStepIndex());
+                dependencies.put("first", context.getStepDependencies());
+                context.produce(new DummyItem());
+            }
+        }).produces(DummyItem.class).build();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem.class);
+                indexes.put("second", context.getStepIndex());
+                dependencies.put("second", context.getStepDependencies());
+                context.produce(new DummyItem2());
+            }
+        }).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.consume(DummyItem2.class);
+                dependencies.put("third", context.getStepDependencies());
+                context.produce(new DummyItem3());
+            }
+        }).consumes(DummyItem2.class).produces(DummyItem3.class).build();
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                dependencies.put("independent", context.getStepDependencies());
+                context.produce(new DummyItem4());
+            }
+        }).produces(DummyItem4.class).build();
+        builder.addFinal(DummyItem3.class);
+        builder.addFinal(DummyItem4.class);
+        builder.build().createExecutionBuilder("my-app.jar").execute();
+
+        assertTrue(dependencies.get("first").isEmpty());
+        assertTrue(dependencies.get("second").get(indexes.get("first")));
+        assertTrue(dependencies.get("third").get(indexes.get("first")));
+        assertTrue(dependencies.get("third").get(indexes.get("second")));
+        assertFalse(dependencies.get("independent").get(indexes.get("first")));
+        assertFalse(dependencies.get("independent").get(indexes.get("second")));
+    }
 }
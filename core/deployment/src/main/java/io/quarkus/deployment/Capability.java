@@ -39,6 +39,7 @@ public enum Capability {
     SECURITY_ELYTRON_LDAP,
     SECURITY_JPA,
     QUARTZ,
+    REDIS_CLIENT,
     METRICS,
     CONTAINER_IMAGE_JIB,
     CONTAINER_IMAGE_DOCKER,
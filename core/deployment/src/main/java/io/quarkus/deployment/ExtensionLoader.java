@@ -947,7 +947,8 @@ public final class ExtensionLoader {
                                     if (recordAnnotation.value() == ExecutionTime.STATIC_INIT) {
                                         bc.produce(new StaticBytecodeRecorderBuildItem(bri));
                                     } else {
-                                        bc.produce(new MainBytecodeRecorderBuildItem(bri));
+                                        bc.produce(new MainBytecodeRecorderBuildItem(bri, bc.getStepIndex(),
+                                                bc.getStepDependencies()));
                                     }
 
                                 }
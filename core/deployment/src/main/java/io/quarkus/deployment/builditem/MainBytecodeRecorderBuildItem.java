@@ -1,5 +1,7 @@
 package io.quarkus.deployment.builditem;
 
+import java.util.BitSet;
+
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
 
@@ -7,15 +9,30 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
 
     private final BytecodeRecorderImpl bytecodeRecorder;
     private final String generatedStartupContextClassName;
+    private final int stepIndex;
+    private final BitSet stepDependencies;
 
     public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder) {
+        this(bytecodeRecorder, -1, null);
+    }
+
+    /**
+     * @param bytecodeRecorder the recorder of the build step
+     * @param stepIndex the index of the build step that recorded the bytecode
+     * @param stepDependencies the indexes of the build steps the build step transitively depends on
+     */
+    public MainBytecodeRecorderBuildItem(BytecodeRecorderImpl bytecodeRecorder, int stepIndex, BitSet stepDependencies) {
         this.bytecodeRecorder = bytecodeRecorder;
         this.generatedStartupContextClassName = null;
+        this.stepIndex = stepIndex;
+        this.stepDependencies = stepDependencies;
     }
 
     public MainBytecodeRecorderBuildItem(String generatedStartupContextClassName) {
         this.generatedStartupContextClassName = generatedStartupContextClassName;
         this.bytecodeRecorder = null;
+        this.stepIndex = -1;
+        this.stepDependencies = null;
     }
 
     public BytecodeRecorderImpl getBytecodeRecorder() {
@@ -25,4 +42,18 @@ public final class MainBytecodeRecorderBuildItem extends MultiBuildItem {
     public String getGeneratedStartupContextClassName() {
         return generatedStartupContextClassName;
     }
+
+    /**
+     * @return the index of the build step that recorded the bytecode, {@code -1} if unknown
+     */
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    /**
+     * @return the indexes of the build steps the recording build step transitively depends on, {@code null} if unknown
+     */
+    public BitSet getStepDependencies() {
+        return stepDependencies;
+    }
 }
@@ -60,6 +60,7 @@ import io.quarkus.runtime.configuration.AbstractRawDefaultConfigSource;
 import io.quarkus.runtime.configuration.ConfigDiagnostic;
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.configuration.FrozenConfig;
 import io.quarkus.runtime.configuration.HyphenateEnumConverter;
 import io.quarkus.runtime.configuration.NameIterator;
 import io.quarkus.runtime.configuration.ProfileManager;
@@ -226,6 +227,9 @@ public final class RunTimeConfigurationGenerator {
             "withConverter", ConfigBuilder.class, Class.class, int.class, Converter.class);
     static final MethodDescriptor SRCB_WITH_SOURCES = MethodDescriptor.ofMethod(SmallRyeConfigBuilder.class,
             "withSources", ConfigBuilder.class, ConfigSource[].class);
+    static final MethodDescriptor FC_FREEZE = MethodDescriptor.ofMethod(FrozenConfig.class, "freeze", FrozenConfig.class,
+            SmallRyeConfig.class);
+
     static final MethodDescriptor SRCB_BUILD = MethodDescriptor.ofMethod(SmallRyeConfigBuilder.class, "build",
             SmallRyeConfig.class);
 
@@ -243,14 +247,16 @@ public final class RunTimeConfigurationGenerator {
     public static void generate(BuildTimeConfigurationReader.ReadResult readResult, final ClassOutput classOutput,
             boolean devMode,
             final Map<String, String> runTimeDefaults, List<Class<?>> additionalTypes,
-            List<String> additionalBootstrapConfigSourceProviders) {
+            List<String> additionalBootstrapConfigSourceProviders, boolean frozenConfig) {
         new GenerateOperation.Builder().setBuildTimeReadResult(readResult).setClassOutput(classOutput).setDevMode(devMode)
                 .setRunTimeDefaults(runTimeDefaults).setAdditionalTypes(additionalTypes)
-                .setAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders).build().run();
+                .setAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders)
+                .setFrozenConfig(frozenConfig).build().run();
     }
 
     static final class GenerateOperation implements AutoCloseable {
         final boolean devMode;
+        final boolean frozenConfig;
         final AccessorFinder accessorFinder;
         final ClassOutput classOutput;
         final ClassCreator cc;
@@ -295,6 +301,7 @@ public final class RunTimeConfigurationGenerator {
 
         GenerateOperation(Builder builder) {
             this.devMode = builder.devMode;
+            this.frozenConfig = builder.frozenConfig;
             final BuildTimeConfigurationReader.ReadResult buildTimeReadResult = builder.buildTimeReadResult;
             buildTimeConfigResult = Assert.checkNotNullParam("buildTimeReadResult", buildTimeReadResult);
             specifiedRunTimeDefaultValues = Assert.checkNotNullParam("specifiedRunTimeDefaultValues",
@@ -589,7 +596,10 @@ public final class RunTimeConfigurationGenerator {
                 installConfiguration(bootstrapConfig, readBootstrapConfig);
             }
 
-            final ResultHandle runTimeConfig = readConfig.invokeVirtualMethod(SRCB_BUILD, runTimeBuilder);
+            ResultHandle runTimeConfig = readConfig.invokeVirtualMethod(SRCB_BUILD, runTimeBuilder);
+            if (frozenConfig) {
+                runTimeConfig = readConfig.invokeStaticMethod(FC_FREEZE, runTimeConfig);
+            }
             installConfiguration(runTimeConfig, readConfig);
 
             final ResultHandle clInitOldLen = clinit.invokeVirtualMethod(SB_LENGTH, clinitNameBuilder);
@@ -1554,6 +1564,7 @@ public final class RunTimeConfigurationGenerator {
 
         static final class Builder {
             private boolean devMode;
+            private boolean frozenConfig;
             private ClassOutput classOutput;
             private BuildTimeConfigurationReader.ReadResult buildTimeReadResult;
             private Map<String, String> runTimeDefaults;
@@ -1608,6 +1619,11 @@ public final class RunTimeConfigurationGenerator {
                 return this;
             }
 
+            Builder setFrozenConfig(boolean frozenConfig) {
+                this.frozenConfig = frozenConfig;
+                return this;
+            }
+
             Builder setAdditionalBootstrapConfigSourceProviders(List<String> additionalBootstrapConfigSourceProviders) {
                 this.additionalBootstrapConfigSourceProviders = additionalBootstrapConfigSourceProviders;
                 return this;
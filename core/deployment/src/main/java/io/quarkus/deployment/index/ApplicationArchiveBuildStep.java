@@ -7,6 +7,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.ProviderNotFoundException;
 import java.util.ArrayList;
 import java.util.Enumeration;
@@ -14,6 +15,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.jar.JarEntry;
@@ -60,6 +62,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfiguration indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -70,6 +74,25 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the indexes of the dependencies that do not contain a Jandex index are kept on disk and reused by
+         * the next builds, as long as the content of the dependency does not change.
+         * <p>
+         * The cached indexes are never removed, the directory grows with each new version of these dependencies.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The directory of the cached indexes, defaults to the {@code .cache/quarkus/jandex} directory of the local
+         * Maven repository.
+         */
+        @ConfigItem
+        Optional<String> directory;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -98,11 +121,18 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.persistentCache = indexCacheConfig.enabled
+                ? new PersistentIndexCache(indexCacheConfig.directory.map(Paths::get)
+                        .orElseGet(PersistentIndexCache::defaultDirectory))
+                : null;
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 Thread.currentThread().getContextClassLoader(),
                 markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
                 curateOutcomeBuildItem);
+        if (indexCache.persistentCache != null) {
+            indexCache.persistentCache.logStatistics();
+        }
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getRootDirs(), root.getPaths(), null),
                 applicationArchives);
@@ -279,13 +309,13 @@ public class ApplicationArchiveBuildStep {
                                 LOGGER.warnf(
                                         "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
                                         path);
-                                return indexJar(file);
+                                return indexJar(path, file, indexCache.persistentCache);
                             } else {
                                 return reader.read();
                             }
                         }
                     }
-                    return indexJar(file);
+                    return indexJar(path, file, indexCache.persistentCache);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -293,6 +323,13 @@ public class ApplicationArchiveBuildStep {
         });
     }
 
+    private static Index indexJar(Path path, JarFile file, PersistentIndexCache persistentCache) throws IOException {
+        if (persistentCache == null) {
+            return indexJar(file);
+        }
+        return persistentCache.index(path, () -> indexJar(file));
+    }
+
     private static Index indexJar(JarFile file) throws IOException {
         Indexer indexer = new Indexer();
         Enumeration<JarEntry> e = file.entries();
@@ -315,5 +352,8 @@ public class ApplicationArchiveBuildStep {
 
         final Map<Path, Index> cache = new HashMap<>();
 
+        // the indexes kept across builds, null if disabled
+        PersistentIndexCache persistentCache;
+
     }
 }
@@ -0,0 +1,154 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps on disk the indexes of the dependency jars that do not embed one, so that the next builds, test JVMs
+ * included, do not index the same jars again.
+ * <p>
+ * The indexes are keyed by the SHA-1 of the content of the jar and by the Jandex version, a jar that changes without
+ * changing its name is thus indexed again. They are written to a temporary file that is then moved, so that concurrent
+ * builds never read a partially written index.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+    private final String jandexVersion;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong hitNanos = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong missNanos = new AtomicLong();
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+        String version = Index.class.getPackage().getImplementationVersion();
+        this.jandexVersion = version == null ? "unknown" : version;
+    }
+
+    /**
+     * @return the default cache directory, in the local Maven repository
+     */
+    static Path defaultDirectory() {
+        String localRepo = System.getenv("QUARKUS_LOCAL_REPO");
+        if (localRepo == null) {
+            localRepo = System.getProperty("maven.repo.local");
+        }
+        Path repository = localRepo != null ? Paths.get(localRepo)
+                : Paths.get(System.getProperty("user.home"), ".m2", "repository");
+        return repository.resolve(".cache").resolve("quarkus").resolve("jandex");
+    }
+
+    /**
+     * Returns the cached index of the given jar, or indexes it with the given indexer and caches the result.
+     */
+    Index index(Path jar, JarIndexer indexer) throws IOException {
+        long start = System.nanoTime();
+        Path cached = directory.resolve(hash(jar) + "-" + jandexVersion + INDEX_SUFFIX);
+        if (Files.isRegularFile(cached)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(cached))) {
+                Index index = new IndexReader(in).read();
+                hits.incrementAndGet();
+                hitNanos.addAndGet(System.nanoTime() - start);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Ignoring the unreadable cached index %s of %s", cached, jar);
+            }
+        }
+        Index index = indexer.index();
+        write(cached, index);
+        misses.incrementAndGet();
+        missNanos.addAndGet(System.nanoTime() - start);
+        return index;
+    }
+
+    private void write(Path cached, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, cached.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, cached, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException e) {
+            // the cache is only an optimization
+            LOGGER.debugf(e, "Failed to cache the index %s", cached);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    void logStatistics() {
+        if (hits.get() > 0 || misses.get() > 0) {
+            LOGGER.infof("Dependency index cache %s: %d hit(s) in %d ms, %d miss(es) in %d ms", directory, hits.get(),
+                    TimeUnit.NANOSECONDS.toMillis(hitNanos.get()), misses.get(),
+                    TimeUnit.NANOSECONDS.toMillis(missNanos.get()));
+        }
+    }
+
+    private static String hash(Path jar) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    interface JarIndexer {
+        Index index() throws IOException;
+    }
+}
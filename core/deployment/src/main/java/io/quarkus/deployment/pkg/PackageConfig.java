@@ -1,5 +1,6 @@
 package io.quarkus.deployment.pkg;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -89,6 +90,50 @@ public class PackageConfig {
     @ConfigItem
     public boolean createAppcds;
 
+    /**
+     * The paths requested, in order, once the application started by the AppCDS creation process is up, for instance
+     * {@code /hello,/fruits}. The classes loaded to serve them then end up in the AppCDS, which otherwise only contains
+     * the classes loaded until the application is started.
+     *
+     * When set, the time it takes the application to serve the first path is also logged, with and without the AppCDS.
+     * This has no effect unless the creation of AppCDS is enabled.
+     */
+    @ConfigItem
+    public Optional<List<String>> appcdsWarmupPaths;
+
+    /**
+     * A command run once the application started by the AppCDS creation process is up, and after the warm-up paths are
+     * requested, for instance a script running a representative workload. The URL of the application is given to the
+     * command in the {@code QUARKUS_APPCDS_APPLICATION_URL} environment variable.
+     *
+     * This has no effect unless the creation of AppCDS is enabled.
+     */
+    @ConfigItem
+    public Optional<List<String>> appcdsWarmupCommand;
+
+    /**
+     * The maximum time the application started by the AppCDS creation process is given to start and to be warmed up.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration appcdsWarmupTimeout;
+
+    /**
+     * Whether the packaged application is kept in a build cache and reused by the next builds of the same inputs,
+     * which then skip the augmentation. The inputs are the content of the application and of its dependencies, its
+     * configuration, the {@code quarkus.*} system properties, the {@code QUARKUS_*} environment variables and the JVM.
+     *
+     * The applications that build a container image are never reused, so that the image is always built.
+     */
+    @ConfigItem
+    public boolean buildCache;
+
+    /**
+     * The directory of the build cache, defaults to the {@code .cache/quarkus/builds} directory of the local Maven
+     * repository.
+     */
+    @ConfigItem
+    public Optional<String> buildCacheDirectory;
+
     /**
      * This is an advanced option that only takes effect for the mutable-jar format.
      *
@@ -102,6 +147,16 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> userProvidersDirectory;
 
+    /**
+     * This is an advanced option that only takes effect for the fast-jar and mutable-jar formats.
+     *
+     * If this is enabled, the classes of the application and of its dependencies are also written into a single
+     * uncompressed archive, which is memory-mapped at startup so that the classes are defined without looking them up
+     * and inflating them in each jar. The jars are kept, and only opened to look up the other resources.
+     */
+    @ConfigItem
+    public boolean mappedClassArchive;
+
     public boolean isAnyJarType() {
         return (type.equalsIgnoreCase(PackageConfig.LEGACY) ||
                 type.equalsIgnoreCase(PackageConfig.JAR) ||
@@ -2,6 +2,10 @@ package io.quarkus.deployment.pkg.steps;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,6 +13,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BooleanSupplier;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -26,6 +32,7 @@ import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.steps.MainClassBuildStep;
 import io.quarkus.deployment.util.JavaVersionUtil;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.utilities.JavaBinFinder;
 
 public class AppCDSBuildStep {
@@ -33,6 +40,10 @@ public class AppCDSBuildStep {
     private static final Logger log = Logger.getLogger(AppCDSBuildStep.class);
     public static final String JDK_CLASSLIST_FILE = "classlist";
     public static final String CLASSES_LIST_FILE_NAME = "classes.lst";
+    public static final String APP_CDS_FILE_NAME = "app-cds.jsa";
+    private static final String STARTED_FILE_NAME = "started";
+    private static final String APPLICATION_URL_ENV = "QUARKUS_APPCDS_APPLICATION_URL";
+    private static final int REQUEST_TIMEOUT = 30_000;
 
     @BuildStep(onlyIf = AppCDSRequired.class)
     public void requested(OutputTargetBuildItem outputTarget, BuildProducer<AppCDSRequestedBuildItem> producer)
@@ -50,6 +61,7 @@ public class AppCDSBuildStep {
             BuildProducer<AppCDSResultBuildItem> appCDS,
             BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
         if (!appCDsRequested.isPresent()) {
+            deleteOutdatedAppCDS(packageConfig, jarResult);
             return;
         }
 
@@ -81,7 +93,7 @@ public class AppCDSBuildStep {
         log.debugf("'%s' successfully created.", CLASSES_LIST_FILE_NAME);
 
         log.info("Launching AppCDS creation process.");
-        Path appCDSPath = createAppCDS(jarResult, javaBinStr, classesLstPath, packageConfig.isFastJar());
+        Path appCDSPath = createAppCDS(jarResult, javaBinStr, classesLstPath);
         if (appCDSPath == null) {
             log.warn("Unable to create AppCDS.");
             return;
@@ -93,6 +105,10 @@ public class AppCDSBuildStep {
                         "JVM flag.\nMoreover, make sure to use the exact same Java version (%s) to run the application as was used to build it.",
                 appCDSPath.toAbsolutePath().toString(), System.getProperty("java.version"));
 
+        if (packageConfig.appcdsWarmupPaths.isPresent()) {
+            reportFirstRequestTime(packageConfig, jarResult, javaBinStr, appCDSPath);
+        }
+
         appCDS.produce(new AppCDSResultBuildItem(appCDSPath));
         artifactResult.produce(new ArtifactResultBuildItem(appCDSPath, "appCDS", Collections.emptyMap()));
     }
@@ -103,17 +119,29 @@ public class AppCDSBuildStep {
     private Path createClassesLst(PackageConfig packageConfig, JarBuildItem jarResult,
             String javaBin, Path appCDSDir) {
 
-        List<String> command = new ArrayList<>(5);
+        boolean warmUp = packageConfig.appcdsWarmupPaths.isPresent() || packageConfig.appcdsWarmupCommand.isPresent();
+        Path startedFile = appCDSDir.resolve(STARTED_FILE_NAME);
+        int port;
+        try {
+            port = warmUp ? freePort() : -1;
+        } catch (IOException e) {
+            log.debug("Failed to find a port for the application warmed up to create '" + CLASSES_LIST_FILE_NAME + "'.",
+                    e);
+            return null;
+        }
+
+        List<String> command = new ArrayList<>(6);
         command.add(javaBin);
         command.add("-XX:DumpLoadedClassList=" + CLASSES_LIST_FILE_NAME);
-        command.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
-        command.add("-jar");
-        if (packageConfig.isFastJar()) {
-            command.add(jarResult.getLibraryDir().getParent().resolve(JarResultBuildStep.QUARKUS_RUN_JAR).toAbsolutePath()
-                    .toString());
+        if (warmUp) {
+            // the application is fully started, warmed up, then stopped
+            command.add(String.format("-D%s=%s", AppCDSUtil.STARTED_FILE_SYSTEM_PROPERTY, startedFile.toAbsolutePath()));
+            command.add("-Dquarkus.http.port=" + port);
         } else {
-            command.add(jarResult.getPath().toAbsolutePath().toString());
+            command.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
         }
+        command.add("-jar");
+        command.add(jarResult.getPath().toAbsolutePath().toString());
 
         if (log.isDebugEnabled()) {
             log.debugf("Launching command: '%s' to create '" + CLASSES_LIST_FILE_NAME + "' AppCDS.", String.join(" ", command));
@@ -129,7 +157,22 @@ public class AppCDSBuildStep {
                 processBuilder.redirectError(NULL_FILE);
                 processBuilder.redirectOutput(NULL_FILE);
             }
-            exitCode = processBuilder.start().waitFor();
+            Process process = processBuilder.start();
+            if (warmUp) {
+                try {
+                    warmUp(packageConfig, process, startedFile, port, appCDSDir);
+                } catch (Exception e) {
+                    log.warn("Failed to warm up the application used to create '" + CLASSES_LIST_FILE_NAME + "'.", e);
+                    return null;
+                } finally {
+                    process.destroy();
+                }
+                // the application exits with an error code when stopped by a signal
+                process.waitFor();
+                exitCode = 0;
+            } else {
+                exitCode = process.waitFor();
+            }
         } catch (Exception e) {
             log.debug("Failed to launch process used to create '" + CLASSES_LIST_FILE_NAME + "'.", e);
             return null;
@@ -143,14 +186,151 @@ public class AppCDSBuildStep {
         return appCDSDir.resolve(CLASSES_LIST_FILE_NAME);
     }
 
+    /**
+     * Waits for the application to be started, then requests the warm-up paths and runs the warm-up command.
+     */
+    private void warmUp(PackageConfig packageConfig, Process process, Path startedFile, int port, Path appCDSDir)
+            throws Exception {
+        long deadline = System.nanoTime() + packageConfig.appcdsWarmupTimeout.toNanos();
+        while (!Files.exists(startedFile)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited with error code " + process.exitValue()
+                        + " before being started");
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException("The application was not started after " + packageConfig.appcdsWarmupTimeout);
+            }
+            Thread.sleep(100);
+        }
+
+        String url = "http://localhost:" + port;
+        for (String path : packageConfig.appcdsWarmupPaths.orElse(Collections.emptyList())) {
+            int status = request(url + path);
+            log.debugf("Warm-up request of '%s' returned %d.", path, status);
+        }
+
+        if (packageConfig.appcdsWarmupCommand.isPresent()) {
+            List<String> command = packageConfig.appcdsWarmupCommand.get();
+            log.debugf("Launching warm-up command: '%s'.", String.join(" ", command));
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(appCDSDir.toFile());
+            processBuilder.environment().put(APPLICATION_URL_ENV, url);
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(NULL_FILE);
+                processBuilder.redirectOutput(NULL_FILE);
+            }
+            Process warmUp = processBuilder.start();
+            if (!warmUp.waitFor(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                warmUp.destroyForcibly();
+                throw new TimeoutException("The warm-up command did not complete in " + packageConfig.appcdsWarmupTimeout);
+            }
+            if (warmUp.exitValue() != 0) {
+                log.warnf("The AppCDS warm-up command exited with error code: %d.", warmUp.exitValue());
+            }
+        }
+    }
+
+    /**
+     * Logs the time it takes the application to serve the first warm-up path, with and without the AppCDS.
+     */
+    private void reportFirstRequestTime(PackageConfig packageConfig, JarBuildItem jarResult, String javaBin,
+            Path appCDSPath) {
+        String path = packageConfig.appcdsWarmupPaths.get().get(0);
+        long withoutAppCDS = firstRequestTime(packageConfig, jarResult, javaBin, null, path);
+        long withAppCDS = firstRequestTime(packageConfig, jarResult, javaBin, appCDSPath, path);
+        if (withoutAppCDS < 0 || withAppCDS < 0) {
+            log.warnf("Unable to measure the time to the first response of '%s'.", path);
+            return;
+        }
+        log.infof("Time to the first response of '%s': %dms without AppCDS, %dms with AppCDS.", path, withoutAppCDS,
+                withAppCDS);
+    }
+
+    /**
+     * @return the time from the launch of the application to its first response to the given path, in milliseconds,
+     *         -1 if it could not be measured
+     */
+    private long firstRequestTime(PackageConfig packageConfig, JarBuildItem jarResult, String javaBin, Path appCDSPath,
+            String path) {
+        List<String> command = new ArrayList<>(5);
+        command.add(javaBin);
+        if (appCDSPath != null) {
+            command.add("-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString());
+        }
+        Process process = null;
+        try {
+            int port = freePort();
+            command.add("-Dquarkus.http.port=" + port);
+            command.add("-jar");
+            command.add(jarResult.getPath().getFileName().toString());
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(jarResult.getPath().getParent().toFile())
+                    .redirectError(NULL_FILE)
+                    .redirectOutput(NULL_FILE);
+            long start = System.nanoTime();
+            long deadline = start + packageConfig.appcdsWarmupTimeout.toNanos();
+            process = processBuilder.start();
+            String url = "http://localhost:" + port + path;
+            while (process.isAlive() && System.nanoTime() - deadline < 0) {
+                try {
+                    request(url);
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                } catch (IOException e) {
+                    // not started yet
+                    Thread.sleep(10);
+                }
+            }
+            return -1;
+        } catch (Exception e) {
+            log.debug("Failed to measure the time to the first response of the application.", e);
+            return -1;
+        } finally {
+            if (process != null) {
+                process.destroy();
+            }
+        }
+    }
+
+    /**
+     * @return the status of the response to a GET request of the given URL, whose body is read entirely
+     */
+    private static int request(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(REQUEST_TIMEOUT);
+            connection.setReadTimeout(REQUEST_TIMEOUT);
+            int status = connection.getResponseCode();
+            try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (body != null) {
+                    byte[] buffer = new byte[8192];
+                    while (body.read(buffer) != -1) {
+                        // discard the body
+                    }
+                }
+            }
+            return status;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
     /**
      * @return The path of the created app-cds.jsa file or null if the file was not created
      */
     private Path createAppCDS(JarBuildItem jarResult, String javaBin,
-            Path classesLstPath, boolean isFastFar) {
+            Path classesLstPath) {
 
-        Path workingDirectory = isFastFar ? jarResult.getPath().getParent().getParent() : jarResult.getPath().getParent();
-        Path appCDSPath = workingDirectory.resolve("app-cds.jsa");
+        // the fast-jar runner jar is at the root of its directory, as the legacy runner jar
+        Path workingDirectory = jarResult.getPath().getParent();
+        Path appCDSPath = workingDirectory.resolve(APP_CDS_FILE_NAME);
         if (appCDSPath.toFile().exists()) {
             try {
                 Files.delete(appCDSPath);
@@ -169,11 +349,7 @@ public class AppCDSBuildStep {
         // The end result is that users can simply use 'java -XX:SharedArchiveFile=app-cds.jsa -jar app.jar'
         command.add("-XX:SharedArchiveFile=" + appCDSPath.getFileName().toString());
         command.add("--class-path");
-        if (isFastFar) {
-            command.add(JarResultBuildStep.QUARKUS_RUN_JAR);
-        } else {
-            command.add(jarResult.getPath().getFileName().toString());
-        }
+        command.add(jarResult.getPath().getFileName().toString());
 
         if (log.isDebugEnabled()) {
             log.debugf("Launching command: '%s' to create final AppCDS.", String.join(" ", command));
@@ -207,6 +383,19 @@ public class AppCDSBuildStep {
         return appCDSPath;
     }
 
+    /**
+     * Deletes the AppCDS of a fast-jar that is rebuilt without it, as the AppCDS no longer matches the application.
+     */
+    private void deleteOutdatedAppCDS(PackageConfig packageConfig, JarBuildItem jarResult) throws IOException {
+        if (!packageConfig.isFastJar()) {
+            return;
+        }
+        Path appCDSPath = jarResult.getPath().getParent().resolve(APP_CDS_FILE_NAME);
+        if (Files.deleteIfExists(appCDSPath)) {
+            log.infof("Deleted the AppCDS '%s' as it no longer matches the application.", appCDSPath);
+        }
+    }
+
     static class AppCDSRequired implements BooleanSupplier {
 
         private final PackageConfig packageConfig;
@@ -54,6 +54,7 @@ import io.quarkus.bootstrap.model.AppArtifactKey;
 import io.quarkus.bootstrap.model.AppDependency;
 import io.quarkus.bootstrap.model.PersistentAppModel;
 import io.quarkus.bootstrap.resolver.AppModelResolverException;
+import io.quarkus.bootstrap.runner.MappedClassArchive;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -564,6 +565,9 @@ public class JarResultBuildStep {
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, bootJars);
         }
+        if (packageConfig.mappedClassArchive) {
+            MappedClassArchive.write(buildDir.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT), jars);
+        }
 
         runnerJar.toFile().setReadable(true, false);
         Path initJar = buildDir.resolve(QUARKUS_RUN_JAR);
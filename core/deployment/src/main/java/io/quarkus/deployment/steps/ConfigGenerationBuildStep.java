@@ -31,10 +31,26 @@ import io.quarkus.deployment.logging.LoggingSetupBuildItem;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.runtime.ConfigChangeRecorder;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 
 public class ConfigGenerationBuildStep {
 
+    FrozenConfiguration frozenConfig;
+
+    @ConfigRoot(name = "config", phase = ConfigPhase.BUILD_TIME)
+    static final class FrozenConfiguration {
+        /**
+         * Whether the runtime configuration is frozen once the application is started: the values, profiles and
+         * expressions resolved, are then kept already converted, and the changes of the configuration sources, such as
+         * the environment variables and the system properties, are only seen once
+         * {@link io.quarkus.runtime.configuration.FrozenConfig#reloadCurrent()} is called.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean frozen;
+    }
+
     /**
      * Generate the Config class that instantiates MP Config and holds all the config objects
      */
@@ -61,7 +77,7 @@ public class ConfigGenerationBuildStep {
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, false);
         RunTimeConfigurationGenerator.generate(readResult, classOutput,
                 launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT, defaults, additionalConfigTypes,
-                getAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders));
+                getAdditionalBootstrapConfigSourceProviders(additionalBootstrapConfigSourceProviders), frozenConfig.frozen);
     }
 
     private List<String> getAdditionalBootstrapConfigSourceProviders(
@@ -7,6 +7,7 @@ import java.io.File;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -72,9 +73,14 @@ import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskRunner;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.runtime.annotations.QuarkusMain;
 import io.quarkus.runtime.appcds.AppCDSUtil;
 import io.quarkus.runtime.configuration.ProfileManager;
+import io.quarkus.runtime.util.StartupTimeline;
 import io.quarkus.runtime.util.StepTiming;
 
 public class MainClassBuildStep {
@@ -105,6 +111,35 @@ public class MainClassBuildStep {
             void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
+    private static final MethodDescriptor TIMELINE_PHASE_STARTED = ofMethod(StartupTimeline.class, "phaseStarted",
+            void.class, String.class);
+    private static final MethodDescriptor TIMELINE_PHASE_COMPLETED = ofMethod(StartupTimeline.class, "phaseCompleted",
+            void.class);
+    private static final MethodDescriptor TIMELINE_STARTUP_COMPLETED = ofMethod(StartupTimeline.class, "startupCompleted",
+            void.class);
+    private static final MethodDescriptor RUN_STARTUP_TASKS = ofMethod(StartupTaskRunner.class, "run", void.class,
+            StartupContext.class, StartupTask[].class, String.class, int.class);
+
+    StartupConfig startupConfig;
+
+    @ConfigRoot(name = "startup", phase = ConfigPhase.BUILD_TIME)
+    static final class StartupConfig {
+        /**
+         * Whether the runtime initialization steps that do not depend on each other are run concurrently at startup.
+         * <p>
+         * A step always runs after the steps it depends on, directly or not, through the build items it consumes. The
+         * other side effects of a step, such as a static singleton set by its recorder, are not ordered.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean parallel;
+
+        /**
+         * The maximum number of threads running the runtime initialization steps when they are run concurrently, it
+         * does not exceed the number of available processors.
+         */
+        @ConfigItem(defaultValue = "4")
+        int maxThreads;
+    }
 
     @BuildStep
     void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
@@ -165,12 +200,14 @@ public class MainClassBuildStep {
 
         ResultHandle startupContext = mv.newInstance(ofConstructor(StartupContext.class));
         mv.writeStaticField(scField.getFieldDescriptor(), startupContext);
+        mv.invokeStaticMethod(TIMELINE_PHASE_STARTED, mv.load(StartupTimeline.STATIC_INIT));
         TryBlock tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
         for (StaticBytecodeRecorderBuildItem holder : staticInitTasks) {
             writeRecordedBytecode(holder.getBytecodeRecorder(), null, substitutions, loaders, gizmoOutput, startupContext,
                     tryBlock);
         }
+        tryBlock.invokeStaticMethod(TIMELINE_PHASE_COMPLETED);
         tryBlock.returnValue(null);
 
         CatchBlockCreator cb = tryBlock.addCatch(Throwable.class);
@@ -259,11 +296,16 @@ public class MainClassBuildStep {
         ResultHandle activeProfile = mv
                 .invokeStaticMethod(ofMethod(ProfileManager.class, "getActiveProfile", String.class));
 
+        mv.invokeStaticMethod(TIMELINE_PHASE_STARTED, mv.load(StartupTimeline.RUNTIME_INIT));
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    loaders, gizmoOutput, startupContext, tryBlock);
+        if (startupConfig.parallel) {
+            writeParallelStartup(mainMethod, substitutions, loaders, gizmoOutput, startupContext, tryBlock);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions, loaders, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         // Startup log messages
@@ -285,6 +327,10 @@ public class MainClassBuildStep {
                 featuresHandle,
                 activeProfile,
                 tryBlock.load(LaunchMode.DEVELOPMENT.equals(launchMode.getLaunchMode())));
+        tryBlock.invokeStaticMethod(TIMELINE_STARTUP_COMPLETED);
+        if (appCDSRequested.isPresent()) {
+            tryBlock.invokeStaticMethod(ofMethod(AppCDSUtil.class, "startupCompleted", void.class));
+        }
         cb = tryBlock.addCatch(Throwable.class);
         cb.invokeVirtualMethod(ofMethod(Logger.class, "errorv", void.class, Throwable.class, String.class, Object.class),
                 cb.readStaticField(logField.getFieldDescriptor()), cb.getCaughtException(),
@@ -426,10 +472,102 @@ public class MainClassBuildStep {
             List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
             ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
 
-        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+        String startupTaskClassName = writeStartupTask(recorder, fallbackGeneratedStartupTaskClassName, substitutions,
+                loaders, gizmoOutput);
+        if (startupTaskClassName == null) {
             return;
         }
 
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(startupTaskClassName));
+        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
+                startupContext);
+        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+    }
+
+    /**
+     * Writes the startup tasks of the runtime initialization steps and hands them over to a {@link StartupTaskRunner}
+     * that runs the independent ones concurrently.
+     * <p>
+     * The items are ordered by the completion of their build steps, a step thus always comes after the steps it depends
+     * on. The tasks that do not come from a build step are run after all the tasks before them and before all the tasks
+     * after them, as when the tasks run sequentially.
+     */
+    private void writeParallelStartup(List<MainBytecodeRecorderBuildItem> mainMethod,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator) {
+        List<MainBytecodeRecorderBuildItem> tasks = new ArrayList<>();
+        List<String> taskClassNames = new ArrayList<>();
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            String startupTaskClassName = writeStartupTask(holder.getBytecodeRecorder(),
+                    holder.getGeneratedStartupContextClassName(), substitutions, loaders, gizmoOutput);
+            if (startupTaskClassName != null) {
+                tasks.add(holder);
+                taskClassNames.add(startupTaskClassName);
+            }
+        }
+
+        ResultHandle taskArray = bytecodeCreator.newArray(StartupTask.class, taskClassNames.size());
+        for (int i = 0; i < taskClassNames.size(); i++) {
+            bytecodeCreator.writeArrayValue(taskArray, i, bytecodeCreator.newInstance(ofConstructor(taskClassNames.get(i))));
+        }
+        bytecodeCreator.invokeStaticMethod(RUN_STARTUP_TASKS, startupContext, taskArray,
+                bytecodeCreator.load(startupPlan(tasks)), bytecodeCreator.load(startupConfig.maxThreads));
+    }
+
+    /**
+     * @return the plan of the given tasks, in the format of {@link StartupTaskRunner}, which only keeps the direct
+     *         dependencies of each task
+     */
+    static String startupPlan(List<MainBytecodeRecorderBuildItem> tasks) {
+        // for each task, the tasks it depends on directly or not
+        List<BitSet> closures = new ArrayList<>(tasks.size());
+        StringBuilder plan = new StringBuilder();
+        for (int i = 0; i < tasks.size(); i++) {
+            MainBytecodeRecorderBuildItem task = tasks.get(i);
+            BitSet dependencies = new BitSet();
+            for (int j = 0; j < i; j++) {
+                MainBytecodeRecorderBuildItem previous = tasks.get(j);
+                if (task.getStepDependencies() == null || previous.getStepDependencies() == null
+                        || task.getStepDependencies().get(previous.getStepIndex())) {
+                    dependencies.set(j);
+                }
+            }
+            BitSet closure = (BitSet) dependencies.clone();
+            BitSet indirect = new BitSet();
+            for (int j = dependencies.nextSetBit(0); j >= 0; j = dependencies.nextSetBit(j + 1)) {
+                closure.or(closures.get(j));
+                indirect.or(closures.get(j));
+            }
+            closures.add(closure);
+            dependencies.andNot(indirect);
+
+            if (i > 0) {
+                plan.append(';');
+            }
+            boolean first = true;
+            for (int j = dependencies.nextSetBit(0); j >= 0; j = dependencies.nextSetBit(j + 1)) {
+                if (!first) {
+                    plan.append(',');
+                }
+                plan.append(j);
+                first = false;
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * @return the name of the startup task class, {@code null} if there is nothing to run
+     */
+    private String writeStartupTask(BytecodeRecorderImpl recorder, String fallbackGeneratedStartupTaskClassName,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders, GeneratedClassGizmoAdaptor gizmoOutput) {
+
+        if ((recorder == null || recorder.isEmpty()) && fallbackGeneratedStartupTaskClassName == null) {
+            return null;
+        }
+
         if ((recorder != null) && !recorder.isEmpty()) {
             for (ObjectSubstitutionBuildItem sub : substitutions) {
                 ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
@@ -441,11 +579,7 @@ public class MainClassBuildStep {
             recorder.writeBytecode(gizmoOutput);
         }
 
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
-        bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
+        return recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
     }
 
     /**
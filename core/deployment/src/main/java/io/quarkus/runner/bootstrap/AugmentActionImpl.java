@@ -1,10 +1,16 @@
 package io.quarkus.runner.bootstrap;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,6 +30,9 @@ import io.quarkus.bootstrap.app.AugmentResult;
 import io.quarkus.bootstrap.app.CuratedApplication;
 import io.quarkus.bootstrap.app.QuarkusBootstrap;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.bootstrap.model.AppArtifact;
+import io.quarkus.bootstrap.model.AppDependency;
+import io.quarkus.bootstrap.model.AppModel;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
@@ -35,6 +44,7 @@ import io.quarkus.deployment.builditem.ApplicationClassNameBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.ConfigDescriptionBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedFileSystemResourceBuildItem;
 import io.quarkus.deployment.builditem.GeneratedFileSystemResourceHandledBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
@@ -45,8 +55,13 @@ import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.ProfileManager;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
 
 /**
  * The augmentation task that produces the application.
@@ -89,7 +104,23 @@ public class AugmentActionImpl implements AugmentAction {
             throw new IllegalStateException("Can only create a production application when using NORMAL launch mode");
         }
         ClassLoader classLoader = curatedApplication.createDeploymentClassLoader();
-        BuildResult result = runAugment(true, Collections.emptySet(), classLoader, ArtifactResultBuildItem.class);
+        AugmentationCache cache = createAugmentationCache(classLoader);
+        if (cache != null) {
+            AugmentResult cached = cache.restore();
+            if (cached != null) {
+                if (classLoader instanceof Closeable) {
+                    try {
+                        ((Closeable) classLoader).close();
+                    } catch (IOException ignored) {
+                    }
+                }
+                return cached;
+            }
+        }
+        BuildResult result = cache == null
+                ? runAugment(true, Collections.emptySet(), classLoader, ArtifactResultBuildItem.class)
+                : runAugment(true, Collections.emptySet(), classLoader, ArtifactResultBuildItem.class,
+                        OutputTargetBuildItem.class, GeneratedFileSystemResourceBuildItem.class);
 
         String debugSourcesDir = BootstrapDebug.DEBUG_SOURCES_DIR;
         if (debugSourcesDir != null) {
@@ -116,11 +147,82 @@ public class AugmentActionImpl implements AugmentAction {
 
         JarBuildItem jarBuildItem = result.consumeOptional(JarBuildItem.class);
         NativeImageBuildItem nativeImageBuildItem = result.consumeOptional(NativeImageBuildItem.class);
-        return new AugmentResult(result.consumeMulti(ArtifactResultBuildItem.class).stream()
+        AugmentResult augmentResult = new AugmentResult(result.consumeMulti(ArtifactResultBuildItem.class).stream()
                 .map(a -> new ArtifactResult(a.getPath(), a.getType(), a.getAdditionalPaths()))
                 .collect(Collectors.toList()),
                 jarBuildItem != null ? jarBuildItem.toJarResult() : null,
                 nativeImageBuildItem != null ? nativeImageBuildItem.getPath() : null);
+        if (cache != null) {
+            Path outputDirectory = result.consume(OutputTargetBuildItem.class).getOutputDirectory();
+            cache.store(augmentResult, result.consumeMulti(GeneratedFileSystemResourceBuildItem.class).stream()
+                    .map(r -> outputDirectory.resolve(r.getName()))
+                    .collect(Collectors.toList()));
+        }
+        return augmentResult;
+    }
+
+    /**
+     * @return the cache of the application, {@code null} if it is not enabled or if the build can not be cached
+     */
+    private AugmentationCache createAugmentationCache(ClassLoader deploymentClassLoader) {
+        if (quarkusBootstrap.isRebuild() || !chainCustomizers.isEmpty() || quarkusBootstrap.getTargetDirectory() == null) {
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try {
+            // the configuration is read as the build reads it, application.properties coming from the deployment class loader
+            Thread.currentThread().setContextClassLoader(deploymentClassLoader);
+            ProfileManager.setLaunchMode(launchMode);
+            SmallRyeConfigBuilder builder = ConfigUtils.configBuilder(false);
+            if (quarkusBootstrap.getBuildSystemProperties() != null) {
+                builder.withSources(new PropertiesConfigSource(quarkusBootstrap.getBuildSystemProperties(), "Build system"));
+            }
+            SmallRyeConfig config = builder.build();
+            if (!config.getOptionalValue(AugmentationCache.BUILD_CACHE, Boolean.class).orElse(false)) {
+                return null;
+            }
+
+            Map<String, String> properties = AugmentationCache.properties(config.getConfigSources(), System.getenv(),
+                    System.getProperties());
+            properties.put("launch-mode", launchMode.name());
+            properties.put("base-name", String.valueOf(quarkusBootstrap.getBaseName()));
+
+            // the application, then its dependencies, in class path order
+            List<Path> paths = new ArrayList<>();
+            quarkusBootstrap.getApplicationRoot().forEach(paths::add);
+            for (AdditionalDependency i : quarkusBootstrap.getAdditionalApplicationArchives()) {
+                i.getArchivePath().forEach(paths::add);
+            }
+            paths.addAll(quarkusBootstrap.getAdditionalDeploymentArchives());
+            Set<Path> dependencies = new LinkedHashSet<>();
+            AppModel appModel = curatedApplication.getAppModel();
+            for (AppDependency dependency : appModel.getUserDependencies()) {
+                dependency.getArtifact().getPaths().forEach(dependencies::add);
+            }
+            for (AppDependency dependency : appModel.getFullDeploymentDeps()) {
+                dependency.getArtifact().getPaths().forEach(dependencies::add);
+            }
+            paths.addAll(dependencies);
+            // as read by the configuration
+            paths.add(Paths.get(System.getProperty("user.dir", "."), ".env"));
+            paths.add(Paths.get(System.getProperty("user.dir", "."), "config", "application.properties"));
+
+            AppArtifact appArtifact = appModel.getAppArtifact();
+            Path directory = config.getOptionalValue(AugmentationCache.BUILD_CACHE_DIRECTORY, String.class)
+                    .map(Paths::get)
+                    .orElseGet(AugmentationCache::defaultDirectory)
+                    .resolve(appArtifact.getGroupId())
+                    .resolve(appArtifact.getArtifactId());
+            String key = AugmentationCache.key(properties, paths);
+            log.debugf("Computed the build cache key %s in %dms", key, System.currentTimeMillis() - start);
+            return new AugmentationCache(directory, quarkusBootstrap.getTargetDirectory(), key);
+        } catch (IOException e) {
+            log.debug("Failed to compute the build cache key, the application is built", e);
+            return null;
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
     }
 
     @Override
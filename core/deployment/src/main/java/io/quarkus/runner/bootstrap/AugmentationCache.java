@@ -0,0 +1,424 @@
+package io.quarkus.runner.bootstrap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.app.ArtifactResult;
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.JarResult;
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.deployment.pkg.PackageConfig;
+
+/**
+ * Keeps the packaged applications on disk, keyed by a hash of the inputs of their build, so that the next builds of the
+ * same inputs copy them instead of running the augmentation again.
+ * <p>
+ * An entry holds the files produced by the build, relative to the target directory, and a description of the
+ * {@link AugmentResult}. It is written to a temporary directory that is then moved, so that concurrent builds never
+ * read a partially written entry. Only the {@value #MAX_ENTRIES} most recently used entries of an application are kept.
+ */
+final class AugmentationCache {
+
+    private static final Logger log = Logger.getLogger(AugmentationCache.class);
+
+    static final String BUILD_CACHE = "quarkus.package.build-cache";
+    static final String BUILD_CACHE_DIRECTORY = "quarkus.package.build-cache-directory";
+
+    private static final int MAX_ENTRIES = 3;
+    private static final String RESULT_FILE = "result.properties";
+    private static final String FILES_DIR = "files";
+    private static final String TMP_SUFFIX = ".tmp";
+    // the characters replaced with an underscore in the name of the environment variable of a property
+    private static final Pattern ENV_NAME_PATTERN = Pattern.compile("[^a-zA-Z0-9_]");
+    // the types of the artifacts that are entirely made of their files, unlike container images
+    private static final Set<String> CACHEABLE_TYPES = new HashSet<>(
+            Arrays.asList(PackageConfig.JAR, PackageConfig.NATIVE, "appCDS"));
+
+    private final Path directory;
+    private final Path targetDir;
+    private final String key;
+
+    /**
+     * @param directory the directory of the entries of the application
+     * @param targetDir the directory the files of the application are built into
+     * @param key the hash of the inputs of the build
+     */
+    AugmentationCache(Path directory, Path targetDir, String key) {
+        this.directory = directory;
+        this.targetDir = targetDir.toAbsolutePath().normalize();
+        this.key = key;
+    }
+
+    /**
+     * @return the default cache directory, in the local Maven repository
+     */
+    static Path defaultDirectory() {
+        String localRepo = System.getenv("QUARKUS_LOCAL_REPO");
+        if (localRepo == null) {
+            localRepo = System.getProperty("maven.repo.local");
+        }
+        Path repository = localRepo != null ? Paths.get(localRepo)
+                : Paths.get(System.getProperty("user.home"), ".m2", "repository");
+        return repository.resolve(".cache").resolve("quarkus").resolve("builds");
+    }
+
+    /**
+     * @return the inputs of the build that are not files: the configuration properties, whatever their source, save for
+     *         the system properties defined by the JVM, the environment variables that map to one of these properties or
+     *         to one of the namespaces read by the build, and the identity of the JVM
+     */
+    static Map<String, String> properties(Iterable<ConfigSource> sources, Map<String, String> env,
+            Properties systemProperties) {
+        Map<String, String> properties = new HashMap<>();
+        Set<String> envNames = new HashSet<>();
+        // the sources are ordered by priority
+        for (ConfigSource source : sources) {
+            for (Map.Entry<String, String> property : source.getProperties().entrySet()) {
+                String name = property.getKey();
+                if (env.containsKey(name) || isJvmProperty(name)) {
+                    // the environment variables are filtered below
+                    continue;
+                }
+                properties.putIfAbsent("config:" + name, property.getValue());
+                envNames.add(toEnvName(name));
+            }
+        }
+        for (Map.Entry<String, String> variable : env.entrySet()) {
+            String name = variable.getKey();
+            if (envNames.contains(name) || name.startsWith("QUARKUS_") || name.startsWith("MP_")
+                    || name.startsWith("SMALLRYE_") || name.equals("JAVA_HOME") || name.equals("GRAALVM_HOME")) {
+                properties.put("env:" + name, variable.getValue());
+            }
+        }
+        for (String name : new String[] { "java.version", "java.vendor", "java.vm.version", "os.name", "os.arch" }) {
+            properties.put("jvm:" + name, systemProperties.getProperty(name, ""));
+        }
+        return properties;
+    }
+
+    /**
+     * @return whether the given system property is defined by the JVM rather than by the command line, the identity of
+     *         the JVM being part of the key anyway
+     */
+    private static boolean isJvmProperty(String name) {
+        return name.startsWith("java.") || name.startsWith("jdk.") || name.startsWith("sun.") || name.startsWith("os.")
+                || name.startsWith("user.") || name.startsWith("file.") || name.startsWith("awt.")
+                || name.equals("line.separator") || name.equals("path.separator");
+    }
+
+    /**
+     * @return the name of the environment variable the given property is read from, as in {@code _PROD_QUARKUS_HTTP_PORT}
+     *         for {@code %prod.quarkus.http.port}
+     */
+    private static String toEnvName(String name) {
+        return ENV_NAME_PATTERN.matcher(name.toUpperCase(Locale.ROOT)).replaceAll("_");
+    }
+
+    /**
+     * @return the hash of the given properties and of the content of the given files and directories, in order
+     */
+    static String key(Map<String, String> properties, Collection<Path> paths) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Map.Entry<String, String> property : new TreeMap<>(properties).entrySet()) {
+            update(digest, property.getKey());
+            update(digest, property.getValue());
+        }
+        byte[] buffer = new byte[64 * 1024];
+        for (Path path : paths) {
+            update(digest, "path");
+            if (!Files.exists(path)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(path)) {
+                files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                update(digest, path.relativize(file).toString().replace('\\', '/'));
+                if (!file.getFileName().toString().endsWith(".jar") || !updateJar(digest, file)) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            digest.update(buffer, 0, read);
+                        }
+                    }
+                }
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Hashes the names, sizes and CRCs of the entries of the given jar, so that a jar rebuilt with the same content but
+     * other timestamps has the same hash, without inflating its entries.
+     *
+     * @return {@code false} if the jar could not be read
+     */
+    private static boolean updateJar(MessageDigest digest, Path jar) {
+        List<ZipEntry> entries;
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            entries = new ArrayList<>(Collections.list(zip.entries()));
+        } catch (IOException e) {
+            return false;
+        }
+        entries.sort(Comparator.comparing(ZipEntry::getName));
+        for (ZipEntry entry : entries) {
+            update(digest, entry.getName());
+            update(digest, entry.getSize() + ":" + Long.toHexString(entry.getCrc()));
+        }
+        return true;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // the length keeps consecutive values apart
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    /**
+     * Copies the files of the cached application into the target directory.
+     *
+     * @return the result of the cached build, {@code null} if there is none
+     */
+    AugmentResult restore() {
+        Path entry = directory.resolve(key);
+        Path resultFile = entry.resolve(RESULT_FILE);
+        if (!Files.isRegularFile(resultFile)) {
+            return null;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            Properties description = new Properties();
+            try (InputStream in = Files.newInputStream(resultFile)) {
+                description.load(in);
+            }
+            AugmentResult result = readResult(description);
+            Path files = entry.resolve(FILES_DIR);
+            for (int i = 0; description.containsKey("root." + i); i++) {
+                String root = description.getProperty("root." + i);
+                Path target = targetDir.resolve(root);
+                IoUtils.recursiveDelete(target);
+                if (Files.exists(files.resolve(root))) {
+                    IoUtils.copy(files.resolve(root), target);
+                }
+            }
+            // keeps the entry among the most recently used ones
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            log.infof("Reused the application built from the same inputs, from the build cache %s, in %dms", entry,
+                    System.currentTimeMillis() - start);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Ignoring the unreadable build cache entry %s", entry);
+            return null;
+        }
+    }
+
+    /**
+     * Copies the files of the given result, and the given generated files, into the cache.
+     */
+    void store(AugmentResult result, Collection<Path> generatedFiles) {
+        Properties description = new Properties();
+        Set<Path> roots = new LinkedHashSet<>();
+        for (int i = 0; i < result.getResults().size(); i++) {
+            ArtifactResult artifact = result.getResults().get(i);
+            if (artifact.getPath() == null || !CACHEABLE_TYPES.contains(artifact.getType())) {
+                log.debugf("Not caching the application as it produces a %s artifact", artifact.getType());
+                return;
+            }
+            String prefix = "artifact." + i;
+            description.setProperty(prefix + ".type", artifact.getType());
+            description.setProperty(prefix + ".path", relative(artifact.getPath()));
+            roots.add(artifact.getPath());
+            if (artifact.getAdditionalPaths() != null) {
+                for (Map.Entry<String, Path> additional : artifact.getAdditionalPaths().entrySet()) {
+                    description.setProperty(prefix + ".additional." + additional.getKey(),
+                            relative(additional.getValue()));
+                    roots.add(additional.getValue());
+                }
+            }
+        }
+        JarResult jar = result.getJar();
+        if (jar != null) {
+            description.setProperty("jar.path", relative(jar.getPath()));
+            description.setProperty("jar.type", jar.getType());
+            if (jar.getClassifier() != null) {
+                description.setProperty("jar.classifier", jar.getClassifier());
+            }
+            if (jar.getOriginalArtifact() != null) {
+                // moved by the build tool once the build is done
+                description.setProperty("jar.original", relative(jar.getOriginalArtifact()));
+            }
+            if (jar.getLibraryDir() != null) {
+                description.setProperty("jar.library", relative(jar.getLibraryDir()));
+                roots.add(jar.getLibraryDir());
+            }
+            if (PackageConfig.FAST_JAR.equals(jar.getType()) || PackageConfig.MUTABLE_JAR.equals(jar.getType())) {
+                // the whole application directory
+                roots.add(jar.getPath().getParent());
+            } else {
+                roots.add(jar.getPath());
+            }
+        }
+        if (result.getNativeResult() != null) {
+            description.setProperty("native.path", relative(result.getNativeResult()));
+            roots.add(result.getNativeResult());
+        }
+        roots.addAll(generatedFiles);
+
+        // the files to copy, without those in the directories to copy
+        List<Path> topRoots = new ArrayList<>();
+        for (Path root : roots) {
+            Path normalized = root.toAbsolutePath().normalize();
+            if (!normalized.startsWith(targetDir) || normalized.equals(targetDir)) {
+                log.debugf("Not caching the application as %s is not in %s", root, targetDir);
+                return;
+            }
+            if (topRoots.stream().noneMatch(normalized::startsWith)) {
+                topRoots.removeIf(r -> r.startsWith(normalized));
+                topRoots.add(normalized);
+            }
+        }
+        for (int i = 0; i < topRoots.size(); i++) {
+            description.setProperty("root." + i, relative(topRoots.get(i)));
+        }
+
+        Path entry = directory.resolve(key);
+        if (Files.exists(entry)) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempDirectory(directory, key + "-");
+            for (Path root : topRoots) {
+                if (Files.exists(root)) {
+                    IoUtils.copy(root, tmp.resolve(FILES_DIR).resolve(relative(root)));
+                }
+            }
+            try (OutputStream out = Files.newOutputStream(tmp.resolve(RESULT_FILE))) {
+                description.store(out, "The result of the build");
+            }
+            Files.move(tmp, entry);
+            tmp = null;
+            log.debugf("Cached the application in %s", entry);
+        } catch (IOException e) {
+            // the cache is only an optimization, another build may also have stored the same entry
+            log.debugf(e, "Failed to cache the application in %s", entry);
+        } finally {
+            if (tmp != null) {
+                IoUtils.recursiveDelete(tmp);
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Deletes the least recently used entries of the application.
+     */
+    private void evict() {
+        List<Path> entries;
+        try (Stream<Path> list = Files.list(directory)) {
+            // the keys are hexadecimal, unlike the entries being written or deleted
+            entries = list.filter(p -> p.getFileName().toString().matches("[0-9a-f]+")).collect(Collectors.toList());
+        } catch (IOException e) {
+            log.debugf(e, "Failed to list the build cache entries of %s", directory);
+            return;
+        }
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        for (Path entry : entries) {
+            try {
+                lastUsed.put(entry, Files.getLastModifiedTime(entry));
+            } catch (IOException e) {
+                lastUsed.put(entry, FileTime.fromMillis(0));
+            }
+        }
+        entries.sort(Comparator.comparing(lastUsed::get).reversed());
+        for (Path entry : entries.subList(Math.min(MAX_ENTRIES, entries.size()), entries.size())) {
+            // renamed first so that no build reads a partially deleted entry
+            Path deleted = entry.resolveSibling(entry.getFileName() + TMP_SUFFIX);
+            try {
+                Files.move(entry, deleted, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                continue;
+            }
+            IoUtils.recursiveDelete(deleted);
+        }
+    }
+
+    private AugmentResult readResult(Properties description) {
+        List<ArtifactResult> artifacts = new ArrayList<>();
+        for (int i = 0; description.containsKey("artifact." + i + ".type"); i++) {
+            String prefix = "artifact." + i;
+            Map<String, Path> additionalPaths = new HashMap<>();
+            String additionalPrefix = prefix + ".additional.";
+            for (String name : description.stringPropertyNames()) {
+                if (name.startsWith(additionalPrefix)) {
+                    additionalPaths.put(name.substring(additionalPrefix.length()),
+                            targetDir.resolve(description.getProperty(name)));
+                }
+            }
+            artifacts.add(new ArtifactResult(path(description, prefix + ".path"),
+                    description.getProperty(prefix + ".type"), additionalPaths));
+        }
+        JarResult jar = null;
+        if (description.containsKey("jar.path")) {
+            jar = new JarResult(path(description, "jar.path"), path(description, "jar.original"),
+                    path(description, "jar.library"), description.getProperty("jar.type"),
+                    description.getProperty("jar.classifier"));
+        }
+        return new AugmentResult(artifacts, jar, path(description, "native.path"));
+    }
+
+    private Path path(Properties description, String name) {
+        String path = description.getProperty(name);
+        return path == null ? null : targetDir.resolve(path);
+    }
+
+    private String relative(Path path) {
+        return targetDir.relativize(path.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testIndexIsReusedAcrossCaches() throws IOException {
+        Path jar = createJar("a.jar", PersistentIndexCacheTest.class);
+        Path directory = tmp.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+
+        PersistentIndexCache first = new PersistentIndexCache(directory);
+        first.index(jar, () -> index(jar, indexed));
+        assertEquals(0, first.getHits());
+        assertEquals(1, first.getMisses());
+
+        // a new cache, as used by the next build
+        PersistentIndexCache second = new PersistentIndexCache(directory);
+        Index index = second.index(jar, () -> index(jar, indexed));
+        assertEquals(1, second.getHits());
+        assertEquals(1, indexed.get());
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+    }
+
+    @Test
+    public void testChangedJarIsIndexedAgain() throws IOException {
+        Path directory = tmp.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+        Path jar = createJar("a.jar", PersistentIndexCacheTest.class);
+        new PersistentIndexCache(directory).index(jar, () -> index(jar, indexed));
+
+        createJar("a.jar", PersistentIndexCache.class);
+        PersistentIndexCache cache = new PersistentIndexCache(directory);
+        Index index = cache.index(jar, () -> index(jar, indexed));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, indexed.get());
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCache.class.getName())));
+    }
+
+    @Test
+    public void testUnreadableIndexIsReplaced() throws IOException {
+        Path directory = tmp.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+        Path jar = createJar("a.jar", PersistentIndexCacheTest.class);
+        new PersistentIndexCache(directory).index(jar, () -> index(jar, indexed));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                try {
+                    Files.write(file, new byte[] { 1, 2, 3 });
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+
+        PersistentIndexCache cache = new PersistentIndexCache(directory);
+        cache.index(jar, () -> index(jar, indexed));
+        assertEquals(1, cache.getMisses());
+
+        PersistentIndexCache next = new PersistentIndexCache(directory);
+        next.index(jar, () -> index(jar, indexed));
+        assertEquals(1, next.getHits());
+        assertEquals(2, indexed.get());
+    }
+
+    private Path createJar(String name, Class<?> clazz) throws IOException {
+        Path jar = tmp.resolve(name);
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+            out.putNextEntry(new JarEntry(resource));
+            copy(in, out);
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static Index index(Path jar, AtomicInteger indexed) throws IOException {
+        indexed.incrementAndGet();
+        Indexer indexer = new Indexer();
+        try (JarFile file = new JarFile(jar.toFile())) {
+            JarEntry entry = file.entries().nextElement();
+            try (InputStream in = file.getInputStream(entry)) {
+                indexer.index(in);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.deployment.builditem.MainBytecodeRecorderBuildItem;
+
+public class MainClassBuildStepTest {
+
+    @Test
+    public void testStartupPlan() {
+        MainBytecodeRecorderBuildItem config = new MainBytecodeRecorderBuildItem((String) null);
+        MainBytecodeRecorderBuildItem a = task(3);
+        MainBytecodeRecorderBuildItem b = task(5, 1);
+        MainBytecodeRecorderBuildItem c = task(7, 3, 5);
+        MainBytecodeRecorderBuildItem d = task(8, 3);
+        MainBytecodeRecorderBuildItem e = task(9, 3, 7, 8);
+        MainBytecodeRecorderBuildItem barrier = new MainBytecodeRecorderBuildItem((String) null);
+        MainBytecodeRecorderBuildItem f = task(10);
+
+        // the steps without dependencies only wait for the barrier, the indirect dependencies are dropped
+        assertEquals(";0;0;1,2;1;3,4;5;6",
+                MainClassBuildStep.startupPlan(Arrays.asList(config, a, b, c, d, e, barrier, f)));
+    }
+
+    private static MainBytecodeRecorderBuildItem task(int stepIndex, int... dependencies) {
+        BitSet stepDependencies = new BitSet();
+        for (int dependency : dependencies) {
+            stepDependencies.set(dependency);
+        }
+        return new MainBytecodeRecorderBuildItem(null, stepIndex, stepDependencies);
+    }
+}
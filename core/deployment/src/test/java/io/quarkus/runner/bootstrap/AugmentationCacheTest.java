@@ -0,0 +1,218 @@
+package io.quarkus.runner.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.bootstrap.app.ArtifactResult;
+import io.quarkus.bootstrap.app.AugmentResult;
+import io.quarkus.bootstrap.app.JarResult;
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.smallrye.config.PropertiesConfigSource;
+
+public class AugmentationCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testFastJarIsRestored() throws IOException {
+        Path cacheDir = tmp.resolve("cache");
+        Path target = tmp.resolve("target");
+        Path app = target.resolve("quarkus-app");
+        write(app.resolve("quarkus-run.jar"), "runner");
+        write(app.resolve("lib/main/dependency.jar"), "dependency");
+        write(app.resolve("quarkus/quarkus-application.dat"), "application");
+        Path manifest = write(target.resolve("kubernetes/kubernetes.yml"), "manifest");
+        write(target.resolve("classes/application.properties"), "not an output");
+
+        new AugmentationCache(cacheDir, target, "a1").store(fastJarResult(app), Collections.singletonList(manifest));
+
+        IoUtils.recursiveDelete(target);
+        AugmentResult result = new AugmentationCache(cacheDir, target, "a1").restore();
+        assertNotNull(result);
+        assertEquals("runner", read(app.resolve("quarkus-run.jar")));
+        assertEquals("dependency", read(app.resolve("lib/main/dependency.jar")));
+        assertEquals("application", read(app.resolve("quarkus/quarkus-application.dat")));
+        assertEquals("manifest", read(manifest));
+        assertFalse(Files.exists(target.resolve("classes")));
+
+        assertEquals(1, result.getResults().size());
+        assertEquals(PackageConfig.JAR, result.getResults().get(0).getType());
+        assertEquals(app.resolve("quarkus-run.jar"), result.getResults().get(0).getPath());
+        assertEquals(app.resolve("lib"), result.getResults().get(0).getAdditionalPaths().get("library-dir"));
+        assertEquals(app.resolve("quarkus-run.jar"), result.getJar().getPath());
+        assertEquals(app.resolve("lib"), result.getJar().getLibraryDir());
+        assertEquals(PackageConfig.FAST_JAR, result.getJar().getType());
+        assertNull(result.getJar().getOriginalArtifact());
+        assertNull(result.getNativeResult());
+    }
+
+    @Test
+    public void testStaleFilesAreReplaced() throws IOException {
+        Path cacheDir = tmp.resolve("cache");
+        Path target = tmp.resolve("target");
+        Path app = target.resolve("quarkus-app");
+        write(app.resolve("quarkus-run.jar"), "runner");
+        new AugmentationCache(cacheDir, target, "a1").store(fastJarResult(app), Collections.emptyList());
+
+        write(app.resolve("quarkus-run.jar"), "other runner");
+        write(app.resolve("lib/main/removed.jar"), "removed");
+        assertNotNull(new AugmentationCache(cacheDir, target, "a1").restore());
+        assertEquals("runner", read(app.resolve("quarkus-run.jar")));
+        assertFalse(Files.exists(app.resolve("lib/main/removed.jar")));
+    }
+
+    @Test
+    public void testOtherKeyIsNotRestored() throws IOException {
+        Path cacheDir = tmp.resolve("cache");
+        Path target = tmp.resolve("target");
+        Path app = target.resolve("quarkus-app");
+        write(app.resolve("quarkus-run.jar"), "runner");
+        new AugmentationCache(cacheDir, target, "a1").store(fastJarResult(app), Collections.emptyList());
+
+        assertNull(new AugmentationCache(cacheDir, target, "a2").restore());
+    }
+
+    @Test
+    public void testContainerImageIsNotCached() throws IOException {
+        Path cacheDir = tmp.resolve("cache");
+        Path target = tmp.resolve("target");
+        Path runner = write(target.resolve("app-runner.jar"), "runner");
+        AugmentResult result = new AugmentResult(Arrays.asList(
+                new ArtifactResult(runner, PackageConfig.JAR, Collections.emptyMap()),
+                new ArtifactResult(null, "jar-container", Collections.emptyMap())),
+                new JarResult(runner, null, null, PackageConfig.UBER_JAR, "runner"), null);
+        new AugmentationCache(cacheDir, target, "a1").store(result, Collections.emptyList());
+
+        assertNull(new AugmentationCache(cacheDir, target, "a1").restore());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws IOException {
+        Path cacheDir = tmp.resolve("cache");
+        Path target = tmp.resolve("target");
+        Path app = target.resolve("quarkus-app");
+        write(app.resolve("quarkus-run.jar"), "runner");
+        for (int i = 1; i <= 4; i++) {
+            new AugmentationCache(cacheDir, target, "a" + i).store(fastJarResult(app), Collections.emptyList());
+            Files.setLastModifiedTime(cacheDir.resolve("a" + i), FileTime.fromMillis(i * 1000L));
+        }
+        // a1 is evicted while a4 is stored, a2 becomes the most recently used
+        assertNotNull(new AugmentationCache(cacheDir, target, "a2").restore());
+        new AugmentationCache(cacheDir, target, "a5").store(fastJarResult(app), Collections.emptyList());
+
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            assertEquals(3, entries.count());
+        }
+        assertTrue(Files.exists(cacheDir.resolve("a2")));
+        assertFalse(Files.exists(cacheDir.resolve("a3")));
+        assertTrue(Files.exists(cacheDir.resolve("a4")));
+        assertTrue(Files.exists(cacheDir.resolve("a5")));
+    }
+
+    @Test
+    public void testKeyDependsOnTheInputs() throws IOException {
+        Path classes = tmp.resolve("classes");
+        write(classes.resolve("org/acme/Hello.class"), "hello");
+        Path dependency = write(tmp.resolve("dependency.jar"), "dependency");
+        String key = AugmentationCache.key(Collections.singletonMap("quarkus.package.type", "fast-jar"),
+                Arrays.asList(classes, dependency));
+
+        assertEquals(key, AugmentationCache.key(Collections.singletonMap("quarkus.package.type", "fast-jar"),
+                Arrays.asList(classes, dependency)));
+        assertNotEquals(key, AugmentationCache.key(Collections.singletonMap("quarkus.package.type", "uber-jar"),
+                Arrays.asList(classes, dependency)));
+        assertNotEquals(key, AugmentationCache.key(Collections.singletonMap("quarkus.package.type", "fast-jar"),
+                Arrays.asList(dependency, classes)));
+
+        write(classes.resolve("org/acme/Hello.class"), "hello world");
+        assertNotEquals(key, AugmentationCache.key(Collections.singletonMap("quarkus.package.type", "fast-jar"),
+                Arrays.asList(classes, dependency)));
+    }
+
+    @Test
+    public void testKeyPropertiesHoldTheBuildInputs() {
+        Map<String, String> systemProperties = new HashMap<>();
+        systemProperties.put("quarkus.package.type", "uber-jar");
+        systemProperties.put("mp.openapi.scan.disable", "true");
+        systemProperties.put("java.class.path", "/tmp/surefire.jar");
+        systemProperties.put("java.version", "11.0.8");
+        systemProperties.put("os.name", "Linux");
+        systemProperties.put("user.home", "/home/build");
+        Map<String, String> application = new HashMap<>();
+        application.put("quarkus.package.type", "fast-jar");
+        application.put("%prod.quarkus.http.port", "8081");
+        application.put("greeting", "hello");
+        Map<String, String> env = new HashMap<>();
+        env.put("QUARKUS_PROFILE", "prod");
+        env.put("JAVA_HOME", "/opt/java");
+        env.put("GREETING", "bonjour");
+        env.put("_PROD_QUARKUS_HTTP_PORT", "8082");
+        env.put("MP_MESSAGING_INCOMING_PRICES_TOPIC", "prices");
+        env.put("CI_JOB_ID", "42");
+        List<ConfigSource> sources = Arrays.asList(
+                new PropertiesConfigSource(systemProperties, "System properties", 400),
+                new PropertiesConfigSource(env, "Environment variables", 300),
+                new PropertiesConfigSource(application, "application.properties", 250));
+        Properties jvm = new Properties();
+        jvm.putAll(systemProperties);
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("config:quarkus.package.type", "uber-jar");
+        expected.put("config:mp.openapi.scan.disable", "true");
+        expected.put("config:%prod.quarkus.http.port", "8081");
+        expected.put("config:greeting", "hello");
+        expected.put("env:QUARKUS_PROFILE", "prod");
+        expected.put("env:JAVA_HOME", "/opt/java");
+        expected.put("env:GREETING", "bonjour");
+        expected.put("env:_PROD_QUARKUS_HTTP_PORT", "8082");
+        expected.put("env:MP_MESSAGING_INCOMING_PRICES_TOPIC", "prices");
+        expected.put("jvm:java.version", "11.0.8");
+        expected.put("jvm:java.vendor", "");
+        expected.put("jvm:java.vm.version", "");
+        expected.put("jvm:os.name", "Linux");
+        expected.put("jvm:os.arch", "");
+        assertEquals(expected, AugmentationCache.properties(sources, env, jvm));
+    }
+
+    private static AugmentResult fastJarResult(Path app) {
+        Path runner = app.resolve("quarkus-run.jar");
+        Path lib = app.resolve("lib");
+        return new AugmentResult(
+                Collections.singletonList(
+                        new ArtifactResult(runner, PackageConfig.JAR, Collections.singletonMap("library-dir", lib))),
+                new JarResult(runner, null, lib, PackageConfig.FAST_JAR, null), null);
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -10,6 +10,9 @@ import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+/**
+ * The context of the startup tasks. It is safe to use from the several threads running the startup tasks concurrently.
+ */
 public class StartupContext implements Closeable {
 
     public static final String RAW_COMMAND_LINE_ARGS = StartupContext.class.getName() + ".raw-command-line-args";
@@ -25,16 +28,21 @@ public class StartupContext implements Closeable {
     private final ShutdownContext shutdownContext = new ShutdownContext() {
         @Override
         public void addShutdownTask(Runnable runnable) {
-            shutdownTasks.add(runnable);
+            synchronized (StartupContext.this) {
+                shutdownTasks.add(runnable);
+            }
         }
 
         @Override
         public void addLastShutdownTask(Runnable runnable) {
-            lastShutdownTasks.add(runnable);
+            synchronized (StartupContext.this) {
+                lastShutdownTasks.add(runnable);
+            }
         }
     };
     private String[] commandLineArgs;
-    private String currentBuildStepName;
+    // set by each startup task on the thread running it, as the tasks may run concurrently
+    private final ThreadLocal<String> currentBuildStepName = new ThreadLocal<>();
 
     public StartupContext() {
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -49,34 +57,41 @@ public class StartupContext implements Closeable {
         });
     }
 
-    public void putValue(String name, Object value) {
+    public synchronized void putValue(String name, Object value) {
         values.put(name, value);
         lastValueSet = true;
         this.lastValue = value;
     }
 
-    public Object getValue(String name) {
+    public synchronized Object getValue(String name) {
         return values.get(name);
     }
 
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
         return lastValue;
     }
 
-    public boolean isLastValueSet() {
+    public synchronized boolean isLastValueSet() {
         return lastValueSet;
     }
 
     @Override
     public void close() {
         runAllInReverseOrder(shutdownTasks);
-        shutdownTasks.clear();
+        synchronized (this) {
+            shutdownTasks.clear();
+        }
         runAllInReverseOrder(lastShutdownTasks);
-        lastShutdownTasks.clear();
+        synchronized (this) {
+            lastShutdownTasks.clear();
+        }
     }
 
     private void runAllInReverseOrder(List<Runnable> tasks) {
-        List<Runnable> toClose = new ArrayList<>(tasks);
+        List<Runnable> toClose;
+        synchronized (this) {
+            toClose = new ArrayList<>(tasks);
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -92,13 +107,16 @@ public class StartupContext implements Closeable {
         this.commandLineArgs = commandLineArguments;
     }
 
+    /**
+     * @return the name of the build step that recorded the startup task last run on the current thread
+     */
     @SuppressWarnings("unused")
     public String getCurrentBuildStepName() {
-        return currentBuildStepName;
+        return currentBuildStepName.get();
     }
 
     @SuppressWarnings("unused")
     public void setCurrentBuildStepName(String currentBuildStepName) {
-        this.currentBuildStepName = currentBuildStepName;
+        this.currentBuildStepName.set(currentBuildStepName);
     }
 }
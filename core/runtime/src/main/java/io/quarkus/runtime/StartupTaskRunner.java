@@ -0,0 +1,136 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StartupTimeline;
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs the startup tasks concurrently, each task starting once all the tasks it depends on have completed.
+ * <p>
+ * The plan lists the dependencies of each task, in order, separated by {@code ;}. The dependencies of a task are the
+ * comma-separated indexes of the tasks it depends on, which always come before it. For instance {@code ;;0,1} means
+ * that the first two tasks are independent and that the third one runs after both of them.
+ * <p>
+ * Only the dependencies between the build steps, through the build items they produce and consume, are followed. The
+ * side effects of a recorder that another one relies on without a build item, such as a static singleton it sets, are
+ * not ordered: the build step relying on it must consume a build item produced by the other one.
+ * <p>
+ * Once a task fails, the tasks that have not started yet are skipped and the failure of the first failed task is
+ * rethrown.
+ * This class is used by the generated application class and should not be used directly.
+ */
+public final class StartupTaskRunner {
+
+    private StartupTaskRunner() {
+    }
+
+    public static void run(StartupContext context, StartupTask[] tasks, String plan, int maxThreads) {
+        int[][] dependencies = parse(plan, tasks.length);
+        int threads = Math.max(1, Math.min(maxThreads, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new StartupThreadFactory(Thread.currentThread().getContextClassLoader()));
+        try {
+            AtomicBoolean failed = new AtomicBoolean();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(tasks.length);
+            for (int i = 0; i < tasks.length; i++) {
+                StartupTask task = tasks[i];
+                CompletableFuture<?>[] before = new CompletableFuture<?>[dependencies[i].length];
+                for (int j = 0; j < before.length; j++) {
+                    before[j] = futures.get(dependencies[i][j]);
+                }
+                futures.add(CompletableFuture.allOf(before).thenRunAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (failed.get()) {
+                            return;
+                        }
+                        long start = System.currentTimeMillis();
+                        StartupTimeline.Measurement measurement = StartupTimeline.stepStarted();
+                        try {
+                            task.deploy(context);
+                        } catch (Throwable t) {
+                            failed.set(true);
+                            throw t;
+                        }
+                        // the task sets the name of its build step for the current thread
+                        String stepName = context.getCurrentBuildStepName();
+                        StartupTimeline.stepCompleted(measurement, stepName);
+                        StepTiming.printStepTime(stepName, start);
+                    }
+                }, executor));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException ignored) {
+                // rethrow the failure of the first failed task, the others may be caused by it
+                for (CompletableFuture<Void> future : futures) {
+                    try {
+                        future.join();
+                    } catch (CompletionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new RuntimeException(cause);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static int[][] parse(String plan, int size) {
+        int[][] dependencies = new int[size][];
+        String[] tasks = plan.split(";", -1);
+        if (tasks.length != size) {
+            throw new IllegalArgumentException("The startup plan describes " + tasks.length + " tasks instead of " + size);
+        }
+        for (int i = 0; i < size; i++) {
+            if (tasks[i].isEmpty()) {
+                dependencies[i] = new int[0];
+                continue;
+            }
+            String[] indexes = tasks[i].split(",");
+            dependencies[i] = new int[indexes.length];
+            for (int j = 0; j < indexes.length; j++) {
+                int index = Integer.parseInt(indexes[j]);
+                if (index >= i) {
+                    throw new IllegalArgumentException("The startup task " + i + " cannot depend on the task " + index);
+                }
+                dependencies[i][j] = index;
+            }
+        }
+        return dependencies;
+    }
+
+    private static final class StartupThreadFactory implements ThreadFactory {
+
+        private final ClassLoader classLoader;
+        private final AtomicInteger count = new AtomicInteger();
+
+        StartupThreadFactory(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
@@ -3,10 +3,17 @@ package io.quarkus.runtime.appcds;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 
 public class AppCDSUtil {
 
+    /**
+     * The file created once the application is started, when it is started by the AppCDS generation process to be
+     * warmed up
+     */
+    public static final String STARTED_FILE_SYSTEM_PROPERTY = "quarkus.appcds.started-file";
+
     /**
      * This is never meant to be used in a regular application run.
      * It is only referenced by the generated main with the purpose of
@@ -25,4 +32,16 @@ public class AppCDSUtil {
             throw e;
         }
     }
+
+    /**
+     * This is never meant to be used in a regular application run.
+     * It is only referenced by the generated main in order to let the AppCDS generation process know that the application
+     * is started and can be warmed up
+     */
+    public static void startupCompleted() throws IOException {
+        String startedFile = System.getProperty(STARTED_FILE_SYSTEM_PROPERTY);
+        if (startedFile != null) {
+            Files.write(Paths.get(startedFile), new byte[0]);
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package io.quarkus.runtime.configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.wildfly.common.Assert;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * A configuration that keeps the values it reads from another configuration, already converted, so that reading a
+ * property again is a single hash lookup instead of a walk through the interceptors and the configuration sources.
+ * <p>
+ * The values are collapsed when the configuration is frozen, profiles and expressions being resolved, and the values
+ * read afterwards are kept as well, so the changes of the underlying configuration sources, environment variables
+ * and system properties included, are only seen once the configuration is {@linkplain #reload() reloaded}.
+ * <p>
+ * The values of array types are not kept, as they could be modified by the caller, and the collections are always
+ * read from the underlying configuration.
+ */
+public final class FrozenConfig extends SmallRyeConfig {
+
+    private static final long serialVersionUID = -3217455237418236170L;
+
+    private final SmallRyeConfig delegate;
+    // the last value read for each property name, with its type
+    private final ConcurrentHashMap<String, Value> values = new ConcurrentHashMap<>();
+
+    // the only constructor a subclass can call, a subclass being needed as the runtime casts the configuration to
+    // SmallRyeConfig
+    @SuppressWarnings("deprecation")
+    private FrozenConfig(SmallRyeConfig delegate) {
+        super(new ArrayList<>(), Collections.emptyMap());
+        this.delegate = delegate;
+        collapse();
+    }
+
+    /**
+     * @return a frozen configuration reading the given configuration
+     */
+    public static FrozenConfig freeze(SmallRyeConfig config) {
+        Assert.checkNotNullParam("config", config);
+        return config instanceof FrozenConfig ? (FrozenConfig) config : new FrozenConfig(config);
+    }
+
+    /**
+     * Reloads the current configuration, if it is frozen.
+     *
+     * @return {@code true} if the current configuration is frozen
+     */
+    public static boolean reloadCurrent() {
+        Config config = ConfigProvider.getConfig();
+        if (config instanceof FrozenConfig) {
+            ((FrozenConfig) config).reload();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drops the values read so far and collapses the current values of the underlying configuration.
+     */
+    public void reload() {
+        values.clear();
+        collapse();
+    }
+
+    private void collapse() {
+        for (String name : delegate.getPropertyNames()) {
+            if (name.startsWith("%")) {
+                // only the values of the active profile are read
+                continue;
+            }
+            try {
+                values.put(name, new Value(String.class, delegate.getOptionalValue(name, String.class)));
+            } catch (RuntimeException e) {
+                // an expression that can not be expanded, the failure is reported if the property is read
+            }
+        }
+    }
+
+    // the value is kept with the type it was read as
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> getOptionalValue(String name, Class<T> aClass) {
+        if (aClass.isArray()) {
+            return delegate.getOptionalValue(name, aClass);
+        }
+        Value value = values.get(name);
+        if (value == null || value.type != aClass) {
+            value = new Value(aClass, delegate.getOptionalValue(name, aClass));
+            values.put(name, value);
+        }
+        return (Optional<T>) value.value;
+    }
+
+    @Override
+    public <T> T getValue(String name, Class<T> aClass) {
+        Optional<T> value = getOptionalValue(name, aClass);
+        // the missing values are reported, or converted, as the underlying configuration does
+        return value.isPresent() ? value.get() : delegate.getValue(name, aClass);
+    }
+
+    @Override
+    public String getRawValue(String name) {
+        return getOptionalValue(name, String.class).orElse(null);
+    }
+
+    @Override
+    public <T> T getValue(String name, Converter<T> converter) {
+        return delegate.getValue(name, converter);
+    }
+
+    @Override
+    public <T> Optional<T> getOptionalValue(String name, Converter<T> converter) {
+        return delegate.getOptionalValue(name, converter);
+    }
+
+    @Override
+    public <T, C extends Collection<T>> C getValues(String name, Class<T> itemClass, IntFunction<C> collectionFactory) {
+        return delegate.getValues(name, itemClass, collectionFactory);
+    }
+
+    @Override
+    public <T, C extends Collection<T>> C getValues(String name, Converter<T> converter,
+            IntFunction<C> collectionFactory) {
+        return delegate.getValues(name, converter, collectionFactory);
+    }
+
+    @Override
+    public <T, C extends Collection<T>> Optional<C> getOptionalValues(String name, Class<T> itemClass,
+            IntFunction<C> collectionFactory) {
+        return delegate.getOptionalValues(name, itemClass, collectionFactory);
+    }
+
+    @Override
+    public <T, C extends Collection<T>> Optional<C> getOptionalValues(String name, Converter<T> converter,
+            IntFunction<C> collectionFactory) {
+        return delegate.getOptionalValues(name, converter, collectionFactory);
+    }
+
+    @Override
+    public boolean rawValueEquals(String name, String value) {
+        return delegate.rawValueEquals(name, value);
+    }
+
+    @Override
+    public ConfigValue getConfigValue(String name) {
+        return delegate.getConfigValue(name);
+    }
+
+    @Override
+    public Iterable<String> getPropertyNames() {
+        return delegate.getPropertyNames();
+    }
+
+    @Override
+    public Iterable<ConfigSource> getConfigSources() {
+        return delegate.getConfigSources();
+    }
+
+    // still called by the code adding sources to the current configuration
+    @SuppressWarnings("deprecation")
+    @Override
+    public void addConfigSource(ConfigSource configSource) {
+        delegate.addConfigSource(configSource);
+        reload();
+    }
+
+    @Override
+    public <T> T convert(String value, Class<T> asType) {
+        return delegate.convert(value, asType);
+    }
+
+    @Override
+    public <T> Converter<T> getConverter(Class<T> asType) {
+        return delegate.getConverter(asType);
+    }
+
+    /**
+     * @return the underlying configuration
+     */
+    public SmallRyeConfig getDelegate() {
+        return delegate;
+    }
+
+    private static final class Value {
+
+        final Class<?> type;
+        final Optional<?> value;
+
+        Value(Class<?> type, Optional<?> value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package io.quarkus.runtime.logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * A file handler writing the records in batches, from a single writer thread.
+ * <p>
+ * The records are formatted by the publishing threads and put in a lock-free queue. The writer thread encodes them into
+ * a set of buffers, which are written to the file with a single gathering write once they are full, once the flush
+ * interval has elapsed since the oldest record that is not written yet, or when the handler is flushed.
+ * <p>
+ * As the file is only accessed by the writer thread, it is rotated without any lock. The rotation is checked before each
+ * record, assuming a byte per character, so that a record is never split over two files and a file only exceeds the
+ * maximum file size if a single record does, or by the additional bytes of the multi-byte characters of its records.
+ * <p>
+ * If the writer thread fails, the error is reported and the records queued or published afterwards are dropped.
+ */
+public final class BatchedFileHandler extends ExtHandler {
+
+    /**
+     * The number of records queued by all the handlers.
+     */
+    static final LongAdder QUEUED = new LongAdder();
+    /**
+     * The number of records dropped by all the handlers, as their queue was full.
+     */
+    static final LongAdder DROPPED = new LongAdder();
+
+    private static final int SEGMENT_SIZE = 8 * 1024;
+    // how long the publishers wait for room in a full queue before checking again
+    private static final long BLOCK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Path path;
+    private final int queueLength;
+    private final OverflowAction overflowAction;
+    private final long flushIntervalNanos;
+    private final long maxFileSize;
+    private final int maxBackupIndex;
+    private final boolean rotateOnBoot;
+
+    private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private volatile boolean closed;
+    // each flush takes a ticket, the writer thread publishes the last ticket it has written the records for
+    private final AtomicLong flushRequested = new AtomicLong();
+    private volatile long flushed;
+
+    // the state below is only accessed by the writer thread
+    private final ByteBuffer[] segments;
+    private int segment;
+    // when the queue was last found empty, and when the oldest record that is not written yet was queued at the latest
+    private long checkedAt;
+    private long pendingSince;
+    private CharsetEncoder encoder;
+    private FileChannel channel;
+    private long fileSize;
+
+    /**
+     * @param path the log file
+     * @param queueLength the maximum number of records waiting to be written
+     * @param overflowAction whether to block or to drop the records when the queue is full
+     * @param bufferSize the number of bytes written at most in a batch
+     * @param flushIntervalNanos how long the records may wait before being written, also how long the writer sleeps when
+     *        there is nothing to write
+     * @param maxFileSize the size after which the file is rotated, {@code 0} to never rotate it
+     * @param maxBackupIndex the number of rotated files to keep
+     * @param rotateOnBoot whether to rotate a non-empty file before the first record is written
+     */
+    public BatchedFileHandler(Path path, int queueLength, OverflowAction overflowAction, int bufferSize,
+            long flushIntervalNanos, long maxFileSize, int maxBackupIndex, boolean rotateOnBoot) {
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("The queue length must be positive");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be positive");
+        }
+        if (flushIntervalNanos <= 0) {
+            // the writer would never sleep
+            throw new IllegalArgumentException("The flush interval must be positive");
+        }
+        this.path = path.toAbsolutePath();
+        this.queueLength = queueLength;
+        this.overflowAction = overflowAction;
+        this.flushIntervalNanos = flushIntervalNanos;
+        this.maxFileSize = maxFileSize;
+        this.maxBackupIndex = maxBackupIndex;
+        this.rotateOnBoot = rotateOnBoot;
+        segments = new ByteBuffer[Math.max(1, (bufferSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(SEGMENT_SIZE);
+        }
+        writer = new Thread(this::run, "quarkus-log-file-writer");
+        writer.setDaemon(true);
+        shutdownHook = new Thread(this::close, "quarkus-log-file-close");
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        final String formatted;
+        try {
+            formatted = getFormatter().format(record);
+        } catch (Exception e) {
+            reportError("Formatting error", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        if (formatted.isEmpty() || closed) {
+            return;
+        }
+        start();
+        for (;;) {
+            if (!writer.isAlive()) {
+                // the writer failed, nothing writes the records anymore
+                DROPPED.increment();
+                return;
+            }
+            final int size = queued.get();
+            if (size < queueLength) {
+                if (queued.compareAndSet(size, size + 1)) {
+                    break;
+                }
+            } else if (overflowAction == OverflowAction.DISCARD) {
+                DROPPED.increment();
+                return;
+            } else {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(this, BLOCK_NANOS);
+                if (closed) {
+                    return;
+                }
+            }
+        }
+        queue.offer(formatted);
+        QUEUED.increment();
+        if (size() > queueLength / 2) {
+            // make room before the publishers have to block or drop records
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * @return the number of records waiting to be written
+     */
+    public int size() {
+        return queued.get();
+    }
+
+    /**
+     * Writes the records published so far to the file.
+     */
+    @Override
+    public void flush() {
+        if (!started.get() || Thread.currentThread() == writer) {
+            return;
+        }
+        final long ticket = flushRequested.incrementAndGet();
+        LockSupport.unpark(writer);
+        while (flushed < ticket && writer.isAlive()) {
+            LockSupport.parkNanos(this, BLOCK_NANOS);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (started.get()) {
+            LockSupport.unpark(writer);
+            if (Thread.currentThread() != writer) {
+                try {
+                    writer.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (Thread.currentThread() != shutdownHook) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // the JVM is shutting down already
+                }
+            }
+        }
+        super.close();
+    }
+
+    private void start() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            writer.start();
+            try {
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // the JVM is shutting down already
+            }
+        }
+    }
+
+    private void run() {
+        boolean completed = false;
+        try {
+            writeUntilClosed();
+            completed = true;
+        } catch (RuntimeException e) {
+            reportError("Failed to write the log file, the next records are dropped", e, ErrorManager.GENERIC_FAILURE);
+        } finally {
+            if (!completed) {
+                closeChannel();
+                dropQueued();
+            }
+        }
+    }
+
+    private void writeUntilClosed() {
+        final String encoding = getEncoding();
+        encoder = (encoding == null ? Charset.defaultCharset() : Charset.forName(encoding)).newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        open(rotateOnBoot);
+        checkedAt = System.nanoTime();
+        for (;;) {
+            final boolean closing = closed;
+            final long ticket = flushRequested.get();
+            int drained = 0;
+            String record;
+            while ((record = queue.poll()) != null) {
+                if (!hasPending()) {
+                    pendingSince = checkedAt;
+                }
+                rotateIfFull(record.length());
+                append(record);
+                drained++;
+            }
+            checkedAt = System.nanoTime();
+            if (drained > 0) {
+                queued.addAndGet(-drained);
+                QUEUED.add(-drained);
+            }
+            long parkNanos = flushIntervalNanos;
+            if (hasPending()) {
+                final long waited = checkedAt - pendingSince;
+                if (closing || ticket != flushed || waited >= flushIntervalNanos) {
+                    write();
+                } else {
+                    parkNanos = flushIntervalNanos - waited;
+                }
+            }
+            flushed = ticket;
+            if (closing && queue.isEmpty()) {
+                closeChannel();
+                return;
+            }
+            if (queue.isEmpty() && flushRequested.get() == ticket) {
+                LockSupport.parkNanos(this, parkNanos);
+            }
+        }
+    }
+
+    private void dropQueued() {
+        int dropped = 0;
+        while (queue.poll() != null) {
+            dropped++;
+        }
+        queued.addAndGet(-dropped);
+        QUEUED.add(-dropped);
+        DROPPED.add(dropped);
+    }
+
+    /**
+     * Rotates the file before the next record if it would exceed the maximum file size, the records already buffered
+     * being written to the current file first.
+     */
+    private void rotateIfFull(long recordSize) {
+        if (maxFileSize <= 0) {
+            return;
+        }
+        final long size = fileSize + buffered();
+        if (size == 0 || size + recordSize <= maxFileSize) {
+            return;
+        }
+        if (hasPending()) {
+            write();
+        }
+        if (channel != null) {
+            try {
+                rotate();
+            } catch (IOException e) {
+                reportError("Failed to rotate the log file", e, ErrorManager.GENERIC_FAILURE);
+                closeChannel();
+            }
+        }
+    }
+
+    private void append(String record) {
+        final CharBuffer chars = CharBuffer.wrap(record);
+        while (encoder.encode(chars, segments[segment], true).isOverflow()) {
+            nextSegment();
+        }
+        while (encoder.flush(segments[segment]).isOverflow()) {
+            nextSegment();
+        }
+        encoder.reset();
+    }
+
+    private void nextSegment() {
+        if (segment < segments.length - 1) {
+            segment++;
+        } else {
+            write();
+        }
+    }
+
+    private boolean hasPending() {
+        return segment > 0 || segments[0].position() > 0;
+    }
+
+    private long buffered() {
+        long bytes = 0;
+        for (int i = 0; i <= segment; i++) {
+            bytes += segments[i].position();
+        }
+        return bytes;
+    }
+
+    private void write() {
+        final int count = segments[segment].position() > 0 ? segment + 1 : segment;
+        long bytes = 0;
+        for (int i = 0; i < count; i++) {
+            segments[i].flip();
+            bytes += segments[i].remaining();
+        }
+        try {
+            if (channel == null) {
+                open(false);
+            }
+            if (channel != null) {
+                // a batch may end in the middle of a record, so the file is never rotated here
+                long remaining = bytes;
+                while (remaining > 0) {
+                    remaining -= channel.write(segments, 0, count);
+                }
+                fileSize += bytes;
+            }
+        } catch (IOException e) {
+            reportError("Failed to write the log file", e, ErrorManager.WRITE_FAILURE);
+            closeChannel();
+        } finally {
+            for (int i = 0; i < count; i++) {
+                segments[i].clear();
+            }
+            segment = 0;
+        }
+    }
+
+    private void open(boolean rotate) {
+        try {
+            final Path parent = path.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            fileSize = channel.size();
+            if (rotate && maxFileSize > 0 && fileSize > 0) {
+                rotate();
+            }
+        } catch (IOException e) {
+            reportError("Failed to open the log file", e, ErrorManager.OPEN_FAILURE);
+            closeChannel();
+        }
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        channel = null;
+        if (maxBackupIndex > 0) {
+            for (int i = maxBackupIndex - 1; i >= 1; i--) {
+                final Path backup = backup(i);
+                if (Files.exists(backup)) {
+                    Files.move(backup, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(path);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileSize = 0;
+    }
+
+    private Path backup(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                reportError("Failed to close the log file", e, ErrorManager.CLOSE_FAILURE);
+            }
+            channel = null;
+        }
+    }
+}
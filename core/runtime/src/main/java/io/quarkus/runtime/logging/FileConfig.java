@@ -1,9 +1,12 @@
 package io.quarkus.runtime.logging;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.configuration.MemorySize;
@@ -50,6 +53,11 @@ public class FileConfig {
      */
     RotationConfig rotation;
 
+    /**
+     * File batched logging config
+     */
+    BatchConfig batch;
+
     @ConfigGroup
     public static class RotationConfig {
         /**
@@ -80,4 +88,40 @@ public class FileConfig {
         @ConfigItem(defaultValue = "true")
         boolean rotateOnBoot;
     }
+
+    @ConfigGroup
+    public static class BatchConfig {
+        /**
+         * Indicates whether to write the logs in batches, from a dedicated thread.
+         * <p>
+         * The records are written once the buffer is full, once the flush interval has elapsed or when the handler is
+         * flushed. Only the size based rotation is supported: this is ignored if a {@code file-suffix} is configured.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        boolean enable;
+
+        /**
+         * The maximum number of records waiting to be written
+         */
+        @ConfigItem(defaultValue = "8192")
+        int queueLength;
+
+        /**
+         * Determine whether to block the publisher (rather than drop the message) when the queue is full
+         */
+        @ConfigItem(defaultValue = "block")
+        OverflowAction overflow;
+
+        /**
+         * The maximum number of bytes written at once, at most 2G
+         */
+        @ConfigItem(defaultValue = "64K")
+        MemorySize bufferSize;
+
+        /**
+         * How long the records may wait before being written, must be positive
+         */
+        @ConfigItem(defaultValue = "0.2S")
+        Duration flushInterval;
+    }
 }
@@ -22,6 +22,14 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String FILE_DROPPED_METRIC_NAME = "log.file.dropped";
+
+    static final String FILE_DROPPED_METRIC_DESCRIPTION = "Number of log events dropped by the batched file handlers, as their queue was full.";
+
+    static final String FILE_QUEUED_METRIC_NAME = "log.file.queued";
+
+    static final String FILE_QUEUED_METRIC_DESCRIPTION = "Number of log events waiting to be written by the batched file handlers.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,6 +51,10 @@ public class LogMetricsHandlerRecorder {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(FILE_DROPPED_METRIC_NAME).description(FILE_DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(BatchedFileHandler.DROPPED::sum);
+                metricsFactory.builder(FILE_QUEUED_METRIC_NAME).description(FILE_QUEUED_METRIC_DESCRIPTION)
+                        .buildGauge(BatchedFileHandler.QUEUED::sum);
             }
         };
     }
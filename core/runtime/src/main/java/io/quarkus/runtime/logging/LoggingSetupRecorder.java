@@ -39,6 +39,7 @@ import io.quarkus.bootstrap.logging.InitialConfigurator;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
+import io.quarkus.runtime.configuration.MemorySize;
 
 /**
  *
@@ -283,8 +284,16 @@ public class LoggingSetupRecorder {
 
     private static Handler configureFileHandler(final FileConfig config, final ErrorManager errorManager,
             final List<LogCleanupFilterElement> filterElements) {
-        FileHandler handler = new FileHandler();
         FileConfig.RotationConfig rotationConfig = config.rotation;
+        if (config.batch.enable) {
+            if (rotationConfig.fileSuffix.isPresent()) {
+                errorManager.error("Batched file logging does not support the periodic rotation, ignoring it", null,
+                        ErrorManager.GENERIC_FAILURE);
+            } else {
+                return configureBatchedFileHandler(config, errorManager, filterElements);
+            }
+        }
+        FileHandler handler = new FileHandler();
         if ((rotationConfig.maxFileSize.isPresent() || rotationConfig.rotateOnBoot)
                 && rotationConfig.fileSuffix.isPresent()) {
             PeriodicSizeRotatingFileHandler periodicSizeRotatingFileHandler = new PeriodicSizeRotatingFileHandler();
@@ -322,6 +331,26 @@ public class LoggingSetupRecorder {
         return handler;
     }
 
+    private static Handler configureBatchedFileHandler(final FileConfig config, final ErrorManager errorManager,
+            final List<LogCleanupFilterElement> filterElements) {
+        final FileConfig.BatchConfig batchConfig = config.batch;
+        final FileConfig.RotationConfig rotationConfig = config.rotation;
+        final long bufferSize = batchConfig.bufferSize.asLongValue();
+        if (bufferSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "quarkus.log.file.batch.buffer-size must not exceed " + Integer.MAX_VALUE + " bytes: " + bufferSize);
+        }
+        final BatchedFileHandler handler = new BatchedFileHandler(config.path.toPath(), batchConfig.queueLength,
+                batchConfig.overflow, (int) bufferSize, batchConfig.flushInterval.toNanos(),
+                rotationConfig.maxFileSize.map(MemorySize::asLongValue).orElse(0L), rotationConfig.maxBackupIndex,
+                rotationConfig.rotateOnBoot);
+        handler.setFormatter(new PatternFormatter(config.format));
+        handler.setErrorManager(errorManager);
+        handler.setLevel(config.level);
+        handler.setFilter(new LogCleanupFilter(filterElements));
+        return handler;
+    }
+
     private static Handler configureSyslogHandler(final SyslogConfig config,
             final ErrorManager errorManager,
             final List<LogCleanupFilterElement> filterElements) {
@@ -0,0 +1,336 @@
+package io.quarkus.runtime.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.graalvm.nativeimage.ImageInfo;
+import org.jboss.logging.Logger;
+
+/**
+ * Records the wall time, the CPU time and the number of loaded classes of each startup step, and writes them as JSON
+ * once the application is started.
+ * <p>
+ * The timeline is only recorded when the {@value #STARTUP_TIMELINE} system property is set to the path of the file to
+ * write. The static initialization of a native executable is not recorded, it happens while building the executable.
+ * The CPU time of a step is the time of the thread that ran it. The classes loaded by a step are counted for the
+ * whole JVM, they include the classes loaded by the steps that ran at the same time.
+ * <p>
+ * This class is used by the generated application class and should not be used directly.
+ */
+public final class StartupTimeline {
+
+    public static final String STARTUP_TIMELINE = "quarkus.debug.startup-timeline";
+
+    public static final String STATIC_INIT = "static-init";
+    public static final String RUNTIME_INIT = "runtime-init";
+
+    private static final Logger log = Logger.getLogger(StartupTimeline.class);
+
+    private static final int SUMMARY_SIZE = 10;
+
+    // null when the timeline is not recorded
+    private static volatile Recording recording;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Starts the given phase, a new timeline is started with the static initialization.
+     */
+    public static void phaseStarted(String phase) {
+        String path = System.getProperty(STARTUP_TIMELINE);
+        if (path == null || path.isEmpty() || ImageInfo.inImageBuildtimeCode()) {
+            // the static initialization of a native executable happens while building it
+            recording = null;
+            return;
+        }
+        Recording current = recording;
+        if (current == null || STATIC_INIT.equals(phase) || !current.path.equals(path)) {
+            current = new Recording(path);
+            recording = current;
+        }
+        current.phaseStarted(phase);
+    }
+
+    /**
+     * Completes the current phase.
+     */
+    public static void phaseCompleted() {
+        Recording current = recording;
+        if (current != null) {
+            current.phaseCompleted();
+        }
+    }
+
+    /**
+     * @return the measurement of a step starting now on the current thread, {@code null} if the timeline is not recorded
+     */
+    public static Measurement stepStarted() {
+        Recording current = recording;
+        return current == null ? null : current.measure();
+    }
+
+    /**
+     * Records the step measured since the given measurement.
+     */
+    public static void stepCompleted(Measurement start, String stepName) {
+        Recording current = recording;
+        if (start == null || current == null) {
+            return;
+        }
+        current.stepCompleted(start, stepName == null ? "unknown" : stepName);
+    }
+
+    /**
+     * Writes the timeline, if recorded, and logs the extensions that took the longest to start.
+     */
+    public static void startupCompleted() {
+        Recording current = recording;
+        if (current == null) {
+            return;
+        }
+        recording = null;
+        current.phaseCompleted();
+        Path path = Paths.get(current.path).toAbsolutePath();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                current.writeJson(writer);
+            }
+        } catch (IOException e) {
+            log.warnf(e, "Failed to write the startup timeline to %s", path);
+            return;
+        }
+        log.infof("Startup timeline written to %s%n%s", path, current.summary());
+    }
+
+    /**
+     * @return the extension of the given step, the build steps being named after their processor class
+     */
+    static String extensionOf(String stepName) {
+        int index = stepName.indexOf('.');
+        return index < 0 ? stepName : stepName.substring(0, index);
+    }
+
+    /**
+     * The state of the current thread and of the JVM at the start of a step.
+     */
+    public static final class Measurement {
+
+        final long wallTime;
+        final long cpuTime;
+        final long loadedClasses;
+
+        Measurement(long wallTime, long cpuTime, long loadedClasses) {
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+            this.loadedClasses = loadedClasses;
+        }
+    }
+
+    static final class Step {
+
+        final String phase;
+        final String name;
+        final String thread;
+        final long start;
+        final long wallTime;
+        // -1 if not supported
+        final long cpuTime;
+        final long loadedClasses;
+
+        Step(String phase, String name, String thread, long start, long wallTime, long cpuTime, long loadedClasses) {
+            this.phase = phase;
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+            this.loadedClasses = loadedClasses;
+        }
+    }
+
+    static final class Recording {
+
+        final String path;
+        final long start = System.nanoTime();
+        private final ThreadMXBean threads;
+        private final ClassLoadingMXBean classLoading;
+
+        // the following fields are guarded by this
+        private final List<Step> steps = new ArrayList<>();
+        // for each phase, its start, its duration and the classes it loaded, -1 if not completed
+        private final Map<String, long[]> phases = new LinkedHashMap<>();
+        private String phase;
+        private long phaseLoadedClasses;
+
+        Recording(String path) {
+            this.path = path;
+            ThreadMXBean threads = null;
+            ClassLoadingMXBean classLoading = null;
+            try {
+                threads = ManagementFactory.getThreadMXBean();
+                if (!threads.isCurrentThreadCpuTimeSupported()) {
+                    threads = null;
+                }
+                classLoading = ManagementFactory.getClassLoadingMXBean();
+            } catch (RuntimeException | LinkageError e) {
+                // not available, in a native executable for instance
+            }
+            this.threads = threads;
+            this.classLoading = classLoading;
+        }
+
+        Measurement measure() {
+            return new Measurement(System.nanoTime(), cpuTime(), loadedClasses());
+        }
+
+        synchronized void phaseStarted(String phase) {
+            phaseCompleted();
+            this.phase = phase;
+            this.phaseLoadedClasses = loadedClasses();
+            phases.put(phase, new long[] { System.nanoTime() - start, -1, -1 });
+        }
+
+        synchronized void phaseCompleted() {
+            if (phase == null) {
+                return;
+            }
+            long[] times = phases.get(phase);
+            if (times[1] < 0) {
+                times[1] = System.nanoTime() - start - times[0];
+                long loadedClasses = loadedClasses();
+                times[2] = loadedClasses < 0 ? -1 : loadedClasses - phaseLoadedClasses;
+            }
+        }
+
+        void stepCompleted(Measurement measurement, String stepName) {
+            long now = System.nanoTime();
+            long cpuTime = measurement.cpuTime < 0 ? -1 : cpuTime() - measurement.cpuTime;
+            long loadedClasses = measurement.loadedClasses < 0 ? -1 : loadedClasses() - measurement.loadedClasses;
+            String thread = Thread.currentThread().getName();
+            synchronized (this) {
+                steps.add(new Step(phase, stepName, thread, measurement.wallTime - start, now - measurement.wallTime,
+                        cpuTime, loadedClasses));
+            }
+        }
+
+        private long cpuTime() {
+            return threads == null ? -1 : threads.getCurrentThreadCpuTime();
+        }
+
+        private long loadedClasses() {
+            return classLoading == null ? -1 : classLoading.getTotalLoadedClassCount();
+        }
+
+        synchronized List<Step> steps() {
+            return new ArrayList<>(steps);
+        }
+
+        /**
+         * @return the total wall time, CPU time and loaded classes of the steps of each extension, the longest first
+         */
+        synchronized List<Map.Entry<String, long[]>> extensions() {
+            Map<String, long[]> totals = new LinkedHashMap<>();
+            for (Step step : steps) {
+                long[] total = totals.computeIfAbsent(extensionOf(step.name), k -> new long[3]);
+                total[0] += step.wallTime;
+                total[1] = step.cpuTime < 0 || total[1] < 0 ? -1 : total[1] + step.cpuTime;
+                total[2] = step.loadedClasses < 0 || total[2] < 0 ? -1 : total[2] + step.loadedClasses;
+            }
+            List<Map.Entry<String, long[]>> extensions = new ArrayList<>(totals.entrySet());
+            extensions.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed());
+            return extensions;
+        }
+
+        synchronized void writeJson(Writer writer) throws IOException {
+            writer.write("{\n  \"phases\": [");
+            boolean first = true;
+            for (Map.Entry<String, long[]> phase : phases.entrySet()) {
+                writer.write(first ? "\n" : ",\n");
+                first = false;
+                writer.write("    {\"name\": " + quote(phase.getKey())
+                        + ", \"start\": " + millis(phase.getValue()[0])
+                        + ", \"wall\": " + millis(phase.getValue()[1])
+                        + ", \"loadedClasses\": " + phase.getValue()[2] + "}");
+            }
+            writer.write("\n  ],\n  \"steps\": [");
+            first = true;
+            for (Step step : steps) {
+                writer.write(first ? "\n" : ",\n");
+                first = false;
+                writer.write("    {\"phase\": " + quote(step.phase)
+                        + ", \"name\": " + quote(step.name)
+                        + ", \"extension\": " + quote(extensionOf(step.name))
+                        + ", \"thread\": " + quote(step.thread)
+                        + ", \"start\": " + millis(step.start)
+                        + ", \"wall\": " + millis(step.wallTime)
+                        + ", \"cpu\": " + millis(step.cpuTime)
+                        + ", \"loadedClasses\": " + step.loadedClasses + "}");
+            }
+            writer.write("\n  ],\n  \"extensions\": [");
+            first = true;
+            for (Map.Entry<String, long[]> extension : extensions()) {
+                writer.write(first ? "\n" : ",\n");
+                first = false;
+                writer.write("    {\"name\": " + quote(extension.getKey())
+                        + ", \"wall\": " + millis(extension.getValue()[0])
+                        + ", \"cpu\": " + millis(extension.getValue()[1])
+                        + ", \"loadedClasses\": " + extension.getValue()[2] + "}");
+            }
+            writer.write("\n  ]\n}\n");
+        }
+
+        synchronized String summary() {
+            StringBuilder summary = new StringBuilder(String.format("%-60s %10s %10s %8s", "Extension", "Wall (ms)",
+                    "CPU (ms)", "Classes"));
+            List<Map.Entry<String, long[]>> extensions = extensions();
+            for (Map.Entry<String, long[]> extension : extensions.subList(0, Math.min(SUMMARY_SIZE, extensions.size()))) {
+                summary.append(String.format("%n%-60s %10s %10s %8d", extension.getKey(),
+                        millis(extension.getValue()[0]), millis(extension.getValue()[1]), extension.getValue()[2]));
+            }
+            for (Map.Entry<String, long[]> phase : phases.entrySet()) {
+                summary.append(String.format("%n%-60s %10s %10s %8d", "total " + phase.getKey(),
+                        millis(phase.getValue()[1]), "", phase.getValue()[2]));
+            }
+            return summary.toString();
+        }
+
+        private static String millis(long nanos) {
+            return nanos < 0 ? "-1" : String.format(Locale.ROOT, "%.3f", nanos / 1_000_000d);
+        }
+
+        private static String quote(String value) {
+            if (value == null) {
+                return "null";
+            }
+            StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    quoted.append('\\').append(c);
+                } else if (c < 0x20) {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+            return quoted.append('"').toString();
+        }
+    }
+}
@@ -8,6 +8,7 @@ public class StepTiming {
 
     private static boolean stepTimingEnabled;
     private static long stepTimingStart;
+    private static StartupTimeline.Measurement stepMeasurement;
 
     public static void configureEnabled() {
         stepTimingEnabled = System.getProperty(PRINT_STARTUP_TIMES, "false").equalsIgnoreCase("true");
@@ -15,16 +16,29 @@ public class StepTiming {
 
     public static void configureStart() {
         stepTimingStart = System.currentTimeMillis();
+        stepMeasurement = StartupTimeline.stepStarted();
     }
 
     public static void printStepTime(StartupContext startupContext) {
+        String currentBuildStepName = startupContext.getCurrentBuildStepName();
+        StartupTimeline.stepCompleted(stepMeasurement, currentBuildStepName);
+        stepMeasurement = StartupTimeline.stepStarted();
         if (!stepTimingEnabled) {
             return;
         }
         long stepTimingStop = System.currentTimeMillis();
-        String currentBuildStepName = startupContext.getCurrentBuildStepName();
         System.out
                 .println("Build step " + currentBuildStepName + " completed in: " + (stepTimingStop - stepTimingStart) + "ms");
         stepTimingStart = System.currentTimeMillis();
     }
+
+    /**
+     * Prints the time of a step that may have run concurrently with others, hence timed on its own.
+     */
+    public static void printStepTime(String stepName, long start) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.println("Build step " + stepName + " completed in: " + (System.currentTimeMillis() - start) + "ms");
+    }
 }
@@ -0,0 +1,80 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTaskRunnerTest {
+
+    @Test
+    public void testParse() {
+        int[][] dependencies = StartupTaskRunner.parse(";;0,1;2", 4);
+        assertArrayEquals(new int[0], dependencies[0]);
+        assertArrayEquals(new int[0], dependencies[1]);
+        assertArrayEquals(new int[] { 0, 1 }, dependencies[2]);
+        assertArrayEquals(new int[] { 2 }, dependencies[3]);
+
+        assertThrows(IllegalArgumentException.class, () -> StartupTaskRunner.parse(";0", 3));
+        assertThrows(IllegalArgumentException.class, () -> StartupTaskRunner.parse(";1", 2));
+    }
+
+    @Test
+    public void testStepNamePerThread() throws InterruptedException {
+        try (StartupContext context = new StartupContext()) {
+            context.setCurrentBuildStepName("main");
+            Thread other = new Thread(() -> context.setCurrentBuildStepName("other"));
+            other.start();
+            other.join();
+            assertEquals("main", context.getCurrentBuildStepName());
+        }
+    }
+
+    @Test
+    public void testDependenciesRunFirst() {
+        List<Integer> done = new CopyOnWriteArrayList<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        StartupTask[] tasks = new StartupTask[] {
+                context -> done.add(0),
+                context -> done.add(1),
+                context -> {
+                    assertTrue(done.contains(0) && done.contains(1));
+                    assertTrue(Thread.currentThread().getName().startsWith("quarkus-startup-"));
+                    assertSame(classLoader, Thread.currentThread().getContextClassLoader());
+                    context.putValue("result", "done");
+                    done.add(2);
+                }
+        };
+        try (StartupContext context = new StartupContext()) {
+            StartupTaskRunner.run(context, tasks, ";;0,1", 2);
+            assertEquals(3, done.size());
+            assertEquals(2, done.get(2));
+            assertEquals("done", context.getValue("result"));
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        IllegalStateException failure = new IllegalStateException("failed");
+        List<Integer> done = new CopyOnWriteArrayList<>();
+        StartupTask[] tasks = new StartupTask[] {
+                context -> {
+                    throw failure;
+                },
+                context -> done.add(1)
+        };
+        try (StartupContext context = new StartupContext()) {
+            IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                    () -> StartupTaskRunner.run(context, tasks, ";0", 2));
+            assertSame(failure, thrown);
+            assertFalse(done.contains(1));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class FrozenConfigTestCase {
+
+    private final Map<String, String> properties = new HashMap<>();
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private FrozenConfig buildConfig(String profile, String... keyValues) {
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new MapConfigSource(properties))
+                .withConverter(Port.class, 100, new PortConverter(conversions))
+                .withProfile(profile)
+                .build();
+        return FrozenConfig.freeze(config);
+    }
+
+    @Test
+    void valuesAreResolved() {
+        FrozenConfig config = buildConfig("foo",
+                "foo.one", "v1",
+                "foo.two", "v2",
+                "%foo.foo.two", "f2",
+                "foo.three", "${foo.one}-${foo.two}");
+        assertEquals("v1", config.getValue("foo.one", String.class));
+        assertEquals("f2", config.getValue("foo.two", String.class));
+        assertEquals("v1-f2", config.getValue("foo.three", String.class));
+        assertEquals("f2", config.getRawValue("foo.two"));
+        assertFalse(config.getOptionalValue("foo.four", String.class).isPresent());
+        assertSame(config, FrozenConfig.freeze(config));
+    }
+
+    @Test
+    void valuesAreConvertedOnce() {
+        FrozenConfig config = buildConfig("prod", "http.port", "8080");
+        Port port = config.getValue("http.port", Port.class);
+        assertEquals(8080, port.value);
+        assertSame(port, config.getValue("http.port", Port.class));
+        assertSame(port, config.getOptionalValue("http.port", Port.class).get());
+        assertEquals(1, conversions.get());
+        assertEquals(8080, (int) config.getValue("http.port", Integer.class));
+    }
+
+    @Test
+    void changesAreSeenOnReload() {
+        FrozenConfig config = buildConfig("prod", "foo.one", "v1");
+        assertEquals("v1", config.getValue("foo.one", String.class));
+        assertFalse(config.getOptionalValue("foo.two", String.class).isPresent());
+
+        properties.put("foo.one", "v1 changed");
+        properties.put("foo.two", "v2");
+        assertEquals("v1", config.getValue("foo.one", String.class));
+        assertFalse(config.getOptionalValue("foo.two", String.class).isPresent());
+
+        config.reload();
+        assertEquals("v1 changed", config.getValue("foo.one", String.class));
+        assertEquals("v2", config.getValue("foo.two", String.class));
+    }
+
+    @Test
+    void missingValuesAreReported() {
+        FrozenConfig config = buildConfig("prod", "foo.one", "v1", "foo.two", "${foo.missing}");
+        assertThrows(NoSuchElementException.class, () -> config.getValue("foo.missing", String.class));
+        assertThrows(NoSuchElementException.class, () -> config.getValue("foo.two", String.class));
+    }
+
+    @Test
+    void arraysAreNotShared() {
+        FrozenConfig config = buildConfig("prod", "foo.list", "a,b");
+        String[] values = config.getValue("foo.list", String[].class);
+        assertArrayEquals(new String[] { "a", "b" }, values);
+        values[0] = "c";
+        assertArrayEquals(new String[] { "a", "b" }, config.getValue("foo.list", String[].class));
+    }
+
+    static final class Port {
+
+        final int value;
+
+        Port(int value) {
+            this.value = value;
+        }
+    }
+
+    static final class PortConverter implements Converter<Port> {
+
+        private final AtomicInteger conversions;
+
+        PortConverter(AtomicInteger conversions) {
+            this.conversions = conversions;
+        }
+
+        @Override
+        public Port convert(String value) {
+            conversions.incrementAndGet();
+            return new Port(Integer.parseInt(value));
+        }
+    }
+
+    static final class MapConfigSource implements ConfigSource {
+
+        private final Map<String, String> properties;
+
+        MapConfigSource(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "test input";
+        }
+    }
+}
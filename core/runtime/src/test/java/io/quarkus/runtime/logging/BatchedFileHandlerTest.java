@@ -0,0 +1,196 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchedFileHandlerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void recordsAreWrittenOnFlush() throws IOException {
+        Path file = dir.resolve("logs/quarkus.log");
+        BatchedFileHandler handler = handler(file, OverflowAction.BLOCK, TimeUnit.HOURS.toNanos(1), 0);
+        try {
+            handler.publish(record("first"));
+            handler.publish(record("second"));
+            handler.flush();
+            assertEquals("first\nsecond\n", read(file));
+            assertEquals(0, handler.size());
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void recordsAreWrittenAfterTheFlushInterval() throws Exception {
+        Path file = dir.resolve("quarkus.log");
+        BatchedFileHandler handler = handler(file, OverflowAction.BLOCK, TimeUnit.MILLISECONDS.toNanos(10), 0);
+        try {
+            handler.publish(record("first"));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!Files.exists(file) || Files.size(file) == 0) {
+                assertTrue(System.currentTimeMillis() < deadline, "The record was not written");
+                Thread.sleep(10);
+            }
+            assertEquals("first\n", read(file));
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void flushIntervalMustBePositive() {
+        Path file = dir.resolve("quarkus.log");
+        assertThrows(IllegalArgumentException.class, () -> handler(file, OverflowAction.BLOCK, 0, 0));
+    }
+
+    @Test
+    public void remainingRecordsAreWrittenOnClose() throws IOException {
+        Path file = dir.resolve("quarkus.log");
+        BatchedFileHandler handler = handler(file, OverflowAction.BLOCK, TimeUnit.HOURS.toNanos(1), 0);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(record("record " + i));
+        }
+        handler.close();
+        assertEquals(1000, Files.readAllLines(file).size());
+        handler.publish(record("closed"));
+        assertEquals(1000, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void fileIsRotatedOnSize() throws IOException {
+        Path file = dir.resolve("quarkus.log");
+        Files.write(file, "previous\n".getBytes(StandardCharsets.UTF_8));
+        BatchedFileHandler handler = handler(file, OverflowAction.BLOCK, TimeUnit.HOURS.toNanos(1), 10);
+        try {
+            for (String message : new String[] { "first", "second", "third" }) {
+                handler.publish(record(message));
+                handler.flush();
+            }
+            assertEquals("third\n", read(file));
+            assertEquals("second\n", read(dir.resolve("quarkus.log.1")));
+            assertEquals("first\n", read(dir.resolve("quarkus.log.2")));
+            assertFalse(Files.exists(dir.resolve("quarkus.log.3")));
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void recordIsNotSplitOnRotation() throws IOException {
+        Path file = dir.resolve("quarkus.log");
+        // the records are larger than half the buffer, so that they are written in several batches
+        BatchedFileHandler handler = handler(file, OverflowAction.BLOCK, TimeUnit.HOURS.toNanos(1), 10_000);
+        String[] messages = new String[3];
+        try {
+            for (int i = 0; i < messages.length; i++) {
+                messages[i] = String.join("", Collections.nCopies(6000, String.valueOf((char) ('a' + i))));
+                handler.publish(record(messages[i]));
+            }
+            handler.flush();
+            assertEquals(messages[2] + "\n", read(file));
+            assertEquals(messages[1] + "\n", read(dir.resolve("quarkus.log.1")));
+            assertEquals(messages[0] + "\n", read(dir.resolve("quarkus.log.2")));
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void recordsAreDroppedOnceTheWriterFailed() {
+        // the writer fails with an unexpected exception while opening the file
+        Path failing = (Path) Proxy.newProxyInstance(Path.class.getClassLoader(), new Class<?>[] { Path.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("toAbsolutePath")) {
+                        return proxy;
+                    }
+                    throw new IllegalStateException("unexpected");
+                });
+        BatchedFileHandler handler = new BatchedFileHandler(failing, 1, OverflowAction.BLOCK, 1024,
+                TimeUnit.HOURS.toNanos(1), 0, 1, true);
+        handler.setFormatter(new PatternFormatter("%s%n"));
+        List<Integer> errors = new CopyOnWriteArrayList<>();
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public void error(String msg, Exception ex, int code) {
+                errors.add(code);
+            }
+        });
+        long dropped = BatchedFileHandler.DROPPED.sum();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                handler.publish(record("first"));
+                // returns once the writer is dead
+                handler.flush();
+                for (int i = 0; i < 100; i++) {
+                    handler.publish(record("record " + i));
+                }
+            });
+            assertEquals(Collections.singletonList(ErrorManager.GENERIC_FAILURE), errors);
+            assertTrue(BatchedFileHandler.DROPPED.sum() - dropped >= 100);
+        } finally {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void recordsAreDroppedWhenTheQueueIsFull() throws IOException {
+        Path file = dir.resolve("quarkus.log");
+        BatchedFileHandler handler = new BatchedFileHandler(file, 1, OverflowAction.DISCARD, 1024,
+                TimeUnit.HOURS.toNanos(1), 0, 1, true);
+        handler.setFormatter(new PatternFormatter("%s%n"));
+        long dropped = BatchedFileHandler.DROPPED.sum();
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                handler.publish(record("record " + i));
+            }
+            handler.flush();
+            long written = Files.readAllLines(file).size();
+            assertTrue(written > 0);
+            assertEquals(10_000 - written, BatchedFileHandler.DROPPED.sum() - dropped);
+        } finally {
+            handler.close();
+        }
+    }
+
+    private static BatchedFileHandler handler(Path file, OverflowAction overflowAction, long flushIntervalNanos,
+            long maxFileSize) {
+        BatchedFileHandler handler = new BatchedFileHandler(file, 128, overflowAction, 1024, flushIntervalNanos,
+                maxFileSize, 2, true);
+        handler.setFormatter(new PatternFormatter("%s%n"));
+        return handler;
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, ExtLogRecord.FormatStyle.NO_FORMAT,
+                BatchedFileHandlerTest.class.getName());
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.runtime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupTimelineTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty(StartupTimeline.STARTUP_TIMELINE);
+    }
+
+    @Test
+    public void testDisabled() {
+        StartupTimeline.phaseStarted(StartupTimeline.STATIC_INIT);
+        assertNull(StartupTimeline.stepStarted());
+    }
+
+    @Test
+    public void testTimeline() throws Exception {
+        Path file = dir.resolve("timeline").resolve("startup.json");
+        System.setProperty(StartupTimeline.STARTUP_TIMELINE, file.toString());
+
+        StartupTimeline.phaseStarted(StartupTimeline.STATIC_INIT);
+        StartupTimeline.Measurement measurement = StartupTimeline.stepStarted();
+        StartupTimeline.stepCompleted(measurement, "ArcProcessor.initStatic");
+        StartupTimeline.phaseCompleted();
+        StartupTimeline.phaseStarted(StartupTimeline.RUNTIME_INIT);
+        measurement = StartupTimeline.stepStarted();
+        StartupTimeline.stepCompleted(measurement, "ArcProcessor.notifyBeanContainerListeners");
+        measurement = StartupTimeline.stepStarted();
+        StartupTimeline.stepCompleted(measurement, "VertxProcessor.\"quoted\"");
+        StartupTimeline.startupCompleted();
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("{\"name\": \"static-init\""), json);
+        assertTrue(json.contains("{\"name\": \"runtime-init\""), json);
+        assertTrue(json.contains("{\"phase\": \"static-init\", \"name\": \"ArcProcessor.initStatic\", "
+                + "\"extension\": \"ArcProcessor\", \"thread\": \"" + Thread.currentThread().getName() + "\""), json);
+        assertTrue(json.contains("{\"phase\": \"runtime-init\", \"name\": \"ArcProcessor.notifyBeanContainerListeners\""),
+                json);
+        assertTrue(json.contains("\"name\": \"VertxProcessor.\\\"quoted\\\"\""), json);
+        assertTrue(json.contains("{\"name\": \"ArcProcessor\", \"wall\": "), json);
+        assertFalse(json.contains("\"wall\": -1"), json);
+
+        // the timeline is written once
+        assertNull(StartupTimeline.stepStarted());
+    }
+
+    @Test
+    public void testExtensionOf() {
+        assertEquals("ArcProcessor", StartupTimeline.extensionOf("ArcProcessor.initStatic"));
+        assertEquals("unknown", StartupTimeline.extensionOf("unknown"));
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.extest;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.FrozenConfig;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test the runtime configuration when it is frozen
+ */
+public class FrozenConfigTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ConfiguredBean.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.config.frozen", "true");
+
+    @Inject
+    ConfiguredBean configuredBean;
+
+    @Test
+    public void validateFrozenConfig() {
+        Assertions.assertTrue(ConfigProvider.getConfig() instanceof FrozenConfig);
+        Assertions.assertEquals("huhu", configuredBean.getFooRuntimeConfig().bar);
+        Assertions.assertEquals("huhu", ConfigProvider.getConfig().getValue("quarkus.foo.bar", String.class));
+
+        System.setProperty("quarkus.foo.bar", "changed");
+        try {
+            Assertions.assertEquals("huhu", ConfigProvider.getConfig().getValue("quarkus.foo.bar", String.class));
+            Assertions.assertTrue(FrozenConfig.reloadCurrent());
+            Assertions.assertEquals("changed", ConfigProvider.getConfig().getValue("quarkus.foo.bar", String.class));
+        } finally {
+            System.clearProperty("quarkus.foo.bar");
+            FrozenConfig.reloadCurrent();
+        }
+    }
+}
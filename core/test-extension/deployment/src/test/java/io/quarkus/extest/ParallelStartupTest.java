@@ -0,0 +1,58 @@
+package io.quarkus.extest;
+
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Starts the test-extension with the runtime initialization steps run concurrently
+ */
+public class ParallelStartupTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ConfiguredBean.class)
+                    .addAsResource(new StringAsset(applicationProperties() + "\nquarkus.startup.parallel=true\n"),
+                            "application.properties"));
+
+    @Inject
+    ConfiguredBean configuredBean;
+
+    @Test
+    public void validateConfiguredBean() {
+        Assertions.assertNotNull(configuredBean);
+        Assertions.assertNotNull(configuredBean.getRunTimeConfig());
+        Assertions.assertEquals("huhu", configuredBean.getFooRuntimeConfig().bar);
+    }
+
+    @Test
+    public void verifyCommandServlet() {
+        RestAssured.when().get("/commands/ping").then()
+                .body(is("/ping-ack"));
+    }
+
+    private static String applicationProperties() {
+        try (InputStream is = ParallelStartupTest.class.getClassLoader().getResourceAsStream("application.properties");
+                Scanner scanner = new Scanner(is, StandardCharsets.UTF_8.name())) {
+            return scanner.useDelimiter("\\A").next();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
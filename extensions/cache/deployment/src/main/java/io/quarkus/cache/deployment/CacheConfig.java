@@ -1,6 +1,7 @@
 package io.quarkus.cache.deployment;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -22,7 +23,8 @@ public class CacheConfig {
     public boolean enabled;
 
     /**
-     * Cache type.
+     * Cache type, either {@code caffeine} for local caches or {@code redis} for caches shared by all the instances of the
+     * application. The type can be overridden for each cache with {@code quarkus.cache.redis."cache-name".enabled}.
      */
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
@@ -32,6 +34,11 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Redis configuration.
+     */
+    RedisConfig redis;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -76,4 +83,81 @@ public class CacheConfig {
             Optional<Duration> expireAfterAccess;
         }
     }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * Namespace configuration.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, RedisNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class RedisNamespaceConfig {
+
+            /**
+             * Whether or not the cache is stored in Redis. If not set, the cache is stored in Redis only if
+             * {@code quarkus.cache.type} is {@code redis}.
+             */
+            @ConfigItem
+            Optional<Boolean> enabled;
+
+            /**
+             * Prefix of the Redis keys of the cache entries. The cache name and a colon are appended to this prefix.
+             */
+            @ConfigItem(defaultValue = "cache:")
+            String keyPrefix;
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * Classes of the keys and values which may be read from Redis, including the classes of their fields. An entry
+             * ending with {@code .*} allows all the classes of a package and of its sub-packages, e.g. {@code org.acme.*}.
+             * <p>
+             * Strings, boxed primitives, {@code BigInteger}, {@code BigDecimal}, {@code Date}, {@code UUID}, the
+             * {@code java.time} classes and the common collections and maps of the JDK are always allowed. The entries
+             * containing other classes are ignored, since deserializing arbitrary classes written in Redis could run
+             * unexpected code.
+             */
+            @ConfigItem
+            Optional<List<String>> allowedClasses;
+
+            /**
+             * Near cache configuration.
+             */
+            @ConfigItem
+            NearCacheConfig nearCache;
+        }
+
+        @ConfigGroup
+        public static class NearCacheConfig {
+
+            /**
+             * Whether or not the entries read from Redis are also kept in a local cache. The local entries are invalidated
+             * through a Redis channel when the cache is invalidated on any instance of the application.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean enabled;
+
+            /**
+             * Maximum number of entries the near cache may contain.
+             */
+            @ConfigItem
+            OptionalLong maximumSize;
+
+            /**
+             * Specifies that each entry should be automatically removed from the near cache once a fixed duration has elapsed
+             * after the entry's creation. Defaults to the {@code expire-after-write} of the Redis entries.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+        }
+    }
 }
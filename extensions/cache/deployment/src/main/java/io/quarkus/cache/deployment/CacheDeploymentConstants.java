@@ -32,6 +32,10 @@ public class CacheDeploymentConstants {
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    // Redis.
+    public static final String REDIS_CACHE_TYPE = "redis";
+    public static final DotName REDIS = DotName.createSimple("io.vertx.redis.client.Redis");
+
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
     }
@@ -3,6 +3,7 @@ package io.quarkus.cache.deployment;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_ANNOTATIONS_LISTS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.REDIS;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
@@ -23,21 +24,29 @@ import org.jboss.jandex.MethodInfo;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.redis.RedisCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 
 class CacheProcessor {
 
@@ -75,23 +84,70 @@ class CacheProcessor {
         return new ValidationErrorBuildItem(throwables.toArray(new Throwable[0]));
     }
 
+    @BuildStep(onlyIf = CacheEnabled.class)
+    void unremovableBeans(CombinedIndexBuildItem combinedIndex, CacheConfig config,
+            List<AdditionalCacheNameBuildItem> additionalCacheNames,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (!getRedisCacheNames(getCacheNames(combinedIndex.getIndex(), additionalCacheNames), config).isEmpty()) {
+            // The Redis client is only looked up by the recorder.
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(REDIS));
+        }
+    }
+
     @BuildStep(onlyIf = CacheEnabled.class)
     @Record(RUNTIME_INIT)
     void recordCachesBuild(CombinedIndexBuildItem combinedIndex, BeanContainerBuildItem beanContainer, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder,
-            List<AdditionalCacheNameBuildItem> additionalCacheNames) {
-        Set<String> cacheNames = getCacheNames(combinedIndex.getIndex());
+            CaffeineCacheBuildRecorder caffeineRecorder, RedisCacheBuildRecorder redisRecorder,
+            List<AdditionalCacheNameBuildItem> additionalCacheNames, ShutdownContextBuildItem shutdown,
+            Capabilities capabilities) {
+        Set<String> cacheNames = getCacheNames(combinedIndex.getIndex(), additionalCacheNames);
+        Set<String> redisCacheNames = getRedisCacheNames(cacheNames, config);
+        cacheNames.removeAll(redisCacheNames);
+
+        if (!cacheNames.isEmpty()) {
+            Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
+            caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos);
+        }
+        if (!redisCacheNames.isEmpty()) {
+            if (!capabilities.isPresent(Capability.REDIS_CLIENT)) {
+                throw new DeploymentException("The caches " + redisCacheNames
+                        + " are stored in Redis but the quarkus-redis-client extension is missing");
+            }
+            Set<RedisCacheInfo> cacheInfos = RedisCacheInfoBuilder.build(redisCacheNames, config);
+            redisRecorder.buildCaches(beanContainer.getValue(), cacheInfos, shutdown);
+        }
+    }
+
+    private Set<String> getCacheNames(IndexView index, List<AdditionalCacheNameBuildItem> additionalCacheNames) {
+        Set<String> cacheNames = getCacheNames(index);
         for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
             cacheNames.add(additionalCacheName.getName());
         }
+        return cacheNames;
+    }
+
+    private Set<String> getRedisCacheNames(Set<String> cacheNames, CacheConfig config) {
+        boolean redisByDefault;
         switch (config.type) {
             case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
-                Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
-                caffeineRecorder.buildCaches(beanContainer.getValue(), cacheInfos);
+                redisByDefault = false;
+                break;
+            case CacheDeploymentConstants.REDIS_CACHE_TYPE:
+                redisByDefault = true;
                 break;
             default:
                 throw new DeploymentException("Unknown cache type: " + config.type);
         }
+        Set<String> redisCacheNames = new HashSet<>();
+        for (String cacheName : cacheNames) {
+            RedisNamespaceConfig namespaceConfig = config.redis.namespace.get(cacheName);
+            boolean redis = namespaceConfig != null && namespaceConfig.enabled.isPresent() ? namespaceConfig.enabled.get()
+                    : redisByDefault;
+            if (redis) {
+                redisCacheNames.add(cacheName);
+            }
+        }
+        return redisCacheNames;
     }
 
     private Set<String> getCacheNames(IndexView index) {
@@ -0,0 +1,32 @@
+package io.quarkus.cache.deployment;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+
+public class RedisCacheInfoBuilder {
+
+    private static final String DEFAULT_KEY_PREFIX = "cache:";
+
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+        return cacheNames.stream().map(cacheName -> {
+            RedisCacheInfo cacheInfo = new RedisCacheInfo();
+            cacheInfo.name = cacheName;
+            cacheInfo.keyPrefix = DEFAULT_KEY_PREFIX;
+
+            RedisNamespaceConfig namespaceConfig = cacheConfig.redis.namespace.get(cacheInfo.name);
+            if (namespaceConfig != null) {
+                cacheInfo.keyPrefix = namespaceConfig.keyPrefix;
+                namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+                namespaceConfig.allowedClasses.ifPresent(classes -> cacheInfo.allowedClasses.addAll(classes));
+                cacheInfo.nearCacheEnabled = namespaceConfig.nearCache.enabled;
+                namespaceConfig.nearCache.maximumSize.ifPresent(size -> cacheInfo.nearCacheMaximumSize = size);
+                namespaceConfig.nearCache.expireAfterWrite.ifPresent(delay -> cacheInfo.nearCacheExpireAfterWrite = delay);
+            }
+
+            return cacheInfo;
+        }).collect(Collectors.toSet());
+    }
+}
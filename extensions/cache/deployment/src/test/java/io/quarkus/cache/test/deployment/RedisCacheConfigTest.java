@@ -0,0 +1,62 @@
+package io.quarkus.cache.test.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.redis.RedisCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisCacheConfigTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClass(TestResource.class).addAsResource(
+                            "redis-cache-config-test.properties", "application.properties"));
+
+    private static final String REDIS_CACHE_NAME = "redis-cache";
+    private static final String CAFFEINE_CACHE_NAME = "caffeine-cache";
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testConfig() {
+        RedisCache redisCache = (RedisCache) cacheRepository.getCache(REDIS_CACHE_NAME);
+        assertEquals(Duration.ofSeconds(30L), redisCache.getExpireAfterWrite());
+        assertFalse(redisCache.isNearCacheEnabled());
+        assertTrue(cacheRepository.getCache(CAFFEINE_CACHE_NAME) instanceof CaffeineCache);
+    }
+
+    @Path("/test")
+    public static class TestResource {
+
+        @GET
+        @CacheResult(cacheName = REDIS_CACHE_NAME)
+        public String redis(String key) {
+            return "redis";
+        }
+
+        @GET
+        @Path("/caffeine")
+        @CacheResult(cacheName = CAFFEINE_CACHE_NAME)
+        public String caffeine(String key) {
+            return "caffeine";
+        }
+    }
+}
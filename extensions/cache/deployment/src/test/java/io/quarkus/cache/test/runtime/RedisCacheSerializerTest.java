@@ -0,0 +1,130 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.redis.RedisCacheSerializer;
+
+public class RedisCacheSerializerTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @Test
+    public void testJdkClassesAreAllowedByDefault() {
+        RedisCacheSerializer serializer = serializer();
+        Map<String, Object> value = new HashMap<>();
+        value.put("list", new ArrayList<>(Arrays.asList(1, 2L, 3.0)));
+        value.put("date", LocalDate.of(2020, 6, 1));
+        value.put("unmodifiable", Collections.unmodifiableList(Arrays.asList("a", "b")));
+        value.put("array", new String[] { "c" });
+        value.put("primitives", new int[] { 4 });
+        assertRoundTrip(serializer, value);
+        assertRoundTrip(serializer, new CompositeCacheKey("key", 1));
+    }
+
+    @Test
+    public void testOtherClassesAreRejected() {
+        RedisCacheSerializer serializer = serializer();
+        assertFalse(serializer.isAllowed(Value.class.getName()));
+        assertFalse(serializer.isAllowed("[L" + Value.class.getName() + ";"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> serializer.serialize(Collections.singletonList(new Value("forbidden")), "values"));
+        assertTrue(e.getMessage().contains(Value.class.getName()));
+
+        // An entry written by someone else containing a class which is not allowed is ignored.
+        assertNull(serializer.deserialize(javaSerialize(new Value("forbidden"))));
+        assertNull(serializer.deserialize(javaSerialize(new Value[] { new Value("forbidden") })));
+    }
+
+    @Test
+    public void testConfiguredClassesAreAllowed() {
+        RedisCacheSerializer byClass = serializer(Value.class.getName());
+        assertRoundTrip(byClass, new Value("allowed"));
+        assertRoundTrip(byClass, Collections.singletonMap("key", new Value[] { new Value("allowed") }));
+
+        RedisCacheSerializer byPackage = serializer(Value.class.getPackage().getName() + ".*");
+        assertRoundTrip(byPackage, new Value("allowed"));
+        assertTrue(byPackage.isAllowed(Value.class.getPackage().getName() + ".sub.Other"));
+        assertFalse(byPackage.isAllowed(Value.class.getPackage().getName() + "foo.Other"));
+    }
+
+    private static RedisCacheSerializer serializer(String... allowedClasses) {
+        return new RedisCacheSerializer(CACHE_NAME, Thread.currentThread().getContextClassLoader(),
+                new HashSet<>(Arrays.asList(allowedClasses)));
+    }
+
+    private static void assertRoundTrip(RedisCacheSerializer serializer, Object object) {
+        Object deserialized = serializer.deserialize(serializer.serialize(object, "values"));
+        if (object instanceof Map) {
+            // Arrays are not equal to each other, compare them as lists.
+            assertEquals(toLists((Map<?, ?>) object), toLists((Map<?, ?>) deserialized));
+        } else {
+            assertEquals(object, deserialized);
+        }
+    }
+
+    private static Map<Object, Object> toLists(Map<?, ?> map) {
+        Map<Object, Object> result = new HashMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Object[]) {
+                value = Arrays.asList((Object[]) value);
+            } else if (value instanceof int[]) {
+                value = Arrays.toString((int[]) value);
+            }
+            result.put(entry.getKey(), value);
+        }
+        return result;
+    }
+
+    private static byte[] javaSerialize(Object object) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(object);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static class Value implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String content;
+
+        public Value(String content) {
+            this.content = content;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Value && Objects.equals(content, ((Value) obj).content);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(content);
+        }
+    }
+}
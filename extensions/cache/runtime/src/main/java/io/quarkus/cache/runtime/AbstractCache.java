@@ -0,0 +1,64 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * Base class of the caches used by the annotations caching API. Each cache backend (Caffeine, Redis...) provides its own
+ * implementation, the backend of a cache being chosen at build time from its name.
+ */
+public abstract class AbstractCache {
+
+    public static final String NULL_KEYS_NOT_SUPPORTED_MSG = "Null keys are not supported by the Quarkus application data cache";
+
+    private final String name;
+
+    private Object defaultKey;
+
+    protected AbstractCache(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a future completed with the value associated with the given key. If the key is not associated with a value yet,
+     * the value is computed with {@code valueLoader}, stored in the cache and returned. Concurrent calls with the same key
+     * should not compute the value several times.
+     * 
+     * @param key cache key, never {@code null}
+     * @param valueLoader function computing the value from the key and an executor
+     * @return future of the value associated with the key, which may be {@code null}
+     */
+    public abstract CompletableFuture<Object> get(Object key,
+            BiFunction<Object, Executor, CompletableFuture<Object>> valueLoader);
+
+    /**
+     * Removes the entry associated with the given key from the cache.
+     * 
+     * @param key cache key, never {@code null}
+     */
+    public abstract void invalidate(Object key);
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public abstract void invalidateAll();
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the unique and immutable default key for the current cache. This key is used by the annotations caching API when
+     * a no-args method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
+     * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate} is invoked.
+     * 
+     * @return default cache key
+     */
+    public Object getDefaultKey() {
+        if (defaultKey == null) {
+            defaultKey = new DefaultCacheKey(getName());
+        }
+        return defaultKey;
+    }
+}
@@ -9,7 +9,6 @@ import javax.interceptor.Interceptor.Priority;
 import javax.interceptor.InvocationContext;
 
 import io.quarkus.arc.runtime.InterceptorBindings;
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
 
 public abstract class CacheInterceptor {
 
@@ -33,7 +32,7 @@ public abstract class CacheInterceptor {
         return getInterceptorBindings(context, bindingClass).get(0);
     }
 
-    protected Object getCacheKey(CaffeineCache cache, short[] cacheKeyParameterPositions, Object[] methodParameterValues) {
+    protected Object getCacheKey(AbstractCache cache, short[] cacheKeyParameterPositions, Object[] methodParameterValues) {
         if (methodParameterValues.length == 0) {
             // If the intercepted method doesn't have any parameter, then the default cache key will be used.
             return cache.getDefaultKey();
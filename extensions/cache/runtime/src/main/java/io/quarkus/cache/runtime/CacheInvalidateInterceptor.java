@@ -7,8 +7,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheInvalidateInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 1)
@@ -21,7 +19,7 @@ public class CacheInvalidateInterceptor extends CacheInterceptor {
         Object key = null;
         for (CacheInvalidateInterceptorBinding binding : getInterceptorBindings(context,
                 CacheInvalidateInterceptorBinding.class)) {
-            CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+            AbstractCache cache = cacheRepository.getCache(binding.cacheName());
             if (key == null) {
                 key = getCacheKey(cache, binding.cacheKeyParameterPositions(), context.getParameters());
             }
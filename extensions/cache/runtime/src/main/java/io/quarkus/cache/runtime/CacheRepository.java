@@ -1,26 +1,30 @@
 package io.quarkus.cache.runtime;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @ApplicationScoped
 public class CacheRepository {
 
-    // There's no need for concurrency here since the map is created at build time and never modified after that.
-    private Map<String, CaffeineCache> caches;
+    // There's no need for concurrency here since the map is only filled while the caches are built at startup.
+    private final Map<String, AbstractCache> caches = new HashMap<>();
 
-    public void setCaches(Map<String, CaffeineCache> caches) {
-        if (this.caches != null) {
-            throw new IllegalStateException("The caches map must only be set at build time");
+    /**
+     * Registers caches built by a cache backend.
+     * 
+     * @throws IllegalStateException if a cache with the same name is already registered
+     */
+    public void addCaches(Map<String, ? extends AbstractCache> caches) {
+        for (Map.Entry<String, ? extends AbstractCache> cache : caches.entrySet()) {
+            if (this.caches.putIfAbsent(cache.getKey(), cache.getValue()) != null) {
+                throw new IllegalStateException("The cache [" + cache.getKey() + "] is already registered");
+            }
         }
-        this.caches = Collections.unmodifiableMap(caches);
     }
 
-    public CaffeineCache getCache(String cacheName) {
+    public AbstractCache getCache(String cacheName) {
         return caches.get(cacheName);
     }
 }
@@ -15,8 +15,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheResultInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 2)
@@ -28,7 +26,7 @@ public class CacheResultInterceptor extends CacheInterceptor {
     public Object intercept(InvocationContext context) throws Exception {
         CacheResultInterceptorBinding binding = getInterceptorBinding(context, CacheResultInterceptorBinding.class);
 
-        CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+        AbstractCache cache = cacheRepository.getCache(binding.cacheName());
         Object key = getCacheKey(cache, binding.cacheKeyParameterPositions(), context.getParameters());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
@@ -1,14 +1,17 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
 import java.util.Arrays;
 
 /**
  * A composite cache key is used by the annotations caching API when a method annotated with
  * {@link io.quarkus.cache.CacheResult CacheResult} or {@link io.quarkus.cache.CacheInvalidate CacheInvalidate} is invoked and
  * when the cache key is composed of several of the method arguments (annotated with {@link io.quarkus.cache.CacheKey CacheKey}
- * or not).
+ * or not). It is serializable as long as its key elements are, so that it can be used with distributed caches.
  */
-public class CompositeCacheKey {
+public class CompositeCacheKey implements Serializable {
+
+    private static final long serialVersionUID = -2983172542368127365L;
 
     private final Object[] keyElements;
 
@@ -1,8 +1,11 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
 import java.util.Objects;
 
-public class DefaultCacheKey {
+public class DefaultCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 6251469349472815307L;
 
     private final String cacheName;
 
@@ -8,17 +8,13 @@ import java.util.function.BiFunction;
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
-import io.quarkus.cache.runtime.DefaultCacheKey;
+import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 
-public class CaffeineCache {
-
-    public static final String NULL_KEYS_NOT_SUPPORTED_MSG = "Null keys are not supported by the Quarkus application data cache";
+public class CaffeineCache extends AbstractCache {
 
     private AsyncCache<Object, Object> cache;
 
-    private String name;
-
     private Integer initialCapacity;
 
     private Long maximumSize;
@@ -27,10 +23,8 @@ public class CaffeineCache {
 
     private Duration expireAfterAccess;
 
-    private Object defaultKey;
-
     public CaffeineCache(CaffeineCacheInfo cacheInfo, Executor executor) {
-        this.name = cacheInfo.name;
+        super(cacheInfo.name);
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (executor != null) {
             builder.executor(executor);
@@ -54,6 +48,7 @@ public class CaffeineCache {
         cache = builder.buildAsync();
     }
 
+    @Override
     public CompletableFuture<Object> get(Object key, BiFunction<Object, Executor, CompletableFuture<Object>> valueLoader) {
         if (key == null) {
             throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -67,6 +62,7 @@ public class CaffeineCache {
                 }).thenApply(NullValueConverter::fromCacheValue);
     }
 
+    @Override
     public void invalidate(Object key) {
         if (key == null) {
             throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -74,14 +70,11 @@ public class CaffeineCache {
         cache.synchronous().invalidate(key);
     }
 
+    @Override
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
     }
 
-    public String getName() {
-        return name;
-    }
-
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -101,18 +94,4 @@ public class CaffeineCache {
     public Duration getExpireAfterAccess() {
         return expireAfterAccess;
     }
-
-    /**
-     * Returns the unique and immutable default key for the current cache. This key is used by the annotations caching API when
-     * a no-args method annotated with {@link io.quarkus.cache.CacheResult CacheResult} or
-     * {@link io.quarkus.cache.CacheInvalidate CacheInvalidate} is invoked.
-     * 
-     * @return default cache key
-     */
-    public Object getDefaultKey() {
-        if (defaultKey == null) {
-            defaultKey = new DefaultCacheKey(getName());
-        }
-        return defaultKey;
-    }
 }
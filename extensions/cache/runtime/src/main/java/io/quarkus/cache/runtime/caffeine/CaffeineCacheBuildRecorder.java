@@ -35,6 +35,6 @@ public class CaffeineCacheBuildRecorder {
             caches.put(cacheInfo.name, cache);
         }
 
-        beanContainer.instance(CacheRepository.class).setCaches(caches);
+        beanContainer.instance(CacheRepository.class).addCaches(caches);
     }
 }
@@ -0,0 +1,405 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheException;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.vertx.core.Context;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * A cache storing its entries in Redis, so that they are shared by all the instances of an application.
+ * <p>
+ * The keys and the values are stored with the Java serialization, restricted to the allowed classes, under keys made of the
+ * configured prefix, the cache name and the serialized key. When the near cache is enabled, the entries read from Redis are
+ * also kept in a local Caffeine cache,
+ * and the invalidations are published on a Redis channel so that every instance evicts them from its own near cache.
+ */
+public class RedisCache extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCache.class);
+
+    // Same default timeout as the Redis client.
+    private static final long INVALIDATION_TIMEOUT_SECONDS = 10;
+    private static final int SCAN_COUNT = 1000;
+    // A serialized object is never empty: an empty value stands for null and an empty message invalidates all the keys.
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Redis redis;
+
+    private final Executor executor;
+
+    private final RedisCacheSerializer serializer;
+
+    private final byte[] keyPrefix;
+
+    private final String channel;
+
+    private final Duration expireAfterWrite;
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> loadings = new ConcurrentHashMap<>();
+
+    private final AsyncCache<Object, Object> nearCache;
+
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+
+    private volatile RedisConnection subscriber;
+
+    private volatile boolean closed;
+
+    public RedisCache(RedisCacheInfo cacheInfo, Redis redis, Executor executor) {
+        super(cacheInfo.name);
+        this.redis = redis;
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+        this.serializer = new RedisCacheSerializer(cacheInfo.name, Thread.currentThread().getContextClassLoader(),
+                cacheInfo.allowedClasses);
+        String prefix = cacheInfo.keyPrefix + cacheInfo.name + ':';
+        this.keyPrefix = prefix.getBytes(StandardCharsets.UTF_8);
+        this.channel = prefix + "invalidations";
+        this.expireAfterWrite = cacheInfo.expireAfterWrite;
+        if (cacheInfo.nearCacheEnabled) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder();
+            builder.executor(this.executor);
+            if (cacheInfo.nearCacheMaximumSize != null) {
+                builder.maximumSize(cacheInfo.nearCacheMaximumSize);
+            }
+            // The near cache entries must not outlive the Redis ones.
+            Duration nearCacheExpireAfterWrite = cacheInfo.nearCacheExpireAfterWrite != null
+                    ? cacheInfo.nearCacheExpireAfterWrite
+                    : cacheInfo.expireAfterWrite;
+            if (nearCacheExpireAfterWrite != null) {
+                builder.expireAfterWrite(nearCacheExpireAfterWrite);
+            }
+            this.nearCache = builder.buildAsync();
+            subscribe();
+        } else {
+            this.nearCache = null;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Object> get(Object key, BiFunction<Object, Executor, CompletableFuture<Object>> valueLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> cacheValue;
+        if (nearCache != null && subscriber != null) {
+            cacheValue = nearCache.get(key, new BiFunction<Object, Executor, CompletableFuture<Object>>() {
+                @Override
+                public CompletableFuture<Object> apply(Object k, Executor e) {
+                    return load(k, valueLoader);
+                }
+            });
+        } else {
+            if (nearCache != null) {
+                // The near cache is bypassed until the invalidations are received again.
+                subscribe();
+            }
+            cacheValue = loadOnce(key, valueLoader);
+        }
+        return cacheValue.thenApply(NullValueConverter::fromCacheValue);
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        byte[] serializedKey = serialize(key, "keys");
+        List<Request> requests = new ArrayList<>(2);
+        requests.add(Request.cmd(Command.DEL).arg(redisKey(serializedKey)));
+        if (nearCache != null) {
+            nearCache.synchronous().invalidate(key);
+            requests.add(Request.cmd(Command.PUBLISH).arg(channel).arg(serializedKey));
+        }
+        complete(batch(requests), "invalidate an entry of");
+    }
+
+    @Override
+    public void invalidateAll() {
+        CompletableFuture<?> invalidation = deleteAll("0");
+        if (nearCache != null) {
+            nearCache.synchronous().invalidateAll();
+            invalidation = invalidation
+                    .thenCompose(ignored -> send(Request.cmd(Command.PUBLISH).arg(channel).arg(EMPTY)));
+        }
+        complete(invalidation, "invalidate all the entries of");
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public boolean isNearCacheEnabled() {
+        return nearCache != null;
+    }
+
+    void close() {
+        closed = true;
+        RedisConnection connection = subscriber;
+        if (connection != null) {
+            subscriber = null;
+            connection.close();
+        }
+    }
+
+    private CompletableFuture<Object> loadOnce(Object key,
+            BiFunction<Object, Executor, CompletableFuture<Object>> valueLoader) {
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loadings.putIfAbsent(key, loading);
+        if (existing != null) {
+            return existing;
+        }
+        load(key, valueLoader).whenComplete((value, failure) -> {
+            loadings.remove(key, loading);
+            if (failure != null) {
+                loading.completeExceptionally(failure);
+            } else {
+                loading.complete(value);
+            }
+        });
+        return loading;
+    }
+
+    /**
+     * Reads the value from Redis and, if it is missing, computes and stores it.
+     *
+     * @return future of the cache value, which is never {@code null}
+     */
+    private CompletableFuture<Object> load(Object key, BiFunction<Object, Executor, CompletableFuture<Object>> valueLoader) {
+        byte[] redisKey;
+        try {
+            redisKey = redisKey(serialize(key, "keys"));
+        } catch (IllegalArgumentException e) {
+            CompletableFuture<Object> failure = new CompletableFuture<>();
+            failure.completeExceptionally(new CacheException(e));
+            return failure;
+        }
+        return send(Request.cmd(Command.GET).arg(redisKey))
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        // Redis being unavailable should not prevent the value from being computed.
+                        LOGGER.warnf(failure, "Unable to read an entry of the Redis cache [%s]", getName());
+                        return null;
+                    }
+                    return response == null ? null : response.toBytes();
+                })
+                .thenCompose(bytes -> {
+                    Object cacheValue = bytes == null ? null : deserialize(bytes);
+                    if (cacheValue != null) {
+                        return CompletableFuture.completedFuture(cacheValue);
+                    }
+                    return valueLoader.apply(key, executor).thenCompose(value -> store(redisKey, value));
+                });
+    }
+
+    private CompletableFuture<Object> store(byte[] redisKey, Object value) {
+        Request set = Request.cmd(Command.SET).arg(redisKey);
+        try {
+            set.arg(value == null ? EMPTY : serialize(value, "values"));
+        } catch (IllegalArgumentException e) {
+            throw new CacheException(e);
+        }
+        if (expireAfterWrite != null) {
+            set.arg("PX").arg(expireAfterWrite.toMillis());
+        }
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        return send(set).handle((response, failure) -> {
+            if (failure != null) {
+                LOGGER.warnf(failure, "Unable to write an entry of the Redis cache [%s]", getName());
+            }
+            return cacheValue;
+        });
+    }
+
+    private CompletableFuture<Void> deleteAll(String cursor) {
+        Request scan = Request.cmd(Command.SCAN).arg(cursor)
+                .arg("MATCH").arg(keyPattern())
+                .arg("COUNT").arg(SCAN_COUNT);
+        return send(scan).thenCompose(response -> {
+            String nextCursor = response.get(0).toString();
+            Response keys = response.get(1);
+            CompletableFuture<?> deletion;
+            if (keys.size() == 0) {
+                deletion = CompletableFuture.completedFuture(null);
+            } else {
+                Request del = Request.cmd(Command.DEL);
+                for (Response redisKey : keys) {
+                    del.arg(redisKey.toBytes());
+                }
+                deletion = send(del);
+            }
+            return deletion.thenCompose(ignored -> "0".equals(nextCursor) ? CompletableFuture.completedFuture(null)
+                    : deleteAll(nextCursor));
+        });
+    }
+
+    private void subscribe() {
+        if (closed || !subscribing.compareAndSet(false, true)) {
+            return;
+        }
+        redis.connect(connect -> {
+            if (connect.failed()) {
+                subscribing.set(false);
+                LOGGER.warnf(connect.cause(), "Unable to subscribe to the invalidations of the Redis cache [%s]", getName());
+                return;
+            }
+            RedisConnection connection = connect.result();
+            connection.handler(this::onMessage);
+            connection.exceptionHandler(failure -> {
+                LOGGER.warnf(failure, "Lost the subscription to the invalidations of the Redis cache [%s]", getName());
+                unsubscribed(connection);
+                connection.close();
+            });
+            connection.endHandler(ignored -> unsubscribed(connection));
+            connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel), reply -> {
+                if (reply.succeeded() && !closed) {
+                    // Invalidations may have been missed while there was no subscription.
+                    nearCache.synchronous().invalidateAll();
+                    subscriber = connection;
+                } else {
+                    if (reply.failed()) {
+                        LOGGER.warnf(reply.cause(), "Unable to subscribe to the invalidations of the Redis cache [%s]",
+                                getName());
+                    }
+                    connection.close();
+                }
+                subscribing.set(false);
+            });
+        });
+    }
+
+    private void unsubscribed(RedisConnection connection) {
+        if (subscriber == connection) {
+            subscriber = null;
+            nearCache.synchronous().invalidateAll();
+        }
+    }
+
+    private void onMessage(Response message) {
+        // Pushed messages look like ["message", channel, payload].
+        if (message.type() != ResponseType.MULTI || message.size() != 3 || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        byte[] payload = message.get(2).toBytes();
+        if (payload.length == 0) {
+            nearCache.synchronous().invalidateAll();
+        } else {
+            Object key = deserialize(payload);
+            if (key != null) {
+                nearCache.synchronous().invalidate(key);
+            } else {
+                nearCache.synchronous().invalidateAll();
+            }
+        }
+    }
+
+    private CompletableFuture<Response> send(Request request) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        redis.send(request, ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<List<Response>> batch(List<Request> requests) {
+        CompletableFuture<List<Response>> result = new CompletableFuture<>();
+        redis.batch(requests, ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for an invalidation to complete, unless the caller is on an event loop which must not be blocked: the
+     * invalidation then completes in the background and its failure is only logged.
+     */
+    private void complete(CompletableFuture<?> future, String action) {
+        if (Context.isOnEventLoopThread()) {
+            future.whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    LOGGER.warnf(failure, "Unable to %s the Redis cache [%s]", action, getName());
+                }
+            });
+            return;
+        }
+        try {
+            future.get(INVALIDATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CacheException(e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new CacheException(new IllegalStateException(
+                    "Unable to " + action + " the Redis cache [" + getName() + "]",
+                    e instanceof ExecutionException ? e.getCause() : e));
+        }
+    }
+
+    private byte[] redisKey(byte[] serializedKey) {
+        byte[] redisKey = Arrays.copyOf(keyPrefix, keyPrefix.length + serializedKey.length);
+        System.arraycopy(serializedKey, 0, redisKey, keyPrefix.length, serializedKey.length);
+        return redisKey;
+    }
+
+    private byte[] keyPattern() {
+        // The glob-style special characters of the prefix must be escaped.
+        ByteArrayOutputStream pattern = new ByteArrayOutputStream(keyPrefix.length + 1);
+        for (byte b : keyPrefix) {
+            if (b == '*' || b == '?' || b == '[' || b == ']' || b == '\\') {
+                pattern.write('\\');
+            }
+            pattern.write(b);
+        }
+        pattern.write('*');
+        return pattern.toByteArray();
+    }
+
+    private byte[] serialize(Object object, String kind) {
+        return serializer.serialize(object, kind);
+    }
+
+    /**
+     * @return the deserialized object, the cache value standing for {@code null} if there are no bytes or {@code null} if the
+     *         bytes can not be deserialized
+     */
+    private Object deserialize(byte[] bytes) {
+        if (bytes.length == 0) {
+            return NullValueConverter.toCacheValue(null);
+        }
+        return serializer.deserialize(bytes);
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.redis.client.Redis;
+
+@Recorder
+public class RedisCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBuildRecorder.class);
+
+    public void buildCaches(BeanContainer beanContainer, Set<RedisCacheInfo> cacheInfos, ShutdownContext shutdownContext) {
+        // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+        Map<String, RedisCache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+
+        ManagedExecutor managedExecutor = Arc.container().instance(ManagedExecutor.class).orElse(null);
+        Redis redis = beanContainer.instance(Redis.class);
+
+        for (RedisCacheInfo cacheInfo : cacheInfos) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debugf(
+                        "Building Redis cache [%s] with [keyPrefix=%s], [expireAfterWrite=%s], [nearCacheEnabled=%s], [nearCacheMaximumSize=%s] and [nearCacheExpireAfterWrite=%s]",
+                        cacheInfo.name, cacheInfo.keyPrefix, cacheInfo.expireAfterWrite, cacheInfo.nearCacheEnabled,
+                        cacheInfo.nearCacheMaximumSize, cacheInfo.nearCacheExpireAfterWrite);
+            }
+            RedisCache cache = new RedisCache(cacheInfo, redis, managedExecutor);
+            caches.put(cacheInfo.name, cache);
+            shutdownContext.addShutdownTask(cache::close);
+        }
+
+        beanContainer.instance(CacheRepository.class).addCaches(caches);
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    public String keyPrefix;
+
+    public Duration expireAfterWrite;
+
+    public boolean nearCacheEnabled;
+
+    public Long nearCacheMaximumSize;
+
+    public Duration nearCacheExpireAfterWrite;
+
+    public Set<String> allowedClasses = new HashSet<>();
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,231 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.CompositeCacheKey;
+import io.quarkus.cache.runtime.DefaultCacheKey;
+
+/**
+ * Serializes the keys and the values of a Redis cache with the Java serialization.
+ * <p>
+ * As the Redis entries may have been written by anyone able to connect to Redis, only the classes of the JDK commonly used as
+ * keys and values and the classes allowed by the cache configuration can be deserialized. The same check is done when an
+ * object is serialized, so that a cache storing classes which are not allowed fails right away instead of missing every time.
+ */
+public final class RedisCacheSerializer {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheSerializer.class);
+
+    private static final Set<String> DEFAULT_ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+            // Keys.
+            DefaultCacheKey.class.getName(),
+            CompositeCacheKey.class.getName(),
+            // Values, the arrays of objects being serialized as arrays of Object.
+            Object.class.getName(),
+            String.class.getName(),
+            Boolean.class.getName(),
+            Character.class.getName(),
+            Number.class.getName(),
+            Byte.class.getName(),
+            Short.class.getName(),
+            Integer.class.getName(),
+            Long.class.getName(),
+            Float.class.getName(),
+            Double.class.getName(),
+            Enum.class.getName(),
+            BigInteger.class.getName(),
+            BigDecimal.class.getName(),
+            Date.class.getName(),
+            UUID.class.getName(),
+            // The java.time classes are all serialized through this class.
+            "java.time.Ser",
+            ArrayList.class.getName(),
+            LinkedList.class.getName(),
+            ArrayDeque.class.getName(),
+            HashMap.class.getName(),
+            LinkedHashMap.class.getName(),
+            TreeMap.class.getName(),
+            HashSet.class.getName(),
+            LinkedHashSet.class.getName(),
+            TreeSet.class.getName(),
+            Arrays.asList().getClass().getName(),
+            // The immutable collections of Java 9+ are all serialized through this class.
+            "java.util.CollSer"));
+    private static final String COLLECTIONS_PREFIX = Collections.class.getName() + '$';
+    private static final String PACKAGE_WILDCARD = ".*";
+
+    private final String cacheName;
+
+    private final ClassLoader classLoader;
+
+    private final Set<String> allowedClasses;
+
+    private final Set<String> allowedPackages;
+
+    public RedisCacheSerializer(String cacheName, ClassLoader classLoader, Set<String> allowedClasses) {
+        this.cacheName = cacheName;
+        this.classLoader = classLoader;
+        this.allowedClasses = new HashSet<>(DEFAULT_ALLOWED_CLASSES);
+        this.allowedPackages = new HashSet<>();
+        if (allowedClasses != null) {
+            for (String allowedClass : allowedClasses) {
+                if (allowedClass.endsWith(PACKAGE_WILDCARD)) {
+                    // Keep the trailing dot so that "org.acme.*" does not match "org.acmefoo.Foo".
+                    allowedPackages.add(allowedClass.substring(0, allowedClass.length() - 1));
+                } else {
+                    this.allowedClasses.add(allowedClass);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param kind either {@code keys} or {@code values}, used in the error messages
+     * @throws IllegalArgumentException if the object is not serializable or if its class is not allowed
+     */
+    public byte[] serialize(Object object, String kind) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AllowedClassesObjectOutputStream output = null;
+        try {
+            output = new AllowedClassesObjectOutputStream(bytes);
+            output.writeObject(object);
+            output.close();
+        } catch (IOException e) {
+            if (output != null && output.notAllowedClass != null) {
+                throw new IllegalArgumentException("The class " + output.notAllowedClass + " of the " + kind
+                        + " of the Redis cache [" + cacheName + "] is not allowed, it must be added to quarkus.cache.redis.\""
+                        + cacheName + "\".allowed-classes", e);
+            }
+            throw new IllegalArgumentException("The " + kind + " of the Redis cache [" + cacheName + "] must be serializable",
+                    e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return the deserialized object or {@code null} if the bytes can not be deserialized
+     */
+    public Object deserialize(byte[] bytes) {
+        try (ObjectInputStream input = new AllowedClassesObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readObject();
+        } catch (ClassNotAllowedException e) {
+            LOGGER.warnf("Ignoring an entry of the Redis cache [%s] containing the class %s which is not allowed", cacheName,
+                    e.classname);
+            return null;
+        } catch (IOException | ClassNotFoundException e) {
+            // The entry has most likely been written by another version of the application, it's considered as missing.
+            LOGGER.debugf(e, "Unable to deserialize an entry of the Redis cache [%s]", cacheName);
+            return null;
+        }
+    }
+
+    public boolean isAllowed(String className) {
+        String elementClassName = className;
+        if (className.startsWith("[")) {
+            // Array class names look like "[[Ljava.lang.String;", or "[I" for the arrays of primitives.
+            int dimensions = className.lastIndexOf('[') + 1;
+            if (className.charAt(dimensions) != 'L') {
+                return true;
+            }
+            elementClassName = className.substring(dimensions + 1, className.length() - 1);
+        }
+        if (allowedClasses.contains(elementClassName) || elementClassName.startsWith(COLLECTIONS_PREFIX)) {
+            return true;
+        }
+        for (String allowedPackage : allowedPackages) {
+            if (elementClassName.startsWith(allowedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ClassNotAllowedException extends InvalidClassException {
+
+        private static final long serialVersionUID = 1L;
+
+        ClassNotAllowedException(String className) {
+            super(className, "Class not allowed");
+        }
+    }
+
+    private class AllowedClassesObjectOutputStream extends ObjectOutputStream {
+
+        // The stream tries to write the exception after a failure, so the first class which is not allowed is kept here.
+        String notAllowedClass;
+
+        AllowedClassesObjectOutputStream(OutputStream output) throws IOException {
+            super(output);
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl) throws IOException {
+            if (!isAllowed(cl.getName())) {
+                throw notAllowed(cl);
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> cl) throws IOException {
+            throw notAllowed(cl);
+        }
+
+        private ClassNotAllowedException notAllowed(Class<?> cl) {
+            if (notAllowedClass == null) {
+                notAllowedClass = cl.getName();
+            }
+            return new ClassNotAllowedException(cl.getName());
+        }
+    }
+
+    private class AllowedClassesObjectInputStream extends ObjectInputStream {
+
+        AllowedClassesObjectInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // The class is checked before being loaded, so that its static initializer never runs if it is not allowed.
+            if (!isAllowed(desc.getName())) {
+                throw new ClassNotAllowedException(desc.getName());
+            }
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            throw new ClassNotAllowedException(String.join(",", interfaces));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.grpc.deployment;
 
+import java.util.List;
+
 import org.jboss.jandex.DotName;
 
 import io.quarkus.builder.item.MultiBuildItem;
@@ -7,9 +9,12 @@ import io.quarkus.builder.item.MultiBuildItem;
 public final class BindableServiceBuildItem extends MultiBuildItem {
 
     final DotName serviceClass;
+    // the methods dispatched to the worker pool
+    final List<String> blockingMethods;
 
-    public BindableServiceBuildItem(DotName serviceClass) {
+    public BindableServiceBuildItem(DotName serviceClass, List<String> blockingMethods) {
         this.serviceClass = serviceClass;
+        this.blockingMethods = blockingMethods;
     }
 
 }
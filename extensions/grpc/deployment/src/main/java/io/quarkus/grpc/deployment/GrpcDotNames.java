@@ -9,6 +9,7 @@ import io.grpc.Channel;
 import io.grpc.LoadBalancerProvider;
 import io.grpc.NameResolverProvider;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.grpc.runtime.annotations.Blocking;
 import io.quarkus.grpc.runtime.annotations.GrpcService;
 import io.quarkus.grpc.runtime.supports.Channels;
 
@@ -17,6 +18,7 @@ public class GrpcDotNames {
     static final DotName BINDABLE_SERVICE = DotName.createSimple(BindableService.class.getName());
     static final DotName CHANNEL = DotName.createSimple(Channel.class.getName());
     static final DotName GRPC_SERVICE = DotName.createSimple(GrpcService.class.getName());
+    static final DotName BLOCKING = DotName.createSimple(Blocking.class.getName());
     static final DotName MESSAGE_BUILDER = DotName.createSimple(GeneratedMessageV3.Builder.class.getName());
     static final DotName GENERATED_MESSAGE_V3 = DotName.createSimple(GeneratedMessageV3.class.getName());
     static final DotName NAME_RESOLVER_PROVIDER = DotName.createSimple(NameResolverProvider.class.getName());
@@ -3,11 +3,15 @@ package io.quarkus.grpc.deployment;
 import static io.quarkus.deployment.Feature.GRPC_SERVER;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.logging.Logger;
 
 import io.grpc.internal.DnsNameResolverProvider;
@@ -52,11 +56,26 @@ public class GrpcServerProcessor {
                 .getAllKnownImplementors(GrpcDotNames.BINDABLE_SERVICE);
         for (ClassInfo service : bindableServices) {
             if (!Modifier.isAbstract(service.flags()) && service.classAnnotation(DotNames.SINGLETON) != null) {
-                bindables.produce(new BindableServiceBuildItem(service.name()));
+                bindables.produce(new BindableServiceBuildItem(service.name(), getBlockingMethods(service)));
             }
         }
     }
 
+    private static List<String> getBlockingMethods(ClassInfo service) {
+        boolean blockingClass = service.classAnnotation(GrpcDotNames.BLOCKING) != null;
+        List<String> blockingMethods = new ArrayList<>();
+        for (MethodInfo method : service.methods()) {
+            if (Modifier.isStatic(method.flags()) || method.name().equals("<init>")
+                    || method.name().equals("bindService")) {
+                continue;
+            }
+            if (blockingClass || method.hasAnnotation(GrpcDotNames.BLOCKING)) {
+                blockingMethods.add(method.name());
+            }
+        }
+        return blockingMethods;
+    }
+
     @BuildStep(onlyIf = IsNormal.class)
     public KubernetesPortBuildItem registerGrpcServiceInKubernetes(List<BindableServiceBuildItem> bindables) {
         if (!bindables.isEmpty()) {
@@ -84,7 +103,13 @@ public class GrpcServerProcessor {
             ShutdownContextBuildItem shutdown, List<BindableServiceBuildItem> bindables,
             VertxBuildItem vertx) {
         if (!bindables.isEmpty()) {
-            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown);
+            Map<String, List<String>> blockingMethods = new HashMap<>();
+            for (BindableServiceBuildItem bindable : bindables) {
+                if (!bindable.blockingMethods.isEmpty()) {
+                    blockingMethods.put(bindable.serviceClass.toString(), bindable.blockingMethods);
+                }
+            }
+            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, blockingMethods);
             return new ServiceStartBuildItem(GRPC_SERVER);
         }
         return null;
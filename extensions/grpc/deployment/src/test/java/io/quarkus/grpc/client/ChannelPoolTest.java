@@ -0,0 +1,216 @@
+package io.quarkus.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Channel;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.runtime.annotations.GrpcService;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ChannelPoolTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RemoteAddressCollector.class, HoldingGreeter.class, GreeterGrpc.class,
+                            GreeterGrpc.GreeterBlockingStub.class, HelloRequest.class, HelloReply.class,
+                            HelloReplyOrBuilder.class, HelloRequestOrBuilder.class))
+            .withConfigurationResource("pool-config.properties")
+            .overrideConfigKey("quarkus.grpc.clients.unavailable-address.addresses",
+                    "localhost:9000,localhost:" + unusedPort());
+
+    @Inject
+    @GrpcService("round-robin")
+    GreeterGrpc.GreeterBlockingStub roundRobin;
+
+    @Inject
+    @GrpcService("least-outstanding-calls")
+    Channel leastOutstandingCalls;
+
+    @Inject
+    @GrpcService("unavailable-address")
+    GreeterGrpc.GreeterBlockingStub unavailableAddress;
+
+    @BeforeEach
+    public void reset() {
+        RemoteAddressCollector.ADDRESSES.clear();
+        HoldingGreeter.HELD.clear();
+    }
+
+    @Test
+    public void testRoundRobinOverSeveralAddresses() {
+        for (int i = 0; i < 8; i++) {
+            assertThat(roundRobin.sayHello(HelloRequest.newBuilder().setName("neo").build()).getMessage())
+                    .isEqualTo("Hello neo");
+        }
+        // 2 addresses with 2 connections each
+        assertThat(RemoteAddressCollector.ADDRESSES).hasSize(4);
+    }
+
+    @Test
+    public void testLeastOutstandingCalls() {
+        GreeterGrpc.GreeterStub stub = GreeterGrpc.newStub(leastOutstandingCalls);
+        List<CompletableFuture<HelloReply>> replies = new ArrayList<>();
+        try {
+            // the calls in progress are spread evenly over the 3 connections
+            for (int i = 0; i < 6; i++) {
+                replies.add(hold(stub));
+            }
+            await().atMost(10, TimeUnit.SECONDS).until(() -> HoldingGreeter.held() == 6);
+            assertThat(HoldingGreeter.HELD).hasSize(3);
+            assertThat(HoldingGreeter.HELD.values()).allSatisfy(calls -> assertThat(calls).hasSize(2));
+
+            // once the calls of a connection are complete, it gets the next calls until it is as busy as the others
+            SocketAddress released = HoldingGreeter.HELD.keySet().iterator().next();
+            HoldingGreeter.release(released);
+            await().atMost(10, TimeUnit.SECONDS).until(() -> replies.stream().filter(CompletableFuture::isDone).count() == 2);
+            for (int i = 0; i < 2; i++) {
+                replies.add(hold(stub));
+            }
+            await().atMost(10, TimeUnit.SECONDS).until(() -> HoldingGreeter.held() == 6);
+            assertThat(HoldingGreeter.HELD.get(released)).hasSize(2);
+            assertThat(HoldingGreeter.HELD.values()).allSatisfy(calls -> assertThat(calls).hasSize(2));
+        } finally {
+            for (SocketAddress address : HoldingGreeter.HELD.keySet()) {
+                HoldingGreeter.release(address);
+            }
+        }
+        assertThat(CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])))
+                .succeedsWithin(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testUnavailableAddressIsSkipped() {
+        // the connection to the unavailable address fails once, it is then in transient failure
+        int failures = 0;
+        for (int i = 0; i < 2; i++) {
+            try {
+                unavailableAddress.sayHello(HelloRequest.newBuilder().setName("neo").build());
+            } catch (StatusRuntimeException e) {
+                assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+                failures++;
+            }
+        }
+        assertThat(failures).isEqualTo(1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(unavailableAddress.sayHello(HelloRequest.newBuilder().setName("neo").build()).getMessage())
+                    .isEqualTo("Hello neo");
+        }
+    }
+
+    private static CompletableFuture<HelloReply> hold(GreeterGrpc.GreeterStub stub) {
+        CompletableFuture<HelloReply> reply = new CompletableFuture<>();
+        stub.sayHello(HelloRequest.newBuilder().setName(HoldingGreeter.HOLD).build(), new StreamObserver<HelloReply>() {
+            @Override
+            public void onNext(HelloReply value) {
+                reply.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                reply.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        return reply;
+    }
+
+    private static int unusedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Singleton
+    public static class RemoteAddressCollector implements ServerInterceptor {
+
+        static final Set<SocketAddress> ADDRESSES = ConcurrentHashMap.newKeySet();
+        static final Context.Key<SocketAddress> REMOTE_ADDRESS = Context.key("remote-address");
+
+        @Override
+        public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                ServerCallHandler<ReqT, RespT> next) {
+            SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+            ADDRESSES.add(address);
+            return Contexts.interceptCall(Context.current().withValue(REMOTE_ADDRESS, address), call, headers, next);
+        }
+    }
+
+    /**
+     * Replies right away, or keeps the calls in progress until they are released.
+     */
+    @Singleton
+    public static class HoldingGreeter extends GreeterGrpc.GreeterImplBase {
+
+        static final String HOLD = "hold";
+        // the calls in progress, per client connection
+        static final Map<SocketAddress, List<StreamObserver<HelloReply>>> HELD = new ConcurrentHashMap<>();
+
+        static int held() {
+            return HELD.values().stream().mapToInt(List::size).sum();
+        }
+
+        static void release(SocketAddress address) {
+            List<StreamObserver<HelloReply>> calls = HELD.remove(address);
+            if (calls != null) {
+                for (StreamObserver<HelloReply> call : calls) {
+                    call.onNext(HelloReply.newBuilder().setMessage("Released").build());
+                    call.onCompleted();
+                }
+            }
+        }
+
+        @Override
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+            if (HOLD.equals(request.getName())) {
+                HELD.computeIfAbsent(RemoteAddressCollector.REMOTE_ADDRESS.get(), k -> new CopyOnWriteArrayList<>())
+                        .add(responseObserver);
+            } else {
+                responseObserver.onNext(HelloReply.newBuilder().setMessage("Hello " + request.getName()).build());
+                responseObserver.onCompleted();
+            }
+        }
+    }
+}
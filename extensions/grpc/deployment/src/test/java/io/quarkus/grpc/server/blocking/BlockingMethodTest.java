@@ -0,0 +1,191 @@
+package io.quarkus.grpc.server.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.EmptyProtos;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.examples.helloworld.MutinyGreeterGrpc;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.integration.Messages;
+import io.grpc.testing.integration.MutinyTestServiceGrpc;
+import io.grpc.testing.integration.TestServiceGrpc;
+import io.quarkus.grpc.runtime.GrpcContainer;
+import io.quarkus.grpc.runtime.GrpcMethodMetrics;
+import io.quarkus.grpc.runtime.annotations.Blocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+
+public class BlockingMethodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BlockingHelloService.class, PartiallyBlockingTestService.class,
+                            GreeterGrpc.class, HelloRequest.class, HelloReply.class, MutinyGreeterGrpc.class,
+                            HelloRequestOrBuilder.class, HelloReplyOrBuilder.class,
+                            EmptyProtos.class, Messages.class, MutinyTestServiceGrpc.class,
+                            TestServiceGrpc.class));
+
+    @Inject
+    GrpcContainer container;
+
+    ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9000).usePlaintext().build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    public void testBlockingClass() {
+        HelloReply reply = GreeterGrpc.newBlockingStub(channel)
+                .sayHello(HelloRequest.newBuilder().setName("neo").build());
+        assertThat(reply.getMessage()).contains("worker").doesNotContain("eventloop");
+    }
+
+    @Test
+    public void testBlockingAndNonBlockingMethods() {
+        TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel);
+        assertThat(stub.unaryCall(Messages.SimpleRequest.getDefaultInstance()).getUsername())
+                .contains("worker");
+        stub.emptyCall(EmptyProtos.Empty.getDefaultInstance());
+        assertThat(PartiallyBlockingTestService.emptyCallThread).contains("eventloop");
+    }
+
+    @Test
+    public void testBlockingStreamKeepsOrder() {
+        Messages.StreamingInputCallResponse response = MutinyTestServiceGrpc.newMutinyStub(channel)
+                .streamingInputCall(Multi.createFrom().range(1, 101)
+                        .map(i -> Messages.StreamingInputCallRequest.newBuilder()
+                                .setPayload(Messages.Payload.newBuilder().setBody(ByteString.copyFrom(new byte[i])))
+                                .build()))
+                .await().indefinitely();
+        // the payload sizes are received in order
+        assertThat(response.getAggregatedPayloadSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void testBlockingMethodFailure() {
+        TestServiceGrpc.TestServiceBlockingStub stub = TestServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> stub.streamingOutputCall(Messages.StreamingOutputCallRequest.getDefaultInstance())
+                .hasNext())
+                        .isInstanceOfSatisfying(StatusRuntimeException.class,
+                                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNKNOWN));
+        // the call is closed rather than left in flight
+        GrpcMethodMetrics metrics = container.getMethodMetrics().get("grpc.testing.TestService/StreamingOutputCall");
+        assertThat(metrics.getInFlight()).isZero();
+        // the worker is still usable
+        assertThat(stub.unaryCall(Messages.SimpleRequest.getDefaultInstance()).getUsername()).contains("worker");
+    }
+
+    @Test
+    public void testMetrics() {
+        GreeterGrpc.GreeterBlockingStub stub = GreeterGrpc.newBlockingStub(channel);
+        for (int i = 0; i < 3; i++) {
+            stub.sayHello(HelloRequest.newBuilder().setName("neo").build());
+        }
+        Map<String, GrpcMethodMetrics> metrics = container.getMethodMetrics();
+        GrpcMethodMetrics sayHello = metrics.get("helloworld.Greeter/SayHello");
+        assertThat(sayHello).isNotNull();
+        assertThat(sayHello.getCalls()).isGreaterThanOrEqualTo(3);
+        assertThat(sayHello.getInFlight()).isZero();
+        assertThat(sayHello.getTotalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(sayHello.getMaxTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(metrics).containsKey("grpc.testing.TestService/UnaryCall");
+    }
+
+    @Blocking
+    @Singleton
+    public static class BlockingHelloService extends GreeterGrpc.GreeterImplBase {
+
+        @Override
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+            responseObserver.onNext(HelloReply.newBuilder().setMessage(Thread.currentThread().getName()).build());
+            responseObserver.onCompleted();
+        }
+    }
+
+    @Singleton
+    public static class PartiallyBlockingTestService extends TestServiceGrpc.TestServiceImplBase {
+
+        static volatile String emptyCallThread;
+
+        @Override
+        public void emptyCall(EmptyProtos.Empty request, StreamObserver<EmptyProtos.Empty> responseObserver) {
+            emptyCallThread = Thread.currentThread().getName();
+            responseObserver.onNext(EmptyProtos.Empty.getDefaultInstance());
+            responseObserver.onCompleted();
+        }
+
+        @Blocking
+        @Override
+        public void unaryCall(Messages.SimpleRequest request, StreamObserver<Messages.SimpleResponse> responseObserver) {
+            responseObserver.onNext(Messages.SimpleResponse.newBuilder()
+                    .setUsername(Thread.currentThread().getName()).build());
+            responseObserver.onCompleted();
+        }
+
+        @Blocking
+        @Override
+        public void streamingOutputCall(Messages.StreamingOutputCallRequest request,
+                StreamObserver<Messages.StreamingOutputCallResponse> responseObserver) {
+            throw new IllegalStateException("failure on the worker");
+        }
+
+        @Blocking
+        @Override
+        public StreamObserver<Messages.StreamingInputCallRequest> streamingInputCall(
+                StreamObserver<Messages.StreamingInputCallResponse> responseObserver) {
+            return new StreamObserver<Messages.StreamingInputCallRequest>() {
+                int expected = 1;
+                boolean ordered = true;
+
+                @Override
+                public void onNext(Messages.StreamingInputCallRequest request) {
+                    ordered &= request.getPayload().getBody().size() == expected++;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onNext(Messages.StreamingInputCallResponse.newBuilder()
+                            .setAggregatedPayloadSize(ordered ? expected - 1 : -1).build());
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+    }
+}
@@ -3,6 +3,9 @@ package io.quarkus.grpc.runtime;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -24,6 +27,8 @@ public class GrpcContainer {
     @Inject
     Instance<GrpcHealthStorage> healthStorage;
 
+    private final Map<String, GrpcMethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
     List<ServerInterceptor> getSortedInterceptors() {
         if (interceptors.isUnsatisfied()) {
             return Collections.emptyList();
@@ -55,4 +60,20 @@ public class GrpcContainer {
     public Instance<BindableService> getServices() {
         return services;
     }
+
+    /**
+     * @return the metrics of the methods of the services, keyed by full method name
+     */
+    public Map<String, GrpcMethodMetrics> getMethodMetrics() {
+        return Collections.unmodifiableMap(methodMetrics);
+    }
+
+    GrpcMethodMetrics getMethodMetrics(String fullMethodName) {
+        return methodMetrics.computeIfAbsent(fullMethodName, new Function<String, GrpcMethodMetrics>() { // NOSONAR
+            @Override
+            public GrpcMethodMetrics apply(String method) {
+                return new GrpcMethodMetrics(method);
+            }
+        });
+    }
 }
@@ -0,0 +1,75 @@
+package io.quarkus.grpc.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The calls of a gRPC service method served by the application.
+ * <p>
+ * The latency of a call is the time between its start and the moment it is closed or cancelled, including the time
+ * spent waiting for a worker thread when the method is blocking.
+ */
+public final class GrpcMethodMetrics {
+
+    private final String method;
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    GrpcMethodMetrics(String method) {
+        this.method = method;
+    }
+
+    /**
+     * @return the full name of the method, such as {@code helloworld.Greeter/SayHello}
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of calls started and not completed yet
+     */
+    public long getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of completed calls
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getTotalTime(TimeUnit unit) {
+        return unit.convert(totalTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxTime(TimeUnit unit) {
+        return unit.convert(maxTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the mean latency of the completed calls, or 0 if no call completed
+     */
+    public long getMeanTime(TimeUnit unit) {
+        long count = calls.sum();
+        return count == 0 ? 0 : unit.convert(totalTime.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    void callStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void callCompleted(long nanos) {
+        inFlight.decrementAndGet();
+        calls.increment();
+        totalTime.add(nanos);
+        long max;
+        while (nanos > (max = maxTime.get()) && !maxTime.compareAndSet(max, nanos)) {
+            // retry
+        }
+    }
+}
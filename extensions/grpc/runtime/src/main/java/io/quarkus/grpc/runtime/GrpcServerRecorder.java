@@ -7,10 +7,14 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +30,7 @@ import org.jboss.logging.Logger;
 
 import grpc.health.v1.HealthOuterClass;
 import io.grpc.BindableService;
+import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
@@ -36,6 +41,7 @@ import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
+import io.quarkus.grpc.runtime.supports.BlockingServerCallHandler;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
@@ -57,9 +63,13 @@ public class GrpcServerRecorder {
 
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
 
+    /**
+     * @param blockingMethods the names of the methods annotated with {@code @Blocking}, keyed by service class
+     */
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
             GrpcConfiguration cfg,
-            ShutdownContext shutdown) {
+            ShutdownContext shutdown,
+            Map<String, List<String>> blockingMethods) {
         GrpcContainer grpcContainer = Arc.container().instance(GrpcContainer.class).get();
         if (grpcContainer == null) {
             throw new IllegalStateException("gRPC not initialized, GrpcContainer not found");
@@ -77,19 +87,20 @@ public class GrpcServerRecorder {
             // start single server, not in a verticle, regardless of the configuration.instances
             // for reason unknown to me, verticles occasionally get undeployed on dev mode reload
             if (GrpcServerReloader.getServer() == null) {
-                devModeStart(grpcContainer, vertx, configuration, shutdown);
+                devModeStart(grpcContainer, vertx, configuration, shutdown, blockingMethods);
             } else {
-                devModeReload(grpcContainer);
+                devModeReload(grpcContainer, vertx, blockingMethods);
             }
         } else {
-            prodStart(grpcContainer, vertx, configuration);
+            prodStart(grpcContainer, vertx, configuration, blockingMethods);
         }
     }
 
-    private void prodStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration) {
+    private void prodStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
+            Map<String, List<String>> blockingMethods) {
         CompletableFuture<Void> startResult = new CompletableFuture<>();
 
-        vertx.deployVerticle(() -> new GrpcServerVerticle(configuration, grpcContainer),
+        vertx.deployVerticle(() -> new GrpcServerVerticle(configuration, grpcContainer, blockingMethods),
                 new DeploymentOptions().setInstances(configuration.instances),
                 result -> {
                     if (result.failed()) {
@@ -131,10 +142,10 @@ public class GrpcServerRecorder {
     }
 
     private void devModeStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
-            ShutdownContext shutdown) {
+            ShutdownContext shutdown, Map<String, List<String>> blockingMethods) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
 
-        VertxServer vertxServer = buildServer(vertx, configuration, grpcContainer, true)
+        VertxServer vertxServer = buildServer(vertx, configuration, grpcContainer, true, blockingMethods)
                 .start(new Handler<AsyncResult<Void>>() { // NOSONAR
                     @Override
                     public void handle(AsyncResult<Void> ar) {
@@ -198,22 +209,69 @@ public class GrpcServerRecorder {
                         && services.get().bindService().getServiceDescriptor().getName().equals("grpc.health.v1.Health");
     }
 
-    private static List<ServerServiceDefinition> gatherServices(Instance<BindableService> services) {
+    private static List<ServerServiceDefinition> gatherServices(GrpcContainer grpcContainer, Vertx vertx,
+            Map<String, List<String>> blockingMethods) {
         List<ServerServiceDefinition> definitions = new ArrayList<>();
 
-        services.forEach(new Consumer<BindableService>() { // NOSONAR
+        grpcContainer.getServices().forEach(new Consumer<BindableService>() { // NOSONAR
             @Override
             public void accept(BindableService bindable) {
                 ServerServiceDefinition definition = bindable.bindService();
                 LOGGER.debugf("Registered gRPC service '%s'", definition.getServiceDescriptor().getName());
-                definitions.add(definition);
+                definitions.add(decorate(definition, getBlockingMethods(bindable, blockingMethods), grpcContainer, vertx));
             }
         });
         return definitions;
     }
 
-    private static void devModeReload(GrpcContainer grpcContainer) {
-        List<ServerServiceDefinition> serviceDefinitions = gatherServices(grpcContainer.getServices());
+    private static Set<String> getBlockingMethods(BindableService service, Map<String, List<String>> blockingMethods) {
+        // the bean may be a subclass of the service class, for instance when it is intercepted
+        for (Class<?> clazz = service.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            List<String> methods = blockingMethods.get(clazz.getName());
+            if (methods != null) {
+                Set<String> names = new HashSet<>();
+                for (String method : methods) {
+                    names.add(normalizeMethodName(method));
+                }
+                return names;
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * The Java methods are the lower camel case versions of the methods declared in the proto files, e.g.
+     * {@code sayHello} for {@code SayHello} or {@code say_hello}.
+     */
+    private static String normalizeMethodName(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static ServerServiceDefinition decorate(ServerServiceDefinition definition, Set<String> blockingMethods,
+            GrpcContainer grpcContainer, Vertx vertx) {
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(definition.getServiceDescriptor());
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            String fullMethodName = method.getMethodDescriptor().getFullMethodName();
+            String methodName = fullMethodName.substring(fullMethodName.lastIndexOf('/') + 1);
+            builder.addMethod(decorate(method, blockingMethods.contains(normalizeMethodName(methodName)),
+                    grpcContainer.getMethodMetrics(fullMethodName), vertx));
+        }
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> decorate(ServerMethodDefinition<ReqT, RespT> method,
+            boolean blocking, GrpcMethodMetrics metrics, Vertx vertx) {
+        ServerCallHandler<ReqT, RespT> handler = method.getServerCallHandler();
+        if (blocking) {
+            LOGGER.debugf("Calls to the gRPC method '%s' are dispatched to the worker pool",
+                    method.getMethodDescriptor().getFullMethodName());
+            handler = new BlockingServerCallHandler<>(handler, vertx);
+        }
+        return method.withServerCallHandler(new MetricsServerCallHandler<>(handler, metrics));
+    }
+
+    private static void devModeReload(GrpcContainer grpcContainer, Vertx vertx, Map<String, List<String>> blockingMethods) {
+        List<ServerServiceDefinition> serviceDefinitions = gatherServices(grpcContainer, vertx, blockingMethods);
 
         Map<String, ServerMethodDefinition<?, ?>> methods = new HashMap<>();
         for (ServerServiceDefinition service : serviceDefinitions) {
@@ -236,7 +294,7 @@ public class GrpcServerRecorder {
     }
 
     private VertxServer buildServer(Vertx vertx, GrpcServerConfiguration configuration,
-            GrpcContainer grpcContainer, boolean devMode) {
+            GrpcContainer grpcContainer, boolean devMode, Map<String, List<String>> blockingMethods) {
         VertxServerBuilder builder = VertxServerBuilder
                 .forAddress(vertx, configuration.host, configuration.port);
 
@@ -264,7 +322,7 @@ public class GrpcServerRecorder {
 
         boolean reflectionServiceEnabled = configuration.enableReflectionService
                 || ProfileManager.getLaunchMode() == LaunchMode.DEVELOPMENT;
-        List<ServerServiceDefinition> definitions = gatherServices(grpcContainer.getServices());
+        List<ServerServiceDefinition> definitions = gatherServices(grpcContainer, vertx, blockingMethods);
         for (ServerServiceDefinition definition : definitions) {
             builder.addService(definition);
         }
@@ -298,12 +356,15 @@ public class GrpcServerRecorder {
     private class GrpcServerVerticle extends AbstractVerticle {
         private final GrpcServerConfiguration configuration;
         private final GrpcContainer grpcContainer;
+        private final Map<String, List<String>> blockingMethods;
 
         private VertxServer grpcServer;
 
-        GrpcServerVerticle(GrpcServerConfiguration configuration, GrpcContainer grpcContainer) {
+        GrpcServerVerticle(GrpcServerConfiguration configuration, GrpcContainer grpcContainer,
+                Map<String, List<String>> blockingMethods) {
             this.configuration = configuration;
             this.grpcContainer = grpcContainer;
+            this.blockingMethods = blockingMethods;
         }
 
         @Override
@@ -313,7 +374,7 @@ public class GrpcServerRecorder {
                         "Unable to find bean exposing the `BindableService` interface - not starting the gRPC server");
                 return;
             }
-            grpcServer = buildServer(getVertx(), configuration, grpcContainer, false)
+            grpcServer = buildServer(getVertx(), configuration, grpcContainer, false, blockingMethods)
                     .start(new Handler<AsyncResult<Void>>() { // NOSONAR
                         @Override
                         public void handle(AsyncResult<Void> ar) {
@@ -0,0 +1,66 @@
+package io.quarkus.grpc.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Records the in-flight calls and the latency of a service method.
+ */
+final class MetricsServerCallHandler<ReqT, RespT> implements ServerCallHandler<ReqT, RespT> {
+
+    private final ServerCallHandler<ReqT, RespT> delegate;
+    private final GrpcMethodMetrics metrics;
+
+    MetricsServerCallHandler(ServerCallHandler<ReqT, RespT> delegate, GrpcMethodMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ServerCall.Listener<ReqT> startCall(ServerCall<ReqT, RespT> call, Metadata headers) {
+        long start = System.nanoTime();
+        // the call may be closed by the service and cancelled by the client
+        AtomicBoolean completed = new AtomicBoolean();
+        Runnable complete = new Runnable() {
+            @Override
+            public void run() {
+                if (completed.compareAndSet(false, true)) {
+                    metrics.callCompleted(System.nanoTime() - start);
+                }
+            }
+        };
+        metrics.callStarted();
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = delegate.startCall(new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+                @Override
+                public void close(Status status, Metadata trailers) {
+                    try {
+                        super.close(status, trailers);
+                    } finally {
+                        complete.run();
+                    }
+                }
+            }, headers);
+        } catch (RuntimeException e) {
+            complete.run();
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    complete.run();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkus.grpc.runtime.annotations;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the methods of a gRPC service that block the caller thread, so that their calls are dispatched to a worker
+ * thread instead of the event loop.
+ * <p>
+ * On a class, it applies to all the methods declared by the class. The other methods keep running on the event loop.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ METHOD, TYPE })
+public @interface Blocking {
+}
@@ -1,6 +1,7 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -20,9 +21,32 @@ public class GrpcClientConfiguration {
 
     /**
      * The host name / IP on which the service is exposed.
+     * Either the host or the addresses of the service must be set.
      */
     @ConfigItem
-    public String host;
+    public Optional<String> host;
+
+    /**
+     * A static list of addresses of the service, as {@code host:port}, or {@code host} to use the configured port.
+     * When set, the host is ignored and the calls are spread over all the addresses.
+     */
+    @ConfigItem
+    public Optional<List<String>> addresses;
+
+    /**
+     * The number of connections opened to each address of the service.
+     * <p>
+     * An HTTP/2 connection only accepts a limited number of concurrent calls, so a busy client may need several of them.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int connections;
+
+    /**
+     * How the connection of a call is selected when several are opened: {@code round-robin} selects them in turn,
+     * {@code least-outstanding-calls} selects the one with the fewest calls in progress.
+     */
+    @ConfigItem(defaultValue = "round-robin")
+    public LoadBalancing loadBalancing;
 
     /**
      * The SSL/TLS config.
@@ -137,4 +161,8 @@ public class GrpcClientConfiguration {
     @ConfigItem
     public Optional<String> userAgent;
 
+    public enum LoadBalancing {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING_CALLS
+    }
 }
@@ -0,0 +1,173 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * Dispatches the calls of a blocking service method to the worker pool.
+ * <p>
+ * The call is started and its events are delivered on a worker thread, one at a time and in order, within the gRPC
+ * context of the call. The calls of the other methods stay on the event loop.
+ * <p>
+ * If starting the call or delivering an event fails, the call is closed with the status of the failure and its next
+ * events are ignored, as gRPC does for the listeners it invokes itself.
+ */
+public final class BlockingServerCallHandler<ReqT, RespT> implements ServerCallHandler<ReqT, RespT> {
+
+    private static final Logger LOGGER = Logger.getLogger(BlockingServerCallHandler.class);
+
+    private final ServerCallHandler<ReqT, RespT> delegate;
+    private final Vertx vertx;
+
+    public BlockingServerCallHandler(ServerCallHandler<ReqT, RespT> delegate, Vertx vertx) {
+        this.delegate = delegate;
+        this.vertx = vertx;
+    }
+
+    @Override
+    public ServerCall.Listener<ReqT> startCall(ServerCall<ReqT, RespT> call, Metadata headers) {
+        BlockingListener<ReqT, RespT> listener = new BlockingListener<>(call, Context.current(), vertx);
+        listener.execute(new Runnable() {
+            @Override
+            public void run() {
+                listener.delegate = delegate.startCall(call, headers);
+            }
+        });
+        return listener;
+    }
+
+    private static final class BlockingListener<ReqT, RespT> extends ServerCall.Listener<ReqT>
+            implements Handler<Promise<Object>> {
+
+        private final ServerCall<ReqT, RespT> call;
+        private final Context context;
+        private final Vertx vertx;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // whether a worker is draining the tasks, so that they run one at a time and in order
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // only accessed from the serialized tasks
+        private ServerCall.Listener<ReqT> delegate;
+        private boolean failed;
+
+        BlockingListener(ServerCall<ReqT, RespT> call, Context context, Vertx vertx) {
+            this.call = call;
+            this.context = context;
+            this.vertx = vertx;
+        }
+
+        void execute(Runnable task) {
+            tasks.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                vertx.executeBlocking(this, false, null);
+            }
+        }
+
+        @Override
+        public void handle(Promise<Object> promise) {
+            try {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    run(task);
+                }
+            } finally {
+                draining.set(false);
+                // a task may have been added after the queue was found empty
+                if (!tasks.isEmpty()) {
+                    schedule();
+                }
+                promise.complete();
+            }
+        }
+
+        private void run(Runnable task) {
+            if (failed) {
+                return;
+            }
+            Context previous = context.attach();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failed = true;
+                close(t);
+            } finally {
+                context.detach(previous);
+            }
+        }
+
+        private void close(Throwable failure) {
+            try {
+                call.close(Status.fromThrowable(failure), new Metadata());
+            } catch (RuntimeException e) {
+                // the call has been closed already
+                LOGGER.debugf(e, "Unable to close the call of %s", call.getMethodDescriptor().getFullMethodName());
+            }
+            LOGGER.errorf(failure, "Blocking call of %s failed", call.getMethodDescriptor().getFullMethodName());
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    delegate.onMessage(message);
+                }
+            });
+        }
+
+        @Override
+        public void onHalfClose() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    delegate.onHalfClose();
+                }
+            });
+        }
+
+        @Override
+        public void onCancel() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    delegate.onCancel();
+                }
+            });
+        }
+
+        @Override
+        public void onComplete() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    delegate.onComplete();
+                }
+            });
+        }
+
+        @Override
+        public void onReady() {
+            execute(new Runnable() {
+                @Override
+                public void run() {
+                    delegate.onReady();
+                }
+            });
+        }
+    }
+}
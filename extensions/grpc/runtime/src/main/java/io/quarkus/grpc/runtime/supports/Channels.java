@@ -6,6 +6,9 @@ import static io.grpc.netty.NettyChannelBuilder.DEFAULT_FLOW_CONTROL_WINDOW;
 
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -13,6 +16,7 @@ import javax.net.ssl.SSLException;
 
 import io.grpc.Channel;
 import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NegotiationType;
 import io.grpc.netty.NettyChannelBuilder;
@@ -39,8 +43,10 @@ public class Channels {
         }
 
         GrpcClientConfiguration config = instance.get().getConfiguration(name);
-        String host = config.host;
-        int port = config.port;
+        if (config.connections < 1) {
+            throw new IllegalArgumentException(
+                    "The number of connections of the gRPC client " + name + " must be positive: " + config.connections);
+        }
         boolean plainText = !config.ssl.trustStore.isPresent();
         Optional<Boolean> usePlainText = config.plainText;
         if (usePlainText.isPresent()) {
@@ -64,6 +70,45 @@ public class Channels {
             context = sslContextBuilder.build();
         }
 
+        // Client-side interceptors
+        InstanceHandle<GrpcClientInterceptorContainer> interceptors = Arc.container()
+                .instance(GrpcClientInterceptorContainer.class);
+        List<ClientInterceptor> sortedInterceptors = interceptors.get().getSortedInterceptors();
+
+        List<String> addresses;
+        if (config.addresses.isPresent()) {
+            addresses = config.addresses.get();
+        } else if (config.host.isPresent()) {
+            addresses = Collections.singletonList(config.host.get());
+        } else {
+            throw new IllegalStateException("The gRPC client " + name + " has no host: either quarkus.grpc.clients." + name
+                    + ".host or quarkus.grpc.clients." + name + ".addresses must be set");
+        }
+        List<ManagedChannel> channels = new ArrayList<>();
+        for (String address : addresses) {
+            String host = address;
+            int port = config.port;
+            int colon = address.lastIndexOf(':');
+            // an IPv6 address is enclosed in brackets when it has a port
+            if (address.startsWith("[")) {
+                int bracket = address.indexOf(']');
+                host = address.substring(1, bracket);
+                if (bracket < address.length() - 1) {
+                    port = Integer.parseInt(address.substring(bracket + 2));
+                }
+            } else if (colon != -1 && colon == address.indexOf(':')) {
+                host = address.substring(0, colon);
+                port = Integer.parseInt(address.substring(colon + 1));
+            }
+            for (int i = 0; i < config.connections; i++) {
+                channels.add(createChannel(host, port, config, plainText, context, sortedInterceptors));
+            }
+        }
+        return channels.size() == 1 ? channels.get(0) : new PooledChannel(channels, config.loadBalancing);
+    }
+
+    private static ManagedChannel createChannel(String host, int port, GrpcClientConfiguration config,
+            boolean plainText, SslContext context, List<ClientInterceptor> interceptors) {
         NettyChannelBuilder builder = NettyChannelBuilder.forAddress(host, port)
                 .flowControlWindow(config.flowControlWindow.orElse(DEFAULT_FLOW_CONTROL_WINDOW))
                 .keepAliveWithoutCalls(config.keepAliveWithoutCalls)
@@ -116,10 +161,7 @@ public class Channels {
             builder.sslContext(context);
         }
 
-        // Client-side interceptors
-        InstanceHandle<GrpcClientInterceptorContainer> interceptors = Arc.container()
-                .instance(GrpcClientInterceptorContainer.class);
-        for (ClientInterceptor clientInterceptor : interceptors.get().getSortedInterceptors()) {
+        for (ClientInterceptor clientInterceptor : interceptors) {
             builder.intercept(clientInterceptor);
         }
 
@@ -0,0 +1,197 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.quarkus.grpc.runtime.config.GrpcClientConfiguration.LoadBalancing;
+
+/**
+ * A channel spreading the calls over several sub-channels, each of them using its own HTTP/2 connection.
+ * <p>
+ * An HTTP/2 connection only accepts a limited number of concurrent streams, a single connection is therefore a
+ * bottleneck for a busy client. The sub-channel of a call is selected in turn, or is the one with the fewest calls in
+ * progress. The sub-channels failing to connect or shut down are skipped, as long as another one is available.
+ */
+final class PooledChannel extends ManagedChannel {
+
+    private final ManagedChannel[] channels;
+    private final AtomicInteger[] outstandingCalls;
+    private final LoadBalancing loadBalancing;
+    private final AtomicInteger next = new AtomicInteger();
+
+    PooledChannel(List<ManagedChannel> channels, LoadBalancing loadBalancing) {
+        this.channels = channels.toArray(new ManagedChannel[0]);
+        this.loadBalancing = loadBalancing;
+        this.outstandingCalls = new AtomicInteger[this.channels.length];
+        for (int i = 0; i < outstandingCalls.length; i++) {
+            outstandingCalls[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions) {
+        int index = select();
+        ClientCall<ReqT, RespT> call = channels[index].newCall(method, callOptions);
+        if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+            return call;
+        }
+        AtomicInteger outstanding = outstandingCalls[index];
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(call) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                outstanding.incrementAndGet();
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                            responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            outstanding.decrementAndGet();
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    outstanding.decrementAndGet();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private int select() {
+        // the first sub-channel considered rotates, so that the ties are spread too
+        int start = (next.getAndIncrement() & Integer.MAX_VALUE) % channels.length;
+        int selected = -1;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < channels.length; i++) {
+            int index = (start + i) % channels.length;
+            if (!isAvailable(channels[index])) {
+                continue;
+            }
+            if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+                return index;
+            }
+            int outstanding = outstandingCalls[index].get();
+            if (outstanding < min) {
+                min = outstanding;
+                selected = index;
+                if (min == 0) {
+                    break;
+                }
+            }
+        }
+        // when none of the sub-channels is available, the call fails or waits for the connection as usual
+        return selected == -1 ? start : selected;
+    }
+
+    private static boolean isAvailable(ManagedChannel channel) {
+        // does not trigger a connection: an idle sub-channel connects when a call is started
+        ConnectivityState state = channel.getState(false);
+        return state != ConnectivityState.TRANSIENT_FAILURE && state != ConnectivityState.SHUTDOWN;
+    }
+
+    @Override
+    public String authority() {
+        return channels[0].authority();
+    }
+
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        // the state of the best connected sub-channel
+        ConnectivityState state = ConnectivityState.SHUTDOWN;
+        for (ManagedChannel channel : channels) {
+            ConnectivityState candidate = channel.getState(requestConnection);
+            if (rank(candidate) < rank(state)) {
+                state = candidate;
+            }
+        }
+        return state;
+    }
+
+    private static int rank(ConnectivityState state) {
+        switch (state) {
+            case READY:
+                return 0;
+            case CONNECTING:
+                return 1;
+            case IDLE:
+                return 2;
+            case TRANSIENT_FAILURE:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !channel.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        for (ManagedChannel channel : channels) {
+            channel.resetConnectBackoff();
+        }
+    }
+
+    @Override
+    public void enterIdle() {
+        for (ManagedChannel channel : channels) {
+            channel.enterIdle();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Inject;
@@ -31,10 +32,12 @@ import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
@@ -45,8 +48,12 @@ import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.jackson.ObjectMapperCustomizer;
 import io.quarkus.jackson.ObjectMapperProducer;
+import io.quarkus.jackson.runtime.GeneratedSerializersModule;
+import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
 import io.quarkus.jackson.spi.ClassPathJacksonModuleBuildItem;
+import io.quarkus.jackson.spi.GeneratedJacksonSerializersBuildItem;
 import io.quarkus.jackson.spi.JacksonModuleBuildItem;
+import io.quarkus.jackson.spi.JacksonSerializableTypeBuildItem;
 
 public class JacksonProcessor {
 
@@ -254,4 +261,63 @@ public class JacksonProcessor {
             }
         }
     }
+
+    @BuildStep
+    GeneratedJacksonSerializersBuildItem serializersGenerated(JacksonBuildTimeConfig config) {
+        // separate from the generation, as the producers of the types may consume this item
+        return config.generateSerializers ? new GeneratedJacksonSerializersBuildItem() : null;
+    }
+
+    // Generate the serializers / deserializers of the types exchanged by the endpoints and a ObjectMapperCustomizer bean that registers them
+    @BuildStep
+    void generateSerializers(JacksonBuildTimeConfig config, List<JacksonSerializableTypeBuildItem> serializableTypes,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses, BuildProducer<GeneratedBeanBuildItem> generatedBeans) {
+
+        if (!config.generateSerializers || serializableTypes.isEmpty()) {
+            return;
+        }
+
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(combinedIndexBuildItem.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        for (JacksonSerializableTypeBuildItem serializableType : serializableTypes) {
+            generator.generate(serializableType.getType());
+        }
+        if (generator.getSerializers().isEmpty()) {
+            return;
+        }
+
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(new GeneratedBeanGizmoAdaptor(generatedBeans))
+                .className("io.quarkus.jackson.customizer.GeneratedSerializersCustomizer")
+                .interfaces(ObjectMapperCustomizer.class.getName())
+                .build()) {
+            classCreator.addAnnotation(Singleton.class);
+
+            try (MethodCreator customize = classCreator.getMethodCreator("customize", void.class, ObjectMapper.class)) {
+                ResultHandle module = customize.newInstance(MethodDescriptor.ofConstructor(GeneratedSerializersModule.class));
+                for (Map.Entry<String, String> serializer : generator.getSerializers().entrySet()) {
+                    customize.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(GeneratedSerializersModule.class, "addSerializer",
+                                    GeneratedSerializersModule.class, Class.class, JsonSerializer.class),
+                            module, customize.loadClass(serializer.getKey()),
+                            customize.newInstance(MethodDescriptor.ofConstructor(serializer.getValue())));
+                }
+                for (Map.Entry<String, String> deserializer : generator.getDeserializers().entrySet()) {
+                    customize.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(GeneratedSerializersModule.class, "addDeserializer",
+                                    GeneratedSerializersModule.class, Class.class, JsonDeserializer.class),
+                            module, customize.loadClass(deserializer.getKey()),
+                            customize.newInstance(MethodDescriptor.ofConstructor(deserializer.getValue())));
+                }
+                customize.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(ObjectMapper.class, "registerModule", ObjectMapper.class, Module.class),
+                        customize.getMethodParam(0), module);
+                customize.returnValue(null);
+            }
+
+            // ensure that the generated serializers are registered first - the modules registered afterwards take priority
+            try (MethodCreator priority = classCreator.getMethodCreator("priority", int.class)) {
+                priority.returnValue(priority.load(Integer.MAX_VALUE));
+            }
+        }
+    }
 }
@@ -0,0 +1,626 @@
+package io.quarkus.jackson.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.Gizmo;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.jackson.runtime.GeneratedBeanDeserializer;
+import io.quarkus.jackson.runtime.GeneratedBeanSerializer;
+
+/**
+ * Generates a serializer and, when possible, a deserializer for the classes referenced by a type and for the classes of
+ * their properties.
+ * <p>
+ * Only classes whose properties can be computed from the index with the same outcome as the Jackson introspection are
+ * supported: public, non generic classes whose hierarchy is indexed, without any Jackson annotation, with properties
+ * defined by public getters, setters of any visibility and public fields. A deserializer also requires a public no-args
+ * constructor and a public setter or a public non final field for every property. Anything else is left to Jackson.
+ * <p>
+ * The properties are written in the order of the Jackson introspection: the properties backed by a field first, in the
+ * declaration order of the fields, which is read from the class file as the index sorts them by name, then the other
+ * ones. As Jackson orders the latter like the methods returned by the JVM, a class with more than one of them is left to
+ * Jackson.
+ */
+class JacksonSerializerGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(JacksonSerializerGenerator.class);
+
+    static final String SERIALIZER_SUFFIX = "_JacksonSerializer";
+    static final String DESERIALIZER_SUFFIX = "_JacksonDeserializer";
+
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final List<DotName> UNSUPPORTED_ANNOTATIONS = Arrays.asList(
+            // the entities are enhanced, their fields must not be accessed directly
+            DotName.createSimple("javax.persistence.Entity"),
+            DotName.createSimple("javax.persistence.MappedSuperclass"),
+            // the Kotlin module changes the mapping of Kotlin classes
+            DotName.createSimple("kotlin.Metadata"));
+    private static final Set<DotName> SUPPORTED_JDK_INTERFACES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.io.Serializable"),
+            DotName.createSimple("java.lang.Cloneable"),
+            DotName.createSimple("java.lang.Comparable")));
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final DotName BOOLEAN = DotName.createSimple(Boolean.class.getName());
+
+    private static final int SYNTHETIC = 0x1000;
+    private static final int BRIDGE = 0x0040;
+    private static final int ENUM = 0x4000;
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Set<DotName> processed = new HashSet<>();
+    private final Map<String, String> serializers = new LinkedHashMap<>();
+    private final Map<String, String> deserializers = new LinkedHashMap<>();
+
+    JacksonSerializerGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+    }
+
+    /**
+     * @return the names of the generated serializers, keyed by the name of the serialized class
+     */
+    Map<String, String> getSerializers() {
+        return serializers;
+    }
+
+    /**
+     * @return the names of the generated deserializers, keyed by the name of the deserialized class
+     */
+    Map<String, String> getDeserializers() {
+        return deserializers;
+    }
+
+    void generate(Type type) {
+        Deque<DotName> pending = new ArrayDeque<>();
+        addClasses(type, pending);
+        while (!pending.isEmpty()) {
+            DotName name = pending.poll();
+            if (!processed.add(name)) {
+                continue;
+            }
+            ClassInfo classInfo = index.getClassByName(name);
+            if (classInfo == null) {
+                continue;
+            }
+            List<Property> properties = collectProperties(classInfo);
+            if (properties == null) {
+                LOGGER.debugf("Jackson will introspect %s", name);
+                continue;
+            }
+            for (Property property : properties) {
+                if (property.isReadable()) {
+                    addClasses(property.readType(), pending);
+                }
+                if (property.isWritable()) {
+                    addClasses(property.writeType(), pending);
+                }
+            }
+            generateSerializer(classInfo, properties);
+            if (isDeserializable(classInfo, properties)) {
+                generateDeserializer(classInfo, properties);
+            }
+        }
+    }
+
+    private static void addClasses(Type type, Deque<DotName> pending) {
+        switch (type.kind()) {
+            case CLASS:
+                if (!type.name().toString().startsWith("java.")) {
+                    pending.add(type.name());
+                }
+                break;
+            case ARRAY:
+                addClasses(type.asArrayType().component(), pending);
+                break;
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    addClasses(argument, pending);
+                }
+                break;
+            case WILDCARD_TYPE:
+                addClasses(type.asWildcardType().extendsBound(), pending);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void generateSerializer(ClassInfo classInfo, List<Property> properties) {
+        String className = classInfo.name().toString();
+        String serializerName = className + SERIALIZER_SUFFIX;
+        List<Property> readable = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.isReadable()) {
+                readable.add(property);
+            }
+        }
+
+        try (ClassCreator serializer = ClassCreator.builder().classOutput(classOutput).className(serializerName)
+                .superClass(GeneratedBeanSerializer.class).build()) {
+            MethodCreator constructor = serializer.getMethodCreator("<init>", void.class);
+            ResultHandle names = constructor.newArray(String.class, readable.size());
+            for (int i = 0; i < readable.size(); i++) {
+                constructor.writeArrayValue(names, i, constructor.load(readable.get(i).name));
+            }
+            constructor.invokeSpecialMethod(
+                    MethodDescriptor.ofConstructor(GeneratedBeanSerializer.class, Class.class, String[].class),
+                    constructor.getThis(), constructor.loadClass(className), names);
+            constructor.returnValue(null);
+
+            MethodCreator serialize = serializer.getMethodCreator("serializeProperties", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class, boolean.class)
+                    .setModifiers(Modifier.PROTECTED)
+                    .addException(IOException.class);
+            ResultHandle bean = serialize.checkCast(serialize.getMethodParam(0), className);
+            ResultHandle gen = serialize.getMethodParam(1);
+            ResultHandle provider = serialize.getMethodParam(2);
+            ResultHandle writeNulls = serialize.getMethodParam(3);
+            // the protected helpers are invoked on the generated class
+            for (int i = 0; i < readable.size(); i++) {
+                Property property = readable.get(i);
+                ResultHandle value;
+                if (property.getter != null) {
+                    value = serialize.invokeVirtualMethod(property.getter, bean);
+                } else {
+                    value = serialize.readInstanceField(property.field, bean);
+                }
+                Type type = property.readType();
+                ResultHandle index = serialize.load(i);
+                if (type.kind() == Type.Kind.PRIMITIVE) {
+                    Class<?> primitive = writtenPrimitive(type.asPrimitiveType());
+                    String write = "write" + Character.toUpperCase(primitive.getName().charAt(0))
+                            + primitive.getName().substring(1);
+                    serialize.invokeVirtualMethod(MethodDescriptor.ofMethod(serializerName, write,
+                            void.class, JsonGenerator.class, int.class, primitive), serialize.getThis(), gen, index, value);
+                } else if (type.name().equals(STRING)) {
+                    serialize.invokeVirtualMethod(MethodDescriptor.ofMethod(serializerName, "writeString",
+                            void.class, JsonGenerator.class, int.class, String.class, boolean.class),
+                            serialize.getThis(), gen, index, value, writeNulls);
+                } else {
+                    serialize.invokeVirtualMethod(MethodDescriptor.ofMethod(serializerName, "writeObject",
+                            void.class, JsonGenerator.class, SerializerProvider.class, int.class, Object.class,
+                            boolean.class), serialize.getThis(), gen, provider, index, value, writeNulls);
+                }
+            }
+            serialize.returnValue(null);
+        }
+        serializers.put(className, serializerName);
+    }
+
+    private void generateDeserializer(ClassInfo classInfo, List<Property> properties) {
+        String className = classInfo.name().toString();
+        String deserializerName = className + DESERIALIZER_SUFFIX;
+        List<Property> writable = new ArrayList<>();
+        for (Property property : properties) {
+            if (property.isWritable()) {
+                writable.add(property);
+            }
+        }
+
+        try (ClassCreator deserializer = ClassCreator.builder().classOutput(classOutput).className(deserializerName)
+                .superClass(GeneratedBeanDeserializer.class).build()) {
+            MethodCreator constructor = deserializer.getMethodCreator("<init>", void.class);
+            ResultHandle names = constructor.newArray(String.class, writable.size());
+            ResultHandle types = constructor.newArray(JavaType.class, writable.size());
+            for (int i = 0; i < writable.size(); i++) {
+                Property property = writable.get(i);
+                constructor.writeArrayValue(names, i, constructor.load(property.name));
+                constructor.writeArrayValue(types, i, javaType(constructor, property.writeType()));
+            }
+            constructor.invokeSpecialMethod(
+                    MethodDescriptor.ofConstructor(GeneratedBeanDeserializer.class, Class.class, String[].class,
+                            JavaType[].class),
+                    constructor.getThis(), constructor.loadClass(className), names, types);
+            constructor.returnValue(null);
+
+            MethodCreator newInstance = deserializer.getMethodCreator("newInstance", Object.class)
+                    .setModifiers(Modifier.PROTECTED);
+            newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(className)));
+
+            MethodCreator set = deserializer.getMethodCreator("set", void.class, Object.class, int.class, Object.class)
+                    .setModifiers(Modifier.PROTECTED);
+            ResultHandle bean = set.checkCast(set.getMethodParam(0), className);
+            BytecodeCreator setCase = set;
+            for (int i = 0; i < writable.size(); i++) {
+                Property property = writable.get(i);
+                BranchResult branch = setCase.ifIntegerEqual(set.getMethodParam(1), setCase.load(i));
+                BytecodeCreator matched = branch.trueBranch();
+                ResultHandle value = unbox(matched, property.writeType(), set.getMethodParam(2));
+                if (property.setter != null) {
+                    matched.invokeVirtualMethod(property.setter, bean, value);
+                } else {
+                    matched.writeInstanceField(property.field, bean, value);
+                }
+                matched.returnValue(null);
+                setCase = branch.falseBranch();
+            }
+            setCase.throwException(IllegalArgumentException.class, "Unknown property index");
+        }
+        deserializers.put(className, deserializerName);
+    }
+
+    private List<Property> collectProperties(ClassInfo classInfo) {
+        if (!Modifier.isPublic(classInfo.flags()) || Modifier.isAbstract(classInfo.flags())
+                || Modifier.isInterface(classInfo.flags()) || (classInfo.flags() & ENUM) != 0
+                || !classInfo.typeParameters().isEmpty()
+                || classInfo.nestingType() == ClassInfo.NestingType.ANONYMOUS
+                || classInfo.nestingType() == ClassInfo.NestingType.LOCAL) {
+            return null;
+        }
+
+        // superclasses first, like the Jackson introspection
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = classInfo;
+        while (current != null) {
+            if (!isSupported(current)) {
+                return null;
+            }
+            hierarchy.add(0, current);
+            DotName superName = current.superName();
+            if (superName == null || superName.equals(JandexUtil.DOTNAME_OBJECT)) {
+                break;
+            }
+            if (current.superClassType().kind() != Type.Kind.CLASS) {
+                // the properties of a generic superclass depend on its type arguments
+                return null;
+            }
+            current = index.getClassByName(superName);
+            if (current == null) {
+                // we cannot compute the properties of a class outside of the index
+                return null;
+            }
+        }
+
+        Map<String, MethodInfo> getters = new LinkedHashMap<>();
+        Map<String, MethodInfo> setters = new LinkedHashMap<>();
+        for (ClassInfo clazz : hierarchy) {
+            for (MethodInfo method : clazz.methods()) {
+                if (Modifier.isStatic(method.flags()) || (method.flags() & (SYNTHETIC | BRIDGE)) != 0) {
+                    continue;
+                }
+                String name = method.name();
+                // only the public getters are visible to Jackson, the setters are whatever their visibility
+                if (method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID
+                        && Modifier.isPublic(method.flags())) {
+                    String property = null;
+                    if (name.startsWith("get") && name.length() > 3) {
+                        property = propertyName(name.substring(3));
+                    } else if (name.startsWith("is") && name.length() > 2
+                            && (method.returnType().equals(PrimitiveType.BOOLEAN)
+                                    || method.returnType().name().equals(BOOLEAN))) {
+                        property = propertyName(name.substring(2));
+                    }
+                    if (property != null) {
+                        MethodInfo previous = getters.put(property, method);
+                        if (previous != null && !previous.name().equals(name)) {
+                            // both a getX() and an isX() getter
+                            return null;
+                        }
+                    }
+                } else if (method.parameters().size() == 1 && name.startsWith("set") && name.length() > 3) {
+                    MethodInfo previous = setters.put(propertyName(name.substring(3)), method);
+                    if (previous != null && !previous.parameters().get(0).equals(method.parameters().get(0))) {
+                        // overloaded setters
+                        return null;
+                    }
+                }
+            }
+        }
+
+        // the properties are ordered like the fields, whatever their visibility, then like the methods
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (ClassInfo clazz : hierarchy) {
+            List<String> fieldNames = declaredFieldNames(clazz);
+            if (fieldNames == null) {
+                return null;
+            }
+            for (String fieldName : fieldNames) {
+                FieldInfo field = clazz.field(fieldName);
+                if (field == null || Modifier.isStatic(field.flags()) || (field.flags() & SYNTHETIC) != 0) {
+                    continue;
+                }
+                if (Modifier.isPublic(field.flags()) && !Modifier.isTransient(field.flags())) {
+                    Property property = properties.computeIfAbsent(field.name(), Property::new);
+                    if (property.field != null) {
+                        // a hidden field
+                        return null;
+                    }
+                    property.field = field;
+                } else if (getters.containsKey(field.name()) || setters.containsKey(field.name())) {
+                    properties.computeIfAbsent(field.name(), Property::new);
+                }
+            }
+        }
+        Set<String> backedByField = new HashSet<>(properties.keySet());
+        for (Map.Entry<String, MethodInfo> getter : getters.entrySet()) {
+            properties.computeIfAbsent(getter.getKey(), Property::new).getter = getter.getValue();
+        }
+        int unordered = 0;
+        for (Property property : properties.values()) {
+            if (property.getter != null && !backedByField.contains(property.name)) {
+                unordered++;
+            }
+        }
+        if (unordered > 1) {
+            return null;
+        }
+        for (Map.Entry<String, MethodInfo> setter : setters.entrySet()) {
+            properties.computeIfAbsent(setter.getKey(), Property::new).setter = setter.getValue();
+        }
+
+        for (Property property : properties.values()) {
+            if ((property.isReadable() && !isResolved(property.readType()))
+                    || (property.isWritable() && !isResolved(property.writeType()))) {
+                return null;
+            }
+        }
+        return new ArrayList<>(properties.values());
+    }
+
+    /**
+     * @return the names of the fields of the given class in declaration order, {@code null} if its class file cannot be
+     *         read
+     */
+    private static List<String> declaredFieldNames(ClassInfo clazz) {
+        List<String> names = new ArrayList<>();
+        try (InputStream in = IoUtil.readClass(Thread.currentThread().getContextClassLoader(), clazz.name().toString())) {
+            if (in == null) {
+                return null;
+            }
+            new ClassReader(in).accept(new ClassVisitor(Gizmo.ASM_API_VERSION) {
+                @Override
+                public FieldVisitor visitField(int access, String name, String descriptor, String signature,
+                        Object value) {
+                    names.add(name);
+                    return null;
+                }
+            }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to read the class file of %s", clazz.name());
+            return null;
+        }
+        return names;
+    }
+
+    private boolean isSupported(ClassInfo clazz) {
+        for (DotName annotation : clazz.annotations().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_PACKAGE) || UNSUPPORTED_ANNOTATIONS.contains(annotation)) {
+                return false;
+            }
+        }
+        for (DotName name : clazz.interfaceNames()) {
+            if (!isSupportedInterface(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Jackson has a dedicated mapping for many JDK interfaces ({@code Map}, {@code Iterable}, {@code CharSequence}...)
+     * and for its own ones ({@code JsonSerializable}...).
+     */
+    private boolean isSupportedInterface(DotName name) {
+        if (SUPPORTED_JDK_INTERFACES.contains(name)) {
+            return true;
+        }
+        if (name.toString().startsWith("java.") || name.toString().startsWith(JACKSON_PACKAGE)) {
+            return false;
+        }
+        ClassInfo interfaceInfo = index.getClassByName(name);
+        if (interfaceInfo == null) {
+            return false;
+        }
+        for (DotName superName : interfaceInfo.interfaceNames()) {
+            if (!isSupportedInterface(superName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDeserializable(ClassInfo classInfo, List<Property> properties) {
+        MethodInfo constructor = classInfo.method("<init>");
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return false;
+        }
+        for (Property property : properties) {
+            if (property.isReadable() && !property.isWritable()) {
+                // Jackson would use a private field or the getter of a collection to set the property
+                return false;
+            }
+            if (property.setter != null && !Modifier.isPublic(property.setter.flags())) {
+                // the generated class cannot invoke it
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the type can be represented by a {@link JavaType} without any type variable
+     */
+    private static boolean isResolved(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case CLASS:
+                return true;
+            case ARRAY:
+                return isResolved(type.asArrayType().component());
+            case PARAMETERIZED_TYPE:
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (!isResolved(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            case WILDCARD_TYPE:
+                return isResolved(type.asWildcardType().extendsBound());
+            default:
+                return false;
+        }
+    }
+
+    private static ResultHandle javaType(BytecodeCreator creator, Type type) {
+        switch (type.kind()) {
+            case ARRAY:
+                int dimensions = type.asArrayType().dimensions();
+                Type component = dimensions > 1 ? ArrayType.create(type.asArrayType().component(), dimensions - 1)
+                        : type.asArrayType().component();
+                return creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedBeanDeserializer.class, "arrayType",
+                        JavaType.class, JavaType.class), javaType(creator, component));
+            case PARAMETERIZED_TYPE:
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle javaTypes = creator.newArray(JavaType.class, arguments.size());
+                for (int i = 0; i < arguments.size(); i++) {
+                    creator.writeArrayValue(javaTypes, i, javaType(creator, arguments.get(i)));
+                }
+                return creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedBeanDeserializer.class, "type",
+                        JavaType.class, Class.class, JavaType[].class), creator.loadClass(type.name().toString()),
+                        javaTypes);
+            case WILDCARD_TYPE:
+                return javaType(creator, type.asWildcardType().extendsBound());
+            default:
+                return creator.invokeStaticMethod(MethodDescriptor.ofMethod(GeneratedBeanDeserializer.class, "type",
+                        JavaType.class, Class.class), creator.loadClass(type.name().toString()));
+        }
+    }
+
+    /**
+     * Same as the legacy name mangling of Jackson: the leading upper case characters are lowered.
+     */
+    private static String propertyName(String name) {
+        StringBuilder builder = null;
+        for (int i = 0; i < name.length(); i++) {
+            char upper = name.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(name);
+            }
+            builder.setCharAt(i, lower);
+        }
+        return builder == null ? name : builder.toString();
+    }
+
+    private static Class<?> writtenPrimitive(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return boolean.class;
+            case CHAR:
+                return char.class;
+            case BYTE:
+            case SHORT:
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type " + type);
+        }
+    }
+
+    private static ResultHandle unbox(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return creator.checkCast(value, DescriptorUtils.typeToString(type));
+        }
+        String wrapper = wrapperName(type.asPrimitiveType());
+        String primitive = type.name().toString();
+        return creator.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitive + "Value", primitive),
+                creator.checkCast(value, wrapper));
+    }
+
+    private static String wrapperName(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return Boolean.class.getName();
+            case BYTE:
+                return Byte.class.getName();
+            case CHAR:
+                return Character.class.getName();
+            case SHORT:
+                return Short.class.getName();
+            case INT:
+                return Integer.class.getName();
+            case LONG:
+                return Long.class.getName();
+            case FLOAT:
+                return Float.class.getName();
+            case DOUBLE:
+                return Double.class.getName();
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type " + type);
+        }
+    }
+
+    private static final class Property {
+        final String name;
+        FieldInfo field;
+        MethodInfo getter;
+        MethodInfo setter;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        boolean isReadable() {
+            return getter != null || field != null;
+        }
+
+        boolean isWritable() {
+            return setter != null || (field != null && !Modifier.isFinal(field.flags()));
+        }
+
+        Type readType() {
+            return getter != null ? getter.returnType() : field.type();
+        }
+
+        Type writeType() {
+            return setter != null ? setter.parameters().get(0) : field.type();
+        }
+    }
+}
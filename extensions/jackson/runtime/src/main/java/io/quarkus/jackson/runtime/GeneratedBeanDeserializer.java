@@ -0,0 +1,120 @@
+package io.quarkus.jackson.runtime;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.TypeWrappedDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Base class of the deserializers generated at build time for the classes exchanged by the endpoints.
+ * <p>
+ * Generated subclasses create the instance and set the properties directly by their index inside the {@code names}
+ * array. The deserializers of the property types are looked up once, when the deserializer is resolved. Unknown
+ * properties are handled as configured on the {@code ObjectMapper}.
+ */
+public abstract class GeneratedBeanDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+
+    private final JavaType[] types;
+    private final Map<String, Integer> indexes;
+    private volatile JsonDeserializer<Object>[] deserializers;
+
+    /**
+     * @param type the deserialized class
+     * @param names the names of the properties
+     * @param types the types of the properties
+     */
+    protected GeneratedBeanDeserializer(Class<T> type, String[] names, JavaType[] types) {
+        super(type);
+        this.types = types;
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+    }
+
+    protected static JavaType type(Class<?> raw) {
+        return TypeFactory.defaultInstance().constructType(raw);
+    }
+
+    protected static JavaType type(Class<?> raw, JavaType[] arguments) {
+        return TypeFactory.defaultInstance().constructParametricType(raw, arguments);
+    }
+
+    protected static JavaType arrayType(JavaType component) {
+        return TypeFactory.defaultInstance().constructArrayType(component);
+    }
+
+    /**
+     * @return a new instance of the class
+     */
+    protected abstract Object newInstance();
+
+    /**
+     * Sets the value of the property at the given index, primitive values are unboxed.
+     */
+    protected abstract void set(Object bean, int index, Object value);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        JsonDeserializer<Object>[] resolved = new JsonDeserializer[types.length];
+        for (int i = 0; i < types.length; i++) {
+            JsonDeserializer<Object> deserializer = ctxt.findContextualValueDeserializer(types[i], null);
+            // polymorphic property types
+            TypeDeserializer typeDeserializer = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), types[i]);
+            if (typeDeserializer != null) {
+                deserializer = new TypeWrappedDeserializer(typeDeserializer, deserializer);
+            }
+            resolved[i] = deserializer;
+        }
+        deserializers = resolved;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        JsonDeserializer<Object>[] deserializers = this.deserializers;
+        Object bean = newInstance();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            Integer index = indexes.get(name);
+            if (p.nextToken() == JsonToken.VALUE_NULL && index != null) {
+                set(bean, index, deserializers[index].getNullValue(ctxt));
+            } else if (index != null) {
+                try {
+                    set(bean, index, deserializers[index].deserialize(p, ctxt));
+                } catch (JsonMappingException e) {
+                    e.prependPath(bean, name);
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw JsonMappingException.wrapWithPath(e, bean, name);
+                }
+            } else {
+                handleUnknownProperty(p, ctxt, bean, name);
+            }
+        }
+        return (T) bean;
+    }
+}
@@ -0,0 +1,116 @@
+package io.quarkus.jackson.runtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers generated at build time for the classes exchanged by the endpoints.
+ * <p>
+ * Generated subclasses read the properties directly and write them with the helper methods, the property names are
+ * identified by their index inside the {@code names} array and encoded once.
+ */
+public abstract class GeneratedBeanSerializer<T> extends StdSerializer<T> {
+
+    private final SerializableString[] names;
+
+    /**
+     * @param type the serialized class
+     * @param names the names of the properties
+     */
+    protected GeneratedBeanSerializer(Class<T> type, String[] names) {
+        super(type);
+        this.names = new SerializableString[names.length];
+        for (int i = 0; i < names.length; i++) {
+            this.names[i] = new SerializedString(names[i]);
+        }
+    }
+
+    /**
+     * Writes the properties of the given object, without the start and end of the JSON object.
+     *
+     * @param writeNulls whether the properties with a null value are written
+     */
+    protected abstract void serializeProperties(Object value, JsonGenerator gen, SerializerProvider provider,
+            boolean writeNulls) throws IOException;
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        serializeProperties(value, gen, provider, writeNulls(provider));
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        serializeProperties(value, gen, provider, writeNulls(provider));
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private boolean writeNulls(SerializerProvider provider) {
+        // the other inclusion rules are not supported, see GeneratedSerializersModule
+        return provider.getConfig().getDefaultPropertyInclusion(handledType())
+                .getValueInclusion() != JsonInclude.Include.NON_NULL;
+    }
+
+    protected void writeString(JsonGenerator gen, int index, String value, boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(names[index]);
+            gen.writeString(value);
+        } else if (writeNulls) {
+            gen.writeFieldName(names[index]);
+            gen.writeNull();
+        }
+    }
+
+    protected void writeObject(JsonGenerator gen, SerializerProvider provider, int index, Object value,
+            boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(names[index]);
+            provider.defaultSerializeValue(value, gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(names[index]);
+            gen.writeNull();
+        }
+    }
+
+    protected void writeBoolean(JsonGenerator gen, int index, boolean value) throws IOException {
+        gen.writeFieldName(names[index]);
+        gen.writeBoolean(value);
+    }
+
+    protected void writeChar(JsonGenerator gen, int index, char value) throws IOException {
+        gen.writeFieldName(names[index]);
+        gen.writeString(String.valueOf(value));
+    }
+
+    protected void writeInt(JsonGenerator gen, int index, int value) throws IOException {
+        gen.writeFieldName(names[index]);
+        gen.writeNumber(value);
+    }
+
+    protected void writeLong(JsonGenerator gen, int index, long value) throws IOException {
+        gen.writeFieldName(names[index]);
+        gen.writeNumber(value);
+    }
+
+    protected void writeFloat(JsonGenerator gen, int index, float value) throws IOException {
+        gen.writeFieldName(names[index]);
+        gen.writeNumber(value);
+    }
+
+    protected void writeDouble(JsonGenerator gen, int index, double value) throws IOException {
+        gen.writeFieldName(names[index]);
+        gen.writeNumber(value);
+    }
+}
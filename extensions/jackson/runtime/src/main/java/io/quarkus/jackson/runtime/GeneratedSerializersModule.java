@@ -0,0 +1,84 @@
+package io.quarkus.jackson.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Registers the serializers and deserializers generated at build time.
+ * <p>
+ * Unlike a {@code SimpleModule}, a serializer is only used for its exact class, so the subclasses keep their own
+ * properties. Both are only used when the mapping of the class is the default one, otherwise Jackson introspects the
+ * class as usual.
+ */
+public class GeneratedSerializersModule extends Module {
+
+    private final Map<Class<?>, JsonSerializer<?>> serializers = new HashMap<>();
+    private final Map<Class<?>, JsonDeserializer<?>> deserializers = new HashMap<>();
+
+    public GeneratedSerializersModule addSerializer(Class<?> type, JsonSerializer<?> serializer) {
+        serializers.put(type, serializer);
+        return this;
+    }
+
+    public GeneratedSerializersModule addDeserializer(Class<?> type, JsonDeserializer<?> deserializer) {
+        deserializers.put(type, deserializer);
+        return this;
+    }
+
+    @Override
+    public String getModuleName() {
+        return "quarkus-generated-serializers";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                JsonSerializer<?> serializer = serializers.get(type.getRawClass());
+                return serializer != null && isDefaultMapping(config, type.getRawClass()) ? serializer : null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+                    BeanDescription beanDesc) {
+                JsonDeserializer<?> deserializer = deserializers.get(type.getRawClass());
+                return deserializer != null && isDefaultMapping(config, type.getRawClass()) ? deserializer : null;
+            }
+        });
+    }
+
+    private static boolean isDefaultMapping(MapperConfig<?> config, Class<?> type) {
+        if (config.getPropertyNamingStrategy() != null || config.findMixInClassFor(type) != null
+                || config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)) {
+            return false;
+        }
+        switch (config.getDefaultPropertyInclusion(type).getValueInclusion()) {
+            case ALWAYS:
+            case USE_DEFAULTS:
+            case NON_NULL:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkus.jackson.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "jackson", phase = ConfigPhase.BUILD_TIME)
+public class JacksonBuildTimeConfig {
+
+    /**
+     * If enabled, dedicated serializers and deserializers are generated at build time for the classes exchanged by the
+     * REST and reactive routes endpoints, and registered into the default {@code ObjectMapper}.
+     * <p>
+     * The generated code accesses the properties directly instead of relying on reflection. Only the classes mapped with
+     * the default conventions are supported: public getters, setters and fields, no Jackson annotations. The other ones,
+     * and all the classes when the {@code ObjectMapper} is configured with a property naming strategy, mix-ins or an
+     * inclusion rule other than {@code NON_NULL}, are handled by Jackson as usual.
+     * <p>
+     * The properties are written in the alphabetical order of their fields, then of their getters, which may differ from
+     * the order chosen by Jackson. The reactive routes also use the default {@code ObjectMapper} instead of the Vert.x one
+     * when this is enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean generateSerializers;
+}
@@ -0,0 +1,13 @@
+package io.quarkus.jackson.spi;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * BuildItem used to signal that serializers are generated at build time for the types
+ * declared with {@link JacksonSerializableTypeBuildItem}.
+ *
+ * The extensions encoding JSON on their own are expected to use the default ObjectMapper
+ * when this item is present, so that the generated serializers are used.
+ */
+public final class GeneratedJacksonSerializersBuildItem extends SimpleBuildItem {
+}
@@ -0,0 +1,25 @@
+package io.quarkus.jackson.spi;
+
+import org.jboss.jandex.Type;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * BuildItem used to signal that a type is serialized or deserialized with the default ObjectMapper,
+ * typically the return type or the body type of an endpoint.
+ *
+ * The classes referenced by the type (type arguments, array components) are taken into account,
+ * and so are the classes of their properties.
+ */
+public final class JacksonSerializableTypeBuildItem extends MultiBuildItem {
+
+    private final Type type;
+
+    public JacksonSerializableTypeBuildItem(Type type) {
+        this.type = type;
+    }
+
+    public Type getType() {
+        return type;
+    }
+}
@@ -1,8 +1,7 @@
 package io.quarkus.kafka.client.serialization;
 
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -42,11 +41,26 @@ public class JsonbDeserializer<T> implements Deserializer<T> {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return jsonb.fromJson(is, type);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        // closing a ByteArrayInputStream has no effect
+        return jsonb.fromJson(new ByteArrayInputStream(data), type);
+    }
+
+    /**
+     * Deserializes the remaining bytes of the given buffer, without copying them when the buffer is backed by an
+     * array. The position of the buffer is left unchanged.
+     */
+    public T deserialize(String topic, ByteBuffer data) {
+        if (data == null) {
+            return null;
+        }
+
+        if (data.hasArray()) {
+            return jsonb.fromJson(new ByteArrayInputStream(data.array(), data.arrayOffset() + data.position(),
+                    data.remaining()), type);
         }
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        return jsonb.fromJson(new ByteArrayInputStream(bytes), type);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -10,6 +8,8 @@ import org.apache.kafka.common.serialization.Serializer;
 
 /**
  * A {@link Serializer} that serializes to JSON using JSON-B.
+ * <p>
+ * The records are encoded into a buffer reused by each thread.
  */
 public class JsonbSerializer<T> implements Serializer<T> {
 
@@ -35,12 +35,9 @@ public class JsonbSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            jsonb.toJson(data, output);
-            return output.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        ReusableOutputStream output = ReusableOutputStream.get();
+        jsonb.toJson(data, output);
+        return output.toByteArray();
     }
 
     @Override
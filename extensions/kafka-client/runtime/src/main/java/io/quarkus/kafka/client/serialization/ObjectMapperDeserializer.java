@@ -1,26 +1,30 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.apache.kafka.common.serialization.Deserializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+/**
+ * A {@link Deserializer} that deserializes JSON using Jackson's ObjectMapper.
+ * <p>
+ * The reader bound to the target type is created once, the records are parsed straight from their bytes.
+ */
 public class ObjectMapperDeserializer<T> implements Deserializer<T> {
 
-    private final Class<T> type;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
 
     public ObjectMapperDeserializer(Class<T> type) {
         this(type, ObjectMapperProducer.get());
     }
 
     public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
-        this.type = type;
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(type);
     }
 
     @Override
@@ -33,8 +37,27 @@ public class ObjectMapperDeserializer<T> implements Deserializer<T> {
             return null;
         }
 
-        try (InputStream is = new ByteArrayInputStream(data)) {
-            return objectMapper.readValue(is, type);
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Deserializes the remaining bytes of the given buffer, without copying them when the buffer is backed by an
+     * array. The position of the buffer is left unchanged.
+     */
+    public T deserialize(String topic, ByteBuffer data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            if (data.hasArray()) {
+                return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            }
+            return reader.readValue(new ByteBufferBackedInputStream(data.duplicate()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
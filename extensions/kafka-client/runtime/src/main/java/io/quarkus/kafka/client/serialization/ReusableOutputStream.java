@@ -0,0 +1,37 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * A byte array output stream kept by each thread and reused by its serializations, so that only the resulting array is
+ * allocated for each record.
+ */
+final class ReusableOutputStream extends ByteArrayOutputStream {
+
+    private static final int INITIAL_SIZE = 1024;
+    // larger buffers are not kept, to not hold the memory used by an exceptionally large record
+    private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ReusableOutputStream> CURRENT = new ThreadLocal<ReusableOutputStream>() {
+        @Override
+        protected ReusableOutputStream initialValue() {
+            return new ReusableOutputStream();
+        }
+    };
+
+    private ReusableOutputStream() {
+        super(INITIAL_SIZE);
+    }
+
+    /**
+     * @return the empty stream of the current thread
+     */
+    static ReusableOutputStream get() {
+        ReusableOutputStream output = CURRENT.get();
+        if (output.buf.length > MAX_RETAINED_SIZE) {
+            output.buf = new byte[INITIAL_SIZE];
+        }
+        output.reset();
+        return output;
+    }
+}
@@ -2,11 +2,16 @@ package io.quarkus.kafka.client.serde;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
 import io.quarkus.kafka.client.serialization.ObjectMapperSerde;
+import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
 
 public class ObjectMapperSerdeTest {
 
@@ -41,6 +46,44 @@ public class ObjectMapperSerdeTest {
         }
     }
 
+    @Test
+    public void shouldDeserializeFromByteBuffer() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        byte[] json = "--{\"id\":42,\"name\":\"Bob\"}--".getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer heap = ByteBuffer.wrap(json, 2, json.length - 4).slice();
+        MyEntity deserialized = deserializer.deserialize("my-topic", heap);
+        assertThat(deserialized.id).isEqualTo(42L);
+        assertThat(deserialized.name).isEqualTo("Bob");
+        assertThat(heap.position()).isZero();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).position(2).limit(json.length - 2);
+        deserialized = deserializer.deserialize("my-topic", direct);
+        assertThat(deserialized.id).isEqualTo(42L);
+        assertThat(deserialized.name).isEqualTo("Bob");
+        assertThat(direct.position()).isEqualTo(2);
+        deserializer.close();
+    }
+
+    @Test
+    public void shouldReturnDistinctArrays() {
+        MyEntity bob = new MyEntity();
+        bob.id = 42L;
+        bob.name = "Bob";
+        MyEntity alice = new MyEntity();
+        alice.id = 43L;
+        alice.name = "Alice";
+
+        ObjectMapperSerializer<MyEntity> serializer = new ObjectMapperSerializer<>();
+        byte[] first = serializer.serialize("my-topic", bob);
+        byte[] second = serializer.serialize("my-topic", alice);
+        serializer.close();
+
+        assertThat(new String(first, StandardCharsets.UTF_8)).contains("Bob").doesNotContain("Alice");
+        assertThat(new String(second, StandardCharsets.UTF_8)).contains("Alice").doesNotContain("Bob");
+    }
+
     public static class MyEntity {
         public long id;
         public String name;
@@ -12,4 +12,10 @@ public class KafkaStreamsBuildTimeConfig {
      */
     @ConfigItem(name = "health.enabled", defaultValue = "true")
     public boolean healthEnabled;
+
+    /**
+     * Whether or not the metrics of the RocksDB state stores are published in case a metrics extension is present.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "true")
+    public boolean metricsEnabled;
 }
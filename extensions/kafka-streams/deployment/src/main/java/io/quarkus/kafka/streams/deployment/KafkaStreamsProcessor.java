@@ -3,6 +3,7 @@ package io.quarkus.kafka.streams.deployment;
 import static io.quarkus.kafka.streams.runtime.KafkaStreamsPropertiesUtil.buildKafkaStreamsProperties;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.Properties;
 
 import javax.inject.Singleton;
@@ -31,11 +32,15 @@ import io.quarkus.deployment.builditem.nativeimage.JniRuntimeAccessBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.kafka.streams.runtime.BoundedMemoryRocksDBConfigSetter;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsProducer;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsSupport;
+import io.quarkus.kafka.streams.runtime.metrics.KafkaStreamsMetrics;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 
 class KafkaStreamsProcessor {
@@ -68,6 +73,8 @@ class KafkaStreamsProcessor {
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, DefaultPartitionGrouper.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, DefaultProductionExceptionHandler.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, FailOnInvalidTimestamp.class));
+        reflectiveClasses
+                .produce(new ReflectiveClassBuildItem(true, false, false, BoundedMemoryRocksDBConfigSetter.class));
     }
 
     private void registerClassesThatClientMaySpecify(BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
@@ -167,6 +174,24 @@ class KafkaStreamsProcessor {
         recorder.loadRocksDb();
     }
 
+    @BuildStep
+    void addMetricsBean(KafkaStreamsBuildTimeConfig buildTimeConfig, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (buildTimeConfig.metricsEnabled && metricsCapability.isPresent()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(KafkaStreamsMetrics.class));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(KafkaStreamsRecorder recorder, KafkaStreamsBuildTimeConfig buildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (buildTimeConfig.metricsEnabled && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
+
     @BuildStep
     void addHealthChecks(KafkaStreamsBuildTimeConfig buildTimeConfig, BuildProducer<HealthBuildItem> healthChecks) {
         healthChecks.produce(
@@ -0,0 +1,65 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Makes all the RocksDB state stores share a single LRU block cache and a single write buffer manager, so that the
+ * off-heap memory of the application stays bounded whatever the number of stores of its topology.
+ * <p>
+ * Kafka Streams creates an instance of this class for each store, the cache and the write buffer manager are thus
+ * held statically. They are created by {@link #configure(long, long, double, boolean)} before the pipeline starts and
+ * released by {@link #release()} once it is closed.
+ */
+public class BoundedMemoryRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    private static Cache cache;
+    private static WriteBufferManager writeBufferManager;
+
+    static synchronized void configure(long totalMemory, long writeBufferMemory, double indexFilterBlockRatio,
+            boolean strictLimit) {
+        release();
+        // the memtables are charged to the cache, so the total memory bounds them as well
+        cache = new LRUCache(totalMemory, -1, strictLimit, indexFilterBlockRatio);
+        writeBufferManager = new WriteBufferManager(writeBufferMemory, cache);
+    }
+
+    static synchronized void release() {
+        if (writeBufferManager != null) {
+            writeBufferManager.close();
+            writeBufferManager = null;
+        }
+        if (cache != null) {
+            cache.close();
+            cache = null;
+        }
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        synchronized (BoundedMemoryRocksDBConfigSetter.class) {
+            if (cache == null) {
+                throw new IllegalStateException("The RocksDB memory of the store " + storeName + " cannot be bounded, "
+                        + "the shared block cache has not been configured");
+            }
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+            tableConfig.setBlockCache(cache);
+            tableConfig.setCacheIndexAndFilterBlocks(true);
+            tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+            tableConfig.setPinTopLevelIndexAndFilter(true);
+            options.setWriteBufferManager(writeBufferManager);
+            options.setTableFormatConfig(tableConfig);
+        }
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the cache and the write buffer manager are shared by the other stores
+    }
+}
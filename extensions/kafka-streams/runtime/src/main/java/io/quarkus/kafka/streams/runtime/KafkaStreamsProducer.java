@@ -38,7 +38,10 @@ import org.apache.kafka.streams.processor.StateRestoreListener;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Unremovable;
+import io.quarkus.kafka.streams.runtime.metrics.KafkaStreamsMetrics;
 import io.quarkus.runtime.Startup;
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.configuration.MemorySize;
 
 /**
  * Manages the lifecycle of a Kafka Streams pipeline. If there's a producer
@@ -60,7 +63,8 @@ public class KafkaStreamsProducer {
     @Inject
     public KafkaStreamsProducer(KafkaStreamsSupport kafkaStreamsSupport, KafkaStreamsRuntimeConfig runtimeConfig,
             Instance<Topology> topology, Instance<KafkaClientSupplier> kafkaClientSupplier,
-            Instance<StateListener> stateListener, Instance<StateRestoreListener> globalStateRestoreListener) {
+            Instance<StateListener> stateListener, Instance<StateRestoreListener> globalStateRestoreListener,
+            Instance<KafkaStreamsMetrics> metrics) {
         // No producer for Topology -> nothing to do
         if (topology.isUnsatisfied()) {
             LOGGER.debug("No Topology producer; Kafka Streams will not be started");
@@ -75,12 +79,13 @@ public class KafkaStreamsProducer {
 
         String bootstrapServersConfig = asString(runtimeConfig.bootstrapServers);
         Properties kafkaStreamsProperties = getStreamsProperties(buildTimeProperties, bootstrapServersConfig, runtimeConfig);
+        boundRocksDbMemory(kafkaStreamsProperties, runtimeConfig.rocksdb);
         this.kafkaAdminClient = Admin.create(getAdminClientConfig(kafkaStreamsProperties));
 
         this.executorService = Executors.newSingleThreadExecutor();
 
         this.kafkaStreams = initializeKafkaStreams(kafkaStreamsProperties, runtimeConfig, kafkaAdminClient, topology.get(),
-                kafkaClientSupplier, stateListener, globalStateRestoreListener, executorService);
+                kafkaClientSupplier, stateListener, globalStateRestoreListener, metrics, executorService);
         this.kafkaStreamsTopologyManager = new KafkaStreamsTopologyManager(kafkaAdminClient);
     }
 
@@ -108,6 +113,7 @@ public class KafkaStreamsProducer {
         if (kafkaStreams != null) {
             LOGGER.debug("Stopping Kafka Streams pipeline");
             kafkaStreams.close();
+            BoundedMemoryRocksDBConfigSetter.release();
         }
         if (kafkaAdminClient != null) {
             kafkaAdminClient.close();
@@ -118,7 +124,7 @@ public class KafkaStreamsProducer {
             KafkaStreamsRuntimeConfig runtimeConfig, Admin adminClient, Topology topology,
             Instance<KafkaClientSupplier> kafkaClientSupplier,
             Instance<StateListener> stateListener, Instance<StateRestoreListener> globalStateRestoreListener,
-            ExecutorService executorService) {
+            Instance<KafkaStreamsMetrics> metrics, ExecutorService executorService) {
         KafkaStreams kafkaStreams;
         if (kafkaClientSupplier.isUnsatisfied()) {
             kafkaStreams = new KafkaStreams(topology, kafkaStreamsProperties);
@@ -126,8 +132,26 @@ public class KafkaStreamsProducer {
             kafkaStreams = new KafkaStreams(topology, kafkaStreamsProperties, kafkaClientSupplier.get());
         }
 
-        if (!stateListener.isUnsatisfied()) {
-            kafkaStreams.setStateListener(stateListener.get());
+        StateListener listener = stateListener.isUnsatisfied() ? null : stateListener.get();
+        if (metrics.isResolvable()) {
+            // the stores, hence their metrics, are only known once the tasks are assigned
+            KafkaStreamsMetrics kafkaStreamsMetrics = metrics.get();
+            StateListener delegate = listener;
+            listener = new StateListener() {
+
+                @Override
+                public void onChange(KafkaStreams.State newState, KafkaStreams.State oldState) {
+                    if (newState == KafkaStreams.State.RUNNING) {
+                        kafkaStreamsMetrics.update(kafkaStreams);
+                    }
+                    if (delegate != null) {
+                        delegate.onChange(newState, oldState);
+                    }
+                }
+            };
+        }
+        if (listener != null) {
+            kafkaStreams.setStateListener(listener);
         }
         if (!globalStateRestoreListener.isUnsatisfied()) {
             kafkaStreams.setGlobalStateRestoreListener(globalStateRestoreListener.get());
@@ -230,6 +254,34 @@ public class KafkaStreamsProducer {
         return streamsProperties;
     }
 
+    /**
+     * Makes all the RocksDB state stores share the same bounded memory, unless the application installs its own config
+     * setter.
+     */
+    private static void boundRocksDbMemory(Properties properties, RocksDbConfig rocksdb) {
+        if (!rocksdb.totalMemory.isPresent()) {
+            return;
+        }
+        if (properties.containsKey(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG)) {
+            LOGGER.warnf("The RocksDB memory is not bounded as the %s property is set",
+                    StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+            return;
+        }
+        long totalMemory = rocksdb.totalMemory.get().asLongValue();
+        long writeBufferMemory = rocksdb.writeBufferMemory.map(MemorySize::asLongValue).orElse(totalMemory / 2);
+        if (writeBufferMemory > totalMemory) {
+            throw new ConfigurationException("The RocksDB write buffer memory (" + writeBufferMemory
+                    + ") must not exceed the total memory (" + totalMemory + ")");
+        }
+        if (rocksdb.indexFilterBlockRatio < 0 || rocksdb.indexFilterBlockRatio > 1) {
+            throw new ConfigurationException("The RocksDB index and filter block ratio must be between 0 and 1, got "
+                    + rocksdb.indexFilterBlockRatio);
+        }
+        BoundedMemoryRocksDBConfigSetter.configure(totalMemory, writeBufferMemory, rocksdb.indexFilterBlockRatio,
+                rocksdb.strictLimit);
+        properties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, BoundedMemoryRocksDBConfigSetter.class.getName());
+    }
+
     private static void setStoreConfig(StoreConfig sc, Properties properties, String key) {
         if (sc != null) {
             setProperty(sc.type, properties, key + ".type");
@@ -1,11 +1,15 @@
 package io.quarkus.kafka.streams.runtime;
 
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.rocksdb.RocksDB;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.kafka.streams.runtime.metrics.KafkaStreamsMetrics;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class KafkaStreamsRecorder {
@@ -22,4 +26,13 @@ public class KafkaStreamsRecorder {
             }
         };
     }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(KafkaStreamsMetrics.class).get().bindTo(metricsFactory);
+            }
+        };
+    }
 }
@@ -73,6 +73,11 @@ public class KafkaStreamsRuntimeConfig {
      */
     public SslConfig ssl;
 
+    /**
+     * RocksDB state stores config
+     */
+    public RocksDbConfig rocksdb;
+
     @Override
     public String toString() {
         return "KafkaStreamsRuntimeConfig{" +
@@ -84,6 +89,7 @@ public class KafkaStreamsRuntimeConfig {
                 ", schemaRegistryUrl=" + schemaRegistryUrl +
                 ", sasl=" + sasl +
                 ", ssl=" + ssl +
+                ", rocksdb=" + rocksdb +
                 '}';
     }
 
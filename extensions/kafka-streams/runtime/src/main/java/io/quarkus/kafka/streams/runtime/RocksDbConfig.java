@@ -0,0 +1,50 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class RocksDbConfig {
+
+    /**
+     * The total off-heap memory shared by all the RocksDB state stores of the application, e.g. {@code 256M}.
+     * <p>
+     * When set, all the stores share a single block cache of this size, which also accounts for their memtables and
+     * their index and filter blocks, instead of each store allocating its own.
+     * Setting it installs a {@code rocksdb.config.setter}, it is ignored if the application sets its own.
+     */
+    @ConfigItem(name = "memory.total")
+    public Optional<MemorySize> totalMemory;
+
+    /**
+     * The part of the total memory the memtables of all the stores may use before being flushed, e.g. {@code 64M}.
+     * Defaults to half the total memory.
+     */
+    @ConfigItem(name = "memory.write-buffer")
+    public Optional<MemorySize> writeBufferMemory;
+
+    /**
+     * The ratio of the block cache reserved for the index and filter blocks, which are evicted last.
+     */
+    @ConfigItem(name = "memory.index-filter-block-ratio", defaultValue = "0.1")
+    public double indexFilterBlockRatio;
+
+    /**
+     * Whether the reads and writes fail when the block cache is full, rather than letting it exceed its size.
+     */
+    @ConfigItem(name = "memory.strict-limit", defaultValue = "false")
+    public boolean strictLimit;
+
+    @Override
+    public String toString() {
+        return "RocksDbConfig{" +
+                "totalMemory=" + totalMemory.map(MemorySize::asLongValue) +
+                ", writeBufferMemory=" + writeBufferMemory.map(MemorySize::asLongValue) +
+                ", indexFilterBlockRatio=" + indexFilterBlockRatio +
+                ", strictLimit=" + strictLimit +
+                '}';
+    }
+}
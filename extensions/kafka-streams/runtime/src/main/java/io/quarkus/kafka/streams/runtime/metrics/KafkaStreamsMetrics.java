@@ -0,0 +1,96 @@
+package io.quarkus.kafka.streams.runtime.metrics;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.inject.Singleton;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.streams.KafkaStreams;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Publishes the metrics of the RocksDB state stores of the Kafka Streams pipeline, such as their block cache and
+ * memtable hit ratios, their compaction and flush statistics or the bytes they read and write, with one tag per store.
+ * <p>
+ * Kafka Streams only records them when {@code kafka-streams.metrics.recording.level} is {@code DEBUG}. The stores are
+ * opened once the tasks are assigned, so their metrics are looked up again each time the pipeline becomes
+ * {@code RUNNING}; the metrics of a store that moved to another instance report {@code NaN}.
+ */
+@Singleton
+public class KafkaStreamsMetrics {
+
+    static final String PREFIX = "kafka.streams.state.";
+    static final String STATE_STORE_GROUP = "stream-state-metrics";
+    static final String ROCKSDB_STORE_TAG_PREFIX = "rocksdb-";
+
+    private MetricsFactory metricsFactory;
+    private KafkaStreams kafkaStreams;
+    // the metrics of the stores currently assigned to this instance
+    private volatile Map<MetricName, Metric> current = new HashMap<>();
+    private final Set<MetricName> registered = new HashSet<>();
+
+    public synchronized void bindTo(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        if (kafkaStreams != null) {
+            update(kafkaStreams);
+        }
+    }
+
+    public synchronized void update(KafkaStreams kafkaStreams) {
+        this.kafkaStreams = kafkaStreams;
+        if (metricsFactory == null) {
+            return;
+        }
+        Map<MetricName, Metric> storeMetrics = new HashMap<>();
+        for (Map.Entry<MetricName, ? extends Metric> entry : kafkaStreams.metrics().entrySet()) {
+            if (isRocksDbMetric(entry.getKey())) {
+                storeMetrics.put(entry.getKey(), entry.getValue());
+            }
+        }
+        current = storeMetrics;
+        for (MetricName name : storeMetrics.keySet()) {
+            if (registered.add(name)) {
+                register(name);
+            }
+        }
+    }
+
+    private void register(MetricName name) {
+        MetricsFactory.MetricBuilder builder = metricsFactory.builder(PREFIX + name.name())
+                .description(name.description());
+        for (Map.Entry<String, String> tag : name.tags().entrySet()) {
+            builder.tag(tag.getKey().replace('-', '_'), tag.getValue());
+        }
+        Supplier<Number> value = new Supplier<Number>() {
+            @Override
+            public Number get() {
+                Metric metric = current.get(name);
+                Object value = metric != null ? metric.metricValue() : null;
+                return value instanceof Number ? (Number) value : Double.NaN;
+            }
+        };
+        if (name.name().endsWith("-total")) {
+            builder.buildCounter(value);
+        } else {
+            builder.buildGauge(value);
+        }
+    }
+
+    private static boolean isRocksDbMetric(MetricName name) {
+        if (!STATE_STORE_GROUP.equals(name.group())) {
+            return false;
+        }
+        for (String tag : name.tags().keySet()) {
+            if (tag.startsWith(ROCKSDB_STORE_TAG_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+
+public class BoundedMemoryRocksDBConfigSetterTest {
+
+    static {
+        RocksDB.loadLibrary();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        BoundedMemoryRocksDBConfigSetter.release();
+    }
+
+    @Test
+    public void shouldShareTheCacheAndWriteBufferManager() {
+        BoundedMemoryRocksDBConfigSetter.configure(16 * 1024 * 1024, 8 * 1024 * 1024, 0.1, false);
+
+        try (Options first = newOptions(); Options second = newOptions()) {
+            new BoundedMemoryRocksDBConfigSetter().setConfig("store-1", first, Collections.emptyMap());
+            new BoundedMemoryRocksDBConfigSetter().setConfig("store-2", second, Collections.emptyMap());
+
+            assertThat(first.writeBufferManager()).isNotNull().isSameAs(second.writeBufferManager());
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) first.tableFormatConfig();
+            assertThat(tableConfig.cacheIndexAndFilterBlocks()).isTrue();
+            assertThat(tableConfig.cacheIndexAndFilterBlocksWithHighPriority()).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldFailWhenNotConfigured() {
+        try (Options options = newOptions()) {
+            assertThatThrownBy(
+                    () -> new BoundedMemoryRocksDBConfigSetter().setConfig("store", options, Collections.emptyMap()))
+                            .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static Options newOptions() {
+        Options options = new Options();
+        options.setTableFormatConfig(new BlockBasedTableConfig());
+        return options;
+    }
+}
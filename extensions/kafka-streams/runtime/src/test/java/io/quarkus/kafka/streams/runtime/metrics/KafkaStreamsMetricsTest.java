@@ -0,0 +1,170 @@
+package io.quarkus.kafka.streams.runtime.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.streams.KafkaStreams;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+public class KafkaStreamsMetricsTest {
+
+    private final RecordingMetricsFactory factory = new RecordingMetricsFactory();
+    private final KafkaStreams streams = Mockito.mock(KafkaStreams.class);
+    private final Map<MetricName, Metric> streamsMetrics = new LinkedHashMap<>();
+    private final KafkaStreamsMetrics metrics = new KafkaStreamsMetrics();
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.doReturn(streamsMetrics).when(streams).metrics();
+    }
+
+    @Test
+    public void shouldPublishTheRocksDbMetricsOnly() {
+        addMetric("block-cache-data-hit-ratio", "stream-state-metrics", "rocksdb-state-id", "store-1", 0.75);
+        addMetric("bytes-written-total", "stream-state-metrics", "rocksdb-window-state-id", "store-2", 42.0);
+        addMetric("put-rate", "stream-state-metrics", "in-memory-state-id", "store-3", 1.0);
+        addMetric("commit-rate", "stream-thread-metrics", "thread-id", "thread-1", 1.0);
+
+        metrics.bindTo(factory);
+        metrics.update(streams);
+
+        assertThat(factory.gauges).containsOnlyKeys("kafka.streams.state.block-cache-data-hit-ratio");
+        assertThat(factory.counters).containsOnlyKeys("kafka.streams.state.bytes-written-total");
+        assertThat(factory.gauges.get("kafka.streams.state.block-cache-data-hit-ratio").get()).isEqualTo(0.75);
+        assertThat(factory.counters.get("kafka.streams.state.bytes-written-total").get()).isEqualTo(42.0);
+        assertThat(factory.tags).containsEntry("rocksdb_state_id", "store-1").containsEntry("task_id", "0_0");
+    }
+
+    @Test
+    public void shouldRegisterTheMetricsOnceBound() {
+        addMetric("memtable-hit-ratio", "stream-state-metrics", "rocksdb-state-id", "store-1", 0.5);
+
+        metrics.update(streams);
+        assertThat(factory.gauges).isEmpty();
+
+        metrics.bindTo(factory);
+        assertThat(factory.gauges).containsOnlyKeys("kafka.streams.state.memtable-hit-ratio");
+    }
+
+    @Test
+    public void shouldReportNaNOnceTheStoreIsGone() {
+        addMetric("memtable-hit-ratio", "stream-state-metrics", "rocksdb-state-id", "store-1", 0.5);
+        metrics.bindTo(factory);
+        metrics.update(streams);
+
+        streamsMetrics.clear();
+        addMetric("memtable-hit-ratio", "stream-state-metrics", "rocksdb-state-id", "store-2", 0.25);
+        metrics.update(streams);
+
+        assertThat(factory.registrations).isEqualTo(2);
+        assertThat(factory.gauges.get("kafka.streams.state.memtable-hit-ratio").get()).isEqualTo(0.25);
+        assertThat(factory.first.get()).isEqualTo(Double.NaN);
+    }
+
+    private void addMetric(String name, String group, String storeTag, String store, double value) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("task-id", "0_0");
+        tags.put(storeTag, store);
+        MetricName metricName = new MetricName(name, group, "", tags);
+        Metric metric = Mockito.mock(Metric.class);
+        Mockito.when(metric.metricName()).thenReturn(metricName);
+        Mockito.when(metric.metricValue()).thenReturn(value);
+        streamsMetrics.put(metricName, metric);
+    }
+
+    private static class RecordingMetricsFactory implements MetricsFactory {
+
+        final Map<String, Supplier<Number>> gauges = new HashMap<>();
+        final Map<String, Supplier<Number>> counters = new HashMap<>();
+        final Map<String, String> tags = new HashMap<>();
+        Supplier<Number> first;
+        int registrations;
+
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            return new MetricBuilder() {
+
+                @Override
+                public MetricBuilder description(String description) {
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder tag(String key, String value) {
+                    tags.put(key, value);
+                    return this;
+                }
+
+                @Override
+                public MetricBuilder unit(String unit) {
+                    return this;
+                }
+
+                @Override
+                public void buildCounter(Supplier<Number> countFunction) {
+                    register(counters, name, countFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void buildGauge(Supplier<Number> gaugeFunction) {
+                    register(gauges, name, gaugeFunction);
+                }
+
+                @Override
+                public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public TimeRecorder buildTimer() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Runnable buildTimer(Runnable f) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public <T> Callable<T> buildTimer(Callable<T> f) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public <T> Supplier<T> buildTimer(Supplier<T> f) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        private void register(Map<String, Supplier<Number>> metrics, String name, Supplier<Number> function) {
+            if (first == null) {
+                first = function;
+            }
+            registrations++;
+            metrics.put(name, function);
+        }
+    }
+}
@@ -5,13 +5,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.ZoneId;
 
-import org.jboss.logmanager.formatters.JsonFormatter;
 import org.jboss.logmanager.formatters.StructuredFormatter;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
+import io.quarkus.logging.json.runtime.QuarkusJsonFormatter;
 import io.quarkus.test.QuarkusUnitTest;
 
 public class JsonFormatterCustomConfigTest {
@@ -23,7 +23,7 @@ public class JsonFormatterCustomConfigTest {
 
     @Test
     public void jsonFormatterCustomConfigurationTest() {
-        JsonFormatter jsonFormatter = getJsonFormatter();
+        QuarkusJsonFormatter jsonFormatter = getJsonFormatter();
         assertThat(jsonFormatter.isPrettyPrint()).isTrue();
         assertThat(jsonFormatter.getDateTimeFormatter().toString())
                 .isEqualTo("Value(DayOfMonth)' 'Text(MonthOfYear,SHORT)' 'Value(Year,4,19,EXCEEDS_PAD)");
@@ -32,5 +32,9 @@ public class JsonFormatterCustomConfigTest {
                 .isEqualTo(StructuredFormatter.ExceptionOutputType.DETAILED_AND_FORMATTED);
         assertThat(jsonFormatter.getRecordDelimiter()).isEqualTo("\n;");
         assertThat(jsonFormatter.isPrintDetails()).isTrue();
+        assertThat(jsonFormatter.getFields()).containsExactly(QuarkusJsonFormatter.Field.TIMESTAMP,
+                QuarkusJsonFormatter.Field.LEVEL, QuarkusJsonFormatter.Field.MESSAGE);
+        assertThat(jsonFormatter.getAdditionalFields()).containsEntry("service", "orders")
+                .containsEntry("environment.name", "test").hasSize(2);
     }
 }
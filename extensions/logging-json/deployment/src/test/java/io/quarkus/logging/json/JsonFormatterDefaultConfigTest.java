@@ -11,7 +11,6 @@ import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
-import org.jboss.logmanager.formatters.JsonFormatter;
 import org.jboss.logmanager.formatters.StructuredFormatter;
 import org.jboss.logmanager.handlers.ConsoleHandler;
 import org.jboss.logmanager.handlers.DelayedHandler;
@@ -19,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.logging.json.runtime.QuarkusJsonFormatter;
 import io.quarkus.test.QuarkusUnitTest;
 
 public class JsonFormatterDefaultConfigTest {
@@ -29,7 +29,7 @@ public class JsonFormatterDefaultConfigTest {
 
     @Test
     public void jsonFormatterDefaultConfigurationTest() {
-        JsonFormatter jsonFormatter = getJsonFormatter();
+        QuarkusJsonFormatter jsonFormatter = getJsonFormatter();
         assertThat(jsonFormatter.isPrettyPrint()).isFalse();
         assertThat(jsonFormatter.getDateTimeFormatter().toString())
                 .isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneId.systemDefault()).toString());
@@ -37,9 +37,11 @@ public class JsonFormatterDefaultConfigTest {
         assertThat(jsonFormatter.getExceptionOutputType()).isEqualTo(StructuredFormatter.ExceptionOutputType.DETAILED);
         assertThat(jsonFormatter.getRecordDelimiter()).isEqualTo("\n");
         assertThat(jsonFormatter.isPrintDetails()).isFalse();
+        assertThat(jsonFormatter.getFields()).containsExactly(QuarkusJsonFormatter.Field.values());
+        assertThat(jsonFormatter.getAdditionalFields()).isEmpty();
     }
 
-    public static JsonFormatter getJsonFormatter() {
+    public static QuarkusJsonFormatter getJsonFormatter() {
         LogManager logManager = LogManager.getLogManager();
         assertThat(logManager).isInstanceOf(org.jboss.logmanager.LogManager.class);
 
@@ -54,7 +56,7 @@ public class JsonFormatterDefaultConfigTest {
         assertThat(handler.getLevel()).isEqualTo(Level.WARNING);
 
         Formatter formatter = handler.getFormatter();
-        assertThat(formatter).isInstanceOf(JsonFormatter.class);
-        return (JsonFormatter) formatter;
+        assertThat(formatter).isInstanceOf(QuarkusJsonFormatter.class);
+        return (QuarkusJsonFormatter) formatter;
     }
 }
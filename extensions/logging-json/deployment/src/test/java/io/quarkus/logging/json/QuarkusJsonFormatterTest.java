@@ -0,0 +1,138 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.JsonFormatter;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.logging.json.runtime.QuarkusJsonFormatter;
+
+public class QuarkusJsonFormatterTest {
+
+    @Test
+    public void recordIsFormattedAsJsonFormatterDoes() {
+        ExtLogRecord record = record("Hello \"json\" \\ été\n\t\u0001");
+        record.setHostName("localhost");
+        record.setProcessName("app");
+        record.setProcessId(42);
+        record.putMdc("request.id", "1234");
+        record.putMdc("user\"name", "quark");
+
+        assertThat(new QuarkusJsonFormatter().format(record)).isEqualTo(new JsonFormatter().format(record));
+    }
+
+    @Test
+    public void exceptionIsFormattedAsJsonFormatterDoes() {
+        IllegalStateException thrown = new IllegalStateException("failure", new IllegalArgumentException());
+        thrown.addSuppressed(new UnsupportedOperationException("suppressed"));
+        ExtLogRecord record = record("failed");
+        record.setThrown(thrown);
+
+        for (StructuredFormatter.ExceptionOutputType type : StructuredFormatter.ExceptionOutputType.values()) {
+            QuarkusJsonFormatter formatter = new QuarkusJsonFormatter();
+            formatter.setExceptionOutputType(type);
+            formatter.setPrintDetails(true);
+            JsonFormatter expected = new JsonFormatter();
+            expected.setExceptionOutputType(type);
+            expected.setPrintDetails(true);
+            assertThat(formatter.format(record)).isEqualTo(expected.format(record));
+        }
+    }
+
+    @Test
+    public void fieldsAreSelected() {
+        QuarkusJsonFormatter formatter = new QuarkusJsonFormatter();
+        formatter.setFields(Arrays.asList(QuarkusJsonFormatter.Field.LEVEL, QuarkusJsonFormatter.Field.MESSAGE));
+        Map<String, String> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("service", "orders");
+        additionalFields.put("zone\"id", "eu\n");
+        formatter.setAdditionalFields(additionalFields);
+        formatter.setRecordDelimiter(null);
+
+        assertThat(formatter.format(record("first")))
+                .isEqualTo("{\"level\":\"INFO\",\"message\":\"first\",\"service\":\"orders\",\"zone\\\"id\":\"eu\\n\"}");
+        assertThat(formatter.format(record("second")))
+                .isEqualTo("{\"level\":\"INFO\",\"message\":\"second\",\"service\":\"orders\",\"zone\\\"id\":\"eu\\n\"}");
+
+        formatter.setFields(Collections.emptyList());
+        formatter.setAdditionalFields(Collections.emptyMap());
+        assertThat(formatter.format(record("none"))).isEqualTo("{}");
+    }
+
+    @Test
+    public void timestampFollowsTheRecords() {
+        QuarkusJsonFormatter formatter = new QuarkusJsonFormatter();
+        formatter.setFields(Collections.singletonList(QuarkusJsonFormatter.Field.TIMESTAMP));
+        formatter.setZoneId("UTC");
+        ExtLogRecord record = record("timestamp");
+        record.setMillis(1000);
+        assertThat(formatter.format(record)).isEqualTo("{\"timestamp\":\"1970-01-01T00:00:01Z\"}\n");
+        assertThat(formatter.format(record)).isEqualTo("{\"timestamp\":\"1970-01-01T00:00:01Z\"}\n");
+        record.setMillis(1001);
+        assertThat(formatter.format(record)).isEqualTo("{\"timestamp\":\"1970-01-01T00:00:01.001Z\"}\n");
+        formatter.setDateFormat("uuuu");
+        assertThat(formatter.format(record)).isEqualTo("{\"timestamp\":\"1970\"}\n");
+    }
+
+    @Test
+    public void prettyPrintedRecordIsTheSame() {
+        ExtLogRecord record = record("pretty");
+        record.putMdc("request.id", "1234");
+        record.setThrown(new IllegalStateException("failure", new IllegalArgumentException()));
+        QuarkusJsonFormatter formatter = new QuarkusJsonFormatter();
+        String compact = formatter.format(record);
+        formatter.setPrettyPrint(true);
+        String pretty = formatter.format(record);
+
+        assertThat(pretty).contains("\n    \"level\": \"INFO\"");
+        assertThat(parse(pretty)).isEqualTo(parse(compact));
+    }
+
+    @Test
+    public void recordFormattedWhileFormattingAnotherIsNotMixedUp() {
+        QuarkusJsonFormatter formatter = new QuarkusJsonFormatter();
+        formatter.setFields(Collections.singletonList(QuarkusJsonFormatter.Field.MESSAGE));
+        String[] inner = new String[1];
+        Object parameter = new Object() {
+            @Override
+            public String toString() {
+                inner[0] = formatter.format(record("inner"));
+                return "parameter";
+            }
+        };
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, "outer {0}", ExtLogRecord.FormatStyle.MESSAGE_FORMAT,
+                QuarkusJsonFormatterTest.class.getName());
+        record.setParameters(new Object[] { parameter });
+
+        assertThat(formatter.format(record)).isEqualTo("{\"message\":\"outer parameter\"}\n");
+        assertThat(inner[0]).isEqualTo("{\"message\":\"inner\"}\n");
+        // the buffer of the thread is still used afterwards
+        assertThat(formatter.format(record("next"))).isEqualTo("{\"message\":\"next\"}\n");
+    }
+
+    private static ExtLogRecord record(String message) {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, message, ExtLogRecord.FormatStyle.NO_FORMAT,
+                QuarkusJsonFormatterTest.class.getName());
+        record.setLoggerName("io.quarkus.logging.json");
+        return record;
+    }
+
+    private static JsonObject parse(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.logging.json.runtime;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jboss.logmanager.formatters.StructuredFormatter;
@@ -51,4 +53,17 @@ public class JsonConfig {
      */
     @ConfigItem
     boolean printDetails;
+    /**
+     * The fields of the record to print, all the fields are printed by default.
+     * <p>
+     * The {@code exception} field is printed as configured by {@code exception-output-type}, and the {@code details}
+     * field only if {@code print-details} is enabled.
+     */
+    @ConfigItem
+    Optional<List<QuarkusJsonFormatter.Field>> fields;
+    /**
+     * Static fields added to each record, after the fields of the record.
+     */
+    @ConfigItem
+    Map<String, String> additionalField;
 }
@@ -3,8 +3,6 @@ package io.quarkus.logging.json.runtime;
 import java.util.Optional;
 import java.util.logging.Formatter;
 
-import org.jboss.logmanager.formatters.JsonFormatter;
-
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -14,7 +12,7 @@ public class LoggingJsonRecorder {
         if (!config.enable) {
             return new RuntimeValue<>(Optional.empty());
         }
-        final JsonFormatter formatter = new JsonFormatter();
+        final QuarkusJsonFormatter formatter = new QuarkusJsonFormatter();
         formatter.setPrettyPrint(config.prettyPrint);
         final String dateFormat = config.dateFormat;
         if (!dateFormat.equals("default")) {
@@ -27,6 +25,8 @@ public class LoggingJsonRecorder {
         if (!zoneId.equals("default")) {
             formatter.setZoneId(zoneId);
         }
+        config.fields.ifPresent(formatter::setFields);
+        formatter.setAdditionalFields(config.additionalField);
         return new RuntimeValue<>(Optional.of(formatter));
     }
 }
@@ -0,0 +1,509 @@
+package io.quarkus.logging.json.runtime;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.StructuredFormatter.ExceptionOutputType;
+import org.jboss.logmanager.formatters.StructuredFormatter.Key;
+
+/**
+ * A JSON formatter writing the records straight into a buffer reused by each thread, instead of going through a JSON
+ * generator.
+ * <p>
+ * The records are written with the keys and the layout of the {@link org.jboss.logmanager.formatters.JsonFormatter},
+ * the printed fields can be selected and static fields can be added to each record. The key names are escaped once,
+ * the timestamps are formatted once per millisecond and thread, so formatting a record without exception mostly
+ * allocates the returned string.
+ */
+public final class QuarkusJsonFormatter extends ExtFormatter {
+
+    /**
+     * The fields of a record that can be printed.
+     */
+    public enum Field {
+        TIMESTAMP,
+        SEQUENCE,
+        LOGGER_CLASS_NAME,
+        LOGGER_NAME,
+        LEVEL,
+        MESSAGE,
+        THREAD_NAME,
+        THREAD_ID,
+        MDC,
+        NDC,
+        HOST_NAME,
+        PROCESS_NAME,
+        PROCESS_ID,
+        /**
+         * The exception, detailed or formatted depending on the exception output type.
+         */
+        EXCEPTION,
+        /**
+         * The source class, file, method, line number and module of the record, only printed if the details are.
+         */
+        DETAILS
+    }
+
+    // the buffers growing larger than this are not kept, so that an occasional large record is not retained
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int MAX_CACHED_KEYS = 256;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+    // the MDC keys, escaped and quoted
+    private final Map<String, String> mdcKeys = new ConcurrentHashMap<>();
+    private volatile boolean prettyPrint;
+    private volatile boolean printDetails;
+    private volatile String recordDelimiter = "\n";
+    private volatile ZoneId zoneId = ZoneId.systemDefault();
+    private volatile DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(zoneId);
+    private volatile ExceptionOutputType exceptionOutputType = ExceptionOutputType.DETAILED;
+    private volatile Set<Field> fields = EnumSet.allOf(Field.class);
+    private volatile Map<String, String> additionalFields = Collections.emptyMap();
+    // the additional fields, with the keys escaped and quoted
+    private volatile Map<String, String> quotedAdditionalFields = Collections.emptyMap();
+
+    @Override
+    public String format(ExtLogRecord record) {
+        Buffer buffer = buffers.get();
+        if (buffer.inUse) {
+            // a record logged while another one is formatted, from a message parameter or an exception, gets its own buffer
+            buffer = new Buffer();
+            write(buffer, record);
+            return buffer.builder.toString();
+        }
+        buffer.inUse = true;
+        try {
+            write(buffer, record);
+            return buffer.builder.toString();
+        } finally {
+            buffer.reset();
+            buffer.inUse = false;
+        }
+    }
+
+    private void write(Buffer buffer, ExtLogRecord record) {
+        final Set<Field> fields = this.fields;
+        final JsonWriter writer = buffer.writer;
+        writer.begin(prettyPrint);
+        if (fields.contains(Field.TIMESTAMP)) {
+            writer.add(Key.TIMESTAMP, buffer.timestamp(dateTimeFormatter, record.getMillis()));
+        }
+        if (fields.contains(Field.SEQUENCE)) {
+            writer.add(Key.SEQUENCE, record.getSequenceNumber());
+        }
+        if (fields.contains(Field.LOGGER_CLASS_NAME)) {
+            writer.add(Key.LOGGER_CLASS_NAME, record.getLoggerClassName());
+        }
+        if (fields.contains(Field.LOGGER_NAME)) {
+            writer.add(Key.LOGGER_NAME, record.getLoggerName());
+        }
+        if (fields.contains(Field.LEVEL)) {
+            writer.add(Key.LEVEL, record.getLevel().getName());
+        }
+        if (fields.contains(Field.MESSAGE)) {
+            writer.add(Key.MESSAGE, formatMessage(record));
+        }
+        if (fields.contains(Field.THREAD_NAME)) {
+            writer.add(Key.THREAD_NAME, record.getThreadName());
+        }
+        if (fields.contains(Field.THREAD_ID)) {
+            writer.add(Key.THREAD_ID, record.getThreadID());
+        }
+        if (fields.contains(Field.MDC)) {
+            writer.startObject(Key.MDC.getKey());
+            for (Map.Entry<String, String> entry : record.getMdcCopy().entrySet()) {
+                writer.addQuotedKey(mdcKey(entry.getKey()), entry.getValue());
+            }
+            writer.endObject();
+        }
+        if (fields.contains(Field.NDC)) {
+            writer.add(Key.NDC, record.getNdc());
+        }
+        if (fields.contains(Field.HOST_NAME) && isNotNullOrEmpty(record.getHostName())) {
+            writer.add(Key.HOST_NAME, record.getHostName());
+        }
+        if (fields.contains(Field.PROCESS_NAME) && isNotNullOrEmpty(record.getProcessName())) {
+            writer.add(Key.PROCESS_NAME, record.getProcessName());
+        }
+        if (fields.contains(Field.PROCESS_ID) && record.getProcessId() >= 0) {
+            writer.add(Key.PROCESS_ID, record.getProcessId());
+        }
+        final Throwable thrown = record.getThrown();
+        if (thrown != null && fields.contains(Field.EXCEPTION)) {
+            final ExceptionOutputType exceptionOutputType = this.exceptionOutputType;
+            if (exceptionOutputType != ExceptionOutputType.FORMATTED) {
+                writer.startObject(Key.EXCEPTION.getKey());
+                addException(writer, thrown, new IdentityHashMap<>());
+                writer.endObject();
+            }
+            if (exceptionOutputType != ExceptionOutputType.DETAILED) {
+                final StringWriter stackTrace = new StringWriter();
+                thrown.printStackTrace(new PrintWriter(stackTrace));
+                writer.add(Key.STACK_TRACE, stackTrace.toString());
+            }
+        }
+        if (printDetails && fields.contains(Field.DETAILS)) {
+            writer.add(Key.SOURCE_CLASS_NAME, record.getSourceClassName());
+            writer.add(Key.SOURCE_FILE_NAME, record.getSourceFileName());
+            writer.add(Key.SOURCE_METHOD_NAME, record.getSourceMethodName());
+            writer.add(Key.SOURCE_LINE_NUMBER, record.getSourceLineNumber());
+            writer.add(Key.SOURCE_MODULE_NAME, record.getSourceModuleName());
+            writer.add(Key.SOURCE_MODULE_VERSION, record.getSourceModuleVersion());
+        }
+        for (Map.Entry<String, String> entry : quotedAdditionalFields.entrySet()) {
+            writer.addQuotedKey(entry.getKey(), entry.getValue());
+        }
+        writer.end();
+        final String recordDelimiter = this.recordDelimiter;
+        if (recordDelimiter != null) {
+            buffer.builder.append(recordDelimiter);
+        }
+    }
+
+    private void addException(JsonWriter writer, Throwable throwable, Map<Throwable, Integer> seen) {
+        final Integer seenId = seen.get(throwable);
+        if (seenId != null) {
+            writer.add(Key.EXCEPTION_REFERENCE_ID, seenId);
+            writer.startObject(Key.EXCEPTION_CIRCULAR_REFERENCE.getKey());
+            writer.add(Key.EXCEPTION_MESSAGE, throwable.getMessage());
+            writer.endObject();
+            return;
+        }
+        final int id = seen.size() + 1;
+        seen.put(throwable, id);
+        writer.add(Key.EXCEPTION_REFERENCE_ID, id);
+        writer.add(Key.EXCEPTION_TYPE, throwable.getClass().getName());
+        writer.add(Key.EXCEPTION_MESSAGE, throwable.getMessage());
+
+        writer.startArray(Key.EXCEPTION_FRAMES.getKey());
+        for (StackTraceElement element : throwable.getStackTrace()) {
+            writer.startObject(null);
+            writer.add(Key.EXCEPTION_FRAME_CLASS, element.getClassName());
+            writer.add(Key.EXCEPTION_FRAME_METHOD, element.getMethodName());
+            final int line = element.getLineNumber();
+            if (line >= 0) {
+                writer.add(Key.EXCEPTION_FRAME_LINE, line);
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+
+        final Throwable[] suppressed = throwable.getSuppressed();
+        if (suppressed.length > 0) {
+            writer.startArray(Key.EXCEPTION_SUPPRESSED.getKey());
+            for (Throwable s : suppressed) {
+                writer.startObject(null);
+                addException(writer, s, seen);
+                writer.endObject();
+            }
+            writer.endArray();
+        }
+
+        final Throwable cause = throwable.getCause();
+        if (cause != null) {
+            writer.startObject(Key.EXCEPTION_CAUSED_BY.getKey());
+            writer.startObject(Key.EXCEPTION.getKey());
+            addException(writer, cause, seen);
+            writer.endObject();
+            writer.endObject();
+        }
+    }
+
+    private String mdcKey(String key) {
+        String quoted = mdcKeys.get(key);
+        if (quoted == null) {
+            quoted = quote(key);
+            if (mdcKeys.size() < MAX_CACHED_KEYS) {
+                mdcKeys.put(key, quoted);
+            }
+        }
+        return quoted;
+    }
+
+    @Override
+    public boolean isCallerCalculationRequired() {
+        return printDetails && fields.contains(Field.DETAILS);
+    }
+
+    public boolean isPrettyPrint() {
+        return prettyPrint;
+    }
+
+    public void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+    }
+
+    public boolean isPrintDetails() {
+        return printDetails;
+    }
+
+    public void setPrintDetails(boolean printDetails) {
+        this.printDetails = printDetails;
+    }
+
+    public String getRecordDelimiter() {
+        return recordDelimiter;
+    }
+
+    public void setRecordDelimiter(String recordDelimiter) {
+        this.recordDelimiter = recordDelimiter;
+    }
+
+    public DateTimeFormatter getDateTimeFormatter() {
+        return dateTimeFormatter;
+    }
+
+    public synchronized void setDateFormat(String pattern) {
+        dateTimeFormatter = DateTimeFormatter.ofPattern(pattern).withZone(zoneId);
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public synchronized void setZoneId(String zoneId) {
+        this.zoneId = ZoneId.of(zoneId);
+        dateTimeFormatter = dateTimeFormatter.withZone(this.zoneId);
+    }
+
+    public ExceptionOutputType getExceptionOutputType() {
+        return exceptionOutputType;
+    }
+
+    public void setExceptionOutputType(ExceptionOutputType exceptionOutputType) {
+        this.exceptionOutputType = exceptionOutputType;
+    }
+
+    public Set<Field> getFields() {
+        return Collections.unmodifiableSet(fields);
+    }
+
+    public void setFields(Collection<Field> fields) {
+        this.fields = fields.isEmpty() ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(fields);
+    }
+
+    public Map<String, String> getAdditionalFields() {
+        return additionalFields;
+    }
+
+    /**
+     * Sets the fields added to each record, after the fields of the record.
+     */
+    public synchronized void setAdditionalFields(Map<String, String> additionalFields) {
+        final Map<String, String> quoted = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : additionalFields.entrySet()) {
+            quoted.put(quote(entry.getKey()), entry.getValue());
+        }
+        this.additionalFields = Collections.unmodifiableMap(new LinkedHashMap<>(additionalFields));
+        this.quotedAdditionalFields = quoted;
+    }
+
+    private static String quote(String key) {
+        final StringBuilder builder = new StringBuilder(key.length() + 2).append('"');
+        appendEscaped(builder, key);
+        return builder.append('"').toString();
+    }
+
+    private static boolean isNotNullOrEmpty(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    static void appendEscaped(StringBuilder builder, String value) {
+        final int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            builder.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        builder.append(value, start, length);
+    }
+
+    /**
+     * The state kept by each thread.
+     */
+    private static final class Buffer {
+
+        StringBuilder builder = new StringBuilder(512);
+        JsonWriter writer = new JsonWriter(builder);
+        // whether a record is being formatted by the thread
+        boolean inUse;
+        // the last timestamp formatted by the thread
+        long millis;
+        DateTimeFormatter timestampFormatter;
+        String timestamp;
+
+        String timestamp(DateTimeFormatter formatter, long millis) {
+            if (formatter != timestampFormatter || millis != this.millis) {
+                timestamp = formatter.format(Instant.ofEpochMilli(millis));
+                timestampFormatter = formatter;
+                this.millis = millis;
+            }
+            return timestamp;
+        }
+
+        void reset() {
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                builder = new StringBuilder(512);
+                writer = new JsonWriter(builder);
+            } else {
+                builder.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * Writes the JSON structure, the key names are written as they are.
+     */
+    private static final class JsonWriter {
+
+        private final StringBuilder builder;
+        private boolean pretty;
+        private int depth;
+        // whether the current object or array has no member yet
+        private boolean first;
+
+        JsonWriter(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        void begin(boolean pretty) {
+            this.pretty = pretty;
+            depth = 1;
+            first = true;
+            builder.append('{');
+        }
+
+        void end() {
+            close('}');
+        }
+
+        void add(Key key, String value) {
+            member(key.getKey());
+            if (value == null) {
+                builder.append("null");
+            } else {
+                builder.append('"');
+                appendEscaped(builder, value);
+                builder.append('"');
+            }
+        }
+
+        void add(Key key, long value) {
+            member(key.getKey());
+            builder.append(value);
+        }
+
+        void addQuotedKey(String quotedKey, String value) {
+            separator();
+            builder.append(quotedKey).append(pretty ? ": " : ":");
+            if (value == null) {
+                builder.append("null");
+            } else {
+                builder.append('"');
+                appendEscaped(builder, value);
+                builder.append('"');
+            }
+        }
+
+        void startObject(String key) {
+            open(key, '{');
+        }
+
+        void endObject() {
+            close('}');
+        }
+
+        void startArray(String key) {
+            open(key, '[');
+        }
+
+        void endArray() {
+            close(']');
+        }
+
+        private void open(String key, char c) {
+            if (key == null) {
+                separator();
+            } else {
+                member(key);
+            }
+            builder.append(c);
+            depth++;
+            first = true;
+        }
+
+        private void close(char c) {
+            depth--;
+            if (pretty && !first) {
+                newLine();
+            }
+            builder.append(c);
+            first = false;
+        }
+
+        private void member(String key) {
+            separator();
+            builder.append('"').append(key).append(pretty ? "\": " : "\":");
+        }
+
+        private void separator() {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            if (pretty) {
+                newLine();
+            }
+        }
+
+        private void newLine() {
+            builder.append('\n');
+            for (int i = 0; i < depth; i++) {
+                builder.append("    ");
+            }
+        }
+    }
+}
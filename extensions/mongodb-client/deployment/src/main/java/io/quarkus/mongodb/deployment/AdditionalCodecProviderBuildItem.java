@@ -0,0 +1,21 @@
+package io.quarkus.mongodb.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Registers a codec provider that is not part of the index, typically a generated one.
+ * <p>
+ * These providers are registered after the ones found in the index, but before the POJO codec provider.
+ */
+public final class AdditionalCodecProviderBuildItem extends MultiBuildItem {
+
+    private final String codecProviderClassName;
+
+    public AdditionalCodecProviderBuildItem(String codecProviderClassName) {
+        this.codecProviderClassName = codecProviderClassName;
+    }
+
+    public String getCodecProviderClassName() {
+        return codecProviderClassName;
+    }
+}
@@ -60,10 +60,14 @@ public class MongoClientProcessor {
     }
 
     @BuildStep
-    CodecProviderBuildItem collectCodecProviders(CombinedIndexBuildItem indexBuildItem) {
+    CodecProviderBuildItem collectCodecProviders(CombinedIndexBuildItem indexBuildItem,
+            List<AdditionalCodecProviderBuildItem> additionalCodecProviders) {
         Collection<ClassInfo> codecProviderClasses = indexBuildItem.getIndex()
                 .getAllKnownImplementors(DotName.createSimple(CodecProvider.class.getName()));
         List<String> names = codecProviderClasses.stream().map(ci -> ci.name().toString()).collect(Collectors.toList());
+        for (AdditionalCodecProviderBuildItem additionalCodecProvider : additionalCodecProviders) {
+            names.add(additionalCodecProvider.getCodecProviderClassName());
+        }
         return new CodecProviderBuildItem(names);
     }
 
@@ -0,0 +1,393 @@
+package io.quarkus.mongodb.panache.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.bean.JavaBeanUtil;
+import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.mongodb.panache.codec.PanacheEntityCodec;
+
+/**
+ * Generates a {@link Codec} and its {@link CodecProvider} for an entity or projection class.
+ * <p>
+ * Only classes whose mapping can be computed from the index with the same outcome as the POJO codec are supported:
+ * properties are the public fields and the fields with both a public getter and setter, of a simple, enum, byte array
+ * or {@code List}/{@code Set}/{@code Collection} type. Anything else (discriminators, creators, getters without a
+ * field, generic properties, ...) is left to the POJO codec.
+ */
+class PanacheMongoCodecGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(PanacheMongoCodecGenerator.class);
+
+    static final String CODEC_SUFFIX = "_PanacheCodec";
+    static final String CODEC_PROVIDER_SUFFIX = "_PanacheCodecProvider";
+
+    private static final String ID = "_id";
+
+    private static final DotName DOTNAME_BSON_ID = DotName.createSimple("org.bson.codecs.pojo.annotations.BsonId");
+    private static final DotName DOTNAME_BSON_PROPERTY = DotName
+            .createSimple("org.bson.codecs.pojo.annotations.BsonProperty");
+    private static final DotName DOTNAME_BSON_IGNORE = DotName.createSimple("org.bson.codecs.pojo.annotations.BsonIgnore");
+    private static final List<DotName> UNSUPPORTED_ANNOTATIONS = Arrays.asList(
+            DotName.createSimple("org.bson.codecs.pojo.annotations.BsonDiscriminator"),
+            DotName.createSimple("org.bson.codecs.pojo.annotations.BsonCreator"),
+            DotName.createSimple("org.bson.codecs.pojo.annotations.BsonRepresentation"),
+            DotName.createSimple("org.bson.codecs.pojo.annotations.BsonExtraElements"));
+    private static final List<DotName> COLLECTION_TYPES = Arrays.asList(
+            DotName.createSimple(List.class.getName()),
+            DotName.createSimple(Set.class.getName()),
+            DotName.createSimple(Collection.class.getName()));
+
+    private final IndexView index;
+
+    PanacheMongoCodecGenerator(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * @param propertyMapping the {@code @BsonProperty} mapping inherited from the target entity of a projection
+     * @return the name of the generated codec provider, or null if the class is not supported
+     */
+    String generate(ClassOutput classOutput, ClassInfo classInfo, Map<String, String> propertyMapping) {
+        List<Property> properties = collectProperties(classInfo, propertyMapping);
+        if (properties == null) {
+            LOGGER.debugf("The POJO codec will be used for %s", classInfo.name());
+            return null;
+        }
+
+        String className = classInfo.name().toString();
+        String codecName = className + CODEC_SUFFIX;
+        String providerName = className + CODEC_PROVIDER_SUFFIX;
+        int idIndex = -1;
+        for (int i = 0; i < properties.size(); i++) {
+            if (properties.get(i).name.equals(ID)) {
+                idIndex = i;
+            }
+        }
+
+        try (ClassCreator codec = ClassCreator.builder().classOutput(classOutput).className(codecName)
+                .superClass(PanacheEntityCodec.class).build()) {
+            MethodCreator constructor = codec.getMethodCreator("<init>", void.class, CodecRegistry.class);
+            ResultHandle names = constructor.newArray(String.class, properties.size());
+            ResultHandle types = constructor.newArray(Class.class, properties.size());
+            ResultHandle elementTypes = constructor.newArray(Class.class, properties.size());
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                constructor.writeArrayValue(names, i, constructor.load(property.name));
+                constructor.writeArrayValue(types, i, constructor.loadClass(property.type.name().toString()));
+                if (property.elementType != null) {
+                    constructor.writeArrayValue(elementTypes, i,
+                            constructor.loadClass(property.elementType.name().toString()));
+                }
+            }
+            constructor.invokeSpecialMethod(
+                    MethodDescriptor.ofConstructor(PanacheEntityCodec.class, CodecRegistry.class, Class.class,
+                            String[].class, Class[].class, Class[].class, int.class),
+                    constructor.getThis(), constructor.getMethodParam(0), constructor.loadClass(className), names, types,
+                    elementTypes, constructor.load(idIndex));
+            constructor.returnValue(null);
+
+            MethodCreator newInstance = codec.getMethodCreator("newInstance", Object.class)
+                    .setModifiers(Modifier.PROTECTED);
+            newInstance.returnValue(newInstance.newInstance(MethodDescriptor.ofConstructor(className)));
+
+            MethodCreator get = codec.getMethodCreator("get", Object.class, Object.class, int.class)
+                    .setModifiers(Modifier.PROTECTED);
+            ResultHandle getEntity = get.checkCast(get.getMethodParam(0), className);
+            BytecodeCreator getCase = get;
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                BranchResult branch = getCase.ifIntegerEqual(get.getMethodParam(1), getCase.load(i));
+                BytecodeCreator matched = branch.trueBranch();
+                ResultHandle value;
+                if (property.getter != null) {
+                    value = matched.invokeVirtualMethod(property.getter, getEntity);
+                } else {
+                    value = matched.readInstanceField(property.field, getEntity);
+                }
+                matched.returnValue(box(matched, property.type, value));
+                getCase = branch.falseBranch();
+            }
+            getCase.throwException(IllegalArgumentException.class, "Unknown property index");
+
+            MethodCreator set = codec.getMethodCreator("set", void.class, Object.class, int.class, Object.class)
+                    .setModifiers(Modifier.PROTECTED);
+            ResultHandle setEntity = set.checkCast(set.getMethodParam(0), className);
+            BytecodeCreator setCase = set;
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                BranchResult branch = setCase.ifIntegerEqual(set.getMethodParam(1), setCase.load(i));
+                BytecodeCreator matched = branch.trueBranch();
+                ResultHandle value = unbox(matched, property.type, set.getMethodParam(2));
+                if (property.setter != null) {
+                    matched.invokeVirtualMethod(property.setter, setEntity, value);
+                } else {
+                    matched.writeInstanceField(property.field, setEntity, value);
+                }
+                matched.returnValue(null);
+                setCase = branch.falseBranch();
+            }
+            setCase.throwException(IllegalArgumentException.class, "Unknown property index");
+        }
+
+        try (ClassCreator provider = ClassCreator.builder().classOutput(classOutput).className(providerName)
+                .interfaces(CodecProvider.class).build()) {
+            MethodCreator get = provider.getMethodCreator("get", Codec.class, Class.class, CodecRegistry.class);
+            ResultHandle matches = get.invokeVirtualMethod(MethodDescriptor.ofMethod(Object.class, "equals", boolean.class,
+                    Object.class), get.loadClass(className), get.getMethodParam(0));
+            BytecodeCreator matched = get.ifNonZero(matches).trueBranch();
+            matched.returnValue(matched.newInstance(MethodDescriptor.ofConstructor(codecName, CodecRegistry.class),
+                    get.getMethodParam(1)));
+            get.returnValue(get.loadNull());
+        }
+        return providerName;
+    }
+
+    private List<Property> collectProperties(ClassInfo classInfo, Map<String, String> propertyMapping) {
+        if (Modifier.isAbstract(classInfo.flags()) || Modifier.isInterface(classInfo.flags())
+                || (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL && !Modifier.isPublic(classInfo.flags()))) {
+            return null;
+        }
+        MethodInfo constructor = classInfo.method("<init>");
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return null;
+        }
+
+        // superclasses first, so their properties come first in the document
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        ClassInfo current = classInfo;
+        while (current != null) {
+            for (DotName unsupported : UNSUPPORTED_ANNOTATIONS) {
+                if (current.annotations().containsKey(unsupported)) {
+                    return null;
+                }
+            }
+            hierarchy.add(0, current);
+            DotName superName = current.superName();
+            if (superName == null || superName.equals(JandexUtil.DOTNAME_OBJECT)) {
+                break;
+            }
+            current = index.getClassByName(superName);
+            if (current == null) {
+                // we cannot compute the properties of a class outside of the index
+                return null;
+            }
+        }
+
+        Map<String, MethodInfo> getters = new HashMap<>();
+        Map<String, MethodInfo> setters = new HashMap<>();
+        for (ClassInfo clazz : hierarchy) {
+            for (MethodInfo method : clazz.methods()) {
+                if (Modifier.isStatic(method.flags()) || !Modifier.isPublic(method.flags())) {
+                    continue;
+                }
+                String name = method.name();
+                if (method.parameters().isEmpty() && method.returnType().kind() != Type.Kind.VOID) {
+                    if (name.startsWith("get") && name.length() > 3) {
+                        getters.put(JavaBeanUtil.decapitalize(name.substring(3)), method);
+                    } else if (name.startsWith("is") && name.length() > 2
+                            && method.returnType().equals(PrimitiveType.BOOLEAN)) {
+                        getters.put(JavaBeanUtil.decapitalize(name.substring(2)), method);
+                    }
+                } else if (method.parameters().size() == 1 && name.startsWith("set") && name.length() > 3) {
+                    setters.put(JavaBeanUtil.decapitalize(name.substring(3)), method);
+                }
+            }
+        }
+
+        Map<String, Property> properties = new LinkedHashMap<>();
+        boolean annotatedId = false;
+        for (ClassInfo clazz : hierarchy) {
+            for (FieldInfo field : clazz.fields()) {
+                if (Modifier.isStatic(field.flags())) {
+                    continue;
+                }
+                if (Modifier.isTransient(field.flags())) {
+                    return null;
+                }
+                MethodInfo getter = getters.remove(field.name());
+                MethodInfo setter = setters.remove(field.name());
+                if (field.hasAnnotation(DOTNAME_BSON_IGNORE)) {
+                    continue;
+                }
+                for (DotName unsupported : UNSUPPORTED_ANNOTATIONS) {
+                    if (field.hasAnnotation(unsupported)) {
+                        return null;
+                    }
+                }
+                if (!Modifier.isPublic(field.flags())) {
+                    if (getter == null && setter == null) {
+                        // not a property for the POJO codec
+                        continue;
+                    } else if (getter == null || setter == null) {
+                        return null;
+                    }
+                } else if (setter == null && Modifier.isFinal(field.flags())) {
+                    return null;
+                }
+                if ((getter != null && hasMappingAnnotation(getter)) || (setter != null && hasMappingAnnotation(setter))) {
+                    return null;
+                }
+
+                Property property = new Property(field, getter, setter);
+                if (!property.isSupported()) {
+                    return null;
+                }
+                AnnotationInstance bsonProperty = field.annotation(DOTNAME_BSON_PROPERTY);
+                AnnotationValue bsonPropertyValue = bsonProperty != null ? bsonProperty.value() : null;
+                if (field.hasAnnotation(DOTNAME_BSON_ID)) {
+                    property.name = ID;
+                    annotatedId = true;
+                } else if (bsonPropertyValue != null && !bsonPropertyValue.asString().isEmpty()) {
+                    property.name = bsonPropertyValue.asString();
+                } else if (propertyMapping.containsKey(field.name())) {
+                    property.name = propertyMapping.get(field.name());
+                } else {
+                    property.name = field.name();
+                }
+                properties.put(field.name(), property);
+            }
+        }
+
+        // only the getters and setters of the fields are supported
+        for (MethodInfo getter : getters.values()) {
+            if (!getter.name().equals("getClass") && !getter.hasAnnotation(DOTNAME_BSON_IGNORE)) {
+                return null;
+            }
+        }
+
+        if (!annotatedId) {
+            // same convention as the POJO codec: '_id' then 'id' is the id property
+            Property id = properties.containsKey(ID) ? properties.get(ID) : properties.get("id");
+            if (id != null) {
+                id.name = ID;
+            }
+        }
+        Map<String, Property> byName = new HashMap<>();
+        for (Property property : properties.values()) {
+            if (byName.put(property.name, property) != null) {
+                // duplicate document field
+                return null;
+            }
+        }
+        return new ArrayList<>(properties.values());
+    }
+
+    private static boolean hasMappingAnnotation(MethodInfo method) {
+        return method.hasAnnotation(DOTNAME_BSON_PROPERTY) || method.hasAnnotation(DOTNAME_BSON_ID)
+                || method.hasAnnotation(DOTNAME_BSON_IGNORE);
+    }
+
+    private static ResultHandle box(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return value;
+        }
+        String wrapper = wrapperName(type.asPrimitiveType());
+        return creator.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, type.name().toString()),
+                value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator creator, Type type, ResultHandle value) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return creator.checkCast(value, type.name().toString());
+        }
+        String wrapper = wrapperName(type.asPrimitiveType());
+        String primitive = type.name().toString();
+        return creator.invokeVirtualMethod(MethodDescriptor.ofMethod(wrapper, primitive + "Value", primitive),
+                creator.checkCast(value, wrapper));
+    }
+
+    private static String wrapperName(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return Boolean.class.getName();
+            case BYTE:
+                return Byte.class.getName();
+            case CHAR:
+                return Character.class.getName();
+            case SHORT:
+                return Short.class.getName();
+            case INT:
+                return Integer.class.getName();
+            case LONG:
+                return Long.class.getName();
+            case FLOAT:
+                return Float.class.getName();
+            case DOUBLE:
+                return Double.class.getName();
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type " + type);
+        }
+    }
+
+    private static final class Property {
+        final FieldInfo field;
+        final MethodInfo getter;
+        final MethodInfo setter;
+        final Type type;
+        Type elementType;
+        String name;
+
+        Property(FieldInfo field, MethodInfo getter, MethodInfo setter) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+            this.type = field.type();
+        }
+
+        boolean isSupported() {
+            if (getter != null && !getter.returnType().equals(type)) {
+                return false;
+            }
+            if (setter != null && !setter.parameters().get(0).equals(type)) {
+                return false;
+            }
+            switch (type.kind()) {
+                case PRIMITIVE:
+                case CLASS:
+                    return true;
+                case ARRAY:
+                    return type.asArrayType().dimensions() == 1
+                            && type.asArrayType().component().equals(PrimitiveType.BYTE);
+                case PARAMETERIZED_TYPE:
+                    if (COLLECTION_TYPES.contains(type.name())
+                            && type.asParameterizedType().arguments().size() == 1
+                            && type.asParameterizedType().arguments().get(0).kind() == Type.Kind.CLASS) {
+                        elementType = type.asParameterizedType().arguments().get(0);
+                        return true;
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.builder.BuildException;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -40,12 +41,15 @@ import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.jackson.spi.JacksonModuleBuildItem;
 import io.quarkus.jsonb.spi.JsonbDeserializerBuildItem;
 import io.quarkus.jsonb.spi.JsonbSerializerBuildItem;
+import io.quarkus.mongodb.deployment.AdditionalCodecProviderBuildItem;
 import io.quarkus.mongodb.deployment.MongoClientNameBuildItem;
 import io.quarkus.mongodb.deployment.MongoUnremovableClientsBuildItem;
 import io.quarkus.mongodb.panache.MongoEntity;
@@ -396,6 +400,41 @@ public class PanacheMongoResourceProcessor {
         }
     }
 
+    @BuildStep
+    void generateCodecs(CombinedIndexBuildItem index,
+            List<PropertyMappingClassBuildStep> propertyMappingClasses,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<AdditionalCodecProviderBuildItem> codecProviders) {
+        // entities and projections, with the property mapping a projection inherits from its entity
+        Map<String, Map<String, String>> mappedClasses = new HashMap<>();
+        for (PropertyMappingClassBuildStep classToMap : propertyMappingClasses) {
+            if (classToMap.getAliasClassName() != null) {
+                Map<String, String> classPropertyMapping = new HashMap<>();
+                ClassInfo target = index.getIndex().getClassByName(DotName.createSimple(classToMap.getClassName()));
+                if (target != null) {
+                    extractMappings(classPropertyMapping, target, index);
+                }
+                mappedClasses.put(classToMap.getAliasClassName(), classPropertyMapping);
+            }
+            mappedClasses.putIfAbsent(classToMap.getClassName(), Collections.emptyMap());
+        }
+
+        PanacheMongoCodecGenerator generator = new PanacheMongoCodecGenerator(index.getIndex());
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        for (Map.Entry<String, Map<String, String>> mappedClass : mappedClasses.entrySet()) {
+            ClassInfo classInfo = index.getIndex().getClassByName(DotName.createSimple(mappedClass.getKey()));
+            // ID types of the repositories are also listed, they already have a codec
+            if (classInfo == null || mappedClass.getKey().startsWith("java.")
+                    || mappedClass.getKey().startsWith("org.bson.")) {
+                continue;
+            }
+            String codecProvider = generator.generate(classOutput, classInfo, mappedClass.getValue());
+            if (codecProvider != null) {
+                codecProviders.produce(new AdditionalCodecProviderBuildItem(codecProvider));
+            }
+        }
+    }
+
     private void extractMappings(Map<String, String> classPropertyMapping, ClassInfo target, CombinedIndexBuildItem index) {
         for (FieldInfo fieldInfo : target.fields()) {
             if (fieldInfo.hasAnnotation(DOTNAME_BSON_PROPERTY)) {
@@ -0,0 +1,34 @@
+package io.quarkus.mongodb.panache.codec;
+
+import java.util.List;
+
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+public class CodecBook extends PanacheMongoEntity {
+
+    public enum Status {
+        AVAILABLE,
+        BORROWED
+    }
+
+    @BsonProperty("bookTitle")
+    public String title;
+    public int pages;
+    public Status status;
+    public List<String> categories;
+    @BsonIgnore
+    public String transientNote;
+
+    private String author;
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.mongodb.panache.codec;
+
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+
+public class CodecBookWithComputedProperty extends PanacheMongoEntity {
+
+    public String title;
+
+    // not backed by a field: only the POJO codec supports it
+    public String getUpperCaseTitle() {
+        return title == null ? null : title.toUpperCase();
+    }
+}
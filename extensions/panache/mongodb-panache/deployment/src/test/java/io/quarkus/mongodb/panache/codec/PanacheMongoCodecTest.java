@@ -0,0 +1,71 @@
+package io.quarkus.mongodb.panache.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+class PanacheMongoCodecTest {
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CodecBook.class, CodecBookWithComputedProperty.class)
+                    .addAsResource("application.properties"));
+
+    @Test
+    void testGeneratedCodec() {
+        CodecRegistry registry = CodecBook.mongoDatabase().getCodecRegistry();
+        Codec<CodecBook> codec = registry.get(CodecBook.class);
+        assertTrue(codec instanceof PanacheEntityCodec);
+
+        CodecBook book = new CodecBook();
+        book.title = "Quarkus in Action";
+        book.pages = 350;
+        book.status = CodecBook.Status.AVAILABLE;
+        book.categories = Arrays.asList("java", "cloud");
+        book.transientNote = "not stored";
+        book.setAuthor("Stef");
+
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), book,
+                EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        assertNotNull(book.id);
+        assertEquals("_id", document.getFirstKey());
+        assertEquals("Quarkus in Action", document.getString("bookTitle").getValue());
+        assertEquals("AVAILABLE", document.getString("status").getValue());
+        assertEquals("Stef", document.getString("author").getValue());
+        assertFalse(document.containsKey("transientNote"));
+
+        CodecBook decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals(book.id, decoded.id);
+        assertEquals("Quarkus in Action", decoded.title);
+        assertEquals(350, decoded.pages);
+        assertEquals(CodecBook.Status.AVAILABLE, decoded.status);
+        assertEquals(Arrays.asList("java", "cloud"), decoded.categories);
+        assertEquals("Stef", decoded.getAuthor());
+        assertNull(decoded.transientNote);
+    }
+
+    @Test
+    void testUnsupportedEntityUsesPojoCodec() {
+        CodecRegistry registry = CodecBookWithComputedProperty.mongoDatabase().getCodecRegistry();
+        assertFalse(registry.get(CodecBookWithComputedProperty.class) instanceof PanacheEntityCodec);
+    }
+}
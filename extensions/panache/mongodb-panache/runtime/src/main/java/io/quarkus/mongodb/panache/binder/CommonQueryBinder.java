@@ -24,10 +24,6 @@ final class CommonQueryBinder {
     private CommonQueryBinder() {
     }
 
-    static String replace(String query, String oldChars, Object value) {
-        return query.replace(oldChars, escape(value));
-    }
-
     static String escape(Object value) {
         if (value == null) {
             return "null";
@@ -7,11 +7,9 @@ import io.quarkus.panacheql.internal.HqlParserBaseVisitor;
 
 class MongoParserVisitor extends HqlParserBaseVisitor<String> {
     private Map<String, String> replacementMap;
-    private Map<String, Object> parameterMaps;
 
-    public MongoParserVisitor(Map<String, String> replacementMap, Map<String, Object> parameterMaps) {
+    public MongoParserVisitor(Map<String, String> replacementMap) {
         this.replacementMap = replacementMap;
-        this.parameterMaps = parameterMaps;
     }
 
     @Override
@@ -54,6 +52,11 @@ class MongoParserVisitor extends HqlParserBaseVisitor<String> {
 
     @Override
     public String visitLikePredicate(HqlParser.LikePredicateContext ctx) {
+        if (ctx.expression(1) instanceof HqlParser.ParameterExpressionContext) {
+            // JavaScript regex parameters like '/.*/.*' are detected at bind time
+            return ctx.expression(0).accept(this) + ":{'$regex':"
+                    + QueryTemplate.regexParameter(ctx.expression(1).getText()) + "}";
+        }
         String parameter = ctx.expression(1).accept(this);
         if (parameter.indexOf('/') == 1 && parameter.lastIndexOf('/') > 1) {
             // In case we have something like '/.*/.*' we are in a JavaScript regex so we must unescape the parameter.
@@ -92,13 +95,7 @@ class MongoParserVisitor extends HqlParserBaseVisitor<String> {
     @Override
     public String visitParameterExpression(HqlParser.ParameterExpressionContext ctx) {
         // this will match parameters used by PanacheQL : '?1' for index based or ':key' for named one.
-        if (parameterMaps.containsKey(ctx.getText())) {
-            Object value = parameterMaps.get(ctx.getText());
-            return CommonQueryBinder.escape(value);
-        } else {
-            // we return the parameter to avoid an exception but the query will be invalid
-            return ctx.getText();
-        }
+        return QueryTemplate.parameter(ctx.getText());
     }
 
     @Override
@@ -1,26 +1,80 @@
 package io.quarkus.mongodb.panache.binder;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.bson.BsonDocument;
 
 public class NativeQueryBinder {
 
-    public static String bindQuery(String query, Object[] params) {
-        String bindQuery = query;
-        for (int i = 1; i <= params.length; i++) {
-            String bindParamsKey = "?" + i;
-            bindQuery = CommonQueryBinder.replace(bindQuery, bindParamsKey, params[i - 1]);
-        }
+    public static BsonDocument bindQuery(String query, Object[] params) {
+        return QueryTemplate.get("native?" + query, () -> template(query, Collections.emptySet())).bind(params);
+    }
 
-        return bindQuery;
+    public static BsonDocument bindQuery(String query, Map<String, Object> params) {
+        // the parameter names are part of the key as only them are parameters inside the query
+        Set<String> names = new TreeSet<>(params.keySet());
+        return QueryTemplate.get("native:" + names + query, () -> template(query, names)).bind(params);
     }
 
-    public static String bindQuery(String query, Map<String, Object> params) {
-        String bindQuery = query;
-        for (Map.Entry entry : params.entrySet()) {
-            String bindParamsKey = ":" + entry.getKey();
-            bindQuery = CommonQueryBinder.replace(bindQuery, bindParamsKey, entry.getValue());
-        }
+    public static BsonDocument bindUpdate(String update, Object[] params) {
+        return QueryTemplate.get("update?" + update,
+                () -> QueryTemplate.update(template(update, Collections.emptySet()))).bind(params);
+    }
+
+    public static BsonDocument bindUpdate(String update, Map<String, Object> params) {
+        Set<String> names = new TreeSet<>(params.keySet());
+        return QueryTemplate.get("update:" + names + update,
+                () -> QueryTemplate.update(template(update, names))).bind(params);
+    }
 
-        return bindQuery;
+    /**
+     * Replaces the '?1' index based parameters and the ':key' named ones by parameter markers, except inside strings.
+     */
+    static String template(String query, Set<String> names) {
+        StringBuilder template = new StringBuilder(query.length());
+        char quote = 0;
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                template.append(c);
+                if (c == '\\' && i + 1 < query.length()) {
+                    template.append(query.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                i++;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                template.append(c);
+                i++;
+            } else if (c == '?' && i + 1 < query.length() && Character.isDigit(query.charAt(i + 1))) {
+                int end = i + 1;
+                while (end < query.length() && Character.isDigit(query.charAt(end))) {
+                    end++;
+                }
+                template.append(QueryTemplate.parameter(query.substring(i, end)));
+                i = end;
+            } else if (c == ':') {
+                int end = i + 1;
+                while (end < query.length() && Character.isJavaIdentifierPart(query.charAt(end))) {
+                    end++;
+                }
+                if (end > i + 1 && names.contains(query.substring(i + 1, end))) {
+                    template.append(QueryTemplate.parameter(query.substring(i, end)));
+                    i = end;
+                } else {
+                    template.append(c);
+                    i++;
+                }
+            } else {
+                template.append(c);
+                i++;
+            }
+        }
+        return template.toString();
     }
 }
@@ -1,10 +1,10 @@
 package io.quarkus.mongodb.panache.binder;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.bson.BsonDocument;
 
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
 import io.quarkus.panacheql.internal.HqlLexer;
@@ -13,46 +13,45 @@ import io.quarkus.panacheql.internal.HqlParserBaseVisitor;
 
 public class PanacheQlQueryBinder {
 
-    public static String bindQuery(Class<?> clazz, String query, Object[] params) {
-        Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+    public static BsonDocument bindQuery(Class<?> clazz, String query, Object[] params) {
+        return template(clazz, query, params.length, false).bind(params);
+    }
 
-        //shorthand query
-        if (params.length == 1 && query.indexOf('?') == -1) {
-            return "{'" + replaceField(query, replacementMap) + "':" + CommonQueryBinder.escape(params[0]) + "}";
-        }
-
-        //classic query
-        Map<String, Object> parameterMaps = new HashMap<>();
-        for (int i = 1; i <= params.length; i++) {
-            String bindParamsKey = "?" + i;
-            parameterMaps.put(bindParamsKey, params[i - 1]);
-        }
-
-        return prepareQuery(query, replacementMap, parameterMaps);
+    public static BsonDocument bindQuery(Class<?> clazz, String query, Map<String, Object> params) {
+        return template(clazz, query, -1, false).bind(params);
     }
 
-    public static String bindQuery(Class<?> clazz, String query, Map<String, Object> params) {
-        Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+    public static BsonDocument bindUpdate(Class<?> clazz, String query, Object[] params) {
+        return template(clazz, query, params.length, true).bind(params);
+    }
 
-        Map<String, Object> parameterMaps = new HashMap<>();
-        for (Map.Entry<String, Object> entry : params.entrySet()) {
-            String bindParamsKey = ":" + entry.getKey();
-            parameterMaps.put(bindParamsKey, entry.getValue());
-        }
+    public static BsonDocument bindUpdate(Class<?> clazz, String query, Map<String, Object> params) {
+        return template(clazz, query, -1, true).bind(params);
+    }
 
-        return prepareQuery(query, replacementMap, parameterMaps);
+    private static QueryTemplate template(Class<?> clazz, String query, int paramCount, boolean update) {
+        //shorthand query
+        boolean shorthand = paramCount == 1 && query.indexOf('?') == -1;
+        String key = (update ? "update" : "query") + (shorthand ? "=" : "") + clazz.getName() + '#' + query;
+        return QueryTemplate.get(key, () -> {
+            Map<String, String> replacementMap = MongoPropertyUtil.getReplacementMap(clazz);
+            String template = shorthand
+                    ? "{'" + replaceField(query, replacementMap) + "':" + QueryTemplate.parameter("?1") + "}"
+                    : prepareQuery(query, replacementMap);
+            return update ? QueryTemplate.update(template) : template;
+        });
     }
 
     private static String replaceField(String field, Map<String, String> replacementMap) {
         return replacementMap.getOrDefault(field, field);
     }
 
-    private static String prepareQuery(String query, Map<String, String> replacementMap, Map<String, Object> parameterMaps) {
+    private static String prepareQuery(String query, Map<String, String> replacementMap) {
         HqlLexer lexer = new HqlLexer(CharStreams.fromString(query));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         HqlParser parser = new HqlParser(tokens);
         HqlParser.PredicateContext predicate = parser.predicate();
-        HqlParserBaseVisitor<String> visitor = new MongoParserVisitor(replacementMap, parameterMaps);
+        HqlParserBaseVisitor<String> visitor = new MongoParserVisitor(replacementMap);
         return "{" + predicate.accept(visitor) + "}";
     }
 }
@@ -0,0 +1,292 @@
+package io.quarkus.mongodb.panache.binder;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+/**
+ * A query parsed once into a BSON tree where the parameters are slots.
+ * <p>
+ * Binding a template fills the slots with the BSON values of the parameters, so no value is formatted as JSON and the
+ * query is not parsed again. Templates are cached by the binders, keyed by the query string.
+ */
+final class QueryTemplate {
+
+    private static final String PARAMETER_MARKER = "__panacheParameter";
+    private static final String REGEX_PARAMETER_MARKER = "__panacheRegexParameter";
+    // don't let applications building queries with inlined values fill the memory
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final Map<String, QueryTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final Node root;
+
+    private QueryTemplate(String json) {
+        this.root = node(BsonDocument.parse(json));
+    }
+
+    static QueryTemplate get(String key, Supplier<String> json) {
+        QueryTemplate template = TEMPLATES.get(key);
+        if (template == null) {
+            template = new QueryTemplate(json.get());
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+                TEMPLATES.putIfAbsent(key, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * @return the JSON to write in place of the parameter inside the query
+     */
+    static String parameter(String name) {
+        return "{'" + PARAMETER_MARKER + "':'" + name + "'}";
+    }
+
+    /**
+     * @return the JSON to write in place of a parameter that can be a JavaScript regular expression like
+     *         <code>/^a.*&#47;i</code>
+     */
+    static String regexParameter(String name) {
+        return "{'" + REGEX_PARAMETER_MARKER + "':'" + name + "'}";
+    }
+
+    /**
+     * As update document needs a <code>$set</code> operator we add it if needed.
+     */
+    static String update(String json) {
+        return json.contains("$set") ? json : "{'$set':" + json + "}";
+    }
+
+    BsonDocument bind(Object[] params) {
+        return root.bind(params, null).asDocument();
+    }
+
+    BsonDocument bind(Map<String, Object> params) {
+        return root.bind(null, params).asDocument();
+    }
+
+    private static Node node(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            if (document.size() == 1 && document.containsKey(PARAMETER_MARKER)) {
+                return new ParameterNode(document.getString(PARAMETER_MARKER).getValue(), false);
+            }
+            if (document.size() == 1 && document.containsKey(REGEX_PARAMETER_MARKER)) {
+                return new ParameterNode(document.getString(REGEX_PARAMETER_MARKER).getValue(), true);
+            }
+            String[] keys = new String[document.size()];
+            Node[] values = new Node[document.size()];
+            int i = 0;
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = node(entry.getValue());
+                i++;
+            }
+            return new DocumentNode(keys, values);
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            Node[] values = new Node[array.size()];
+            for (int i = 0; i < array.size(); i++) {
+                values[i] = node(array.get(i));
+            }
+            return new ArrayNode(values);
+        }
+        return new ConstantNode(value);
+    }
+
+    static BsonValue toBsonValue(Object value) {
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        if (value instanceof String) {
+            return new BsonString((String) value);
+        }
+        if (value instanceof Collection || value.getClass().isArray()) {
+            BsonArray array = new BsonArray();
+            addAll(array, value);
+            return array;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return new BsonInt32(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return new BsonInt64((Long) value);
+        }
+        if (value instanceof BigDecimal) {
+            return new BsonDecimal128(new Decimal128((BigDecimal) value));
+        }
+        if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            return bigInteger.bitLength() < Long.SIZE ? new BsonInt64(bigInteger.longValue())
+                    : new BsonDecimal128(new Decimal128(new BigDecimal(bigInteger)));
+        }
+        if (value instanceof Number) {
+            return new BsonDouble(((Number) value).doubleValue());
+        }
+        if (value instanceof Boolean) {
+            return BsonBoolean.valueOf((Boolean) value);
+        }
+        if (value instanceof Date) {
+            return new BsonDateTime(((Date) value).getTime());
+        }
+        if (value instanceof LocalDate) {
+            return new BsonDateTime(((LocalDate) value).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli());
+        }
+        if (value instanceof LocalDateTime) {
+            return new BsonDateTime(((LocalDateTime) value).toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        if (value instanceof Instant) {
+            return new BsonDateTime(((Instant) value).toEpochMilli());
+        }
+        if (value instanceof UUID) {
+            return new BsonBinary((UUID) value);
+        }
+        if (value instanceof ObjectId) {
+            return new BsonObjectId((ObjectId) value);
+        }
+        return new BsonString(value.toString());
+    }
+
+    private static void addAll(BsonArray array, Object values) {
+        if (values instanceof Collection) {
+            for (Object value : (Collection<?>) values) {
+                array.add(toBsonValue(value));
+            }
+        } else {
+            int length = Array.getLength(values);
+            for (int i = 0; i < length; i++) {
+                array.add(toBsonValue(Array.get(values, i)));
+            }
+        }
+    }
+
+    private interface Node {
+        BsonValue bind(Object[] positional, Map<String, Object> named);
+    }
+
+    private static final class ConstantNode implements Node {
+        private final BsonValue value;
+
+        ConstantNode(BsonValue value) {
+            this.value = value;
+        }
+
+        @Override
+        public BsonValue bind(Object[] positional, Map<String, Object> named) {
+            return value;
+        }
+    }
+
+    private static final class DocumentNode implements Node {
+        private final String[] keys;
+        private final Node[] values;
+
+        DocumentNode(String[] keys, Node[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        @Override
+        public BsonValue bind(Object[] positional, Map<String, Object> named) {
+            BsonDocument document = new BsonDocument();
+            for (int i = 0; i < keys.length; i++) {
+                document.append(keys[i], values[i].bind(positional, named));
+            }
+            return document;
+        }
+    }
+
+    private static final class ArrayNode implements Node {
+        private final Node[] values;
+
+        ArrayNode(Node[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public BsonValue bind(Object[] positional, Map<String, Object> named) {
+            BsonArray array = new BsonArray();
+            for (Node node : values) {
+                if (node instanceof ParameterNode) {
+                    Object value = ((ParameterNode) node).value(positional, named);
+                    if (value instanceof Collection || (value != null && value.getClass().isArray())) {
+                        // used like '$in': [?1], the elements are inlined inside the array
+                        addAll(array, value);
+                        continue;
+                    }
+                }
+                array.add(node.bind(positional, named));
+            }
+            return array;
+        }
+    }
+
+    private static final class ParameterNode implements Node {
+        private final String name;
+        private final String key;
+        private final int index;
+        private final boolean regex;
+
+        ParameterNode(String name, boolean regex) {
+            // '?1' for index based parameters or ':key' for named ones
+            this.name = name;
+            this.key = name.substring(1);
+            this.index = name.charAt(0) == '?' ? Integer.parseInt(key) - 1 : -1;
+            this.regex = regex;
+        }
+
+        Object value(Object[] positional, Map<String, Object> named) {
+            if (index >= 0 && positional != null && index < positional.length) {
+                return positional[index];
+            }
+            if (index < 0 && named != null && named.containsKey(key)) {
+                return named.get(key);
+            }
+            throw new PanacheQueryException("No value bound for the query parameter " + name);
+        }
+
+        @Override
+        public BsonValue bind(Object[] positional, Map<String, Object> named) {
+            Object value = value(positional, named);
+            if (regex && value instanceof String) {
+                String pattern = (String) value;
+                int end = pattern.lastIndexOf('/');
+                if (pattern.startsWith("/") && end > 0) {
+                    // a JavaScript regular expression like /^a.*/i
+                    return new BsonRegularExpression(pattern.substring(1, end), pattern.substring(end + 1));
+                }
+            }
+            return toBsonValue(value);
+        }
+    }
+}
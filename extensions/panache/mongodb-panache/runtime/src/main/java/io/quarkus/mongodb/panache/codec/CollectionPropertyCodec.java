@@ -0,0 +1,63 @@
+package io.quarkus.mongodb.panache.codec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Stores a {@code List}, {@code Set} or {@code Collection} property as a BSON array, delegating its elements to the
+ * codec of the element type.
+ */
+final class CollectionPropertyCodec implements Codec<Object> {
+
+    private final Class<?> type;
+    private final Codec<Object> elementCodec;
+
+    CollectionPropertyCodec(Class<?> type, Codec<Object> elementCodec) {
+        this.type = type;
+        this.elementCodec = elementCodec;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (Object element : (Collection<?>) value) {
+            if (element == null) {
+                writer.writeNull();
+            } else {
+                encoderContext.encodeWithChildContext(elementCodec, writer, element);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        Collection<Object> collection = Set.class.isAssignableFrom(type) ? new HashSet<>() : new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                collection.add(null);
+            } else {
+                collection.add(decoderContext.decodeWithChildContext(elementCodec, reader));
+            }
+        }
+        reader.readEndArray();
+        return collection;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<Object> getEncoderClass() {
+        return (Class<Object>) type;
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.mongodb.panache.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Stores enum values by name, like the POJO codec does.
+ */
+final class EnumPropertyCodec<E extends Enum<E>> implements Codec<E> {
+
+    private final Class<E> type;
+
+    EnumPropertyCodec(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, E value, EncoderContext encoderContext) {
+        writer.writeString(value.name());
+    }
+
+    @Override
+    public E decode(BsonReader reader, DecoderContext decoderContext) {
+        return Enum.valueOf(type, reader.readString());
+    }
+
+    @Override
+    public Class<E> getEncoderClass() {
+        return type;
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.mongodb.panache.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+
+/**
+ * Base class of the {@link Codec}s generated at build time for MongoDB with Panache entities and projections.
+ * <p>
+ * Generated subclasses access the properties directly by their index inside the {@code names} array, so no reflection
+ * is involved when encoding or decoding a document. The mapping follows the one of the POJO codec: the id property is
+ * written first as {@code _id}, null values are not written and unknown document fields are skipped.
+ */
+public abstract class PanacheEntityCodec<T> implements Codec<T> {
+
+    private final CodecRegistry registry;
+    private final Class<T> type;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final Codec<Object>[] codecs;
+    private final Map<String, Integer> indexes;
+    private final int idIndex;
+
+    /**
+     * @param registry the registry used to lookup the codecs of the property types
+     * @param type the entity or projection class
+     * @param names the document field names of the properties
+     * @param types the types of the properties
+     * @param elementTypes the element types of the collection properties, {@code null} for the other properties
+     * @param idIndex the index of the id property, or -1 if there is none
+     */
+    @SuppressWarnings("unchecked")
+    protected PanacheEntityCodec(CodecRegistry registry, Class<T> type, String[] names, Class<?>[] types,
+            Class<?>[] elementTypes, int idIndex) {
+        this.registry = registry;
+        this.type = type;
+        this.names = names;
+        this.types = types;
+        this.idIndex = idIndex;
+        this.codecs = new Codec[names.length];
+        this.indexes = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+            if (elementTypes[i] != null) {
+                codecs[i] = new CollectionPropertyCodec(types[i], codecFor(elementTypes[i]));
+            } else {
+                codecs[i] = codecFor(types[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Codec<Object> codecFor(Class<?> propertyType) {
+        if (propertyType.isEnum()) {
+            return new EnumPropertyCodec(propertyType);
+        }
+        return (Codec<Object>) registry.get(box(propertyType));
+    }
+
+    /**
+     * @return a new instance of the entity
+     */
+    protected abstract Object newInstance();
+
+    /**
+     * @return the value of the property at the given index, primitive values are boxed
+     */
+    protected abstract Object get(Object entity, int index);
+
+    /**
+     * Sets the value of the property at the given index, primitive values are unboxed.
+     */
+    protected abstract void set(Object entity, int index, Object value);
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(BsonWriter writer, T entity, EncoderContext encoderContext) {
+        if (entity.getClass() != type) {
+            // subclasses have their own properties
+            Codec<T> codec = (Codec<T>) registry.get(entity.getClass());
+            encoderContext.encodeWithChildContext(codec, writer, entity);
+            return;
+        }
+
+        writer.writeStartDocument();
+        if (idIndex != -1) {
+            Object id = get(entity, idIndex);
+            if (id == null && types[idIndex] == ObjectId.class && encoderContext.isEncodingCollectibleDocument()) {
+                id = new ObjectId();
+                set(entity, idIndex, id);
+            }
+            writeProperty(writer, idIndex, id, encoderContext);
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (i != idIndex) {
+                writeProperty(writer, i, get(entity, i), encoderContext);
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    private void writeProperty(BsonWriter writer, int index, Object value, EncoderContext encoderContext) {
+        if (value != null) {
+            writer.writeName(names[index]);
+            encoderContext.encodeWithChildContext(codecs[index], writer, value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        Object entity = newInstance();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer index = indexes.get(reader.readName());
+            if (index == null) {
+                reader.skipValue();
+            } else if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                if (!types[index].isPrimitive()) {
+                    set(entity, index, null);
+                }
+            } else {
+                set(entity, index, decoderContext.decodeWithChildContext(codecs[index], reader));
+            }
+        }
+        reader.readEndDocument();
+        return (T) entity;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        throw new IllegalArgumentException("Unsupported primitive type " + type);
+    }
+}
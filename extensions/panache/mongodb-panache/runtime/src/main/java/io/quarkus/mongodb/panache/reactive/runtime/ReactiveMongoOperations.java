@@ -335,8 +335,7 @@ public class ReactiveMongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static ReactivePanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return new ReactivePanacheQueryImpl(collection, docQuery, docSort);
@@ -346,8 +345,16 @@ public class ReactiveMongoOperations {
      * We should have a query like <code>{'firstname': ?1, 'lastname': ?2}</code> for native one
      * and like <code>firstname = ?1</code> for PanacheQL one.
      */
-    static String bindFilter(Class<?> clazz, String query, Object[] params) {
-        String bindQuery = bindQuery(clazz, query, params);
+    static BsonDocument bindFilter(Class<?> clazz, String query, Object[] params) {
+        BsonDocument bindQuery;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            bindQuery = NativeQueryBinder.bindQuery(query, params);
+        } else {
+            //this is a PanacheQL query
+            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
+        }
         LOGGER.debug(bindQuery);
         return bindQuery;
     }
@@ -356,8 +363,16 @@ public class ReactiveMongoOperations {
      * We should have a query like <code>{'firstname': :firstname, 'lastname': :lastname}</code> for native one
      * and like <code>firstname = :firstname and lastname = :lastname</code> for PanacheQL one.
      */
-    static String bindFilter(Class<?> clazz, String query, Map<String, Object> params) {
-        String bindQuery = bindQuery(clazz, query, params);
+    static BsonDocument bindFilter(Class<?> clazz, String query, Map<String, Object> params) {
+        BsonDocument bindQuery;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            bindQuery = NativeQueryBinder.bindQuery(query, params);
+        } else {
+            //this is a PanacheQL query
+            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
+        }
         LOGGER.debug(bindQuery);
         return bindQuery;
     }
@@ -367,10 +382,15 @@ public class ReactiveMongoOperations {
      * and like <code>firstname = ?1 and lastname = ?2</code> for PanacheQL one.
      * As update document needs a <code>$set</code> operator we add it if needed.
      */
-    static String bindUpdate(Class<?> clazz, String query, Object[] params) {
-        String bindUpdate = bindQuery(clazz, query, params);
-        if (!bindUpdate.contains("$set")) {
-            bindUpdate = "{'$set':" + bindUpdate + "}";
+    static BsonDocument bindUpdate(Class<?> clazz, String query, Object[] params) {
+        BsonDocument bindUpdate;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            bindUpdate = NativeQueryBinder.bindUpdate(query, params);
+        } else {
+            //this is a PanacheQL query
+            bindUpdate = PanacheQlQueryBinder.bindUpdate(clazz, query, params);
         }
         LOGGER.debug(bindUpdate);
         return bindUpdate;
@@ -381,43 +401,18 @@ public class ReactiveMongoOperations {
      * and like <code>firstname = :firstname and lastname = :lastname</code> for PanacheQL one.
      * As update document needs a <code>$set</code> operator we add it if needed.
      */
-    static String bindUpdate(Class<?> clazz, String query, Map<String, Object> params) {
-        String bindUpdate = bindQuery(clazz, query, params);
-        if (!bindUpdate.contains("$set")) {
-            bindUpdate = "{'$set':" + bindUpdate + "}";
-        }
-        LOGGER.debug(bindUpdate);
-        return bindUpdate;
-    }
-
-    static String bindQuery(Class<?> clazz, String query, Object[] params) {
-        String bindQuery = null;
-
+    static BsonDocument bindUpdate(Class<?> clazz, String query, Map<String, Object> params) {
+        BsonDocument bindUpdate;
         //determine the type of the query
         if (query.charAt(0) == '{') {
             //this is a native query
-            bindQuery = NativeQueryBinder.bindQuery(query, params);
+            bindUpdate = NativeQueryBinder.bindUpdate(query, params);
         } else {
             //this is a PanacheQL query
-            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
+            bindUpdate = PanacheQlQueryBinder.bindUpdate(clazz, query, params);
         }
-
-        return bindQuery;
-    }
-
-    static String bindQuery(Class<?> clazz, String query, Map<String, Object> params) {
-        String bindQuery = null;
-
-        //determine the type of the query
-        if (query.charAt(0) == '{') {
-            //this is a native query
-            bindQuery = NativeQueryBinder.bindQuery(query, params);
-        } else {
-            //this is a PanacheQL query
-            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
-        }
-
-        return bindQuery;
+        LOGGER.debug(bindUpdate);
+        return bindUpdate;
     }
 
     public static ReactivePanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -426,8 +421,7 @@ public class ReactiveMongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static ReactivePanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return new ReactivePanacheQueryImpl(collection, docQuery, docSort);
@@ -572,15 +566,13 @@ public class ReactiveMongoOperations {
     }
 
     public static Uni<Long> count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public static Uni<Long> count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         ReactiveMongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -607,15 +599,13 @@ public class ReactiveMongoOperations {
     }
 
     public static Uni<Long> delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).map(deleteResult -> deleteResult.getDeletedCount());
     }
 
     public static Uni<Long> delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).map(deleteResult -> deleteResult.getDeletedCount());
     }
@@ -643,15 +633,13 @@ public class ReactiveMongoOperations {
     }
 
     private static ReactivePanacheUpdate executeUpdate(Class<?> entityClass, String update, Object... params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        BsonDocument docUpdate = BsonDocument.parse(bindUpdate);
+        BsonDocument docUpdate = bindUpdate(entityClass, update, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return new ReactivePanacheUpdateImpl(entityClass, docUpdate, collection);
     }
 
     private static ReactivePanacheUpdate executeUpdate(Class<?> entityClass, String update, Map<String, Object> params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        BsonDocument docUpdate = BsonDocument.parse(bindUpdate);
+        BsonDocument docUpdate = bindUpdate(entityClass, update, params);
         ReactiveMongoCollection<?> collection = mongoCollection(entityClass);
         return new ReactivePanacheUpdateImpl(entityClass, docUpdate, collection);
     }
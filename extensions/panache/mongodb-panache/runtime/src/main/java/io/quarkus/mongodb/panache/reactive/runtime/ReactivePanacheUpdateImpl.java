@@ -23,15 +23,13 @@ public class ReactivePanacheUpdateImpl implements ReactivePanacheUpdate {
 
     @Override
     public Uni<Long> where(String query, Object... params) {
-        String bindQuery = ReactiveMongoOperations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = ReactiveMongoOperations.bindFilter(entityClass, query, params);
         return collection.updateMany(docQuery, update).map(result -> result.getModifiedCount());
     }
 
     @Override
     public Uni<Long> where(String query, Map<String, Object> params) {
-        String bindQuery = ReactiveMongoOperations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = ReactiveMongoOperations.bindFilter(entityClass, query, params);
         return collection.updateMany(docQuery, update).map(result -> result.getModifiedCount());
     }
 
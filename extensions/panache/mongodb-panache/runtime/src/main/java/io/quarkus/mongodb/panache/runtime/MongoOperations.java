@@ -310,8 +310,7 @@ public class MongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheQueryImpl(collection, docQuery, docSort);
@@ -321,8 +320,16 @@ public class MongoOperations {
      * We should have a query like <code>{'firstname': ?1, 'lastname': ?2}</code> for native one
      * and like <code>firstname = ?1</code> for PanacheQL one.
      */
-    static String bindFilter(Class<?> clazz, String query, Object[] params) {
-        String bindQuery = bindQuery(clazz, query, params);
+    static BsonDocument bindFilter(Class<?> clazz, String query, Object[] params) {
+        BsonDocument bindQuery;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            bindQuery = NativeQueryBinder.bindQuery(query, params);
+        } else {
+            //this is a PanacheQL query
+            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
+        }
         LOGGER.debug(bindQuery);
         return bindQuery;
     }
@@ -331,8 +338,16 @@ public class MongoOperations {
      * We should have a query like <code>{'firstname': :firstname, 'lastname': :lastname}</code> for native one
      * and like <code>firstname = :firstname and lastname = :lastname</code> for PanacheQL one.
      */
-    static String bindFilter(Class<?> clazz, String query, Map<String, Object> params) {
-        String bindQuery = bindQuery(clazz, query, params);
+    static BsonDocument bindFilter(Class<?> clazz, String query, Map<String, Object> params) {
+        BsonDocument bindQuery;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            bindQuery = NativeQueryBinder.bindQuery(query, params);
+        } else {
+            //this is a PanacheQL query
+            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
+        }
         LOGGER.debug(bindQuery);
         return bindQuery;
     }
@@ -342,10 +357,15 @@ public class MongoOperations {
      * and like <code>firstname = ?1 and lastname = ?2</code> for PanacheQL one.
      * As update document needs a <code>$set</code> operator we add it if needed.
      */
-    static String bindUpdate(Class<?> clazz, String query, Object[] params) {
-        String bindUpdate = bindQuery(clazz, query, params);
-        if (!bindUpdate.contains("$set")) {
-            bindUpdate = "{'$set':" + bindUpdate + "}";
+    static BsonDocument bindUpdate(Class<?> clazz, String query, Object[] params) {
+        BsonDocument bindUpdate;
+        //determine the type of the query
+        if (query.charAt(0) == '{') {
+            //this is a native query
+            bindUpdate = NativeQueryBinder.bindUpdate(query, params);
+        } else {
+            //this is a PanacheQL query
+            bindUpdate = PanacheQlQueryBinder.bindUpdate(clazz, query, params);
         }
         LOGGER.debug(bindUpdate);
         return bindUpdate;
@@ -356,39 +376,18 @@ public class MongoOperations {
      * and like <code>firstname = :firstname and lastname = :lastname</code> for PanacheQL one.
      * As update document needs a <code>$set</code> operator we add it if needed.
      */
-    static String bindUpdate(Class<?> clazz, String query, Map<String, Object> params) {
-        String bindUpdate = bindQuery(clazz, query, params);
-        if (!bindUpdate.contains("$set")) {
-            bindUpdate = "{'$set':" + bindUpdate + "}";
-        }
-        LOGGER.debug(bindUpdate);
-        return bindUpdate;
-    }
-
-    private static String bindQuery(Class<?> clazz, String query, Object[] params) {
-        String bindQuery = null;
+    static BsonDocument bindUpdate(Class<?> clazz, String query, Map<String, Object> params) {
+        BsonDocument bindUpdate;
         //determine the type of the query
         if (query.charAt(0) == '{') {
             //this is a native query
-            bindQuery = NativeQueryBinder.bindQuery(query, params);
+            bindUpdate = NativeQueryBinder.bindUpdate(query, params);
         } else {
             //this is a PanacheQL query
-            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
+            bindUpdate = PanacheQlQueryBinder.bindUpdate(clazz, query, params);
         }
-        return bindQuery;
-    }
-
-    private static String bindQuery(Class<?> clazz, String query, Map<String, Object> params) {
-        String bindQuery = null;
-        //determine the type of the query
-        if (query.charAt(0) == '{') {
-            //this is a native query
-            bindQuery = NativeQueryBinder.bindQuery(query, params);
-        } else {
-            //this is a PanacheQL query
-            bindQuery = PanacheQlQueryBinder.bindQuery(clazz, query, params);
-        }
-        return bindQuery;
+        LOGGER.debug(bindUpdate);
+        return bindUpdate;
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -397,8 +396,7 @@ public class MongoOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         Document docSort = sortToDocument(sort);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheQueryImpl(collection, docQuery, docSort);
@@ -543,15 +541,13 @@ public class MongoOperations {
     }
 
     public static long count(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
 
     public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.countDocuments(docQuery);
     }
@@ -579,15 +575,13 @@ public class MongoOperations {
     }
 
     public static long delete(Class<?> entityClass, String query, Object... params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
 
     public static long delete(Class<?> entityClass, String query, Map<String, Object> params) {
-        String bindQuery = bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = bindFilter(entityClass, query, params);
         MongoCollection collection = mongoCollection(entityClass);
         return collection.deleteMany(docQuery).getDeletedCount();
     }
@@ -615,15 +609,13 @@ public class MongoOperations {
     }
 
     private static PanacheUpdate executeUpdate(Class<?> entityClass, String update, Object... params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        BsonDocument docUpdate = BsonDocument.parse(bindUpdate);
+        BsonDocument docUpdate = bindUpdate(entityClass, update, params);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheUpdateImpl(entityClass, docUpdate, collection);
     }
 
     private static PanacheUpdate executeUpdate(Class<?> entityClass, String update, Map<String, Object> params) {
-        String bindUpdate = bindUpdate(entityClass, update, params);
-        BsonDocument docUpdate = BsonDocument.parse(bindUpdate);
+        BsonDocument docUpdate = bindUpdate(entityClass, update, params);
         MongoCollection collection = mongoCollection(entityClass);
         return new PanacheUpdateImpl(entityClass, docUpdate, collection);
     }
@@ -23,15 +23,13 @@ public class PanacheUpdateImpl implements PanacheUpdate {
 
     @Override
     public long where(String query, Object... params) {
-        String bindQuery = MongoOperations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = MongoOperations.bindFilter(entityClass, query, params);
         return collection.updateMany(docQuery, update).getModifiedCount();
     }
 
     @Override
     public long where(String query, Map<String, Object> params) {
-        String bindQuery = MongoOperations.bindFilter(entityClass, query, params);
-        BsonDocument docQuery = BsonDocument.parse(bindQuery);
+        BsonDocument docQuery = MongoOperations.bindFilter(entityClass, query, params);
         return collection.updateMany(docQuery, update).getModifiedCount();
     }
 
@@ -0,0 +1,165 @@
+package io.quarkus.mongodb.panache.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoClientSettings;
+
+class PanacheEntityCodecTest {
+
+    enum Status {
+        ACTIVE,
+        INACTIVE
+    }
+
+    static class Person {
+        public ObjectId id;
+        public String name;
+        public int age;
+        public Status status;
+        public List<String> tags;
+    }
+
+    // what the build time generation produces for Person
+    static class PersonCodec extends PanacheEntityCodec<Person> {
+
+        PersonCodec(CodecRegistry registry) {
+            super(registry, Person.class, new String[] { "_id", "name", "age", "status", "tags" },
+                    new Class[] { ObjectId.class, String.class, int.class, Status.class, List.class },
+                    new Class[] { null, null, null, null, String.class }, 0);
+        }
+
+        @Override
+        protected Object newInstance() {
+            return new Person();
+        }
+
+        @Override
+        protected Object get(Object entity, int index) {
+            Person person = (Person) entity;
+            switch (index) {
+                case 0:
+                    return person.id;
+                case 1:
+                    return person.name;
+                case 2:
+                    return person.age;
+                case 3:
+                    return person.status;
+                case 4:
+                    return person.tags;
+                default:
+                    throw new IllegalArgumentException();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void set(Object entity, int index, Object value) {
+            Person person = (Person) entity;
+            switch (index) {
+                case 0:
+                    person.id = (ObjectId) value;
+                    break;
+                case 1:
+                    person.name = (String) value;
+                    break;
+                case 2:
+                    person.age = (Integer) value;
+                    break;
+                case 3:
+                    person.status = (Status) value;
+                    break;
+                case 4:
+                    person.tags = (List<String>) value;
+                    break;
+                default:
+                    throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    private final CodecRegistry registry = CodecRegistries.fromRegistries(MongoClientSettings.getDefaultCodecRegistry(),
+            CodecRegistries.fromProviders(new CodecProvider() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+                    return clazz == Person.class ? (Codec<T>) new PersonCodec(registry) : null;
+                }
+            }));
+
+    @Test
+    void testRoundTrip() {
+        Person person = new Person();
+        person.id = new ObjectId();
+        person.name = "Stef";
+        person.age = 42;
+        person.status = Status.ACTIVE;
+        person.tags = Arrays.asList("a", "b");
+
+        BsonDocument document = encode(person, EncoderContext.builder().build());
+        assertEquals("_id", document.getFirstKey());
+        assertEquals(person.id, document.getObjectId("_id").getValue());
+        assertEquals("Stef", document.getString("name").getValue());
+        assertEquals(42, document.getInt32("age").getValue());
+        assertEquals("ACTIVE", document.getString("status").getValue());
+        assertEquals(2, document.getArray("tags").size());
+
+        Person decoded = registry.get(Person.class).decode(new BsonDocumentReader(document),
+                DecoderContext.builder().build());
+        assertEquals(person.id, decoded.id);
+        assertEquals("Stef", decoded.name);
+        assertEquals(42, decoded.age);
+        assertEquals(Status.ACTIVE, decoded.status);
+        assertEquals(Arrays.asList("a", "b"), decoded.tags);
+    }
+
+    @Test
+    void testNullsAndUnknownFields() {
+        Person person = new Person();
+        BsonDocument document = encode(person, EncoderContext.builder().build());
+        assertFalse(document.containsKey("_id"));
+        assertFalse(document.containsKey("name"));
+        assertEquals(0, document.getInt32("age").getValue());
+
+        document = BsonDocument.parse("{'unknown': {'nested': 1}, 'name': null, 'age': 7}");
+        Person decoded = registry.get(Person.class).decode(new BsonDocumentReader(document),
+                DecoderContext.builder().build());
+        assertNull(decoded.name);
+        assertEquals(7, decoded.age);
+    }
+
+    @Test
+    void testIdGeneration() {
+        Person person = new Person();
+        encode(person, EncoderContext.builder().build());
+        assertNull(person.id);
+
+        BsonDocument document = encode(person, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        assertNotNull(person.id);
+        assertEquals(person.id, document.getObjectId("_id").getValue());
+    }
+
+    private BsonDocument encode(Person person, EncoderContext context) {
+        BsonDocument document = new BsonDocument();
+        registry.get(Person.class).encode(new BsonDocumentWriter(document), person, context);
+        return document;
+    }
+}
@@ -2,6 +2,9 @@ package io.quarkus.redis.client;
 
 import java.util.List;
 
+import io.quarkus.redis.client.codec.RedisCodec;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 /**
@@ -15,6 +18,33 @@ import io.vertx.redis.client.Response;
 public interface RedisClient {
     void close();
 
+    /**
+     * Pipelines the given requests: they are written at once on a single connection and the responses are
+     * returned together, saving a network round trip per request.
+     *
+     * @param requests the requests, created with {@link Request#cmd(Command)}
+     * @return the responses, in the order of the requests
+     */
+    List<Response> batch(List<Request> requests);
+
+    /**
+     * Pipelines the given requests inside a {@code MULTI}/{@code EXEC} transaction, so that Redis executes them
+     * atomically.
+     *
+     * @param requests the requests, created with {@link Request#cmd(Command)}
+     * @return the responses, in the order of the requests, or {@code null} if the transaction has been aborted
+     */
+    List<Response> transaction(List<Request> requests);
+
+    /**
+     * Creates a client reading and writing values of type {@code T} with the given codec, for instance a
+     * {@link io.quarkus.redis.client.codec.JacksonCodec}. The values are encoded straight to the bytes sent to Redis.
+     *
+     * @param codec the codec of the values
+     * @return a client sharing the connections of this client
+     */
+    <T> TypedRedisClient<T> withCodec(RedisCodec<T> codec);
+
     Response append(String arg0, String arg1);
 
     Response asking();
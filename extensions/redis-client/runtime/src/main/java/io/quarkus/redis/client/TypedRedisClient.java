@@ -0,0 +1,57 @@
+package io.quarkus.redis.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.codec.RedisCodec;
+
+/**
+ * A synchronous Redis client reading and writing values of type {@code T} with a {@link RedisCodec}.
+ * The commands have the same timeout as the ones of the {@link RedisClient} it has been created from.
+ * <p>
+ * Missing keys, fields and list elements are returned as {@code null}.
+ *
+ * @param <T> the type of the values
+ * @see RedisClient#withCodec(RedisCodec)
+ */
+public interface TypedRedisClient<T> {
+
+    T get(String key);
+
+    void set(String key, T value);
+
+    /**
+     * Sets the value of the key, which expires after the given duration.
+     */
+    void set(String key, T value, Duration expiration);
+
+    T getset(String key, T value);
+
+    /**
+     * @return the values of the keys, in the order of the keys
+     */
+    List<T> mget(List<String> keys);
+
+    T hget(String key, String field);
+
+    void hset(String key, String field, T value);
+
+    Map<String, T> hgetall(String key);
+
+    /**
+     * @return the length of the list after the push
+     */
+    long lpush(String key, T value);
+
+    /**
+     * @return the length of the list after the push
+     */
+    long rpush(String key, T value);
+
+    T lpop(String key);
+
+    T rpop(String key);
+
+    List<T> lrange(String key, long start, long stop);
+}
@@ -0,0 +1,23 @@
+package io.quarkus.redis.client.codec;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A {@link RedisCodec} storing raw bytes.
+ */
+public class ByteArrayCodec implements RedisCodec<byte[]> {
+
+    public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
+
+    @Override
+    public Buffer encode(byte[] value) {
+        // wraps the array instead of copying it
+        return Buffer.buffer(Unpooled.wrappedBuffer(value));
+    }
+
+    @Override
+    public byte[] decode(Buffer buffer) {
+        return buffer.getBytes();
+    }
+}
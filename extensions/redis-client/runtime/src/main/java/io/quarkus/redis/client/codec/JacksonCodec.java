@@ -0,0 +1,61 @@
+package io.quarkus.redis.client.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+
+/**
+ * A {@link RedisCodec} storing the values as JSON with Jackson.
+ * <p>
+ * Use the {@code ObjectMapper} bean of the {@code quarkus-jackson} extension to get the same mapping as the rest of the
+ * application.
+ *
+ * @param <T> the type of the values
+ */
+public class JacksonCodec<T> implements RedisCodec<T> {
+
+    private final ObjectMapper mapper;
+    private final JavaType type;
+
+    public JacksonCodec(ObjectMapper mapper, Class<T> type) {
+        this.mapper = mapper;
+        this.type = mapper.constructType(type);
+    }
+
+    public JacksonCodec(ObjectMapper mapper, TypeReference<T> type) {
+        this.mapper = mapper;
+        this.type = mapper.getTypeFactory().constructType(type);
+    }
+
+    @Override
+    public Buffer encode(T value) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            mapper.writeValue((OutputStream) new ByteBufOutputStream(buf), value);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+        }
+        return Buffer.buffer(buf);
+    }
+
+    @Override
+    public T decode(Buffer buffer) {
+        try {
+            return mapper.readValue((InputStream) new ByteBufInputStream(buffer.getByteBuf()), type);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.redis.client.codec;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+
+/**
+ * A {@link RedisCodec} storing the values as JSON with JSON-B.
+ * <p>
+ * Use the {@code Jsonb} bean of the {@code quarkus-jsonb} extension to get the same mapping as the rest of the application.
+ *
+ * @param <T> the type of the values
+ */
+public class JsonbCodec<T> implements RedisCodec<T> {
+
+    private final Jsonb jsonb;
+    private final Type type;
+
+    public JsonbCodec(Jsonb jsonb, Class<T> type) {
+        this(jsonb, (Type) type);
+    }
+
+    /**
+     * @param type the generic type of the values, like the one of a {@code List<String>}
+     */
+    public JsonbCodec(Jsonb jsonb, Type type) {
+        this.jsonb = jsonb;
+        this.type = type;
+    }
+
+    @Override
+    public Buffer encode(T value) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            jsonb.toJson(value, type, (OutputStream) new ByteBufOutputStream(buf));
+        } catch (JsonbException e) {
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+        }
+        return Buffer.buffer(buf);
+    }
+
+    @Override
+    public T decode(Buffer buffer) {
+        try {
+            return jsonb.fromJson((InputStream) new ByteBufInputStream(buffer.getByteBuf()), type);
+        } catch (JsonbException e) {
+            throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.quarkus.redis.client.codec;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Converts the values stored in Redis from and to the bytes sent to the server.
+ * <p>
+ * Codecs write straight into a {@link Buffer}, so the values don't go through an intermediate {@code String}.
+ *
+ * @param <T> the type of the values
+ * @see io.quarkus.redis.client.RedisClient#withCodec(RedisCodec)
+ * @see io.quarkus.redis.client.reactive.ReactiveRedisClient#withCodec(RedisCodec)
+ */
+public interface RedisCodec<T> {
+
+    /**
+     * @param value the value to encode, never {@code null}
+     * @return the bytes to store in Redis
+     */
+    Buffer encode(T value);
+
+    /**
+     * @param buffer the bytes read from Redis, never {@code null}
+     * @return the decoded value
+     */
+    T decode(Buffer buffer);
+}
@@ -2,7 +2,10 @@ package io.quarkus.redis.client.reactive;
 
 import java.util.List;
 
+import io.quarkus.redis.client.codec.RedisCodec;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 /**
@@ -14,6 +17,37 @@ import io.vertx.mutiny.redis.client.Response;
 public interface ReactiveRedisClient {
     void close();
 
+    /**
+     * Pipelines the given requests: they are written at once on a single connection and the responses are
+     * emitted together, saving a network round trip per request.
+     *
+     * @param requests the requests, created with {@link Request#cmd(Command)}
+     * @return the responses, in the order of the requests
+     */
+    Uni<List<Response>> batch(List<Request> requests);
+
+    List<Response> batchAndAwait(List<Request> requests);
+
+    /**
+     * Pipelines the given requests inside a {@code MULTI}/{@code EXEC} transaction, so that Redis executes them
+     * atomically.
+     *
+     * @param requests the requests, created with {@link Request#cmd(Command)}
+     * @return the responses, in the order of the requests, or {@code null} if the transaction has been aborted
+     */
+    Uni<List<Response>> transaction(List<Request> requests);
+
+    List<Response> transactionAndAwait(List<Request> requests);
+
+    /**
+     * Creates a client reading and writing values of type {@code T} with the given codec, for instance a
+     * {@link io.quarkus.redis.client.codec.JacksonCodec}. The values are encoded straight to the bytes sent to Redis.
+     *
+     * @param codec the codec of the values
+     * @return a client sharing the connections of this client
+     */
+    <T> ReactiveTypedRedisClient<T> withCodec(RedisCodec<T> codec);
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
@@ -0,0 +1,57 @@
+package io.quarkus.redis.client.reactive;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.codec.RedisCodec;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A reactive Redis client reading and writing values of type {@code T} with a {@link RedisCodec}.
+ * <p>
+ * Missing keys, fields and list elements are emitted as {@code null}.
+ *
+ * @param <T> the type of the values
+ * @see ReactiveRedisClient#withCodec(RedisCodec)
+ */
+public interface ReactiveTypedRedisClient<T> {
+
+    Uni<T> get(String key);
+
+    Uni<Void> set(String key, T value);
+
+    /**
+     * Sets the value of the key, which expires after the given duration.
+     */
+    Uni<Void> set(String key, T value, Duration expiration);
+
+    Uni<T> getset(String key, T value);
+
+    /**
+     * @return the values of the keys, in the order of the keys
+     */
+    Uni<List<T>> mget(List<String> keys);
+
+    Uni<T> hget(String key, String field);
+
+    Uni<Void> hset(String key, String field, T value);
+
+    Uni<Map<String, T>> hgetall(String key);
+
+    /**
+     * @return the length of the list after the push
+     */
+    Uni<Long> lpush(String key, T value);
+
+    /**
+     * @return the length of the list after the push
+     */
+    Uni<Long> rpush(String key, T value);
+
+    Uni<T> lpop(String key);
+
+    Uni<T> rpop(String key);
+
+    Uni<List<T>> lrange(String key, long start, long stop);
+}
@@ -1,16 +1,25 @@
 package io.quarkus.redis.client.runtime;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import io.quarkus.redis.client.codec.RedisCodec;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 class ReactiveRedisClientImpl implements ReactiveRedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
 
-    public ReactiveRedisClientImpl(RedisAPI redisAPI) {
+    public ReactiveRedisClientImpl(Redis redis, RedisAPI redisAPI) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
     }
 
@@ -19,6 +28,58 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public Uni<List<Response>> batch(List<Request> requests) {
+        return batch(redis, requests);
+    }
+
+    @Override
+    public List<Response> batchAndAwait(List<Request> requests) {
+        return batch(requests).await().indefinitely();
+    }
+
+    @Override
+    public Uni<List<Response>> transaction(List<Request> requests) {
+        return transaction(redis, requests);
+    }
+
+    @Override
+    public List<Response> transactionAndAwait(List<Request> requests) {
+        return transaction(requests).await().indefinitely();
+    }
+
+    @Override
+    public <T> ReactiveTypedRedisClient<T> withCodec(RedisCodec<T> codec) {
+        return new ReactiveTypedRedisClientImpl<>(redis, codec);
+    }
+
+    static Uni<List<Response>> batch(Redis redis, List<Request> requests) {
+        if (requests.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        return redis.batch(requests);
+    }
+
+    static Uni<List<Response>> transaction(Redis redis, List<Request> requests) {
+        List<Request> transaction = new ArrayList<>(requests.size() + 2);
+        transaction.add(Request.cmd(Command.MULTI));
+        transaction.addAll(requests);
+        transaction.add(Request.cmd(Command.EXEC));
+        // the requests are answered by QUEUED, their responses are the elements of the EXEC response
+        return redis.batch(transaction).map(responses -> {
+            Response exec = responses.get(responses.size() - 1);
+            if (exec == null) {
+                // aborted because of a WATCHed key
+                return null;
+            }
+            List<Response> results = new ArrayList<>(exec.size());
+            for (Response response : exec) {
+                results.add(response);
+            }
+            return results;
+        });
+    }
+
     @Override
     public Uni<Response> append(String arg0, String arg1) {
         return redisAPI.append(arg0, arg1);
@@ -0,0 +1,126 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.codec.RedisCodec;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+class ReactiveTypedRedisClientImpl<T> implements ReactiveTypedRedisClient<T> {
+    private final Redis redis;
+    private final RedisCodec<T> codec;
+
+    public ReactiveTypedRedisClientImpl(Redis redis, RedisCodec<T> codec) {
+        this.redis = redis;
+        this.codec = codec;
+    }
+
+    @Override
+    public Uni<T> get(String key) {
+        return send(Request.cmd(Command.GET).arg(key)).map(this::decode);
+    }
+
+    @Override
+    public Uni<Void> set(String key, T value) {
+        return send(Request.cmd(Command.SET).arg(key).arg(encode(value))).map(response -> null);
+    }
+
+    @Override
+    public Uni<Void> set(String key, T value, Duration expiration) {
+        return send(Request.cmd(Command.SET).arg(key).arg(encode(value)).arg("PX").arg(expiration.toMillis()))
+                .map(response -> null);
+    }
+
+    @Override
+    public Uni<T> getset(String key, T value) {
+        return send(Request.cmd(Command.GETSET).arg(key).arg(encode(value))).map(this::decode);
+    }
+
+    @Override
+    public Uni<List<T>> mget(List<String> keys) {
+        Request request = Request.cmd(Command.MGET);
+        for (String key : keys) {
+            request.arg(key);
+        }
+        return send(request).map(this::decodeAll);
+    }
+
+    @Override
+    public Uni<T> hget(String key, String field) {
+        return send(Request.cmd(Command.HGET).arg(key).arg(field)).map(this::decode);
+    }
+
+    @Override
+    public Uni<Void> hset(String key, String field, T value) {
+        return send(Request.cmd(Command.HSET).arg(key).arg(field).arg(encode(value))).map(response -> null);
+    }
+
+    @Override
+    public Uni<Map<String, T>> hgetall(String key) {
+        return send(Request.cmd(Command.HGETALL).arg(key)).map(response -> {
+            // the fields and the values are interleaved
+            Map<String, T> result = new HashMap<>();
+            for (int i = 0; i + 1 < response.size(); i += 2) {
+                result.put(response.get(i).toString(), decode(response.get(i + 1)));
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Uni<Long> lpush(String key, T value) {
+        return send(Request.cmd(Command.LPUSH).arg(key).arg(encode(value))).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Long> rpush(String key, T value) {
+        return send(Request.cmd(Command.RPUSH).arg(key).arg(encode(value))).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<T> lpop(String key) {
+        return send(Request.cmd(Command.LPOP).arg(key)).map(this::decode);
+    }
+
+    @Override
+    public Uni<T> rpop(String key) {
+        return send(Request.cmd(Command.RPOP).arg(key)).map(this::decode);
+    }
+
+    @Override
+    public Uni<List<T>> lrange(String key, long start, long stop) {
+        return send(Request.cmd(Command.LRANGE).arg(key).arg(start).arg(stop)).map(this::decodeAll);
+    }
+
+    private Uni<Response> send(Request request) {
+        return redis.send(io.vertx.mutiny.redis.client.Request.newInstance(request))
+                .map(response -> response == null ? null : response.getDelegate());
+    }
+
+    private io.vertx.core.buffer.Buffer encode(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Redis can not store null values");
+        }
+        return codec.encode(value);
+    }
+
+    private T decode(Response response) {
+        return response == null ? null : codec.decode(response.toBuffer());
+    }
+
+    private List<T> decodeAll(Response response) {
+        List<T> result = new ArrayList<>(response.size());
+        for (Response element : response) {
+            result.add(decode(element));
+        }
+        return result;
+    }
+}
@@ -79,8 +79,8 @@ class RedisAPIProducer {
         redisAPI = RedisAPI.api(vertxRedisClient);
         mutinyRedisClient = io.vertx.mutiny.redis.client.Redis.newInstance(vertxRedisClient);
         mutinyRedisAPI = io.vertx.mutiny.redis.client.RedisAPI.api(mutinyRedisClient);
-        redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-        reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
+        redisClient = new RedisClientImpl(mutinyRedisClient, mutinyRedisAPI, timeout);
+        reactiveClient = new ReactiveRedisClientImpl(mutinyRedisClient, mutinyRedisAPI);
     }
 
     @Produces
@@ -1,18 +1,25 @@
 package io.quarkus.redis.client.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.TypedRedisClient;
+import io.quarkus.redis.client.codec.RedisCodec;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 class RedisClientImpl implements RedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
     private final long timeout;
 
-    public RedisClientImpl(RedisAPI redisAPI, long timeout) {
+    public RedisClientImpl(Redis redis, RedisAPI redisAPI, long timeout) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
         this.timeout = timeout;
     }
@@ -22,6 +29,21 @@ class RedisClientImpl implements RedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public List<Response> batch(List<Request> requests) {
+        return awaitAll(ReactiveRedisClientImpl.batch(redis, toMutinyRequests(requests)));
+    }
+
+    @Override
+    public List<Response> transaction(List<Request> requests) {
+        return awaitAll(ReactiveRedisClientImpl.transaction(redis, toMutinyRequests(requests)));
+    }
+
+    @Override
+    public <T> TypedRedisClient<T> withCodec(RedisCodec<T> codec) {
+        return new TypedRedisClientImpl<>(new ReactiveTypedRedisClientImpl<>(redis, codec), timeout);
+    }
+
     @Override
     public Response append(String arg0, String arg1) {
         return await(redisAPI.append(arg0, arg1));
@@ -1029,4 +1051,25 @@ class RedisClientImpl implements RedisClient {
         }
         return response.getDelegate();
     }
+
+    private List<Response> awaitAll(Uni<List<io.vertx.mutiny.redis.client.Response>> mutinyResponses) {
+        List<io.vertx.mutiny.redis.client.Response> responses = mutinyResponses.await()
+                .atMost(Duration.ofSeconds(timeout));
+        if (responses == null) {
+            return null;
+        }
+        List<Response> result = new ArrayList<>(responses.size());
+        for (io.vertx.mutiny.redis.client.Response response : responses) {
+            result.add(response == null ? null : response.getDelegate());
+        }
+        return result;
+    }
+
+    private static List<io.vertx.mutiny.redis.client.Request> toMutinyRequests(List<Request> requests) {
+        List<io.vertx.mutiny.redis.client.Request> mutinyRequests = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            mutinyRequests.add(io.vertx.mutiny.redis.client.Request.newInstance(request));
+        }
+        return mutinyRequests;
+    }
 }
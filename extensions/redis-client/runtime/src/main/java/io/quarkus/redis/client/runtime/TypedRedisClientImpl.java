@@ -0,0 +1,88 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.TypedRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
+import io.smallrye.mutiny.Uni;
+
+class TypedRedisClientImpl<T> implements TypedRedisClient<T> {
+    private final ReactiveTypedRedisClient<T> reactiveClient;
+    private final long timeout;
+
+    public TypedRedisClientImpl(ReactiveTypedRedisClient<T> reactiveClient, long timeout) {
+        this.reactiveClient = reactiveClient;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public T get(String key) {
+        return await(reactiveClient.get(key));
+    }
+
+    @Override
+    public void set(String key, T value) {
+        await(reactiveClient.set(key, value));
+    }
+
+    @Override
+    public void set(String key, T value, Duration expiration) {
+        await(reactiveClient.set(key, value, expiration));
+    }
+
+    @Override
+    public T getset(String key, T value) {
+        return await(reactiveClient.getset(key, value));
+    }
+
+    @Override
+    public List<T> mget(List<String> keys) {
+        return await(reactiveClient.mget(keys));
+    }
+
+    @Override
+    public T hget(String key, String field) {
+        return await(reactiveClient.hget(key, field));
+    }
+
+    @Override
+    public void hset(String key, String field, T value) {
+        await(reactiveClient.hset(key, field, value));
+    }
+
+    @Override
+    public Map<String, T> hgetall(String key) {
+        return await(reactiveClient.hgetall(key));
+    }
+
+    @Override
+    public long lpush(String key, T value) {
+        return await(reactiveClient.lpush(key, value));
+    }
+
+    @Override
+    public long rpush(String key, T value) {
+        return await(reactiveClient.rpush(key, value));
+    }
+
+    @Override
+    public T lpop(String key) {
+        return await(reactiveClient.lpop(key));
+    }
+
+    @Override
+    public T rpop(String key) {
+        return await(reactiveClient.rpop(key));
+    }
+
+    @Override
+    public List<T> lrange(String key, long start, long stop) {
+        return await(reactiveClient.lrange(key, start, stop));
+    }
+
+    private <R> R await(Uni<R> uni) {
+        return uni.await().atMost(Duration.ofSeconds(timeout));
+    }
+}
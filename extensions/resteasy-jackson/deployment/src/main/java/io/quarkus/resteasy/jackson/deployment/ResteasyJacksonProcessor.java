@@ -1,11 +1,23 @@
 package io.quarkus.resteasy.jackson.deployment;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.jackson.spi.JacksonSerializableTypeBuildItem;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 
 public class ResteasyJacksonProcessor {
 
@@ -19,4 +31,37 @@ public class ResteasyJacksonProcessor {
         capability.produce(new CapabilityBuildItem(Capability.RESTEASY_JSON));
         capability.produce(new CapabilityBuildItem(Capability.REST_JACKSON));
     }
+
+    @BuildStep
+    void serializableTypes(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<JacksonSerializableTypeBuildItem> serializableTypes) {
+        for (DotName methodAnnotation : ResteasyDotNames.JAXRS_METHOD_ANNOTATIONS) {
+            for (AnnotationInstance instance : combinedIndex.getIndex().getAnnotations(methodAnnotation)) {
+                if (instance.target().kind() != AnnotationTarget.Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = instance.target().asMethod();
+                if (method.returnType().kind() != Type.Kind.VOID) {
+                    serializableTypes.produce(new JacksonSerializableTypeBuildItem(method.returnType()));
+                }
+                // the entity parameter is the one without any JAX-RS annotation
+                Set<Short> annotatedParameters = new HashSet<>();
+                for (AnnotationInstance annotation : method.annotations()) {
+                    if (annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER
+                            && isJaxRsParameterAnnotation(annotation.name())) {
+                        annotatedParameters.add(annotation.target().asMethodParameter().position());
+                    }
+                }
+                for (short i = 0; i < method.parameters().size(); i++) {
+                    if (!annotatedParameters.contains(i)) {
+                        serializableTypes.produce(new JacksonSerializableTypeBuildItem(method.parameters().get(i)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isJaxRsParameterAnnotation(DotName name) {
+        return name.toString().startsWith("javax.ws.rs.") || name.toString().startsWith("org.jboss.resteasy.annotations.");
+    }
 }
@@ -0,0 +1,150 @@
+package io.quarkus.resteasy.jackson;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.jackson.runtime.GeneratedBeanSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(GreetingResource.class, Greeting.class, Token.class, DateDto.class)
+                    .addAsResource(new StringAsset("quarkus.jackson.generate-serializers=true"),
+                            "application.properties"));
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testSerializerIsGenerated() throws JsonMappingException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Greeting.class) instanceof GeneratedBeanSerializer);
+        // the Jackson annotations are only supported by the serializers built by Jackson
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(DateDto.class) instanceof GeneratedBeanSerializer);
+    }
+
+    @Test
+    public void testPropertiesAreWrittenInTheOrderOfJackson() throws JsonProcessingException {
+        Greeting greeting = new Greeting();
+        greeting.setMessage("hello");
+        greeting.setCount(1);
+        assertEquals(new ObjectMapper().writeValueAsString(greeting), objectMapper.writeValueAsString(greeting));
+    }
+
+    @Test
+    public void testPrivateSettersAreUsed() throws IOException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Token.class) instanceof GeneratedBeanSerializer);
+        assertEquals("secret", objectMapper.readValue("{\"value\":\"secret\"}", Token.class).getValue());
+    }
+
+    @Test
+    public void testResource() {
+        RestAssured.get("/greeting").then()
+                .statusCode(200)
+                .body("message", is("hello"))
+                .body("count", is(1));
+
+        RestAssured.given().contentType(ContentType.JSON).body("{\"message\":\"hi\",\"count\":2}")
+                .post("/greeting").then()
+                .statusCode(200)
+                .body("message", is("hi"))
+                .body("count", is(3));
+    }
+
+    @Path("/greeting")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class GreetingResource {
+
+        @GET
+        public Greeting get() {
+            Greeting greeting = new Greeting();
+            greeting.setMessage("hello");
+            greeting.setCount(1);
+            return greeting;
+        }
+
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        public Greeting post(Greeting greeting) {
+            greeting.setCount(greeting.getCount() + 1);
+            return greeting;
+        }
+
+        @POST
+        @Path("/token")
+        @Consumes(MediaType.APPLICATION_JSON)
+        public Token token(Token token) {
+            return token;
+        }
+
+        @GET
+        @Path("/date")
+        public DateDto date() {
+            return null;
+        }
+    }
+
+    public static class Greeting {
+
+        private String message;
+        private int count;
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+
+    public static class Token {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        private void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import io.quarkus.resteasy.runtime.JaxRsSecurityConfig;
 import io.quarkus.resteasy.runtime.NotFoundExceptionMapper;
 import io.quarkus.resteasy.runtime.SecurityContextFilter;
 import io.quarkus.resteasy.runtime.UnauthorizedExceptionMapper;
+import io.quarkus.resteasy.runtime.UncompressedDynamicFeature;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
 import io.quarkus.security.spi.AdditionalSecuredClassesBuildIem;
 import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
@@ -77,6 +78,14 @@ public class ResteasyBuiltinsProcessor {
         }
     }
 
+    /**
+     * Install the provider disabling the compression of the resource methods annotated with {@code @Uncompressed}.
+     */
+    @BuildStep
+    void setUpCompression(BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        providers.produce(new ResteasyJaxrsProviderBuildItem(UncompressedDynamicFeature.class.getName()));
+    }
+
     @Record(STATIC_INIT)
     @BuildStep(onlyIf = IsDevelopment.class)
     void setupExceptionMapper(BuildProducer<ResteasyJaxrsProviderBuildItem> providers, HttpRootPathBuildItem httpRoot,
@@ -0,0 +1,31 @@
+package io.quarkus.resteasy.test;
+
+import java.util.Collections;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import io.quarkus.vertx.http.Uncompressed;
+
+@Path("/compression")
+public class CompressionResource {
+
+    static final String BODY = String.join("", Collections.nCopies(200, "Hello world! "));
+
+    @GET
+    @Path("/compressed")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String compressed() {
+        return BODY;
+    }
+
+    @GET
+    @Uncompressed
+    @Path("/uncompressed")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String uncompressed() {
+        return BODY;
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.resteasy.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompressionTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CompressionResource.class))
+            .overrideConfigKey("quarkus.http.compression.enabled", "true");
+
+    @Test
+    public void testCompressed() {
+        given().header("Accept-Encoding", "gzip").get("/compression/compressed").then().statusCode(200)
+                .header("Content-Encoding", "gzip").body(is(CompressionResource.BODY));
+    }
+
+    @Test
+    public void testUncompressed() {
+        given().header("Accept-Encoding", "gzip").get("/compression/uncompressed").then().statusCode(200)
+                .header("Content-Encoding", "identity").body(is(CompressionResource.BODY));
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.resteasy.runtime;
+
+import java.io.IOException;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.core.ResteasyContext;
+
+import io.quarkus.vertx.http.Uncompressed;
+import io.quarkus.vertx.http.runtime.compression.HttpCompressionHandler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Disables the compression of the responses of the resource methods annotated with {@link Uncompressed}.
+ */
+@Provider
+public class UncompressedDynamicFeature implements DynamicFeature {
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        if (resourceInfo.getResourceMethod().isAnnotationPresent(Uncompressed.class)
+                || resourceInfo.getResourceClass().isAnnotationPresent(Uncompressed.class)) {
+            context.register(UncompressedFilter.class);
+        }
+    }
+
+    public static class UncompressedFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+                throws IOException {
+            RoutingContext routingContext = ResteasyContext.getContextData(RoutingContext.class);
+            // null when RESTEasy is deployed on the servlet container
+            if (routingContext != null) {
+                HttpCompressionHandler.disableCompression(routingContext);
+            }
+        }
+    }
+}
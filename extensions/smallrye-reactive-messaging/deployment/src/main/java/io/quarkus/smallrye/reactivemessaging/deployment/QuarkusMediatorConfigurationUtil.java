@@ -1,6 +1,7 @@
 package io.quarkus.smallrye.reactivemessaging.deployment;
 
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.ACKNOWLEDGMENT;
+import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.BATCH;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.BLOCKING;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.BROADCAST;
 import static io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames.INCOMING;
@@ -19,6 +20,7 @@ import org.jboss.jandex.Type;
 
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.deployment.recording.RecorderContext;
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusMediatorConfiguration;
 import io.smallrye.reactive.messaging.Invoker;
 import io.smallrye.reactive.messaging.MediatorConfigurationSupport;
@@ -130,6 +132,14 @@ final class QuarkusMediatorConfigurationUtil {
             }
         }
 
+        AnnotationInstance batchAnnotation = methodInfo.annotation(BATCH);
+        if (batchAnnotation != null) {
+            AnnotationValue maxSize = batchAnnotation.value("maxSize");
+            AnnotationValue maxWait = batchAnnotation.value("maxWait");
+            configuration.setBatchSize(maxSize == null ? Batch.DEFAULT_MAX_SIZE : maxSize.asInt());
+            configuration.setBatchMaxWait(maxWait == null ? Batch.DEFAULT_MAX_WAIT : maxWait.asLong());
+        }
+
         return configuration;
     }
 
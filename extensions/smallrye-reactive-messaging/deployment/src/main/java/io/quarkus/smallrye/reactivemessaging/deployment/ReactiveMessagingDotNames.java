@@ -1,10 +1,14 @@
 package io.quarkus.smallrye.reactivemessaging.deployment;
 
+import java.util.List;
+
 import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.Outgoing;
 import org.jboss.jandex.DotName;
 
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.annotations.Broadcast;
 import io.smallrye.reactive.messaging.annotations.Channel;
@@ -29,6 +33,9 @@ public final class ReactiveMessagingDotNames {
     static final DotName ACKNOWLEDGMENT = DotName.createSimple(Acknowledgment.class.getName());
     static final DotName MERGE = DotName.createSimple(Merge.class.getName());
     static final DotName BROADCAST = DotName.createSimple(Broadcast.class.getName());
+    static final DotName BATCH = DotName.createSimple(Batch.class.getName());
+    static final DotName MESSAGE = DotName.createSimple(Message.class.getName());
+    static final DotName LIST = DotName.createSimple(List.class.getName());
 
     static final DotName METRIC_DECORATOR = DotName.createSimple(MetricDecorator.class.getName());
 
@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.deployment;
 
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
 import java.lang.reflect.Modifier;
@@ -52,6 +53,8 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
@@ -62,6 +65,7 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusMediatorConfiguration;
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusMediatorFactory;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
 import io.quarkus.smallrye.reactivemessaging.runtime.ReactiveMessagingConfiguration;
 import io.quarkus.smallrye.reactivemessaging.runtime.SmallRyeReactiveMessagingLifecycle;
@@ -91,7 +95,7 @@ public class SmallRyeReactiveMessagingProcessor {
         // We add the connector and channel qualifiers to make them part of the index.
         return new AdditionalBeanBuildItem(SmallRyeReactiveMessagingLifecycle.class, Connector.class,
                 Channel.class, io.smallrye.reactive.messaging.annotations.Channel.class,
-                QuarkusWorkerPoolRegistry.class);
+                QuarkusWorkerPoolRegistry.class, QuarkusMediatorFactory.class);
     }
 
     @BuildStep
@@ -146,6 +150,8 @@ public class SmallRyeReactiveMessagingProcessor {
                         ReactiveMessagingDotNames.OUTGOING);
                 AnnotationInstance blocking = annotationStore.getAnnotation(method,
                         ReactiveMessagingDotNames.BLOCKING);
+                AnnotationInstance batch = annotationStore.getAnnotation(method,
+                        ReactiveMessagingDotNames.BATCH);
                 if (incoming != null || outgoing != null) {
                     if (incoming != null && incoming.value().asString().isEmpty()) {
                         validationPhase.getContext().addDeploymentProblem(
@@ -155,6 +161,9 @@ public class SmallRyeReactiveMessagingProcessor {
                         validationPhase.getContext().addDeploymentProblem(
                                 new DeploymentException("Empty @Outgoing annotation on method " + method));
                     }
+                    if (batch != null) {
+                        validateBatch(validationPhase, method, incoming, batch);
+                    }
                     // TODO: validate method params and return type?
                     mediatorMethods.produce(new MediatorBuildItem(bean, method));
                     LOGGER.debugf("Found mediator business method %s declared on %s", method, bean);
@@ -162,6 +171,9 @@ public class SmallRyeReactiveMessagingProcessor {
                     validationPhase.getContext().addDeploymentProblem(
                             new DeploymentException(
                                     "@Blocking used on " + method + " which has no @Incoming or @Outgoing annotation"));
+                } else if (batch != null) {
+                    validationPhase.getContext().addDeploymentProblem(
+                            new DeploymentException("@Batch used on " + method + " which has no @Incoming annotation"));
                 }
             }
         }
@@ -240,6 +252,38 @@ public class SmallRyeReactiveMessagingProcessor {
         }
     }
 
+    private void validateBatch(ValidationPhaseBuildItem validationPhase, MethodInfo method,
+            AnnotationInstance incoming, AnnotationInstance batch) {
+        if (incoming == null) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("@Batch used on " + method + " which has no @Incoming annotation"));
+            return;
+        }
+        // the method receives either a List of payloads or a Message of a List
+        List<Type> parameters = method.parameters();
+        Type parameter = parameters.size() == 1 ? parameters.get(0) : null;
+        if (parameter != null && parameter.name().equals(ReactiveMessagingDotNames.MESSAGE)) {
+            parameter = parameter.kind() == Type.Kind.PARAMETERIZED_TYPE
+                    ? parameter.asParameterizedType().arguments().get(0)
+                    : null;
+        }
+        if (parameter == null || !parameter.name().equals(ReactiveMessagingDotNames.LIST)) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("Invalid method " + method
+                            + " annotated with @Batch - it must have a single parameter of type List<T> or Message<List<T>>"));
+        }
+        AnnotationValue maxSize = batch.value("maxSize");
+        if (maxSize != null && maxSize.asInt() < 1) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("Invalid @Batch maxSize on method " + method + " - it must be at least 1"));
+        }
+        AnnotationValue maxWait = batch.value("maxWait");
+        if (maxWait != null && maxWait.asLong() < 1) {
+            validationPhase.getContext().addDeploymentProblem(
+                    new DeploymentException("Invalid @Batch maxWait on method " + method + " - it must be at least 1"));
+        }
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private void createEmitter(BuildProducer<EmitterBuildItem> emitters, InjectionPointInfo injectionPoint,
             String channelName,
@@ -305,6 +349,16 @@ public class SmallRyeReactiveMessagingProcessor {
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    public void registerWorkerPoolMetrics(SmallRyeReactiveMessagingRecorder recorder,
+            ReactiveMessagingConfiguration configuration, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (configuration.metricsEnabled && metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerWorkerPoolMetrics()));
+        }
+    }
+
     @BuildStep
     public void enableHealth(ReactiveMessagingBuildTimeConfig buildTimeConfig, BuildProducer<HealthBuildItem> producer) {
         producer.produce(
@@ -0,0 +1,137 @@
+package io.quarkus.smallrye.reactivemessaging.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+
+public class BatchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(PayloadBatches.class, MessageBatches.class, SlowBatches.class));
+
+    @Inject
+    PayloadBatches payloadBatches;
+
+    @Inject
+    MessageBatches messageBatches;
+
+    @Inject
+    SlowBatches slowBatches;
+
+    @Test
+    public void testBatchesOfPayloads() {
+        await().until(() -> payloadBatches.results().size() == 3);
+        assertThat(payloadBatches.results()).containsExactly("a,b,c,d", "e,f,g,h", "i,j");
+    }
+
+    @Test
+    public void testBatchesAreAcknowledgedAtOnce() {
+        await().until(() -> messageBatches.acked() == 10);
+        assertThat(messageBatches.sizes()).containsExactly(5, 5);
+    }
+
+    @Test
+    public void testBatchesAreDeliveredAfterMaxWait() {
+        await().until(() -> slowBatches.sizes().stream().mapToInt(Integer::intValue).sum() == 6);
+        // an item every 100ms, a batch waits at most 250ms
+        assertThat(slowBatches.sizes()).hasSizeGreaterThan(1).allMatch(size -> size <= 3);
+    }
+
+    @ApplicationScoped
+    public static class PayloadBatches {
+
+        private final List<String> results = new CopyOnWriteArrayList<>();
+
+        @Outgoing("letters")
+        public Publisher<String> produce() {
+            return Multi.createFrom().items("a", "b", "c", "d", "e", "f", "g", "h", "i", "j");
+        }
+
+        public List<String> results() {
+            return results;
+        }
+
+        @Incoming("letters")
+        @Batch(maxSize = 4, maxWait = 200)
+        public void consume(List<String> letters) {
+            results.add(String.join(",", letters));
+        }
+    }
+
+    @ApplicationScoped
+    public static class MessageBatches {
+
+        private final AtomicInteger acked = new AtomicInteger();
+        private final List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        @Outgoing("numbers")
+        public Publisher<Message<Integer>> produce() {
+            return Multi.createFrom().range(0, 10).map(i -> Message.of(i, () -> {
+                acked.incrementAndGet();
+                return CompletableFuture.completedFuture(null);
+            }));
+        }
+
+        public int acked() {
+            return acked.get();
+        }
+
+        public List<Integer> sizes() {
+            return sizes;
+        }
+
+        @Incoming("numbers")
+        @Batch(maxSize = 5)
+        public CompletionStage<Void> consume(Message<List<Integer>> batch) {
+            // nothing is acknowledged before the batch
+            assertThat(acked.get()).isEqualTo(sizes.size() * 5);
+            sizes.add(batch.getPayload().size());
+            return batch.ack();
+        }
+    }
+
+    @ApplicationScoped
+    public static class SlowBatches {
+
+        private final List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        @Outgoing("ticks")
+        public Publisher<Long> produce() {
+            return Multi.createFrom().ticks().every(Duration.ofMillis(100)).transform().byTakingFirstItems(6);
+        }
+
+        public List<Integer> sizes() {
+            return sizes;
+        }
+
+        @Incoming("ticks")
+        @Batch(maxSize = 100, maxWait = 250)
+        public void consume(List<Long> ticks) {
+            sizes.add(ticks.size());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.smallrye.reactivemessaging.batch;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.smallrye.reactivemessaging.annotations.Batch;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BatchValidationErrorTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanConsumingASingleItem.class))
+            .setExpectedException(DeploymentException.class);
+
+    @Test
+    public void runTest() {
+        fail();
+    }
+
+    @ApplicationScoped
+    public static class BeanConsumingASingleItem {
+
+        @Incoming("count")
+        @Batch
+        public void consume(String item) {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.quarkus.smallrye.reactivemessaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Outgoing;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
+import io.quarkus.smallrye.reactivemessaging.runtime.WorkerPool;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+
+public class BoundedWorkerPoolTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Consumers.class)
+                    .addAsResource(
+                            new File("src/test/resources/config/bounded-worker-config.properties"),
+                            "application.properties"));
+
+    @Inject
+    Consumers consumers;
+
+    @Inject
+    QuarkusWorkerPoolRegistry registry;
+
+    @Test
+    public void testChannelsWaitForTheBoundedPool() {
+        await().until(() -> consumers.list().size() == 15);
+        // a single task runs at a time, the others wait instead of piling up
+        assertThat(consumers.maxConcurrency()).isEqualTo(1);
+        // and none of them waits in the queue
+        assertThat(consumers.maxTasks()).isEqualTo(1);
+
+        WorkerPool pool = registry.getWorkerPools().get("bounded-pool");
+        assertThat(pool).isNotNull();
+        assertThat(pool.getMaxConcurrency()).isEqualTo(1);
+        assertThat(pool.getMaxQueueSize()).isZero();
+        assertThat(pool.getRejectionPolicy()).isEqualTo(WorkerPool.RejectionPolicy.WAIT);
+        assertThat(pool.getRejected()).isPositive();
+        await().until(() -> pool.getActive() == 0 && pool.getQueued() == 0);
+    }
+
+    @ApplicationScoped
+    public static class Consumers {
+
+        private final List<String> list = new CopyOnWriteArrayList<>();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final AtomicInteger maxTasks = new AtomicInteger();
+
+        @Inject
+        QuarkusWorkerPoolRegistry registry;
+
+        @Outgoing("a")
+        public Publisher<String> a() {
+            return Multi.createFrom().items("a1", "a2", "a3", "a4", "a5");
+        }
+
+        @Outgoing("b")
+        public Publisher<String> b() {
+            return Multi.createFrom().items("b1", "b2", "b3", "b4", "b5");
+        }
+
+        @Outgoing("c")
+        public Publisher<String> c() {
+            return Multi.createFrom().items("c1", "c2", "c3", "c4", "c5");
+        }
+
+        @Incoming("a")
+        @Blocking("bounded-pool")
+        public void consumeA(String s) throws InterruptedException {
+            consume(s);
+        }
+
+        @Incoming("b")
+        @Blocking("bounded-pool")
+        public void consumeB(String s) throws InterruptedException {
+            consume(s);
+        }
+
+        @Incoming("c")
+        @Blocking("bounded-pool")
+        public void consumeC(String s) throws InterruptedException {
+            consume(s);
+        }
+
+        private void consume(String s) throws InterruptedException {
+            int current = running.incrementAndGet();
+            maxConcurrency.accumulateAndGet(current, Math::max);
+            WorkerPool pool = registry.getWorkerPools().get("bounded-pool");
+            maxTasks.accumulateAndGet(pool.getActive() + pool.getQueued(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            list.add(s);
+        }
+
+        public List<String> list() {
+            return list;
+        }
+
+        public int maxConcurrency() {
+            return maxConcurrency.get();
+        }
+
+        public int maxTasks() {
+            return maxTasks.get();
+        }
+    }
+}
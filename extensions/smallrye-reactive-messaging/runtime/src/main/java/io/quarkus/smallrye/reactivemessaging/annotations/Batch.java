@@ -0,0 +1,41 @@
+package io.quarkus.smallrye.reactivemessaging.annotations;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that an {@code @Incoming} method receives the messages of its channel in batches.
+ * <p>
+ * The method receives either a {@code List} of payloads or a {@code Message} whose payload is a {@code List}. A batch is
+ * delivered once {@link #maxSize()} messages are received, or {@link #maxWait()} milliseconds after its first message.
+ * Acknowledging the batch acknowledges all the messages it contains.
+ *
+ * <pre>
+ * &#64;Incoming("prices")
+ * &#64;Batch(maxSize = 100, maxWait = 500)
+ * public void consume(List&lt;Double&gt; prices) {
+ *     // ...
+ * }
+ * </pre>
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface Batch {
+
+    int DEFAULT_MAX_SIZE = 500;
+
+    long DEFAULT_MAX_WAIT = 1000;
+
+    /**
+     * The maximum number of messages of a batch.
+     */
+    int maxSize() default DEFAULT_MAX_SIZE;
+
+    /**
+     * The maximum time, in milliseconds, a batch waits for more messages once it has received its first one.
+     */
+    long maxWait() default DEFAULT_MAX_WAIT;
+}
@@ -0,0 +1,276 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Groups the messages of a stream into batches, a batch being a single message whose payload is the list of the
+ * payloads of its messages.
+ * <p>
+ * A batch is emitted once it contains {@code maxSize} messages, or {@code maxWait} milliseconds after its first
+ * message. No more messages than what fits in the requested batches are requested upstream. Acknowledging a batch
+ * acknowledges all its messages, in order; a negative acknowledgement is propagated the same way. Kafka records are
+ * the exception: acknowledging a record commits the offsets of all the records consumed before it, so only the last
+ * record of the batch is acknowledged.
+ * <p>
+ * The messages that are still buffered when the subscription is cancelled are negatively acknowledged.
+ */
+final class MessageBatcher implements Publisher<Message<?>> {
+
+    // the Kafka connector is optional, hence the class name
+    private static final String KAFKA_RECORD = "io.smallrye.reactive.messaging.kafka.IncomingKafkaRecord";
+
+    private final Publisher<? extends Message<?>> upstream;
+    private final int maxSize;
+    private final long maxWait;
+    private final ScheduledExecutorService scheduler;
+
+    MessageBatcher(Publisher<? extends Message<?>> upstream, int maxSize, long maxWait,
+            ScheduledExecutorService scheduler) {
+        this.upstream = upstream;
+        this.maxSize = maxSize;
+        this.maxWait = maxWait;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Message<?>> subscriber) {
+        upstream.subscribe(new BatchSubscriber(subscriber));
+    }
+
+    static Message<List<Object>> aggregate(List<Message<?>> messages) {
+        List<Object> payloads = new ArrayList<>(messages.size());
+        for (Message<?> message : messages) {
+            payloads.add(message.getPayload());
+        }
+        return Message.of(Collections.unmodifiableList(payloads), () -> {
+            if (isKafkaBatch(messages)) {
+                return messages.get(messages.size() - 1).ack();
+            }
+            CompletableFuture<?>[] acks = new CompletableFuture[messages.size()];
+            for (int i = 0; i < acks.length; i++) {
+                acks[i] = messages.get(i).ack().toCompletableFuture();
+            }
+            return CompletableFuture.allOf(acks);
+        }, reason -> {
+            CompletableFuture<?>[] nacks = new CompletableFuture[messages.size()];
+            for (int i = 0; i < nacks.length; i++) {
+                nacks[i] = messages.get(i).nack(reason).toCompletableFuture();
+            }
+            return CompletableFuture.allOf(nacks);
+        });
+    }
+
+    private static boolean isKafkaBatch(List<Message<?>> messages) {
+        for (Message<?> message : messages) {
+            if (!message.getClass().getName().equals(KAFKA_RECORD)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Throwable cancellation() {
+        return new CancellationException("The batch subscription has been cancelled");
+    }
+
+    private static void nack(List<Message<?>> messages, Throwable reason) {
+        for (Message<?> message : messages) {
+            message.nack(reason);
+        }
+    }
+
+    private final class BatchSubscriber implements Subscriber<Message<?>>, Subscription {
+
+        private final Subscriber<? super Message<?>> downstream;
+        // serializes the signals sent downstream and the requests sent upstream
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // the following fields are guarded by this
+        private Subscription subscription;
+        private final List<Message<?>> buffer = new ArrayList<>();
+        private long demand;
+        // the messages requested upstream and not received yet
+        private long requested;
+        private long generation;
+        private boolean expired;
+        private ScheduledFuture<?> timer;
+        private boolean done;
+        private Throwable failure;
+        private boolean terminated;
+        private boolean cancelled;
+
+        BatchSubscriber(Subscriber<? super Message<?>> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            synchronized (this) {
+                subscription = s;
+            }
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(Message<?> message) {
+            boolean accepted = false;
+            synchronized (this) {
+                if (!cancelled) {
+                    requested--;
+                    buffer.add(message);
+                    if (buffer.size() == 1) {
+                        long current = generation;
+                        timer = scheduler.schedule(() -> onTimeout(current), maxWait, TimeUnit.MILLISECONDS);
+                    }
+                    accepted = true;
+                }
+            }
+            if (accepted) {
+                drain();
+            } else {
+                // received after the cancellation
+                message.nack(cancellation());
+            }
+        }
+
+        private void onTimeout(long batch) {
+            synchronized (this) {
+                if (batch != generation) {
+                    // the batch has already been emitted
+                    return;
+                }
+                expired = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                failure = t;
+                done = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                done = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("Invalid request: " + n));
+                return;
+            }
+            synchronized (this) {
+                demand += n;
+                if (demand < 0) {
+                    demand = Long.MAX_VALUE;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Subscription s;
+            List<Message<?>> dropped;
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                resetTimer();
+                dropped = new ArrayList<>(buffer);
+                buffer.clear();
+                s = subscription;
+            }
+            s.cancel();
+            nack(dropped, cancellation());
+        }
+
+        private void resetTimer() {
+            generation++;
+            expired = false;
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                for (;;) {
+                    List<Message<?>> batch = null;
+                    Throwable error = null;
+                    boolean complete = false;
+                    long toRequest = 0;
+                    Subscription s;
+                    synchronized (this) {
+                        if (cancelled || terminated) {
+                            return;
+                        }
+                        s = subscription;
+                        if (failure != null) {
+                            terminated = true;
+                            error = failure;
+                            resetTimer();
+                        } else if (demand > 0 && !buffer.isEmpty()
+                                && (buffer.size() >= maxSize || expired || done)) {
+                            batch = new ArrayList<>(buffer);
+                            buffer.clear();
+                            demand--;
+                            resetTimer();
+                        } else if (done && buffer.isEmpty()) {
+                            terminated = true;
+                            complete = true;
+                        } else if (!done && demand > 0) {
+                            toRequest = maxSize - buffer.size() - requested;
+                            requested += toRequest;
+                        }
+                    }
+                    if (error != null) {
+                        downstream.onError(error);
+                        return;
+                    }
+                    if (complete) {
+                        downstream.onComplete();
+                        return;
+                    }
+                    if (batch != null) {
+                        downstream.onNext(aggregate(batch));
+                        continue;
+                    }
+                    if (toRequest > 0) {
+                        s.request(toRequest);
+                    }
+                    break;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
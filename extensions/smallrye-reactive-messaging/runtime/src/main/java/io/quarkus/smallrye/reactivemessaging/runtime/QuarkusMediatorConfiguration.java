@@ -50,6 +50,10 @@ public class QuarkusMediatorConfiguration implements MediatorConfiguration {
 
     private String workerPoolName;
 
+    private int batchSize;
+
+    private long batchMaxWait;
+
     public String getBeanId() {
         return beanId;
     }
@@ -243,4 +247,23 @@ public class QuarkusMediatorConfiguration implements MediatorConfiguration {
     public void setWorkerPoolName(String workerPoolName) {
         this.workerPoolName = workerPoolName;
     }
+
+    /**
+     * @return the maximum number of messages of a batch, {@code 0} if the method does not receive batches
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchMaxWait() {
+        return batchMaxWait;
+    }
+
+    public void setBatchMaxWait(long batchMaxWait) {
+        this.batchMaxWait = batchMaxWait;
+    }
 }
@@ -0,0 +1,57 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+
+import io.quarkus.arc.AlternativePriority;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.reactive.messaging.AbstractMediator;
+import io.smallrye.reactive.messaging.MediatorConfiguration;
+import io.smallrye.reactive.messaging.MediatorFactory;
+import io.smallrye.reactive.messaging.ProcessorMediator;
+import io.smallrye.reactive.messaging.SubscriberMediator;
+
+/**
+ * Creates the mediators, the methods consuming batches get their incoming messages grouped by a {@link MessageBatcher}.
+ */
+@AlternativePriority(1)
+@ApplicationScoped
+public class QuarkusMediatorFactory extends MediatorFactory {
+
+    @Override
+    public AbstractMediator create(MediatorConfiguration configuration) {
+        if (!(configuration instanceof QuarkusMediatorConfiguration)
+                || ((QuarkusMediatorConfiguration) configuration).getBatchSize() <= 0) {
+            return super.create(configuration);
+        }
+        QuarkusMediatorConfiguration batchConfiguration = (QuarkusMediatorConfiguration) configuration;
+        switch (configuration.shape()) {
+            case SUBSCRIBER:
+                return new SubscriberMediator(configuration) {
+                    @Override
+                    public void connectToUpstream(PublisherBuilder<? extends Message<?>> publisher) {
+                        super.connectToUpstream(batch(publisher, batchConfiguration));
+                    }
+                };
+            case PROCESSOR:
+                return new ProcessorMediator(configuration) {
+                    @Override
+                    public void connectToUpstream(PublisherBuilder<? extends Message<?>> publisher) {
+                        super.connectToUpstream(batch(publisher, batchConfiguration));
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Batches are not supported by the method "
+                        + configuration.methodAsString() + " of shape " + configuration.shape());
+        }
+    }
+
+    private static PublisherBuilder<Message<?>> batch(PublisherBuilder<? extends Message<?>> publisher,
+            QuarkusMediatorConfiguration configuration) {
+        return ReactiveStreams.fromPublisher(new MessageBatcher(publisher.buildRs(), configuration.getBatchSize(),
+                configuration.getBatchMaxWait(), Infrastructure.getDefaultWorkerPool()));
+    }
+}
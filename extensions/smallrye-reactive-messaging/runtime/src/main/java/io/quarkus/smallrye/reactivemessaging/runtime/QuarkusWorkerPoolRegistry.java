@@ -1,10 +1,14 @@
 package io.quarkus.smallrye.reactivemessaging.runtime;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Priority;
 import javax.enterprise.context.ApplicationScoped;
@@ -17,6 +21,7 @@ import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.LoggerFactory;
 
 import io.quarkus.arc.AlternativePriority;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import io.smallrye.reactive.messaging.connectors.ExecutionHolder;
@@ -32,55 +37,132 @@ import io.vertx.mutiny.core.WorkerExecutor;
 public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
     private static final String WORKER_CONFIG_PREFIX = "smallrye.messaging.worker";
     private static final String WORKER_CONCURRENCY = "max-concurrency";
+    private static final String WORKER_QUEUE_SIZE = "max-queue-size";
+    private static final String WORKER_REJECTION_POLICY = "rejection-policy";
 
     @Inject
     ExecutionHolder executionHolder;
 
     private Map<String, Integer> workerConcurrency = new HashMap<>();
-    private Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+    private Map<String, Integer> workerQueueSize = new HashMap<>();
+    private Map<String, WorkerPool.RejectionPolicy> workerRejectionPolicy = new HashMap<>();
+    private Map<String, WorkerPool> workerPools = new ConcurrentHashMap<>();
+    // the pools whose metrics are registered
+    private Set<String> measuredPools = ConcurrentHashMap.newKeySet();
+    private volatile MetricsFactory metricsFactory;
 
     public void terminate(
             @Observes(notifyObserver = Reception.IF_EXISTS) @Priority(100) @BeforeDestroyed(ApplicationScoped.class) Object event) {
-        if (!workerExecutors.isEmpty()) {
-            for (WorkerExecutor executor : workerExecutors.values()) {
-                executor.close();
+        if (!workerPools.isEmpty()) {
+            for (WorkerPool pool : workerPools.values()) {
+                pool.close();
             }
         }
     }
 
+    /**
+     * Stops accepting tasks and waits for the running and queued ones to complete.
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (WorkerPool pool : workerPools.values()) {
+            try {
+                if (!pool.shutdown(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    LoggerFactory.getLogger(WorkerPoolRegistry.class)
+                            .warn("Worker pool " + pool.getName() + " still has " + pool.getActive()
+                                    + " active and " + pool.getQueued() + " queued tasks at shutdown");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the worker pools used so far, by name, the default pool being named {@link Blocking#DEFAULT_WORKER_POOL}
+     */
+    public Map<String, WorkerPool> getWorkerPools() {
+        return Collections.unmodifiableMap(workerPools);
+    }
+
+    /**
+     * Registers the metrics of the worker pools, the ones created later included.
+     */
+    void bindTo(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+        for (WorkerPool pool : workerPools.values()) {
+            registerMetrics(pool);
+        }
+    }
+
+    private void registerMetrics(WorkerPool pool) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null || !measuredPools.add(pool.getName())) {
+            return;
+        }
+        factory.builder("smallrye.messaging.worker.active")
+                .description("Number of tasks running on the worker pool.")
+                .tag("pool", pool.getName())
+                .buildGauge(pool::getActive);
+        factory.builder("smallrye.messaging.worker.queued")
+                .description("Number of tasks waiting for a thread of the worker pool.")
+                .tag("pool", pool.getName())
+                .buildGauge(pool::getQueued);
+        factory.builder("smallrye.messaging.worker.rejected")
+                .description("Number of tasks submitted while the queue of the worker pool was full.")
+                .tag("pool", pool.getName())
+                .buildCounter(pool::getRejected);
+    }
+
     public <T> Uni<T> executeWork(Handler<Promise<T>> blockingCodeHandler, String workerName, boolean ordered) {
         Objects.requireNonNull(blockingCodeHandler, "Action to execute not provided");
 
         if (workerName == null) {
-            return executionHolder.vertx().executeBlocking(blockingCodeHandler, ordered);
+            return getDefaultWorker().execute(blockingCodeHandler, ordered);
         } else {
-            return getWorker(workerName).executeBlocking(blockingCodeHandler, ordered);
+            return getWorker(workerName).execute(blockingCodeHandler, ordered);
         }
     }
 
-    private WorkerExecutor getWorker(String workerName) {
+    private WorkerPool getDefaultWorker() {
+        WorkerPool pool = workerPools.get(Blocking.DEFAULT_WORKER_POOL);
+        if (pool == null) {
+            pool = workerPools.computeIfAbsent(Blocking.DEFAULT_WORKER_POOL,
+                    name -> new WorkerPool(name, executionHolder.vertx(), null, -1, -1, WorkerPool.RejectionPolicy.WAIT));
+            registerMetrics(pool);
+        }
+        return pool;
+    }
+
+    private WorkerPool getWorker(String workerName) {
         Objects.requireNonNull(workerName, "Worker Name not specified");
 
-        if (workerExecutors.containsKey(workerName)) {
-            return workerExecutors.get(workerName);
+        if (workerPools.containsKey(workerName)) {
+            return workerPools.get(workerName);
         }
         if (workerConcurrency.containsKey(workerName)) {
-            WorkerExecutor executor = workerExecutors.get(workerName);
-            if (executor == null) {
+            WorkerPool pool = workerPools.get(workerName);
+            if (pool == null) {
                 synchronized (this) {
-                    executor = workerExecutors.get(workerName);
-                    if (executor == null) {
-                        executor = executionHolder.vertx().createSharedWorkerExecutor(workerName,
-                                workerConcurrency.get(workerName));
+                    pool = workerPools.get(workerName);
+                    if (pool == null) {
+                        int concurrency = workerConcurrency.get(workerName);
+                        int queueSize = workerQueueSize.get(workerName);
+                        WorkerExecutor executor = executionHolder.vertx().createSharedWorkerExecutor(workerName,
+                                concurrency);
+                        pool = new WorkerPool(workerName, executionHolder.vertx(), executor, concurrency, queueSize,
+                                workerRejectionPolicy.get(workerName));
                         LoggerFactory.getLogger(WorkerPoolRegistry.class)
                                 .info("Created worker pool named " + workerName + " with concurrency of "
-                                        + workerConcurrency.get(workerName));
-                        workerExecutors.put(workerName, executor);
+                                        + concurrency + (queueSize < 0 ? "" : " and queue size of " + queueSize));
+                        workerPools.put(workerName, pool);
+                        registerMetrics(pool);
                     }
                 }
             }
-            if (executor != null) {
-                return executor;
+            if (pool != null) {
+                return pool;
             } else {
                 throw new RuntimeException("Failed to create Worker for " + workerName);
             }
@@ -108,6 +190,21 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
             }
 
             workerConcurrency.put(poolName, concurrency.get());
+
+            String queueSizeKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_QUEUE_SIZE;
+            int queueSize = ConfigProvider.getConfig().getOptionalValue(queueSizeKey, Integer.class).orElse(-1);
+            if (queueSize < -1) {
+                throw getBlockingError(className, method, queueSizeKey + " must not be negative");
+            }
+            workerQueueSize.put(poolName, queueSize);
+
+            String policyKey = WORKER_CONFIG_PREFIX + "." + poolName + "." + WORKER_REJECTION_POLICY;
+            String policy = ConfigProvider.getConfig().getOptionalValue(policyKey, String.class).orElse("wait");
+            try {
+                workerRejectionPolicy.put(poolName, WorkerPool.RejectionPolicy.valueOf(policy.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw getBlockingError(className, method, policyKey + " must be either wait or fail");
+            }
         }
     }
 
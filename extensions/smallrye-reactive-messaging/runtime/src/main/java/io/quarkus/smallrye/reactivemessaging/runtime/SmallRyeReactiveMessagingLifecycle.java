@@ -1,20 +1,29 @@
 package io.quarkus.smallrye.reactivemessaging.runtime;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.annotation.Priority;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.DeploymentException;
 import javax.inject.Inject;
 
+import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import io.smallrye.reactive.messaging.extension.MediatorManager;
 
 @Dependent
 public class SmallRyeReactiveMessagingLifecycle {
 
+    // the time given to the blocking methods in progress to complete at shutdown
+    private static final long WORKER_SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     @Inject
     MediatorManager mediatorManager;
 
+    @Inject
+    QuarkusWorkerPoolRegistry workerPoolRegistry;
+
     void onApplicationStart(@Observes @Priority(javax.interceptor.Interceptor.Priority.LIBRARY_BEFORE) StartupEvent event) {
         try {
             mediatorManager.initializeAndRun();
@@ -23,4 +32,8 @@ public class SmallRyeReactiveMessagingLifecycle {
         }
     }
 
+    void onApplicationShutdown(@Observes ShutdownEvent event) {
+        workerPoolRegistry.shutdown(WORKER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
 }
@@ -1,9 +1,12 @@
 package io.quarkus.smallrye.reactivemessaging.runtime;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.reactive.messaging.extension.EmitterConfiguration;
 import io.smallrye.reactive.messaging.extension.MediatorManager;
 
@@ -27,4 +30,13 @@ public class SmallRyeReactiveMessagingRecorder {
         QuarkusWorkerPoolRegistry registry = container.instance(QuarkusWorkerPoolRegistry.class);
         registry.defineWorker(className, name, poolName);
     }
+
+    public Consumer<MetricsFactory> registerWorkerPoolMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                Arc.container().instance(QuarkusWorkerPoolRegistry.class).get().bindTo(metricsFactory);
+            }
+        };
+    }
 }
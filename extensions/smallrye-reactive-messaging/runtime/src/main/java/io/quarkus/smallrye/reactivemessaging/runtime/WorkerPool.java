@@ -0,0 +1,257 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.core.Promise;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.WorkerExecutor;
+
+/**
+ * A pool of worker threads running the {@code @Blocking} methods, along with the number of its active, queued and
+ * rejected tasks.
+ * <p>
+ * When the pool has a maximum queue size, at most that many tasks wait for a thread. The tasks submitted while the queue
+ * is full either wait until there is room, which delays their result and thus the delivery of the next messages of the
+ * channel, or fail. The submitting thread, often an event loop, is never blocked.
+ */
+public final class WorkerPool {
+
+    public enum RejectionPolicy {
+        /**
+         * The task is queued once there is room in the queue, its result is delayed meanwhile.
+         */
+        WAIT,
+        /**
+         * The task fails with a {@link RejectedExecutionException}.
+         */
+        FAIL
+    }
+
+    private final String name;
+    private final Vertx vertx;
+    // null for the default pool of Vert.x
+    private final WorkerExecutor executor;
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final RejectionPolicy rejectionPolicy;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    // signaled when no task is in flight anymore
+    private final Condition idle = lock.newCondition();
+    // the tasks waiting for a slot, the executor only gets as many tasks as it has threads when the queue is bounded
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    // the tasks submitted while the queue was full, waiting for room in the queue
+    private final Queue<Deferred> deferred = new ArrayDeque<>();
+    // the tasks submitted to the executor and not completed yet
+    private int inFlight;
+    private boolean closed;
+
+    WorkerPool(String name, Vertx vertx, WorkerExecutor executor, int maxConcurrency, int maxQueueSize,
+            RejectionPolicy rejectionPolicy) {
+        this.name = name;
+        this.vertx = vertx;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the maximum number of tasks running at the same time, {@code -1} for the default pool
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the maximum number of tasks waiting for a thread, {@code -1} if unbounded
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    /**
+     * @return the number of tasks running
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    /**
+     * @return the number of tasks waiting for a thread
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of tasks submitted while the queue was full, whether they waited for room or failed
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    <T> Uni<T> execute(Handler<Promise<T>> handler, boolean ordered) {
+        return Uni.createFrom().emitter(emitter -> {
+            Runnable submission = () -> submit(handler, ordered, emitter);
+            RejectedExecutionException rejection = null;
+            lock.lock();
+            try {
+                if (closed) {
+                    rejection = new RejectedExecutionException("The worker pool " + name + " is shut down");
+                } else if (maxQueueSize < 0 || inFlight < maxConcurrency) {
+                    inFlight++;
+                    queued.incrementAndGet();
+                } else if (waiting.size() < maxQueueSize) {
+                    waiting.add(submission);
+                    queued.incrementAndGet();
+                    return;
+                } else {
+                    rejected.incrementAndGet();
+                    if (rejectionPolicy == RejectionPolicy.FAIL) {
+                        rejection = new RejectedExecutionException("The queue of the worker pool " + name + " is full");
+                    } else {
+                        deferred.add(new Deferred(submission, emitter));
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (rejection != null) {
+                emitter.fail(rejection);
+            } else {
+                submission.run();
+            }
+        });
+    }
+
+    private <T> void submit(Handler<Promise<T>> handler, boolean ordered, UniEmitter<? super T> emitter) {
+        AtomicBoolean started = new AtomicBoolean();
+        Handler<Promise<T>> counting = promise -> {
+            started.set(true);
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            try {
+                handler.handle(promise);
+            } finally {
+                active.decrementAndGet();
+                release();
+            }
+        };
+        Uni<T> uni = executor != null ? executor.executeBlocking(counting, ordered)
+                : vertx.executeBlocking(counting, ordered);
+        uni.subscribe().with(emitter::complete, failure -> {
+            if (!started.get()) {
+                queued.decrementAndGet();
+                release();
+            }
+            emitter.fail(failure);
+        });
+    }
+
+    private void release() {
+        Runnable next;
+        lock.lock();
+        try {
+            // the slot goes to the next waiting task, if any, and the room it leaves in the queue to the next deferred one
+            next = waiting.poll();
+            Deferred admitted = deferred.poll();
+            if (admitted != null) {
+                queued.incrementAndGet();
+                if (next == null) {
+                    next = admitted.submission;
+                } else {
+                    waiting.add(admitted.submission);
+                }
+            }
+            if (next == null) {
+                inFlight--;
+                if (inFlight == 0) {
+                    idle.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits for the submitted ones to complete.
+     *
+     * @return {@code true} if all the tasks completed before the timeout
+     */
+    boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        List<Deferred> dropped;
+        lock.lock();
+        try {
+            closed = true;
+            dropped = new ArrayList<>(deferred);
+            deferred.clear();
+        } finally {
+            lock.unlock();
+        }
+        // the tasks waiting for room fail
+        for (Deferred task : dropped) {
+            task.emitter.fail(new RejectedExecutionException("The worker pool " + name + " is shut down"));
+        }
+        lock.lock();
+        try {
+            // the waiting tasks hold back the ones in flight, so there is none left once nothing is in flight
+            while (inFlight > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = idle.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    private static final class Deferred {
+
+        final Runnable submission;
+        final UniEmitter<?> emitter;
+
+        Deferred(Runnable submission, UniEmitter<?> emitter) {
+            this.submission = submission;
+            this.emitter = emitter;
+        }
+    }
+}
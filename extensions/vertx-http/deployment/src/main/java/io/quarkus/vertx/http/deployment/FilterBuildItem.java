@@ -12,6 +12,7 @@ import io.vertx.ext.web.RoutingContext;
 public final class FilterBuildItem extends MultiBuildItem {
 
     //predefined system priorities
+    public static final int COMPRESSION = 400;
     public static final int CORS = 300;
     public static final int AUTHENTICATION = 200;
     public static final int AUTHORIZATION = 100;
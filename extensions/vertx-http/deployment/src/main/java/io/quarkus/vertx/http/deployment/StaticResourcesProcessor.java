@@ -3,16 +3,31 @@ package io.quarkus.vertx.http.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URLConnection;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -23,8 +38,14 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.StaticResourceInfo;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
 
 /**
@@ -35,27 +56,88 @@ public class StaticResourcesProcessor {
     public static final class StaticResourcesBuildItem extends SimpleBuildItem {
 
         private final Set<String> paths;
+        private final List<StaticResourceInfo> inMemoryResources;
 
         public StaticResourcesBuildItem(Set<String> paths) {
+            this(paths, Collections.emptyList());
+        }
+
+        public StaticResourcesBuildItem(Set<String> paths, List<StaticResourceInfo> inMemoryResources) {
             this.paths = paths;
+            this.inMemoryResources = inMemoryResources;
         }
 
         public Set<String> getPaths() {
             return paths;
         }
 
+        /**
+         * @return the resources served from memory, a subset of the paths
+         */
+        public List<StaticResourceInfo> getInMemoryResources() {
+            return inMemoryResources;
+        }
+
+    }
+
+    private static final String COMPRESSED_RESOURCES = "META-INF/quarkus-compressed-resources";
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final String BROTLI_EXTENSION = ".br";
+    // the other types are either already compressed, like images and fonts, or unlikely to be served statically
+    private static final List<String> COMPRESSIBLE_TYPES = Arrays.asList("text/", "application/javascript",
+            "application/json", "application/xml", "image/svg+xml", "application/wasm");
+    // the web content types unknown to the JDK, as served by io.vertx.ext.web.handler.StaticHandler
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        CONTENT_TYPES.put("css", "text/css");
+        CONTENT_TYPES.put("js", "application/javascript");
+        CONTENT_TYPES.put("json", "application/json");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("ico", "image/x-icon");
+        CONTENT_TYPES.put("webp", "image/webp");
+        CONTENT_TYPES.put("wasm", "application/wasm");
+        CONTENT_TYPES.put("woff", "application/x-font-woff");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+        CONTENT_TYPES.put("ttf", "application/x-font-ttf");
+        CONTENT_TYPES.put("otf", "application/x-font-otf");
+        CONTENT_TYPES.put("eot", "application/vnd.ms-fontobject");
     }
 
     @BuildStep
     void collectStaticResources(Capabilities capabilities, ApplicationArchivesBuildItem applicationArchivesBuildItem,
-            BuildProducer<StaticResourcesBuildItem> staticResources) throws Exception {
+            LaunchModeBuildItem launchMode, HttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) throws Exception {
         if (capabilities.isPresent(Capability.SERVLET)) {
             // Servlet container handles static resources
             return;
         }
-        Set<String> paths = getClasspathResources(applicationArchivesBuildItem);
+        // in dev mode the resources can change at any time
+        InMemoryResources inMemoryResources = httpBuildTimeConfig.staticResources.inMemory
+                && launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT
+                        ? new InMemoryResources(httpBuildTimeConfig.staticResources.maxInMemorySize.asLongValue())
+                        : null;
+        Set<String> paths = getClasspathResources(applicationArchivesBuildItem, inMemoryResources);
         if (!paths.isEmpty()) {
-            staticResources.produce(new StaticResourcesBuildItem(paths));
+            List<StaticResourceInfo> infos = Collections.emptyList();
+            if (inMemoryResources != null) {
+                infos = inMemoryResources.getInfos();
+                for (Map.Entry<String, byte[]> compressed : inMemoryResources.compressed.entrySet()) {
+                    generatedResources.produce(new GeneratedResourceBuildItem(compressed.getKey(), compressed.getValue()));
+                }
+                for (StaticResourceInfo info : infos) {
+                    nativeImageResources.produce(new NativeImageResourceBuildItem(info.resource));
+                    if (info.gzipResource != null) {
+                        nativeImageResources.produce(new NativeImageResourceBuildItem(info.gzipResource));
+                    }
+                    if (info.brotliResource != null) {
+                        nativeImageResources.produce(new NativeImageResourceBuildItem(info.brotliResource));
+                    }
+                }
+            }
+            staticResources.produce(new StaticResourcesBuildItem(paths, infos));
         }
     }
 
@@ -74,7 +156,7 @@ public class StaticResourcesProcessor {
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer, BuildProducer<DefaultRouteBuildItem> defaultRoutes)
             throws Exception {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start()));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getInMemoryResources())));
         }
     }
 
@@ -82,26 +164,28 @@ public class StaticResourcesProcessor {
      * Find all static file resources that are available from classpath.
      *
      * @param applicationArchivesBuildItem
+     * @param inMemoryResources collects the resources served from memory, may be {@code null}
      * @return the set of static resources
      * @throws Exception
      */
-    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws Exception {
+    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            InMemoryResources inMemoryResources) throws Exception {
         Set<String> knownPaths = new HashSet<>();
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             Path resource = i.getChildPath(StaticResourcesRecorder.META_INF_RESOURCES);
             if (resource != null && Files.exists(resource)) {
-                collectKnownPaths(resource, knownPaths);
+                collectKnownPaths(resource, knownPaths, inMemoryResources);
             }
         }
 
         ClassPathUtils.consumeAsPaths(StaticResourcesRecorder.META_INF_RESOURCES, resource -> {
-            collectKnownPaths(resource, knownPaths);
+            collectKnownPaths(resource, knownPaths, inMemoryResources);
         });
 
         return knownPaths;
     }
 
-    private void collectKnownPaths(Path resource, Set<String> knownPaths) {
+    private void collectKnownPaths(Path resource, Set<String> knownPaths, BiConsumer<String, Path> fileConsumer) {
         try {
             Files.walkFileTree(resource, new SimpleFileVisitor<Path>() {
                 @Override
@@ -127,6 +211,9 @@ public class StaticResourcesProcessor {
                     // Windows has a backslash
                     file = file.replace('\\', '/');
                     knownPaths.add(file);
+                    if (fileConsumer != null) {
+                        fileConsumer.accept(file, p);
+                    }
                     return FileVisitResult.CONTINUE;
                 }
             });
@@ -134,4 +221,125 @@ public class StaticResourcesProcessor {
             throw new UncheckedIOException(e);
         }
     }
+
+    /**
+     * Computes the entity tags and the gzip variants of the static resources, while their archives are open.
+     */
+    private static final class InMemoryResources implements BiConsumer<String, Path> {
+
+        private final long maxSize;
+        private final Map<String, StaticResourceInfo> infos = new HashMap<>();
+        private final Set<String> conflicts = new HashSet<>();
+        private final Map<String, byte[]> compressed = new HashMap<>();
+
+        InMemoryResources(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        List<StaticResourceInfo> getInfos() {
+            List<StaticResourceInfo> result = new ArrayList<>();
+            for (StaticResourceInfo info : infos.values()) {
+                if (!conflicts.contains(info.path)) {
+                    result.add(info);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void accept(String file, Path path) {
+            try {
+                if (Files.size(path) > maxSize) {
+                    return;
+                }
+                String contentType = contentType(path.getFileName().toString());
+                if (contentType == null) {
+                    // left to the StaticHandler, which knows more content types
+                    return;
+                }
+                byte[] content = Files.readAllBytes(path);
+                String etag = etag(content);
+                StaticResourceInfo existing = infos.get(file);
+                if (existing != null) {
+                    // the same archive may be visited twice, but a resource overridden by another archive is left to the
+                    // class loader
+                    if (!existing.etag.equals(etag)) {
+                        conflicts.add(file);
+                    }
+                    return;
+                }
+                StaticResourceInfo info = new StaticResourceInfo();
+                info.path = file;
+                info.resource = StaticResourcesRecorder.META_INF_RESOURCES + file;
+                info.etag = etag;
+                info.contentType = contentType;
+
+                String fileName = path.getFileName().toString();
+                if (Files.exists(path.resolveSibling(fileName + BROTLI_EXTENSION))) {
+                    info.brotliResource = info.resource + BROTLI_EXTENSION;
+                }
+                if (Files.exists(path.resolveSibling(fileName + GZIP_EXTENSION))) {
+                    info.gzipResource = info.resource + GZIP_EXTENSION;
+                } else if (isCompressible(info.contentType)) {
+                    byte[] gzip = gzip(content);
+                    // not worth it if the client has to decompress almost the same number of bytes
+                    if (gzip.length < content.length * 0.9) {
+                        info.gzipResource = COMPRESSED_RESOURCES + file + GZIP_EXTENSION;
+                        compressed.put(info.gzipResource, gzip);
+                    }
+                }
+                infos.put(file, info);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * @return the content type of the given file, {@code null} if unknown
+         */
+        private static String contentType(String fileName) {
+            int dot = fileName.lastIndexOf('.');
+            String contentType = dot == -1 ? null : CONTENT_TYPES.get(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+            if (contentType == null) {
+                contentType = URLConnection.getFileNameMap().getContentTypeFor(fileName);
+            }
+            if (contentType == null) {
+                return null;
+            }
+            // same as io.vertx.ext.web.handler.StaticHandler with UTF-8 as default content encoding
+            return contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType;
+        }
+
+        private static boolean isCompressible(String contentType) {
+            for (String type : COMPRESSIBLE_TYPES) {
+                if (contentType.startsWith(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String etag(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                // 128 bits are more than enough to tell the versions of a resource apart
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    // compressed once at build time so the best compression is affordable
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(content);
+            }
+            return out.toByteArray();
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package io.quarkus.vertx.http.compression;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.runtime.compression.CompressionMetrics;
+import io.quarkus.vertx.http.runtime.compression.HttpCompressionHandler;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.vertx.ext.web.Router;
+
+public class CompressionTest {
+
+    private static final String LARGE = "[" + repeat("{\"name\":\"quarkus\"},", 200) + "{}]";
+    private static final String SMALL = "{\"name\":\"quarkus\"}";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(BeanRegisteringRoutes.class))
+            .overrideConfigKey("quarkus.http.compression.enabled", "true")
+            .overrideConfigKey("quarkus.http.compression.min-size", "512");
+
+    @Test
+    public void testCompressed() {
+        long compressedBefore = CompressionMetrics.compressedBytes();
+        long uncompressedBefore = CompressionMetrics.uncompressedBytes();
+
+        given().header("Accept-Encoding", "gzip")
+                .get("/large").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(LARGE));
+        given().header("Accept-Encoding", "gzip")
+                .get("/chunked").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(equalTo(LARGE));
+        given().config(noDecompression()).header("Accept-Encoding", "deflate")
+                .get("/large").then()
+                .statusCode(200)
+                .header("Content-Encoding", "deflate");
+
+        long compressed = CompressionMetrics.compressedBytes() - compressedBefore;
+        long uncompressed = CompressionMetrics.uncompressedBytes() - uncompressedBefore;
+        assertThat(uncompressed).isEqualTo(3 * LARGE.length());
+        assertThat(compressed).isPositive().isLessThan(uncompressed);
+    }
+
+    @Test
+    public void testNotCompressed() {
+        given().header("Accept-Encoding", "gzip")
+                .get("/small").then()
+                .statusCode(200)
+                .header("Content-Encoding", "identity")
+                .body(equalTo(SMALL));
+        given().header("Accept-Encoding", "gzip")
+                .get("/binary").then()
+                .statusCode(200)
+                .header("Content-Encoding", "identity")
+                .body(equalTo(LARGE));
+        given().header("Accept-Encoding", "gzip")
+                .get("/uncompressed").then()
+                .statusCode(200)
+                .header("Content-Encoding", "identity")
+                .body(equalTo(LARGE));
+        given().header("Accept-Encoding", "gzip")
+                .get("/encoded").then()
+                .statusCode(200)
+                .header("Content-Encoding", "custom")
+                .body(equalTo(LARGE));
+    }
+
+    @Test
+    public void testNotAccepted() {
+        given().config(noDecompression()).header("Accept-Encoding", "identity")
+                .get("/large").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(LARGE));
+    }
+
+    private static RestAssuredConfig noDecompression() {
+        return RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        void register(@Observes Router router) {
+            router.route("/large").handler(rc -> rc.response().putHeader("Content-Type", "application/json").end(LARGE));
+            router.route("/small").handler(rc -> rc.response().putHeader("Content-Type", "application/json").end(SMALL));
+            router.route("/binary")
+                    .handler(rc -> rc.response().putHeader("Content-Type", "application/octet-stream").end(LARGE));
+            router.route("/chunked").handler(rc -> rc.response().setChunked(true)
+                    .putHeader("Content-Type", "application/json; charset=UTF-8").end(LARGE));
+            router.route("/uncompressed").handler(rc -> {
+                HttpCompressionHandler.disableCompression(rc);
+                rc.response().putHeader("Content-Type", "application/json").end(LARGE);
+            });
+            router.route("/encoded").handler(rc -> rc.response().putHeader("Content-Type", "application/json")
+                    .putHeader("Content-Encoding", "custom").end(LARGE));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.quarkus.vertx.http.staticresources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class InMemoryStaticResourcesTest {
+
+    private static final String LOREM = repeat("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ", 100);
+    private static final String INDEX = "<h1>Hello</h1>";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(LOREM), "META-INF/resources/lorem.txt")
+                    .addAsResource(new StringAsset(INDEX), "META-INF/resources/web/index.html"))
+            .overrideConfigKey("quarkus.http.static-resources.in-memory", "true");
+
+    @Test
+    public void testCompression() {
+        String gzipEtag = given().header("Accept-Encoding", "gzip")
+                .get("/lorem.txt").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .header("Content-Type", "text/plain;charset=UTF-8")
+                .body(equalTo(LOREM))
+                .extract().header("ETag");
+
+        String etag = given().config(noDecompression()).header("Accept-Encoding", "identity")
+                .get("/lorem.txt").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", String.valueOf(LOREM.length()))
+                .body(equalTo(LOREM))
+                .extract().header("ETag");
+        assertNotEquals(etag, gzipEtag);
+    }
+
+    @Test
+    public void testConditionalRequest() {
+        String etag = given().config(noDecompression()).header("Accept-Encoding", "identity")
+                .get("/web/").then()
+                .statusCode(200)
+                .body(equalTo(INDEX))
+                .extract().header("ETag");
+
+        given().config(noDecompression()).header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .get("/web/index.html").then()
+                .statusCode(304);
+        given().config(noDecompression()).header("Accept-Encoding", "identity").header("If-None-Match", "\"other\"")
+                .get("/web/index.html").then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testRange() {
+        given().header("Range", "bytes=6-10")
+                .get("/lorem.txt").then()
+                .statusCode(206)
+                .header("Content-Range", "bytes 6-10/" + LOREM.length())
+                .header("Content-Encoding", nullValue())
+                .body(equalTo("ipsum"));
+
+        given().header("Range", "bytes=-6")
+                .get("/lorem.txt").then()
+                .statusCode(206)
+                .body(equalTo("elit. "));
+
+        given().header("Range", "bytes=" + LOREM.length() + "-")
+                .get("/lorem.txt").then()
+                .statusCode(416)
+                .header("Content-Range", "bytes */" + LOREM.length());
+    }
+
+    @Test
+    public void testHead() {
+        given().config(noDecompression()).header("Accept-Encoding", "identity")
+                .head("/lorem.txt").then()
+                .statusCode(200)
+                .header("Content-Length", String.valueOf(LOREM.length()));
+    }
+
+    private static RestAssuredConfig noDecompression() {
+        return RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(s);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.vertx.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Prevents the compression of the responses of a reactive route or of a JAX-RS resource method, whatever their size
+ * and media type. When placed on a class, it applies to all the routes or resource methods of the class.
+ * <p>
+ * This annotation has no effect unless the response compression is enabled with {@code quarkus.http.compression.enabled}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface Uncompressed {
+}
@@ -0,0 +1,261 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.quarkus.vertx.http.runtime.compression.HttpCompressionHandler;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources loaded in off-heap memory at startup.
+ * <p>
+ * The buffers are shared by all the responses and never copied: each response writes a read-only view of them. The gzip and
+ * brotli variants, precomputed at build time, are chosen according to the {@code Accept-Encoding} header. Conditional requests
+ * with {@code If-None-Match} and single byte ranges of the uncompressed content are supported.
+ */
+public class InMemoryStaticResourcesHandler implements Handler<RoutingContext> {
+
+    // same as the default of io.vertx.ext.web.handler.StaticHandler
+    private static final String CACHE_CONTROL = "public, max-age=" + 86400;
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    private static final String BYTES = "bytes";
+
+    private final Map<String, Entry> entries;
+
+    private InMemoryStaticResourcesHandler(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the given resources, the resources missing from the classpath are ignored.
+     *
+     * @return the handler or {@code null} if none of the resources could be loaded
+     */
+    public static InMemoryStaticResourcesHandler create(List<StaticResourceInfo> resources, ClassLoader classLoader) {
+        Map<String, Entry> entries = new HashMap<>();
+        for (StaticResourceInfo info : resources) {
+            Buffer identity = load(classLoader, info.resource);
+            if (identity != null) {
+                entries.put(info.path, new Entry(info, identity, load(classLoader, info.gzipResource),
+                        load(classLoader, info.brotliResource)));
+            }
+        }
+        return entries.isEmpty() ? null : new InMemoryStaticResourcesHandler(entries);
+    }
+
+    private static Buffer load(ClassLoader classLoader, String resource) {
+        if (resource == null) {
+            return null;
+        }
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            ByteBuf buf = Unpooled.directBuffer(Math.max(in.available(), 1024));
+            while (buf.writeBytes(in, 8192) != -1) {
+                buf.ensureWritable(8192);
+            }
+            // the buffer lives as long as the application, the responses must not release it
+            return Buffer.buffer(Unpooled.unreleasableBuffer(buf.capacity(buf.readableBytes()).asReadOnly()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load the static resource " + resource, e);
+        }
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            ctx.next();
+            return;
+        }
+        String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
+                : ctx.normalisedPath().substring(ctx.mountPoint().length());
+        Entry entry = entries.get(rel.endsWith("/") ? rel + "index.html" : rel);
+        if (entry == null) {
+            ctx.next();
+        } else {
+            // the resources worth compressing are already compressed
+            HttpCompressionHandler.disableCompression(ctx);
+            entry.serve(ctx.request(), ctx.response(), method == HttpMethod.HEAD);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Buffer identity;
+        private final Buffer gzip;
+        private final Buffer brotli;
+        private final String etag;
+        private final String gzipEtag;
+        private final String brotliEtag;
+        private final String contentType;
+
+        Entry(StaticResourceInfo info, Buffer identity, Buffer gzip, Buffer brotli) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.brotli = brotli;
+            // each representation has its own strong entity tag
+            this.etag = '"' + info.etag + '"';
+            this.gzipEtag = '"' + info.etag + "-" + GZIP + '"';
+            this.brotliEtag = '"' + info.etag + "-" + BROTLI + '"';
+            this.contentType = info.contentType;
+        }
+
+        void serve(HttpServerRequest request, HttpServerResponse response, boolean head) {
+            String range = request.getHeader(HttpHeaderNames.RANGE);
+            if (range != null) {
+                String ifRange = request.getHeader(HttpHeaderNames.IF_RANGE);
+                if (ifRange != null && !ifRange.equals(etag)) {
+                    // the client has another version of the resource, the whole content is sent
+                    range = null;
+                }
+            }
+
+            Buffer body = identity;
+            String encoding = null;
+            String tag = etag;
+            if (range == null) {
+                // byte ranges always apply to the uncompressed content
+                String acceptEncoding = request.getHeader(HttpHeaderNames.ACCEPT_ENCODING);
+                if (brotli != null && accepts(acceptEncoding, BROTLI)) {
+                    body = brotli;
+                    encoding = BROTLI;
+                    tag = brotliEtag;
+                } else if (gzip != null && accepts(acceptEncoding, GZIP)) {
+                    body = gzip;
+                    encoding = GZIP;
+                    tag = gzipEtag;
+                }
+            }
+
+            response.putHeader(HttpHeaderNames.ETAG, tag);
+            response.putHeader(HttpHeaderNames.CACHE_CONTROL, CACHE_CONTROL);
+            response.putHeader(HttpHeaderNames.ACCEPT_RANGES, BYTES);
+            if (gzip != null || brotli != null) {
+                response.putHeader(HttpHeaderNames.VARY, "Accept-Encoding");
+            }
+
+            if (matches(request.getHeader(HttpHeaderNames.IF_NONE_MATCH), tag)) {
+                response.setStatusCode(304).end();
+                return;
+            }
+
+            response.putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+            if (encoding != null) {
+                response.putHeader(HttpHeaderNames.CONTENT_ENCODING, encoding);
+            }
+            if (range != null) {
+                int length = identity.length();
+                long[] bounds = parseRange(range, length);
+                if (bounds == null) {
+                    // several ranges or an invalid header, the whole content is sent
+                } else if (bounds[0] >= length || bounds[0] > bounds[1]) {
+                    response.setStatusCode(416).putHeader(HttpHeaderNames.CONTENT_RANGE, BYTES + " */" + length).end();
+                    return;
+                } else {
+                    int start = (int) bounds[0];
+                    int end = (int) Math.min(bounds[1], length - 1);
+                    body = identity.slice(start, end + 1);
+                    response.setStatusCode(206)
+                            .putHeader(HttpHeaderNames.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + length);
+                }
+            }
+
+            if (head) {
+                response.putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.length())).end();
+            } else {
+                // Buffer.getByteBuf() returns a duplicate so the shared buffer is never modified
+                response.end(body);
+            }
+        }
+
+        /**
+         * @return whether the given content coding is accepted with a non zero quality
+         */
+        private static boolean accepts(String acceptEncoding, String coding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String element : acceptEncoding.split(",")) {
+                int semicolon = element.indexOf(';');
+                String name = (semicolon == -1 ? element : element.substring(0, semicolon)).trim();
+                if (name.equalsIgnoreCase(coding) || name.equals("*")) {
+                    if (semicolon == -1) {
+                        return true;
+                    }
+                    String parameter = element.substring(semicolon + 1).trim();
+                    if (!parameter.startsWith("q=")) {
+                        return true;
+                    }
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static boolean matches(String ifNoneMatch, String tag) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String element : ifNoneMatch.split(",")) {
+                String candidate = element.trim();
+                // If-None-Match uses the weak comparison
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the first and the last position of the range, the last one may be past the end of the content, or
+         *         {@code null} if the header is not a single byte range
+         */
+        private static long[] parseRange(String range, int length) {
+            if (!range.startsWith(BYTES + "=") || range.indexOf(',') != -1) {
+                return null;
+            }
+            String spec = range.substring(BYTES.length() + 1).trim();
+            int dash = spec.indexOf('-');
+            if (dash == -1) {
+                return null;
+            }
+            try {
+                if (dash == 0) {
+                    // the last bytes of the content
+                    long suffix = Long.parseLong(spec.substring(1));
+                    if (suffix == 0) {
+                        return new long[] { length, length };
+                    }
+                    return new long[] { Math.max(0, length - suffix), length - 1 };
+                }
+                long start = Long.parseLong(spec.substring(0, dash));
+                long end = dash == spec.length() - 1 ? length - 1 : Long.parseLong(spec.substring(dash + 1));
+                return new long[] { start, end };
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * A static resource served from memory, see {@link InMemoryStaticResourcesHandler}.
+ */
+public class StaticResourceInfo {
+
+    /**
+     * The request path of the resource, relative to the HTTP root path.
+     */
+    public String path;
+
+    /**
+     * The classpath name of the resource.
+     */
+    public String resource;
+
+    /**
+     * The classpath name of the gzip variant, or {@code null} if there is none.
+     */
+    public String gzipResource;
+
+    /**
+     * The classpath name of the brotli variant, or {@code null} if there is none.
+     */
+    public String brotliResource;
+
+    /**
+     * The strong entity tag of the resource, without quotes.
+     */
+    public String etag;
+
+    public String contentType;
+}
@@ -0,0 +1,33 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * Whether the static resources found in {@code META-INF/resources} are served from memory.
+     * <p>
+     * If {@code true}, a strong {@code ETag} is computed for each resource and the compressible resources are gzipped at build
+     * time. The resources are then loaded in off-heap memory at startup and served according to the
+     * {@code Accept-Encoding}, {@code If-None-Match} and {@code Range} headers of the requests. A resource named like another
+     * one with an additional {@code .gz} or {@code .br} extension is served as its precompressed gzip or brotli variant.
+     * <p>
+     * All the resources up to {@code max-in-memory-size} are kept in memory for the lifetime of the application, whatever
+     * their total size. Static resources are never served from memory in dev mode.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean inMemory;
+
+    /**
+     * The maximum size of a static resource served from memory. Larger resources are read from the classpath on each
+     * request.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize maxInMemorySize;
+}
@@ -28,7 +28,7 @@ public class StaticResourcesRecorder {
         StaticResourcesRecorder.knownPaths = knownPaths;
     }
 
-    public Consumer<Route> start() {
+    public Consumer<Route> start(List<StaticResourceInfo> inMemoryResources) {
 
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
@@ -51,6 +51,13 @@ public class StaticResourcesRecorder {
                 });
             }
         }
+        if (!inMemoryResources.isEmpty()) {
+            InMemoryStaticResourcesHandler inMemoryHandler = InMemoryStaticResourcesHandler.create(inMemoryResources,
+                    Thread.currentThread().getContextClassLoader());
+            if (inMemoryHandler != null) {
+                handlers.add(inMemoryHandler);
+            }
+        }
         if (!knownPaths.isEmpty()) {
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
             handlers.add(ctx -> {
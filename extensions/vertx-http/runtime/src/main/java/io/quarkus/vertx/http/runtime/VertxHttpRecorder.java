@@ -54,6 +54,8 @@ import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
 import io.quarkus.vertx.http.runtime.HttpConfiguration.InsecureRequests;
+import io.quarkus.vertx.http.runtime.compression.CompressionConfig;
+import io.quarkus.vertx.http.runtime.compression.CompressionMetrics;
 import io.quarkus.vertx.http.runtime.devmode.RemoteSyncHandler;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
@@ -74,6 +76,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
@@ -631,6 +634,7 @@ public class VertxHttpRecorder {
         serverOptions.setTcpCork(httpConfiguration.tcpCork);
         serverOptions.setTcpFastOpen(httpConfiguration.tcpFastOpen);
         serverOptions.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
+        setCompression(httpConfiguration, serverOptions);
 
         return serverOptions;
     }
@@ -722,6 +726,7 @@ public class VertxHttpRecorder {
         options.setTcpCork(httpConfiguration.tcpCork);
         options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
         options.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
+        setCompression(httpConfiguration, options);
         return options;
     }
 
@@ -736,6 +741,7 @@ public class VertxHttpRecorder {
         options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
         options.setMaxChunkSize(httpConfiguration.limits.maxChunkSize.asBigInteger().intValueExact());
         options.setWebsocketSubProtocols(websocketSubProtocols);
+        setCompression(httpConfiguration, options);
         return options;
     }
 
@@ -745,6 +751,14 @@ public class VertxHttpRecorder {
         options.setIdleTimeoutUnit(TimeUnit.MILLISECONDS);
     }
 
+    private static void setCompression(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        CompressionConfig compression = httpConfiguration.compression;
+        if (compression.enabled) {
+            options.setCompressionSupported(true);
+            options.setCompressionLevel(compression.level);
+        }
+    }
+
     public void warnIfPortChanged(HttpConfiguration config, int port) {
         if (config.port != port) {
             LOGGER.errorf(
@@ -844,22 +858,36 @@ public class VertxHttpRecorder {
                         }
                     });
                 }
+                countCompressedBytes(httpServer, httpOptions);
                 setupTcpHttpServer(httpServer, httpOptions, false, startFuture, remainingCount);
             }
 
             if (domainSocketOptions != null) {
                 domainSocketServer = vertx.createHttpServer(domainSocketOptions);
                 domainSocketServer.requestHandler(ACTUAL_ROOT);
+                countCompressedBytes(domainSocketServer, domainSocketOptions);
                 setupUnixDomainSocketHttpServer(domainSocketServer, domainSocketOptions, startFuture, remainingCount);
             }
 
             if (httpsOptions != null) {
                 httpsServer = vertx.createHttpServer(httpsOptions);
                 httpsServer.requestHandler(ACTUAL_ROOT);
+                countCompressedBytes(httpsServer, httpsOptions);
                 setupTcpHttpServer(httpsServer, httpsOptions, true, startFuture, remainingCount);
             }
         }
 
+        private void countCompressedBytes(HttpServer httpServer, HttpServerOptions options) {
+            if (options.isCompressionSupported()) {
+                httpServer.connectionHandler(new Handler<HttpConnection>() {
+                    @Override
+                    public void handle(HttpConnection connection) {
+                        CompressionMetrics.install(((ConnectionBase) connection).channel().pipeline());
+                    }
+                });
+            }
+        }
+
         private void setupUnixDomainSocketHttpServer(HttpServer httpServer, HttpServerOptions options, Future<Void> startFuture,
                 AtomicInteger remainingCount) {
             httpServer.listen(SocketAddress.domainSocketAddress(options.getHost()), event -> {
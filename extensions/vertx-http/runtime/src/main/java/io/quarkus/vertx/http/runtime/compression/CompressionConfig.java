@@ -0,0 +1,41 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * If the HTTP responses should be compressed. The content coding is negotiated with the client through the
+     * {@code Accept-Encoding} header, {@code gzip} and {@code deflate} are supported.
+     *
+     * Responses that already have a {@code Content-Encoding} header are sent as is.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The compression level, from 1 (fastest) to 9 (smallest output).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * Responses with a {@code Content-Length} lower than this size are not compressed. Chunked responses are always
+     * compressed as their size is not known upfront.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * The media types of the responses that are compressed. Responses without a {@code Content-Type} header are not
+     * compressed.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,"
+            + "application/json,application/xml")
+    public List<String> mediaTypes;
+}
@@ -0,0 +1,103 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+
+/**
+ * Counts the body bytes of the compressed responses, before and after the compressor of the HTTP/1.x connections.
+ * <p>
+ * A handler is installed on each side of the compressor of the connection pipeline. The compressor writes its output
+ * synchronously, so when the last content of a response comes out of it both sizes of the response are known.
+ */
+public final class CompressionMetrics {
+
+    // the name of the compressor added by Vert.x to the pipeline of the HTTP/1.x connections
+    private static final String COMPRESSOR = "deflater";
+
+    private static final LongAdder UNCOMPRESSED_BYTES = new LongAdder();
+    private static final LongAdder COMPRESSED_BYTES = new LongAdder();
+
+    private CompressionMetrics() {
+    }
+
+    public static long uncompressedBytes() {
+        return UNCOMPRESSED_BYTES.sum();
+    }
+
+    public static long compressedBytes() {
+        return COMPRESSED_BYTES.sum();
+    }
+
+    /**
+     * Installs the counters on the given connection pipeline, does nothing if the connection does not compress.
+     */
+    public static void install(ChannelPipeline pipeline) {
+        if (pipeline.get(COMPRESSOR) != null) {
+            ResponseSizes sizes = new ResponseSizes();
+            pipeline.addAfter(COMPRESSOR, "uncompressedBytesCounter", new UncompressedBytesCounter(sizes));
+            pipeline.addBefore(COMPRESSOR, "compressedBytesCounter", new CompressedBytesCounter(sizes));
+        }
+    }
+
+    private static final class ResponseSizes {
+        long uncompressed;
+        long compressed;
+        boolean encoded;
+    }
+
+    private static final class UncompressedBytesCounter extends ChannelOutboundHandlerAdapter {
+
+        private final ResponseSizes sizes;
+
+        UncompressedBytesCounter(ResponseSizes sizes) {
+            this.sizes = sizes;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (msg instanceof HttpContent) {
+                // read before writing, the compressor releases the content
+                sizes.uncompressed += ((HttpContent) msg).content().readableBytes();
+            }
+            ctx.write(msg, promise);
+        }
+    }
+
+    private static final class CompressedBytesCounter extends ChannelOutboundHandlerAdapter {
+
+        private final ResponseSizes sizes;
+
+        CompressedBytesCounter(ResponseSizes sizes) {
+            this.sizes = sizes;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (msg instanceof HttpResponse) {
+                String encoding = ((HttpResponse) msg).headers().get(HttpHeaderNames.CONTENT_ENCODING);
+                sizes.encoded = "gzip".equals(encoding) || "deflate".equals(encoding);
+            }
+            if (msg instanceof HttpContent) {
+                sizes.compressed += ((HttpContent) msg).content().readableBytes();
+                if (msg instanceof LastHttpContent) {
+                    if (sizes.encoded) {
+                        UNCOMPRESSED_BYTES.add(sizes.uncompressed);
+                        COMPRESSED_BYTES.add(sizes.compressed);
+                    }
+                    sizes.uncompressed = 0;
+                    sizes.compressed = 0;
+                    sizes.encoded = false;
+                }
+            }
+            ctx.write(msg, promise);
+        }
+    }
+}
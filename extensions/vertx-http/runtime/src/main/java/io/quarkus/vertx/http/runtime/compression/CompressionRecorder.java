@@ -0,0 +1,36 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class CompressionRecorder {
+
+    public Handler<RoutingContext> compressionHandler(HttpConfiguration configuration) {
+        if (configuration.compression.enabled) {
+            return new HttpCompressionHandler(configuration.compression);
+        }
+        return null;
+    }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("http.server.compression.uncompressed.bytes")
+                        .description("Size of the bodies of the compressed responses before their compression.")
+                        .unit("bytes")
+                        .buildCounter(CompressionMetrics::uncompressedBytes);
+                metricsFactory.builder("http.server.compression.compressed.bytes")
+                        .description("Size of the bodies of the compressed responses after their compression.")
+                        .unit("bytes")
+                        .buildCounter(CompressionMetrics::compressedBytes);
+            }
+        };
+    }
+}
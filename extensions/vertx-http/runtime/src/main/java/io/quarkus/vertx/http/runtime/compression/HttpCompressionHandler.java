@@ -0,0 +1,78 @@
+package io.quarkus.vertx.http.runtime.compression;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Decides, once the handlers have set the response headers, whether the response is compressed by the server.
+ * <p>
+ * The compressor of the HTTP server leaves alone the responses that have a {@code Content-Encoding} header, so the
+ * responses that must not be compressed are marked with the {@code identity} content coding.
+ */
+public class HttpCompressionHandler implements Handler<RoutingContext> {
+
+    private static final String UNCOMPRESSED = HttpCompressionHandler.class.getName() + ".uncompressed";
+    private static final String IDENTITY = "identity";
+
+    private final long minSize;
+    private final Set<String> mediaTypes;
+
+    public HttpCompressionHandler(CompressionConfig config) {
+        this.minSize = config.minSize.asLongValue();
+        this.mediaTypes = new HashSet<>();
+        for (String mediaType : config.mediaTypes) {
+            mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Prevents the compression of the response of the given request, whatever its size and media type.
+     */
+    public static void disableCompression(RoutingContext ctx) {
+        ctx.put(UNCOMPRESSED, Boolean.TRUE);
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        ctx.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                MultiMap headers = ctx.response().headers();
+                if (!headers.contains(HttpHeaderNames.CONTENT_ENCODING) && !isCompressible(ctx, headers)) {
+                    headers.set(HttpHeaderNames.CONTENT_ENCODING, IDENTITY);
+                }
+            }
+        });
+        ctx.next();
+    }
+
+    private boolean isCompressible(RoutingContext ctx, MultiMap headers) {
+        if (ctx.get(UNCOMPRESSED) != null) {
+            return false;
+        }
+        String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int semicolon = contentType.indexOf(';');
+        String mediaType = (semicolon == -1 ? contentType : contentType.substring(0, semicolon)).trim();
+        if (!mediaTypes.contains(mediaType.toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength) >= minSize;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.vertx.http.Uncompressed;
 import io.quarkus.vertx.web.Body;
 import io.quarkus.vertx.web.Header;
 import io.quarkus.vertx.web.Param;
@@ -45,5 +46,6 @@ final class DotNames {
     static final DotName JSON_OBJECT = DotName.createSimple(JsonObject.class.getName());
     static final DotName JSON_ARRAY = DotName.createSimple(JsonArray.class.getName());
     static final DotName LIST = DotName.createSimple(List.class.getName());
+    static final DotName UNCOMPRESSED = DotName.createSimple(Uncompressed.class.getName());
 
 }
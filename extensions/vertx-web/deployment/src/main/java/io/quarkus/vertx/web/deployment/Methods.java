@@ -22,6 +22,7 @@ import io.quarkus.vertx.web.runtime.MultiJsonArraySupport;
 import io.quarkus.vertx.web.runtime.MultiSseSupport;
 import io.quarkus.vertx.web.runtime.MultiSupport;
 import io.quarkus.vertx.web.runtime.RouteHandlers;
+import io.quarkus.vertx.web.runtime.RouteJson;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.groups.UniSubscribe;
@@ -30,7 +31,6 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
@@ -60,8 +60,8 @@ class Methods {
             .ofMethod(RoutingContext.class, "getBodyAsJson", JsonObject.class);
     static final MethodDescriptor GET_BODY_AS_JSON_ARRAY = MethodDescriptor
             .ofMethod(RoutingContext.class, "getBodyAsJsonArray", JsonArray.class);
-    static final MethodDescriptor JSON_OBJECT_MAP_TO = MethodDescriptor
-            .ofMethod(JsonObject.class, "mapTo", Object.class, Class.class);
+    static final MethodDescriptor JSON_DECODE_BODY = MethodDescriptor
+            .ofMethod(RouteJson.class, "decodeBody", Object.class, RoutingContext.class, Class.class);
     static final MethodDescriptor REQUEST_PARAMS = MethodDescriptor
             .ofMethod(HttpServerRequest.class, "params", MultiMap.class);
     static final MethodDescriptor REQUEST_HEADERS = MethodDescriptor
@@ -136,7 +136,7 @@ class Methods {
     static final MethodDescriptor MUTINY_GET_DELEGATE = MethodDescriptor
             .ofMethod(io.vertx.mutiny.core.buffer.Buffer.class, "getDelegate", Buffer.class);
     static final MethodDescriptor JSON_ENCODE = MethodDescriptor
-            .ofMethod(Json.class, "encode", String.class, Object.class);
+            .ofMethod(RouteJson.class, "encode", Buffer.class, Object.class);
     static final MethodDescriptor ARC_CONTAINER = MethodDescriptor
             .ofMethod(Arc.class, "container", ArcContainer.class);
     static final MethodDescriptor ARC_CONTAINER_GET_ACTIVE_CONTEXT = MethodDescriptor
@@ -189,11 +189,11 @@ class Methods {
     }
 
     static MethodDescriptor getEndMethodForContentType(HandlerDescriptor descriptor) {
-        if (descriptor.isContentTypeBuffer() || descriptor.isContentTypeRxBuffer() || descriptor
-                .isContentTypeMutinyBuffer()) {
-            return END_WITH_BUFFER;
+        if (descriptor.isContentTypeString()) {
+            return END_WITH_STRING;
         }
-        return END_WITH_STRING;
+        // buffers and objects encoded to JSON
+        return END_WITH_BUFFER;
     }
 
     static void setContentTypeToJson(ResultHandle response, BytecodeCreator invoke) {
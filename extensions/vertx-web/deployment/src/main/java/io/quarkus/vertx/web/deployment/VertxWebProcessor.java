@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -25,6 +26,7 @@ import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.spi.Contextual;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
@@ -56,6 +58,7 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
@@ -71,6 +74,9 @@ import io.quarkus.gizmo.FunctionCreator;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.jackson.spi.GeneratedJacksonSerializersBuildItem;
+import io.quarkus.jackson.spi.JacksonModuleBuildItem;
+import io.quarkus.jackson.spi.JacksonSerializableTypeBuildItem;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.http.deployment.FilterBuildItem;
 import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
@@ -79,6 +85,8 @@ import io.quarkus.vertx.http.runtime.HandlerType;
 import io.quarkus.vertx.web.Header;
 import io.quarkus.vertx.web.Param;
 import io.quarkus.vertx.web.RouteFilter;
+import io.quarkus.vertx.web.runtime.JsonArraySerializer;
+import io.quarkus.vertx.web.runtime.JsonObjectSerializer;
 import io.quarkus.vertx.web.runtime.RouteHandler;
 import io.quarkus.vertx.web.runtime.RouteMatcher;
 import io.quarkus.vertx.web.runtime.RoutingExchangeImpl;
@@ -104,6 +112,8 @@ class VertxWebProcessor {
     private static final String VALUE_ORDER = "order";
     private static final String SLASH = "/";
 
+    private static final DotName OBJECT_MAPPER = DotName.createSimple("com.fasterxml.jackson.databind.ObjectMapper");
+
     private static final List<ParameterInjector> PARAM_INJECTORS = initParamInjectors();
 
     @BuildStep
@@ -119,6 +129,50 @@ class VertxWebProcessor {
                 .produce(UnremovableBeanBuildItem.beanClassAnnotation(io.quarkus.vertx.web.deployment.DotNames.ROUTE_FILTER));
     }
 
+    @BuildStep
+    void serializableTypes(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<JacksonSerializableTypeBuildItem> serializableTypes) {
+        // the bean archive index is not used as the generated serializers are registered by a bean
+        Set<MethodInfo> methods = new HashSet<>();
+        for (AnnotationInstance route : combinedIndex.getIndex().getAnnotations(DotNames.ROUTE)) {
+            if (route.target().kind() == AnnotationTarget.Kind.METHOD) {
+                methods.add(route.target().asMethod());
+            }
+        }
+        for (AnnotationInstance routes : combinedIndex.getIndex().getAnnotations(DotNames.ROUTES)) {
+            if (routes.target().kind() == AnnotationTarget.Kind.METHOD) {
+                methods.add(routes.target().asMethod());
+            }
+        }
+        for (MethodInfo method : methods) {
+            if (method.returnType().kind() != Kind.VOID) {
+                serializableTypes.produce(new JacksonSerializableTypeBuildItem(method.returnType()));
+            }
+            for (AnnotationInstance annotation : method.annotations()) {
+                if (annotation.name().equals(DotNames.BODY)
+                        && annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                    serializableTypes.produce(new JacksonSerializableTypeBuildItem(
+                            method.parameters().get(annotation.target().asMethodParameter().position())));
+                }
+            }
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void json(VertxWebRecorder recorder, Optional<GeneratedJacksonSerializersBuildItem> generatedSerializers,
+            BuildProducer<JacksonModuleBuildItem> jacksonModules, BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (generatedSerializers.isPresent()) {
+            // the routes use the default ObjectMapper, which must write the Vert.x JSON types like the Vert.x mapper
+            jacksonModules.produce(new JacksonModuleBuildItem.Builder("vertx-json")
+                    .addSerializer(JsonObjectSerializer.class.getName(), DotNames.JSON_OBJECT.toString())
+                    .addSerializer(JsonArraySerializer.class.getName(), DotNames.JSON_ARRAY.toString())
+                    .build());
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(OBJECT_MAPPER));
+        }
+        recorder.useObjectMapperForJson(generatedSerializers.isPresent());
+    }
+
     @BuildStep
     void validateBeanDeployment(
             ValidationPhaseBuildItem validationPhase,
@@ -222,6 +276,10 @@ class VertxWebProcessor {
                 }
             }
 
+            MethodInfo method = businessMethod.getMethod();
+            boolean uncompressed = method.hasAnnotation(DotNames.UNCOMPRESSED)
+                    || method.declaringClass().classAnnotation(DotNames.UNCOMPRESSED) != null;
+
             // Route annotations with the same values share a single handler instance
             // @Route string value -> handler
             Map<String, Handler<RoutingContext>> routeHandlers = new HashMap<>();
@@ -289,7 +347,7 @@ class VertxWebProcessor {
                 RouteMatcher matcher = new RouteMatcher(path, regex, produces, consumes, methods, order);
                 matchers.put(matcher, businessMethod.getMethod());
                 Function<Router, io.vertx.ext.web.Route> routeFunction = recorder.createRouteFunction(matcher,
-                        bodyHandler.getHandler());
+                        bodyHandler.getHandler(), uncompressed);
                 AnnotationValue typeValue = route.value("type");
                 HandlerType handlerType = HandlerType.NORMAL;
                 if (typeValue != null) {
@@ -722,7 +780,7 @@ class VertxWebProcessor {
      * <pre>
      *     item -> {
      *       if (item != null) {
-     *          String json = Json.encode(item);
+     *          Buffer json = RouteJson.encode(item);
      *          rc.response().end(json);
      *       } else {
      *           rc.fail(new NullPointerException(...);
@@ -1116,17 +1174,8 @@ class VertxWebProcessor {
                                     ResultHandle routingContext, MethodCreator invoke, int position,
                                     BuildProducer<ReflectiveHierarchyBuildItem> reflectiveHierarchy) {
                                 registerForReflection(paramType, reflectiveHierarchy);
-                                AssignableResultHandle ret = invoke.createVariable(Object.class);
-                                ResultHandle bodyAsJson = invoke.invokeInterfaceMethod(Methods.GET_BODY_AS_JSON,
-                                        routingContext);
-                                BranchResult bodyIfNotNull = invoke.ifNotNull(bodyAsJson);
-                                BytecodeCreator bodyNotNull = bodyIfNotNull.trueBranch();
-                                bodyNotNull.assign(ret, bodyNotNull.invokeVirtualMethod(Methods.JSON_OBJECT_MAP_TO,
-                                        bodyAsJson,
-                                        invoke.loadClass(paramType.name().toString())));
-                                BytecodeCreator bodyNull = bodyIfNotNull.falseBranch();
-                                bodyNull.assign(ret, bodyNull.loadNull());
-                                return ret;
+                                return invoke.invokeStaticMethod(Methods.JSON_DECODE_BODY, routingContext,
+                                        invoke.loadClass(paramType.name().toString()));
                             }
                         }).build());
 
@@ -0,0 +1,70 @@
+package io.quarkus.vertx.web.compression;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.Uncompressed;
+import io.quarkus.vertx.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+public class UncompressedRouteTest {
+
+    private static final String BODY = repeat("Hello world! ", 200);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class, UncompressedRoutes.class))
+            .overrideConfigKey("quarkus.http.compression.enabled", "true");
+
+    @Test
+    public void testCompression() {
+        given().header("Accept-Encoding", "gzip").get("/compressed").then().statusCode(200)
+                .header("Content-Encoding", "gzip").body(is(BODY));
+        given().header("Accept-Encoding", "gzip").get("/uncompressed").then().statusCode(200)
+                .header("Content-Encoding", "identity").body(is(BODY));
+        given().header("Accept-Encoding", "gzip").get("/uncompressed-class").then().statusCode(200)
+                .header("Content-Encoding", "identity").body(is(BODY));
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        @Route(path = "/compressed")
+        void compressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(BODY);
+        }
+
+        @Uncompressed
+        @Route(path = "/uncompressed")
+        void uncompressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(BODY);
+        }
+    }
+
+    @Uncompressed
+    @ApplicationScoped
+    static class UncompressedRoutes {
+
+        @Route(path = "/uncompressed-class")
+        void uncompressed(RoutingContext context) {
+            context.response().putHeader("Content-Type", "text/plain").end(BODY);
+        }
+    }
+}
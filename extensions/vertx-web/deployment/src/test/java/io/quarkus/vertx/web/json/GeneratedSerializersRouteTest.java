@@ -0,0 +1,169 @@
+package io.quarkus.vertx.web.json;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.jackson.runtime.GeneratedBeanDeserializer;
+import io.quarkus.jackson.runtime.GeneratedBeanSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.Body;
+import io.quarkus.vertx.web.ReactiveRoutes;
+import io.quarkus.vertx.web.Route;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+
+public class GeneratedSerializersRouteTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class, Person.class, Address.class))
+            .overrideConfigKey("quarkus.jackson.generate-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testSerializersAreGenerated() throws JsonMappingException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Person.class) instanceof GeneratedBeanSerializer);
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Address.class) instanceof GeneratedBeanSerializer);
+        DeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createInstance(objectMapper.getDeserializationConfig(), null, null);
+        assertTrue(context.findRootValueDeserializer(objectMapper.constructType(Person.class)) instanceof GeneratedBeanDeserializer);
+    }
+
+    @Test
+    public void testRoutes() {
+        when().get("/person").then().statusCode(200)
+                .header("content-type", "application/json")
+                .body("name", is("neo"))
+                .body("age", is(37))
+                .body("address.city", is("Zion"))
+                .body("tags", contains("one"))
+                .body("extra.key", is("value"))
+                .body("active", is(true));
+        when().get("/uni-person").then().statusCode(200)
+                .body("name", is("neo"))
+                .body("address.city", is("Zion"));
+        when().get("/people").then().statusCode(200)
+                .body("name", contains("neo", "neo"));
+        given().body("{\"name\":\"trinity\",\"age\":30,\"address\":{\"city\":null},\"tags\":[\"a\",\"b\"],"
+                + "\"active\":false}")
+                .post("/echo").then().statusCode(200)
+                .body("name", is("trinity"))
+                .body("age", is(30))
+                .body("tags", contains("a", "b"))
+                .body("active", is(false));
+    }
+
+    static class Routes {
+
+        @Route(path = "person", produces = "application/json")
+        Person person() {
+            return Person.neo();
+        }
+
+        @Route(path = "uni-person")
+        Uni<Person> uniPerson() {
+            return Uni.createFrom().item(Person.neo());
+        }
+
+        @Route(path = "people")
+        Multi<Person> people() {
+            return ReactiveRoutes.asJsonArray(Multi.createFrom().items(Person.neo(), Person.neo()));
+        }
+
+        @Route(path = "echo")
+        Person echo(@Body Person person) {
+            return person;
+        }
+    }
+
+    public static class Person {
+
+        private String name;
+        private int age;
+        private Address address;
+        private List<String> tags;
+        public JsonObject extra;
+        private boolean active;
+
+        static Person neo() {
+            Person person = new Person();
+            person.name = "neo";
+            person.age = 37;
+            person.address = new Address();
+            person.address.city = "Zion";
+            person.tags = Arrays.asList("one");
+            person.extra = new JsonObject().put("key", "value");
+            person.active = true;
+            return person;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    public static class Address {
+
+        public String city;
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkus.vertx.web.mutiny;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.time.Duration;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.web.ReactiveRoutes;
+import io.quarkus.vertx.web.Route;
+import io.smallrye.mutiny.Multi;
+
+public class BatchedMultiRouteTest {
+
+    private static final int ITEMS = 10_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(BatchedRoutes.class));
+
+    @Test
+    public void testLargeJsonArray() {
+        when().get("/json-large").then().statusCode(200)
+                .header("content-type", "application/json")
+                .body("$", hasSize(ITEMS))
+                .body("[0].value", is(0))
+                .body("[" + (ITEMS - 1) + "].value", is(ITEMS - 1));
+    }
+
+    @Test
+    public void testSlowJsonArray() {
+        when().get("/json-slow").then().statusCode(200)
+                .header("content-type", "application/json")
+                .body(is("[\"0\",\"1\",\"2\"]"));
+    }
+
+    @Test
+    public void testLargeSSE() {
+        when().get("/sse-large").then().statusCode(200)
+                .header("content-type", "text/event-stream")
+                .body(startsWith("data: {\"value\":0}\nid: 0\n\n"))
+                .body(endsWith("data: {\"value\":" + (ITEMS - 1) + "}\nid: " + (ITEMS - 1) + "\n\n"));
+    }
+
+    @Test
+    public void testSlowSSE() {
+        when().get("/sse-slow").then().statusCode(200)
+                .header("content-type", "text/event-stream")
+                .body(is("event: tick\ndata: 0\nid: 10\n\nevent: tick\ndata: 1\nid: 11\n\n"));
+    }
+
+    static class BatchedRoutes {
+
+        @Route(path = "json-large")
+        Multi<Item> jsonLarge() {
+            return ReactiveRoutes.asJsonArray(Multi.createFrom().range(0, ITEMS).map(Item::new));
+        }
+
+        @Route(path = "json-slow")
+        Multi<String> jsonSlow() {
+            return ReactiveRoutes.asJsonArray(Multi.createFrom().ticks().every(Duration.ofMillis(50))
+                    .transform().byTakingFirstItems(3)
+                    .map(Object::toString));
+        }
+
+        @Route(path = "sse-large")
+        Multi<Item> sseLarge() {
+            return ReactiveRoutes.asEventStream(Multi.createFrom().range(0, ITEMS).map(Item::new));
+        }
+
+        @Route(path = "sse-slow")
+        Multi<ReactiveRoutes.ServerSentEvent<Long>> sseSlow() {
+            return ReactiveRoutes.asEventStream(Multi.createFrom().ticks().every(Duration.ofMillis(50))
+                    .transform().byTakingFirstItems(2)
+                    .map(tick -> new ReactiveRoutes.ServerSentEvent<Long>() {
+                        @Override
+                        public String event() {
+                            return "tick";
+                        }
+
+                        @Override
+                        public Long data() {
+                            return tick;
+                        }
+
+                        @Override
+                        public long id() {
+                            return tick + 10;
+                        }
+                    }));
+        }
+    }
+
+    public static class Item {
+
+        private final int value;
+
+        public Item(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.quarkus.vertx.web.runtime;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Writes the items of a {@code Multi} to the response, coalescing them into buffers.
+ * <p>
+ * Up to {@link #MAX_ITEMS} items are requested at a time and encoded straight into the current buffer. The buffer is
+ * written when it exceeds {@link #MAX_BYTES}, when all the requested items have been received, or {@link #MAX_DELAY}
+ * milliseconds after its first item so that slow streams are not held back. The items of a buffer are requested again
+ * only once it has been written, so the backpressure of the response is preserved.
+ * <p>
+ * The buffers are heap buffers that are not pooled: Vert.x writes them without ever releasing them, so they are left to
+ * the garbage collector. If the whole stream fits into a single buffer, the response is not chunked.
+ */
+@SuppressWarnings("ReactiveStreamsSubscriberImplementation")
+abstract class BatchingSubscriber<T> implements Subscriber<T> {
+
+    static final int MAX_ITEMS = 64;
+    static final int MAX_BYTES = 16 * 1024;
+    static final long MAX_DELAY = 10;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final RoutingContext rc;
+    private final HttpServerResponse response;
+    private final String contentType;
+
+    private Subscription upstream;
+    private ByteBuf buffer;
+    private int buffered;
+    private long requested;
+    private long count;
+    private long timer = -1;
+    private boolean started;
+    private boolean done;
+
+    BatchingSubscriber(RoutingContext rc, String contentType) {
+        this.rc = rc;
+        this.response = rc.response();
+        this.contentType = contentType;
+    }
+
+    /**
+     * Encodes the given item at the end of the buffer.
+     *
+     * @param index the position of the item in the stream
+     */
+    abstract void encode(ByteBuf buffer, T item, long index);
+
+    /**
+     * Encodes what follows the last item, the buffer is empty if the stream is empty.
+     *
+     * @param count the number of items of the stream
+     */
+    void encodeEnd(ByteBuf buffer, long count) {
+    }
+
+    @Override
+    public synchronized void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        request(MAX_ITEMS);
+    }
+
+    @Override
+    public synchronized void onNext(T item) {
+        if (done) {
+            return;
+        }
+        requested--;
+        if (buffer == null) {
+            buffer = Unpooled.buffer(INITIAL_CAPACITY);
+        }
+        try {
+            encode(buffer, item, count++);
+        } catch (RuntimeException e) {
+            upstream.cancel();
+            fail(e);
+            return;
+        }
+        buffered++;
+        if (buffer.readableBytes() >= MAX_BYTES || requested == 0) {
+            flush();
+        } else if (timer == -1) {
+            timer = rc.vertx().setTimer(MAX_DELAY, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    onTimeout(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable failure) {
+        if (done) {
+            return;
+        }
+        // the items received before the failure are written, as if they were not coalesced
+        if (buffer != null) {
+            flush();
+        }
+        fail(failure);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        cancelTimer();
+        if (buffer == null) {
+            buffer = Unpooled.buffer(INITIAL_CAPACITY);
+        }
+        encodeEnd(buffer, count);
+        if (!started) {
+            setContentType();
+        }
+        ByteBuf last = buffer;
+        buffer = null;
+        if (last.isReadable()) {
+            response.end(Buffer.buffer(last));
+        } else {
+            response.end();
+        }
+    }
+
+    private synchronized void onTimeout(long id) {
+        if (timer == id) {
+            timer = -1;
+            if (!done && buffer != null) {
+                flush();
+            }
+        }
+    }
+
+    private void flush() {
+        cancelTimer();
+        if (!started) {
+            started = true;
+            setContentType();
+            response.setChunked(true);
+        }
+        ByteBuf chunk = buffer;
+        int items = buffered;
+        buffer = null;
+        buffered = 0;
+        response.write(Buffer.buffer(chunk), new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ar) {
+                onWriteDone(ar, items);
+            }
+        });
+    }
+
+    private synchronized void onWriteDone(AsyncResult<Void> ar, int items) {
+        if (done) {
+            return;
+        }
+        if (ar.failed()) {
+            upstream.cancel();
+            fail(ar.cause());
+        } else {
+            request(items);
+        }
+    }
+
+    private void request(long n) {
+        requested += n;
+        upstream.request(n);
+    }
+
+    private void setContentType() {
+        MultiMap headers = response.headers();
+        if (headers.get("content-type") == null) {
+            headers.set("content-type", contentType);
+        }
+    }
+
+    private void fail(Throwable failure) {
+        done = true;
+        cancelTimer();
+        buffer = null;
+        rc.fail(failure);
+    }
+
+    private void cancelTimer() {
+        if (timer != -1) {
+            rc.vertx().cancelTimer(timer);
+            timer = -1;
+        }
+    }
+}
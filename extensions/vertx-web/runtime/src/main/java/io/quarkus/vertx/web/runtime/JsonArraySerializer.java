@@ -0,0 +1,24 @@
+package io.quarkus.vertx.web.runtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Writes the {@link JsonArray} properties like the Vert.x mapper, when the routes use the default {@code ObjectMapper}.
+ */
+public class JsonArraySerializer extends StdSerializer<JsonArray> {
+
+    public JsonArraySerializer() {
+        super(JsonArray.class);
+    }
+
+    @Override
+    public void serialize(JsonArray value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeObject(value.getList());
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.vertx.web.runtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes the {@link JsonObject} properties like the Vert.x mapper, when the routes use the default {@code ObjectMapper}.
+ */
+public class JsonObjectSerializer extends StdSerializer<JsonObject> {
+
+    public JsonObjectSerializer() {
+        super(JsonObject.class);
+    }
+
+    @Override
+    public void serialize(JsonObject value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeObject(value.getMap());
+    }
+}
@@ -1,20 +1,10 @@
 package io.quarkus.vertx.web.runtime;
 
-import java.util.function.Function;
-
-import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
-
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.smallrye.mutiny.Multi;
-import io.vertx.core.AsyncResult;
-import io.vertx.core.Handler;
-import io.vertx.core.MultiMap;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
 
-@SuppressWarnings("ReactiveStreamsSubscriberImplementation")
 public class MultiJsonArraySupport {
 
     private MultiJsonArraySupport() {
@@ -26,93 +16,53 @@ public class MultiJsonArraySupport {
     }
 
     public static void subscribeString(Multi<String> multi, RoutingContext rc) {
-        write(multi.map(new Function<String, Buffer>() {
+        multi.subscribe().withSubscriber(new JsonArraySubscriber<String>(rc) {
             @Override
-            public Buffer apply(String s) {
-                return Buffer.buffer("\"" + s + "\"");
-            }
-        }), rc);
-    }
-
-    private static void write(Multi<Buffer> multi, RoutingContext rc) {
-        HttpServerResponse response = rc.response();
-        multi.subscribe().withSubscriber(new Subscriber<Buffer>() {
-            Subscription upstream;
-
-            @Override
-            public void onSubscribe(Subscription subscription) {
-                this.upstream = subscription;
-                this.upstream.request(1);
-            }
-
-            @Override
-            public void onNext(Buffer item) {
-                Buffer toBeWritten;
-                if (response.bytesWritten() == 0) {
-                    response.setChunked(true);
-                    MultiMap headers = response.headers();
-                    if (headers.get("content-type") == null) {
-                        headers.set("content-type", "application/json");
-                    }
-                    toBeWritten = Buffer.buffer("[").appendBuffer(item);
-                } else {
-                    toBeWritten = Buffer.buffer(",").appendBuffer(item);
-                }
-                response.write(toBeWritten, new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ar) {
-                        onWriteDone(upstream, ar, rc);
-                    }
-                });
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                rc.fail(throwable);
-            }
-
-            @Override
-            public void onComplete() {
-                completeJsonArray(response);
+            void encodeItem(ByteBuf buffer, String item) {
+                buffer.writeByte('"');
+                ByteBufUtil.writeUtf8(buffer, item);
+                buffer.writeByte('"');
             }
         });
     }
 
-    private static void onWriteDone(Subscription subscription, AsyncResult<Void> ar, RoutingContext rc) {
-        if (ar.failed()) {
-            rc.fail(ar.cause());
-        } else {
-            subscription.request(1);
-        }
-    }
-
     public static void subscribeObject(Multi<Object> multi, RoutingContext rc) {
-        write(multi.map(new Function<Object, Buffer>() {
+        multi.subscribe().withSubscriber(new JsonArraySubscriber<Object>(rc) {
             @Override
-            public Buffer apply(Object item) {
-                return Json.encodeToBuffer(item);
+            void encodeItem(ByteBuf buffer, Object item) {
+                RouteJson.encodeTo(item, buffer);
             }
-        }), rc);
+        });
     }
 
     public static void fail(RoutingContext rc) {
         rc.fail(new Exception("Unsupported type"));
     }
 
-    private static void completeJsonArray(HttpServerResponse response) {
-        if (response.bytesWritten() == 0) { // No item
-            MultiMap headers = response.headers();
-            if (headers.get("content-type") == null) {
-                headers.set("content-type", "application/json");
-            }
-            response.end("[]");
-        } else {
-            response.end("]");
-        }
-    }
-
     public static boolean isJsonArray(Multi<?> multi) {
         return multi instanceof JsonArrayMulti;
     }
 
+    private abstract static class JsonArraySubscriber<T> extends BatchingSubscriber<T> {
+
+        JsonArraySubscriber(RoutingContext rc) {
+            super(rc, "application/json");
+        }
+
+        abstract void encodeItem(ByteBuf buffer, T item);
+
+        @Override
+        void encode(ByteBuf buffer, T item, long index) {
+            buffer.writeByte(index == 0 ? '[' : ',');
+            encodeItem(buffer, item);
+        }
+
+        @Override
+        void encodeEnd(ByteBuf buffer, long count) {
+            if (count == 0) {
+                buffer.writeByte('[');
+            }
+            buffer.writeByte(']');
+        }
+    }
 }
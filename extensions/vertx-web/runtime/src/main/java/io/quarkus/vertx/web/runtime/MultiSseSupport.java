@@ -1,123 +1,53 @@
 package io.quarkus.vertx.web.runtime;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
-import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
-
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.quarkus.vertx.web.ReactiveRoutes;
 import io.smallrye.mutiny.Multi;
-import io.vertx.core.AsyncResult;
-import io.vertx.core.Handler;
-import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
 
-@SuppressWarnings("ReactiveStreamsSubscriberImplementation")
 public class MultiSseSupport {
 
+    private static final byte[] EVENT = "event: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DATA = "data: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ID = "\nid: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
     private MultiSseSupport() {
         // Avoid direct instantiation.
     }
 
     public static void subscribeString(Multi<String> multi, RoutingContext rc) {
-        subscribeBuffer(multi.map(new Function<String, Buffer>() {
+        multi.subscribe().withSubscriber(new SseSubscriber<String>(rc) {
             @Override
-            public Buffer apply(String s) {
-                return Buffer.buffer(s);
-            }
-        }), rc);
-    }
-
-    private static void initialize(HttpServerResponse response) {
-        if (response.bytesWritten() == 0) {
-            MultiMap headers = response.headers();
-            if (headers.get("content-type") == null) {
-                headers.set("content-type", "text/event-stream");
+            void encode(ByteBuf buffer, String item, long index) {
+                writeEventStart(buffer, null);
+                ByteBufUtil.writeUtf8(buffer, item);
+                writeEventEnd(buffer, index);
             }
-            response.setChunked(true);
-        }
-    }
-
-    private static void onWriteDone(Subscription subscription, AsyncResult<Void> ar, RoutingContext rc) {
-        if (ar.failed()) {
-            rc.fail(ar.cause());
-        } else {
-            subscription.request(1);
-        }
+        });
     }
 
     public static void write(Multi<Buffer> multi, RoutingContext rc) {
-        HttpServerResponse response = rc.response();
-        multi.subscribe().withSubscriber(new Subscriber<Buffer>() {
-            Subscription upstream;
-
+        multi.subscribe().withSubscriber(new SseSubscriber<Buffer>(rc) {
             @Override
-            public void onSubscribe(Subscription subscription) {
-                this.upstream = subscription;
-                this.upstream.request(1);
-            }
-
-            @Override
-            public void onNext(Buffer item) {
-                initialize(response);
-                response.write(item, new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ar) {
-                        onWriteDone(upstream, ar, rc);
-                    }
-                });
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                rc.fail(throwable);
-            }
-
-            @Override
-            public void onComplete() {
-                endOfStream(response);
+            void encode(ByteBuf buffer, Buffer item, long index) {
+                buffer.writeBytes(item.getByteBuf());
             }
         });
     }
 
     public static void subscribeBuffer(Multi<Buffer> multi, RoutingContext rc) {
-        HttpServerResponse response = rc.response();
-        multi.subscribe().withSubscriber(new Subscriber<Buffer>() {
-            Subscription upstream;
-            final AtomicLong count = new AtomicLong();
-
-            @Override
-            public void onSubscribe(Subscription subscription) {
-                this.upstream = subscription;
-                this.upstream.request(1);
-            }
-
-            @Override
-            public void onNext(Buffer item) {
-                initialize(response);
-                Buffer buffer = Buffer.buffer("data: ").appendBuffer(item).appendString("\n")
-                        .appendString("id: " + count.getAndIncrement())
-                        .appendString("\n\n");
-                response.write(buffer, new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ar) {
-                        onWriteDone(upstream, ar, rc);
-                    }
-                });
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                rc.fail(throwable);
-            }
-
+        multi.subscribe().withSubscriber(new SseSubscriber<Buffer>(rc) {
             @Override
-            public void onComplete() {
-                endOfStream(response);
+            void encode(ByteBuf buffer, Buffer item, long index) {
+                writeEventStart(buffer, null);
+                buffer.writeBytes(item.getByteBuf());
+                writeEventEnd(buffer, index);
             }
         });
     }
@@ -141,33 +71,71 @@ public class MultiSseSupport {
     }
 
     public static void subscribeObject(Multi<Object> multi, RoutingContext rc) {
-        AtomicLong count = new AtomicLong();
-        write(multi.map(new Function<Object, Buffer>() {
+        multi.subscribe().withSubscriber(new SseSubscriber<Object>(rc) {
+            // the events without identifier are numbered on their own
+            long count;
+
             @Override
-            public Buffer apply(Object o) {
-                if (o instanceof ReactiveRoutes.ServerSentEvent) {
-                    ReactiveRoutes.ServerSentEvent<?> ev = (ReactiveRoutes.ServerSentEvent<?>) o;
-                    long id = ev.id() != -1 ? ev.id() : count.getAndIncrement();
-                    String e = ev.event() == null ? "" : "event: " + ev.event() + "\n";
-                    return Buffer.buffer(e + "data: " + Json.encodeToBuffer(ev.data()) + "\nid: " + id + "\n\n");
+            void encode(ByteBuf buffer, Object item, long index) {
+                if (item instanceof ReactiveRoutes.ServerSentEvent) {
+                    ReactiveRoutes.ServerSentEvent<?> ev = (ReactiveRoutes.ServerSentEvent<?>) item;
+                    long id = ev.id() != -1 ? ev.id() : count++;
+                    writeEventStart(buffer, ev.event());
+                    RouteJson.encodeTo(ev.data(), buffer);
+                    writeEventEnd(buffer, id);
                 } else {
-                    return Buffer.buffer("data: " + Json.encodeToBuffer(o) + "\nid: " + count.getAndIncrement() + "\n\n");
+                    writeEventStart(buffer, null);
+                    RouteJson.encodeTo(item, buffer);
+                    writeEventEnd(buffer, count++);
                 }
             }
-        }), rc);
+        });
     }
 
-    private static void endOfStream(HttpServerResponse response) {
-        if (response.bytesWritten() == 0) { // No item
-            MultiMap headers = response.headers();
-            if (headers.get("content-type") == null) {
-                headers.set("content-type", "text/event-stream");
-            }
+    private static void writeEventStart(ByteBuf buffer, String event) {
+        if (event != null) {
+            buffer.writeBytes(EVENT);
+            ByteBufUtil.writeUtf8(buffer, event);
+            buffer.writeByte('\n');
         }
-        response.end();
+        buffer.writeBytes(DATA);
+    }
+
+    private static void writeEventEnd(ByteBuf buffer, long id) {
+        buffer.writeBytes(ID);
+        writeDecimal(buffer, id);
+        buffer.writeBytes(END);
+    }
+
+    /**
+     * Writes the ASCII digits of the given number without going through a {@code String}.
+     */
+    private static void writeDecimal(ByteBuf buffer, long value) {
+        if (value < 0) {
+            ByteBufUtil.writeAscii(buffer, Long.toString(value));
+            return;
+        }
+        int digits = 1;
+        for (long v = value / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        int index = buffer.writerIndex();
+        buffer.ensureWritable(digits);
+        for (int i = index + digits - 1; i >= index; i--) {
+            buffer.setByte(i, (int) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.writerIndex(index + digits);
     }
 
     public static boolean isSSE(Multi<?> multi) {
         return multi instanceof SSEMulti;
     }
+
+    private abstract static class SseSubscriber<T> extends BatchingSubscriber<T> {
+
+        SseSubscriber(RoutingContext rc) {
+            super(rc, "text/event-stream");
+        }
+    }
 }
@@ -11,7 +11,6 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
 
 @SuppressWarnings("ReactiveStreamsSubscriberImplementation")
@@ -115,7 +114,7 @@ public class MultiSupport {
         subscribeBuffer(multi.map(new Function<Object, Buffer>() {
             @Override
             public Buffer apply(Object o) {
-                return Json.encodeToBuffer(o);
+                return RouteJson.encode(o);
             }
         }), rc);
     }
@@ -0,0 +1,107 @@
+package io.quarkus.vertx.web.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.quarkus.arc.Arc;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Encodes the items produced by the routes to JSON and decodes the {@code @Body} parameters.
+ * <p>
+ * The Vert.x mapper is used by default. When the Jackson serializers are generated at build time, the default
+ * {@link ObjectMapper} is used instead, so that the routes benefit from them and from the customizations of the
+ * application. It is looked up lazily as the routes are set up before the beans are available.
+ */
+public final class RouteJson {
+
+    private static volatile boolean useObjectMapper;
+    private static volatile ObjectMapper objectMapper;
+
+    private RouteJson() {
+    }
+
+    static void useObjectMapper(boolean enabled) {
+        useObjectMapper = enabled;
+        objectMapper = null;
+    }
+
+    private static ObjectMapper objectMapper() {
+        ObjectMapper mapper = objectMapper;
+        if (mapper == null) {
+            mapper = Arc.container().instance(ObjectMapper.class).get();
+            objectMapper = mapper;
+        }
+        return mapper;
+    }
+
+    public static Buffer encode(Object value) {
+        if (!useObjectMapper) {
+            return Json.encodeToBuffer(value);
+        }
+        if (value instanceof JsonObject) {
+            return ((JsonObject) value).toBuffer();
+        }
+        if (value instanceof JsonArray) {
+            return ((JsonArray) value).toBuffer();
+        }
+        ByteBuf buf = Unpooled.buffer();
+        try (OutputStream out = new ByteBufOutputStream(buf)) {
+            objectMapper().writeValue(out, value);
+        } catch (IOException e) {
+            buf.release();
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+        }
+        return Buffer.buffer(buf);
+    }
+
+    /**
+     * Encodes the given value at the end of the buffer.
+     */
+    static void encodeTo(Object value, ByteBuf buf) {
+        if (!useObjectMapper) {
+            buf.writeBytes(Json.encodeToBuffer(value).getByteBuf());
+        } else if (value instanceof JsonObject) {
+            buf.writeBytes(((JsonObject) value).toBuffer().getByteBuf());
+        } else if (value instanceof JsonArray) {
+            buf.writeBytes(((JsonArray) value).toBuffer().getByteBuf());
+        } else {
+            int index = buf.writerIndex();
+            try {
+                objectMapper().writeValue((OutputStream) new ByteBufOutputStream(buf), value);
+            } catch (IOException e) {
+                buf.writerIndex(index);
+                throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+            }
+        }
+    }
+
+    public static Object decodeBody(RoutingContext ctx, Class<?> type) {
+        if (!useObjectMapper) {
+            JsonObject json = ctx.getBodyAsJson();
+            return json != null ? json.mapTo(type) : null;
+        }
+        Buffer body = ctx.getBody();
+        if (body == null) {
+            return null;
+        }
+        try (InputStream in = new ByteBufInputStream(body.getByteBuf())) {
+            return objectMapper().readValue(in, type);
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode:" + e.getMessage());
+        }
+    }
+}
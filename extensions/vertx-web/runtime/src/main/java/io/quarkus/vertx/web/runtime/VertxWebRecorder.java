@@ -6,6 +6,7 @@ import java.util.function.Function;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.http.runtime.RouterProducer;
+import io.quarkus.vertx.http.runtime.compression.HttpCompressionHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Router;
@@ -32,7 +33,7 @@ public class VertxWebRecorder {
     }
 
     public Function<Router, io.vertx.ext.web.Route> createRouteFunction(RouteMatcher matcher,
-            Handler<RoutingContext> bodyHandler) {
+            Handler<RoutingContext> bodyHandler, boolean uncompressed) {
         return new Function<Router, io.vertx.ext.web.Route>() {
             @Override
             public io.vertx.ext.web.Route apply(Router router) {
@@ -62,6 +63,15 @@ public class VertxWebRecorder {
                         route.consumes(consumes);
                     }
                 }
+                if (uncompressed) {
+                    route.handler(new Handler<RoutingContext>() {
+                        @Override
+                        public void handle(RoutingContext ctx) {
+                            HttpCompressionHandler.disableCompression(ctx);
+                            ctx.next();
+                        }
+                    });
+                }
                 if (bodyHandler != null) {
                     route.handler(bodyHandler);
                 }
@@ -70,6 +80,10 @@ public class VertxWebRecorder {
         };
     }
 
+    public void useObjectMapperForJson(boolean enabled) {
+        RouteJson.useObjectMapper(enabled);
+    }
+
     public void clearCacheOnShutdown(ShutdownContext shutdown) {
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -1,12 +1,21 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the data of the given resource, which may be a slice of a larger buffer rather than a copy.
+     */
+    default ByteBuffer getResourceBuffer(String resource) {
+        byte[] data = getResourceData(resource);
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -0,0 +1,184 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A single uncompressed archive of the classes of the application jars, memory-mapped at runtime.
+ * <p>
+ * The archive starts with a header, followed by the entries, then by an open addressing hash table of the entries
+ * indexed by the hash code of their name. Only the first class of a given name is stored, along with the index of the
+ * jar it comes from, which matches the order in which the class loader looks for classes.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class MappedClassArchive {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    // name hash and entry offset
+    private static final int SLOT_SIZE = 8;
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final ByteBuffer buffer;
+    private final int tableOffset;
+    private final int mask;
+
+    private MappedClassArchive(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported class archive");
+        }
+        this.tableOffset = buffer.getInt(8);
+        this.mask = buffer.getInt(12) - 1;
+    }
+
+    static MappedClassArchive map(Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            return new MappedClassArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @return the data of the given class, {@code null} if it does not come from the jar of the given index
+     */
+    ByteBuffer find(String resource, int jarIndex) {
+        int hash = resource.hashCode();
+        byte[] name = null;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            int slotOffset = tableOffset + slot * SLOT_SIZE;
+            int entryOffset = buffer.getInt(slotOffset + 4);
+            if (entryOffset == 0) {
+                return null;
+            }
+            if (buffer.getInt(slotOffset) != hash) {
+                continue;
+            }
+            if (name == null) {
+                name = resource.getBytes(StandardCharsets.UTF_8);
+            }
+            int nameLength = buffer.getShort(entryOffset + 4) & 0xFFFF;
+            if (nameLength != name.length || !nameEquals(entryOffset + 6, name)) {
+                continue;
+            }
+            if (buffer.getInt(entryOffset) != jarIndex) {
+                return null;
+            }
+            int dataOffset = entryOffset + 6 + nameLength;
+            int dataLength = buffer.getInt(dataOffset);
+            ByteBuffer data = buffer.duplicate();
+            data.position(dataOffset + 4);
+            data.limit(dataOffset + 4 + dataLength);
+            return data.slice();
+        }
+    }
+
+    private boolean nameEquals(int offset, byte[] name) {
+        for (int i = 0; i < name.length; i++) {
+            if (buffer.get(offset + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the classes of the given jars, in order, into the given archive.
+     */
+    public static void write(Path archive, List<Path> jars) throws IOException {
+        List<String> names = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+        Set<String> written = new HashSet<>();
+        int tableOffset;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            // the table offset and size are set once the entries are written
+            out.writeInt(0);
+            out.writeInt(0);
+            for (int jarIndex = 0; jarIndex < jars.size(); jarIndex++) {
+                try (ZipFile zip = new ZipFile(jars.get(jarIndex).toFile())) {
+                    Enumeration<? extends ZipEntry> entries = zip.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        if (entry.isDirectory() || !entry.getName().endsWith(CLASS_SUFFIX)
+                                || !written.add(entry.getName())) {
+                            continue;
+                        }
+                        byte[] name = entry.getName().getBytes(StandardCharsets.UTF_8);
+                        byte[] data = readEntry(zip, entry);
+                        names.add(entry.getName());
+                        offsets.add(out.size());
+                        out.writeInt(jarIndex);
+                        out.writeShort(name.length);
+                        out.write(name);
+                        out.writeInt(data.length);
+                        out.write(data);
+                        if (out.size() < 0) {
+                            throw new IOException("The classes of the application do not fit in a single archive");
+                        }
+                    }
+                }
+            }
+
+            tableOffset = out.size();
+            int slots = tableSize(names.size());
+            int[] table = new int[slots * 2];
+            for (int i = 0; i < names.size(); i++) {
+                int hash = names.get(i).hashCode();
+                int slot = hash & (slots - 1);
+                while (table[slot * 2 + 1] != 0) {
+                    slot = (slot + 1) & (slots - 1);
+                }
+                table[slot * 2] = hash;
+                table[slot * 2 + 1] = offsets.get(i);
+            }
+            for (int value : table) {
+                out.writeInt(value);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(8);
+            header.putInt(tableOffset).putInt(tableSize(names.size())).flip();
+            channel.write(header, 8);
+        }
+    }
+
+    /**
+     * @return the size of the table, a power of two keeping it at most half full
+     */
+    private static int tableSize(int entries) {
+        return Integer.highestOneBit(Math.max(entries, 1) * 4 - 1);
+    }
+
+    private static byte[] readEntry(ZipFile zip, ZipEntry entry) throws IOException {
+        try (InputStream in = zip.getInputStream(entry)) {
+            byte[] data = new byte[(int) entry.getSize()];
+            int pos = 0;
+            while (pos < data.length) {
+                int read = in.read(data, pos, data.length - pos);
+                if (read == -1) {
+                    throw new IOException("Failed to read all data for " + entry.getName());
+                }
+                pos += read;
+            }
+            return data;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.bootstrap.runner;
+
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.security.ProtectionDomain;
+
+/**
+ * A jar of the application whose classes are read from the {@link MappedClassArchive}, the jar itself is only opened
+ * to look up its other resources.
+ */
+class MappedClassResource implements ClassLoadingResource {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final JarResource jar;
+    private final MappedClassArchive archive;
+    private final int jarIndex;
+
+    MappedClassResource(JarResource jar, MappedClassArchive archive, int jarIndex) {
+        this.jar = jar;
+        this.archive = archive;
+        this.jarIndex = jarIndex;
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        if (!resource.endsWith(CLASS_SUFFIX)) {
+            return jar.getResourceData(resource);
+        }
+        ByteBuffer buffer = archive.find(resource, jarIndex);
+        if (buffer == null) {
+            return null;
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+    @Override
+    public ByteBuffer getResourceBuffer(String resource) {
+        if (!resource.endsWith(CLASS_SUFFIX)) {
+            return jar.getResourceBuffer(resource);
+        }
+        return archive.find(resource, jarIndex);
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        return jar.getResourceURL(resource);
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return jar.getManifestInfo();
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain(ClassLoader runnerClassLoader) {
+        return jar.getProtectionDomain(runnerClassLoader);
+    }
+
+    @Override
+    public void close() {
+        jar.close();
+    }
+}
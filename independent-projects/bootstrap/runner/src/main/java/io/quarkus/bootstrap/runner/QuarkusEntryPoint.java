@@ -12,11 +12,19 @@ import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
+import org.jboss.logging.Logger;
 
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_CLASSES_DAT = "quarkus/quarkus-classes.dat";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
+    /**
+     * Records the classes loaded during the startup into the serialized application, to preload them at the next starts
+     */
+    public static final String RECORD_PRELOADED_CLASSES = "quarkus.launch.record-preloaded-classes";
+    public static final String PRELOAD_CLASSES = "quarkus.launch.preload-classes";
 
     public static void main(String... args) throws Throwable {
         System.setProperty("java.util.logging.manager", org.jboss.logmanager.LogManager.class.getName());
@@ -36,8 +44,10 @@ public class QuarkusEntryPoint {
             doReaugment(appRoot);
         } else {
             SerializedApplication app = null;
-            try (InputStream in = Files.newInputStream(appRoot.resolve(QUARKUS_APPLICATION_DAT))) {
+            Path applicationDat = appRoot.resolve(QUARKUS_APPLICATION_DAT);
+            try (InputStream in = Files.newInputStream(applicationDat)) {
                 app = SerializedApplication.read(in, appRoot);
+                setupClassPreloading(app, applicationDat);
                 Thread.currentThread().setContextClassLoader(app.getRunnerClassLoader());
                 Class<?> mainClass = app.getRunnerClassLoader().loadClass(app.getMainClass());
                 mainClass.getMethod("main", String[].class).invoke(null, args);
@@ -50,6 +60,30 @@ public class QuarkusEntryPoint {
         }
     }
 
+    private static void setupClassPreloading(SerializedApplication app, Path applicationDat) {
+        if (Boolean.getBoolean(RECORD_PRELOADED_CLASSES)) {
+            app.getRunnerClassLoader().recordDefinedClasses(new Consumer<List<String>>() {
+                @Override
+                public void accept(List<String> classNames) {
+                    Logger logger = Logger.getLogger(QuarkusEntryPoint.class);
+                    try {
+                        SerializedApplication.writePreloadedClasses(applicationDat, classNames);
+                        logger.infof("Recorded %d classes to preload into %s", classNames.size(), applicationDat);
+                    } catch (IOException e) {
+                        logger.warnf(e, "Failed to record the classes to preload into %s", applicationDat);
+                    }
+                }
+            });
+            return;
+        }
+        // preloading only pays off when a spare CPU can do it
+        int threads = Math.min(2, Runtime.getRuntime().availableProcessors() - 1);
+        if (!app.getPreloadedClasses().isEmpty() && threads > 0
+                && Boolean.parseBoolean(System.getProperty(PRELOAD_CLASSES, "true"))) {
+            app.getRunnerClassLoader().preload(app.getPreloadedClasses(), threads);
+        }
+    }
+
     private static void doReaugment(Path appRoot) throws IOException, ClassNotFoundException, IllegalAccessException,
             InvocationTargetException, NoSuchMethodException {
         try (ObjectInputStream in = new ObjectInputStream(
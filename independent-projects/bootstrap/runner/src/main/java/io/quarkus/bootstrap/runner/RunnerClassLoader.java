@@ -2,15 +2,19 @@ package io.quarkus.bootstrap.runner;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -27,6 +31,11 @@ public class RunnerClassLoader extends ClassLoader {
 
     private final ConcurrentMap<ClassLoadingResource, ProtectionDomain> protectionDomains = new ConcurrentHashMap<>();
 
+    // the names of the classes defined during the startup, in order, null when not recorded
+    private volatile Queue<String> definedClasses;
+    private volatile Consumer<List<String>> definedClassesConsumer;
+    private volatile boolean closed;
+
     static {
         registerAsParallelCapable();
     }
@@ -70,18 +79,23 @@ public class RunnerClassLoader extends ClassLoader {
             if (resources != null) {
                 String classResource = name.replace(".", "/") + ".class";
                 for (ClassLoadingResource resource : resources) {
-                    byte[] data = resource.getResourceData(classResource);
+                    ByteBuffer data = resource.getResourceBuffer(classResource);
                     if (data == null) {
                         continue;
                     }
                     definePackage(packageName, resources);
-                    return defineClass(name, data, 0, data.length,
+                    Class<?> defined = defineClass(name, data,
                             protectionDomains.computeIfAbsent(resource, new Function<ClassLoadingResource, ProtectionDomain>() {
                                 @Override
                                 public ProtectionDomain apply(ClassLoadingResource ce) {
                                     return ce.getProtectionDomain(RunnerClassLoader.this);
                                 }
                             }));
+                    Queue<String> recorded = definedClasses;
+                    if (recorded != null) {
+                        recorded.add(name);
+                    }
+                    return defined;
                 }
             }
         }
@@ -203,7 +217,53 @@ public class RunnerClassLoader extends ClassLoader {
         }
     }
 
+    /**
+     * Records the classes defined until the application is started, the consumer is then given their names in the order
+     * they were defined.
+     */
+    void recordDefinedClasses(Consumer<List<String>> consumer) {
+        definedClassesConsumer = consumer;
+        definedClasses = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Called once the application is started.
+     */
+    void startupCompleted() {
+        Queue<String> recorded = definedClasses;
+        if (recorded == null) {
+            return;
+        }
+        definedClasses = null;
+        definedClassesConsumer.accept(new ArrayList<>(recorded));
+    }
+
+    /**
+     * Loads the given classes on background threads, ahead of the threads that need them. The classes are not
+     * initialized, the ones that cannot be loaded are ignored.
+     */
+    void preload(List<String> classNames, int threads) {
+        for (int i = 0; i < threads; i++) {
+            int first = i;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = first; j < classNames.size() && !closed; j += threads) {
+                        try {
+                            loadClass(classNames.get(j), false);
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            // the class will fail the same way when needed, if ever
+                        }
+                    }
+                }
+            }, "quarkus-class-preloader-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
     public void close() {
+        closed = true;
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
                 i.close();
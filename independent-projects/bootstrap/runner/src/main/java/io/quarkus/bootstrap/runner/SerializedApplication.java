@@ -1,5 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -9,7 +11,10 @@ import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -30,14 +35,20 @@ import java.util.zip.ZipEntry;
 public class SerializedApplication {
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 1;
+    private static final int VERSION = 2;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
+    private final List<String> preloadedClasses;
 
     public SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass) {
+        this(runnerClassLoader, mainClass, Collections.emptyList());
+    }
+
+    public SerializedApplication(RunnerClassLoader runnerClassLoader, String mainClass, List<String> preloadedClasses) {
         this.runnerClassLoader = runnerClassLoader;
         this.mainClass = mainClass;
+        this.preloadedClasses = preloadedClasses;
     }
 
     public RunnerClassLoader getRunnerClassLoader() {
@@ -48,12 +59,21 @@ public class SerializedApplication {
         return mainClass;
     }
 
+    /**
+     * @return the classes loaded during the startup of a training run, in the order they were loaded
+     */
+    public List<String> getPreloadedClasses() {
+        return preloadedClasses;
+    }
+
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst)
             throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
+            // no preloaded classes until a training run records them
+            data.writeInt(0);
             data.writeUTF(mainClass);
             data.writeInt(classPath.size());
             for (Path jar : classPath) {
@@ -82,9 +102,16 @@ public class SerializedApplication {
             if (in.readInt() != VERSION) {
                 throw new RuntimeException("Wrong class path version");
             }
+            List<String> preloadedClasses = readPreloadedClasses(in);
             String mainClass = in.readUTF();
             Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
             Set<String> parentFirstPackages = new HashSet<>();
+            // the classes are read from the class archive if the application has one
+            MappedClassArchive classArchive = null;
+            Path classArchivePath = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT);
+            if (Files.exists(classArchivePath)) {
+                classArchive = MappedClassArchive.map(classArchivePath);
+            }
             int numPaths = in.readInt();
             for (int pathCount = 0; pathCount < numPaths; ++pathCount) {
                 String path = in.readUTF();
@@ -94,7 +121,9 @@ public class SerializedApplication {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource jar = new JarResource(info, appRoot.resolve(path));
+                ClassLoadingResource resource = classArchive == null ? jar
+                        : new MappedClassResource(jar, classArchive, pathCount);
                 int numDirs = in.readInt();
                 for (int i = 0; i < numDirs; ++i) {
                     String dir = in.readUTF();
@@ -115,8 +144,49 @@ public class SerializedApplication {
             }
             return new SerializedApplication(
                     new RunnerClassLoader(ClassLoader.getSystemClassLoader(), resourceDirectoryMap, parentFirstPackages),
-                    mainClass);
+                    mainClass, preloadedClasses);
+        }
+    }
+
+    /**
+     * Replaces the preloaded classes of the given serialized application.
+     * <p>
+     * The preloaded classes come first, so that they can be replaced without reading the rest of the application.
+     */
+    public static void writePreloadedClasses(Path applicationDat, List<String> preloadedClasses) throws IOException {
+        byte[] application = Files.readAllBytes(applicationDat);
+        int offset;
+        try (ByteArrayInputStream bytes = new ByteArrayInputStream(application);
+                DataInputStream in = new DataInputStream(bytes)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unsupported serialized application " + applicationDat);
+            }
+            readPreloadedClasses(in);
+            offset = application.length - bytes.available();
+        }
+        Path tmp = applicationDat.resolveSibling(applicationDat.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(preloadedClasses.size());
+            for (String preloadedClass : preloadedClasses) {
+                out.writeUTF(preloadedClass);
+            }
+            out.write(application, offset, application.length - offset);
+        }
+        Files.move(tmp, applicationDat, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static List<String> readPreloadedClasses(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        List<String> preloadedClasses = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            preloadedClasses.add(in.readUTF());
         }
+        return preloadedClasses;
     }
 
     private static String readNullableString(DataInputStream in) throws IOException {
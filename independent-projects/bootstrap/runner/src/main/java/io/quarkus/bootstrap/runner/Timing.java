@@ -91,6 +91,10 @@ public class Timing {
         logger.infof("Profile %s activated. %s", profile, liveCoding ? "Live Coding activated." : "");
         logger.infof("Installed features: [%s]", features);
         bootStartTime = -1;
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl instanceof RunnerClassLoader) {
+            ((RunnerClassLoader) cl).startupCompleted();
+        }
     }
 
     public static void printStopTime(String name) {
@@ -0,0 +1,106 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedClassArchiveTest {
+
+    private static final String FIRST = First.class.getName().replace('.', '/') + ".class";
+    private static final String SECOND = Second.class.getName().replace('.', '/') + ".class";
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testFind() throws Exception {
+        List<Path> jars = Arrays.asList(jar("first.jar", First.class), jar("second.jar", First.class, Second.class));
+        Path archive = appRoot.resolve("classes.dat");
+        MappedClassArchive.write(archive, jars);
+
+        MappedClassArchive mapped = MappedClassArchive.map(archive);
+        assertArrayEquals(classData(First.class), bytes(mapped.find(FIRST, 0)));
+        // the first jar wins
+        assertNull(mapped.find(FIRST, 1));
+        assertNull(mapped.find(SECOND, 0));
+        assertArrayEquals(classData(Second.class), bytes(mapped.find(SECOND, 1)));
+        assertNull(mapped.find("org/acme/Missing.class", 0));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        Path archive = appRoot.resolve("classes.dat");
+        MappedClassArchive.write(archive, Collections.emptyList());
+        assertNull(MappedClassArchive.map(archive).find(FIRST, 0));
+    }
+
+    @Test
+    public void testLoadFromArchive() throws Exception {
+        List<Path> jars = Arrays.asList(jar("lib/first.jar", First.class), jar("lib/second.jar", Second.class));
+        Path applicationDat = appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        Files.createDirectories(applicationDat.getParent());
+        try (OutputStream out = Files.newOutputStream(applicationDat)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, jars, Collections.emptyList());
+        }
+        MappedClassArchive.write(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT), jars);
+
+        SerializedApplication app;
+        try (InputStream in = Files.newInputStream(applicationDat)) {
+            app = SerializedApplication.read(in, appRoot);
+        }
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        Class<?> second = classLoader.loadClass(Second.class.getName());
+        assertNotSame(Second.class, second);
+        assertEquals(classLoader, second.getClassLoader());
+        assertNotNull(second.getProtectionDomain().getCodeSource().getLocation());
+        assertNotNull(classLoader.getResource(FIRST));
+        classLoader.close();
+    }
+
+    private Path jar(String name, Class<?>... classes) {
+        Path jar = appRoot.resolve(name);
+        jar.getParent().toFile().mkdirs();
+        ShrinkWrap.create(JavaArchive.class).addClasses(classes).as(ZipExporter.class).exportTo(jar.toFile());
+        return jar;
+    }
+
+    private static byte[] classData(Class<?> clazz) throws Exception {
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            byte[] data = new byte[in.available()];
+            int pos = 0;
+            while (pos < data.length) {
+                pos += in.read(data, pos, data.length - pos);
+            }
+            return data;
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        assertNotNull(buffer);
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+    public static class First {
+    }
+
+    public static class Second {
+    }
+}
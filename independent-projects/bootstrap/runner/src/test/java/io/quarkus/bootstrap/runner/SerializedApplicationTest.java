@@ -0,0 +1,74 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SerializedApplicationTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testRecordPreloadedClasses() throws Exception {
+        Path jar = appRoot.resolve("lib").resolve("app.jar");
+        Files.createDirectories(jar.getParent());
+        ShrinkWrap.create(JavaArchive.class)
+                .addClasses(First.class, Second.class)
+                .as(ZipExporter.class).exportTo(jar.toFile());
+        Path applicationDat = appRoot.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        Files.createDirectories(applicationDat.getParent());
+        try (OutputStream out = Files.newOutputStream(applicationDat)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, Collections.singletonList(jar),
+                    Collections.emptyList());
+        }
+
+        SerializedApplication app = read(applicationDat);
+        assertTrue(app.getPreloadedClasses().isEmpty());
+
+        // a training run records the classes loaded until the startup completes
+        List<String> recorded = new ArrayList<>();
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        classLoader.recordDefinedClasses(recorded::addAll);
+        Class<?> second = classLoader.loadClass(Second.class.getName());
+        assertNotSame(Second.class, second);
+        classLoader.loadClass(First.class.getName());
+        classLoader.startupCompleted();
+        classLoader.close();
+        assertEquals(Arrays.asList(Second.class.getName(), First.class.getName()), recorded);
+
+        SerializedApplication.writePreloadedClasses(applicationDat, recorded);
+        app = read(applicationDat);
+        assertEquals(recorded, app.getPreloadedClasses());
+        assertEquals("org.acme.Main", app.getMainClass());
+        // the rest of the application is kept
+        assertNotSame(Second.class, app.getRunnerClassLoader().loadClass(Second.class.getName()));
+        app.getRunnerClassLoader().close();
+    }
+
+    private SerializedApplication read(Path applicationDat) throws Exception {
+        try (InputStream in = Files.newInputStream(applicationDat)) {
+            return SerializedApplication.read(in, appRoot);
+        }
+    }
+
+    public static class First {
+    }
+
+    public static class Second {
+    }
+}
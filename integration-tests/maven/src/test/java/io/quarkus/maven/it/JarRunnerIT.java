@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
 
+import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.deployment.pkg.steps.JarResultBuildStep;
 import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.maven.it.verifier.MavenProcessInvocationResult;
@@ -83,12 +84,17 @@ public class JarRunnerIT extends MojoTestBase {
 
     @Test
     public void testThatFastJarFormatWorks() throws Exception {
-        assertThatFastJarFormatWorks(null);
+        assertThatFastJarFormatWorks(null, false);
     }
 
     @Test
     public void testThatFastJarCustomOutputDirFormatWorks() throws Exception {
-        assertThatFastJarFormatWorks("custom");
+        assertThatFastJarFormatWorks("custom", false);
+    }
+
+    @Test
+    public void testThatFastJarMappedClassArchiveWorks() throws Exception {
+        assertThatFastJarFormatWorks(null, true);
     }
 
     @Test
@@ -229,6 +235,48 @@ public class JarRunnerIT extends MojoTestBase {
 
     }
 
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_11)
+    public void testThatWarmedUpAppCDSAreUsableWithFastJar() throws Exception {
+        File testDir = initProject("projects/classic", "projects/project-classic-console-output-appcds-fast-jar");
+        RunningInvoker running = new RunningInvoker(testDir, false);
+
+        MavenProcessInvocationResult result = running
+                .execute(Arrays.asList("package", "-DskipTests", "-Dquarkus.package.type=fast-jar",
+                        "-Dquarkus.package.create-appcds=true", "-Dquarkus.package.appcds-warmup-paths=/app/hello/package"),
+                        Collections.emptyMap());
+
+        await().atMost(2, TimeUnit.MINUTES).until(() -> result.getProcess() != null && !result.getProcess().isAlive());
+        assertThat(running.log()).containsIgnoringCase("BUILD SUCCESS")
+                .contains("Time to the first response of '/app/hello/package'");
+        running.stop();
+
+        Path jar = testDir.toPath().toAbsolutePath()
+                .resolve(Paths.get("target/quarkus-app/quarkus-run.jar"));
+        File output = new File(testDir, "target/output.log");
+        output.createNewFile();
+
+        // by using '-Xshare:on' we ensure that the JVM will fail if for any reason is cannot use the AppCDS
+        Process process = doLaunch(jar.getFileName(), output,
+                Arrays.asList("-XX:SharedArchiveFile=app-cds.jsa", "-Xshare:on", "-Xlog:class+path=info"))
+                        .directory(jar.getParent().toFile()).start();
+        try {
+            // Wait until server up
+            dumpFileContentOnFailure(() -> {
+                await()
+                        .pollDelay(1, TimeUnit.SECONDS)
+                        .atMost(1, TimeUnit.MINUTES).until(() -> DevModeTestUtils.getHttpResponse("/app/hello/package", 200));
+                return null;
+            }, output, ConditionTimeoutException.class);
+
+            String logs = FileUtils.readFileToString(output, "UTF-8");
+
+            assertThatOutputWorksCorrectly(logs);
+        } finally {
+            process.destroy();
+        }
+    }
+
     /**
      * Tests that quarkus.arc.exclude-dependency.* can be used for modules in a multimodule project
      */
@@ -355,14 +403,16 @@ public class JarRunnerIT extends MojoTestBase {
         }
     }
 
-    private void assertThatFastJarFormatWorks(String outputDir) throws Exception {
-        File testDir = initProject("projects/classic", "projects/project-classic-console-output-fast-jar" + outputDir);
+    private void assertThatFastJarFormatWorks(String outputDir, boolean mappedClassArchive) throws Exception {
+        File testDir = initProject("projects/classic", "projects/project-classic-console-output-fast-jar" + outputDir
+                + (mappedClassArchive ? "-mapped" : ""));
         RunningInvoker running = new RunningInvoker(testDir, false);
 
         MavenProcessInvocationResult result = running
                 .execute(Arrays.asList("package",
                         "-DskipTests",
                         "-Dquarkus.package.type=fast-jar",
+                        "-Dquarkus.package.mapped-class-archive=" + mappedClassArchive,
                         outputDir == null ? "" : "-Dquarkus.package.output-directory=" + outputDir), Collections.emptyMap());
 
         await().atMost(1, TimeUnit.MINUTES).until(() -> result.getProcess() != null && !result.getProcess().isAlive());
@@ -378,6 +428,8 @@ public class JarRunnerIT extends MojoTestBase {
                         outputDir == null ? JarResultBuildStep.DEFAULT_FAST_JAR_DIRECTORY_NAME : outputDir,
                         "quarkus-run.jar"));
         Assertions.assertTrue(Files.exists(jar));
+        Assertions.assertEquals(mappedClassArchive,
+                Files.exists(jar.resolveSibling(QuarkusEntryPoint.QUARKUS_CLASSES_DAT)));
         File output = new File(testDir, "target/output.log");
         output.createNewFile();
 
@@ -0,0 +1,132 @@
+package io.quarkus.redis.it;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+import io.quarkus.redis.client.RedisClient;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+@Path("/quarkus-redis/cache")
+@ApplicationScoped
+public class CacheResource {
+
+    // Same default prefix as the cache extension.
+    private static final String KEY_PREFIX = "cache:";
+
+    @Inject
+    CachedService service;
+
+    @Inject
+    RedisClient redisClient;
+
+    @GET
+    @Path("/redis/{key}")
+    public String redis(@PathParam("key") String key) {
+        return service.redis(key);
+    }
+
+    @DELETE
+    @Path("/redis/{key}")
+    public void invalidateRedis(@PathParam("key") String key) {
+        service.invalidateRedis(key);
+    }
+
+    @DELETE
+    @Path("/redis")
+    public void invalidateAllRedis() {
+        service.invalidateAllRedis();
+    }
+
+    @GET
+    @Path("/expiring/{key}")
+    public String expiring(@PathParam("key") String key) {
+        return service.expiring(key);
+    }
+
+    @GET
+    @Path("/expiring/{key}/ttl")
+    public String expiringTtl(@PathParam("key") String key) {
+        return redisClient.batch(Collections.singletonList(
+                Request.cmd(Command.PTTL).arg(redisKey(CachedService.EXPIRING_CACHE, key)))).get(0).toString();
+    }
+
+    @DELETE
+    @Path("/expiring")
+    public void invalidateAllExpiring() {
+        service.invalidateAllExpiring();
+    }
+
+    @GET
+    @Path("/near/{key}")
+    public String near(@PathParam("key") String key) {
+        return service.near(key);
+    }
+
+    @DELETE
+    @Path("/near")
+    public void invalidateAllNear() {
+        service.invalidateAllNear();
+    }
+
+    @GET
+    @Path("/near/subscribers")
+    public String nearSubscribers() {
+        return redisClient.pubsub(Arrays.asList("NUMSUB", invalidationChannel(CachedService.NEAR_CACHE))).get(1).toString();
+    }
+
+    /**
+     * Writes a value in Redis the way another instance of the application would, without invalidating the near cache.
+     */
+    @POST
+    @Path("/near/{key}/remote-write")
+    public void nearRemoteWrite(@PathParam("key") String key, String value) {
+        redisClient.batch(Collections.singletonList(
+                Request.cmd(Command.SET).arg(redisKey(CachedService.NEAR_CACHE, key)).arg(serialize(value))));
+    }
+
+    /**
+     * Publishes an invalidation the way another instance of the application would.
+     */
+    @POST
+    @Path("/near/{key}/remote-invalidation")
+    public void nearRemoteInvalidation(@PathParam("key") String key) {
+        redisClient.batch(Collections.singletonList(
+                Request.cmd(Command.PUBLISH).arg(invalidationChannel(CachedService.NEAR_CACHE)).arg(serialize(key))));
+    }
+
+    private static String invalidationChannel(String cacheName) {
+        return KEY_PREFIX + cacheName + ":invalidations";
+    }
+
+    private static byte[] redisKey(String cacheName, String key) {
+        byte[] prefix = (KEY_PREFIX + cacheName + ':').getBytes(StandardCharsets.UTF_8);
+        byte[] serializedKey = serialize(key);
+        byte[] redisKey = Arrays.copyOf(prefix, prefix.length + serializedKey.length);
+        System.arraycopy(serializedKey, 0, redisKey, prefix.length, serializedKey.length);
+        return redisKey;
+    }
+
+    private static byte[] serialize(Object object) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(object);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
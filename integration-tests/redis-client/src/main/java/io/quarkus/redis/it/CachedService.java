@@ -0,0 +1,57 @@
+package io.quarkus.redis.it;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+
+@ApplicationScoped
+public class CachedService {
+
+    static final String REDIS_CACHE = "redis-cache";
+    static final String EXPIRING_CACHE = "expiring-cache";
+    static final String NEAR_CACHE = "near-cache";
+
+    private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+    @CacheResult(cacheName = REDIS_CACHE)
+    public String redis(String key) {
+        return compute(key);
+    }
+
+    @CacheInvalidate(cacheName = REDIS_CACHE)
+    public void invalidateRedis(String key) {
+    }
+
+    @CacheInvalidateAll(cacheName = REDIS_CACHE)
+    public void invalidateAllRedis() {
+    }
+
+    @CacheResult(cacheName = EXPIRING_CACHE)
+    public String expiring(String key) {
+        return compute(key);
+    }
+
+    @CacheInvalidateAll(cacheName = EXPIRING_CACHE)
+    public void invalidateAllExpiring() {
+    }
+
+    @CacheResult(cacheName = NEAR_CACHE)
+    public String near(String key) {
+        return compute(key);
+    }
+
+    @CacheInvalidateAll(cacheName = NEAR_CACHE)
+    public void invalidateAllNear() {
+    }
+
+    // The values tell how many times they have been computed.
+    private String compute(String key) {
+        return key + "-" + invocations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+}
@@ -1,6 +1,9 @@
 package io.quarkus.redis.it;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -10,8 +13,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.codec.ByteArrayCodec;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 @Path("/quarkus-redis")
@@ -37,6 +43,39 @@ public class RedisResource {
         this.redisClient.set(Arrays.asList(key, value));
     }
 
+    @POST
+    @Path("/sync/batch/{key}")
+    public String batchSync(@PathParam("key") String key, String value) {
+        List<Response> responses = redisClient.batch(Arrays.asList(
+                Request.cmd(Command.SET).arg(key).arg(value),
+                Request.cmd(Command.APPEND).arg(key).arg("-batch"),
+                Request.cmd(Command.GET).arg(key)));
+        return responses.get(2).toString();
+    }
+
+    @POST
+    @Path("/sync/transaction/{key}")
+    public String transactionSync(@PathParam("key") String key, String value) {
+        List<Response> responses = redisClient.transaction(Arrays.asList(
+                Request.cmd(Command.SET).arg(key).arg(value),
+                Request.cmd(Command.APPEND).arg(key).arg("-transaction"),
+                Request.cmd(Command.GET).arg(key)));
+        return responses.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @GET
+    @Path("/sync/typed/{key}")
+    public String getTypedSync(@PathParam("key") String key) {
+        byte[] value = redisClient.withCodec(ByteArrayCodec.INSTANCE).get(key);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    @POST
+    @Path("/sync/typed/{key}")
+    public void setTypedSync(@PathParam("key") String key, String value) {
+        redisClient.withCodec(ByteArrayCodec.INSTANCE).set(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
     // reactive
     @GET
     @Path("/reactive/{key}")
@@ -54,4 +93,25 @@ public class RedisResource {
                 .map(response -> null);
     }
 
+    @POST
+    @Path("/reactive/batch/{key}")
+    public Uni<String> batchReactive(@PathParam("key") String key, String value) {
+        return reactiveRedisClient
+                .batch(Arrays.asList(
+                        io.vertx.mutiny.redis.client.Request.newInstance(Request.cmd(Command.SET).arg(key).arg(value)),
+                        io.vertx.mutiny.redis.client.Request.newInstance(Request.cmd(Command.APPEND).arg(key).arg("-batch")),
+                        io.vertx.mutiny.redis.client.Request.newInstance(Request.cmd(Command.GET).arg(key))))
+                .map(responses -> responses.get(2).toString());
+    }
+
+    @POST
+    @Path("/reactive/typed/{key}")
+    public Uni<String> pushTypedReactive(@PathParam("key") String key, String value) {
+        return reactiveRedisClient.withCodec(ByteArrayCodec.INSTANCE)
+                .rpush(key, value.getBytes(StandardCharsets.UTF_8))
+                .flatMap(length -> reactiveRedisClient.withCodec(ByteArrayCodec.INSTANCE).lrange(key, 0, -1))
+                .map(values -> values.stream().map(v -> new String(v, StandardCharsets.UTF_8))
+                        .collect(Collectors.joining(",")));
+    }
+
 }
@@ -59,4 +59,65 @@ class QuarkusRedisTest {
                 .statusCode(200)
                 .body(CoreMatchers.is(REACTIVE_VALUE));
     }
+
+    @Test
+    public void batch() {
+        RestAssured.given()
+                .body(SYNC_VALUE)
+                .when()
+                .post("/quarkus-redis/sync/batch/batch-" + SYNC_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(SYNC_VALUE + "-batch"));
+
+        RestAssured.given()
+                .body(REACTIVE_VALUE)
+                .when()
+                .post("/quarkus-redis/reactive/batch/batch-" + REACTIVE_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(REACTIVE_VALUE + "-batch"));
+    }
+
+    @Test
+    public void transaction() {
+        RestAssured.given()
+                .body(SYNC_VALUE)
+                .when()
+                .post("/quarkus-redis/sync/transaction/transaction-" + SYNC_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("OK," + (SYNC_VALUE + "-transaction").length() + "," + SYNC_VALUE + "-transaction"));
+    }
+
+    @Test
+    public void typed() {
+        RestAssured.given()
+                .when()
+                .get("/quarkus-redis/sync/typed/typed-" + SYNC_KEY)
+                .then()
+                .statusCode(204);
+
+        RestAssured.given()
+                .body(SYNC_VALUE)
+                .when()
+                .post("/quarkus-redis/sync/typed/typed-" + SYNC_KEY)
+                .then()
+                .statusCode(204);
+
+        RestAssured.given()
+                .when()
+                .get("/quarkus-redis/sync/typed/typed-" + SYNC_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(SYNC_VALUE));
+
+        RestAssured.given()
+                .body(REACTIVE_VALUE)
+                .when()
+                .post("/quarkus-redis/reactive/typed/typed-" + REACTIVE_KEY)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(REACTIVE_VALUE));
+    }
 }
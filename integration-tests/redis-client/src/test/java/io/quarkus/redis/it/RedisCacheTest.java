@@ -0,0 +1,89 @@
+package io.quarkus.redis.it;
+
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+@QuarkusTest
+class RedisCacheTest {
+
+    @BeforeEach
+    public void clearCaches() {
+        // The entries of the previous runs are still in Redis.
+        RestAssured.delete("/quarkus-redis/cache/redis").then().statusCode(204);
+        RestAssured.delete("/quarkus-redis/cache/expiring").then().statusCode(204);
+        RestAssured.delete("/quarkus-redis/cache/near").then().statusCode(204);
+    }
+
+    @Test
+    public void valueIsComputedOnMiss() {
+        assertValue("redis/computed", "computed-1");
+        assertValue("redis/computed", "computed-1");
+        assertValue("redis/other", "other-1");
+    }
+
+    @Test
+    public void entryIsInvalidated() {
+        assertValue("redis/invalidated", "invalidated-1");
+        assertValue("redis/kept", "kept-1");
+
+        RestAssured.delete("/quarkus-redis/cache/redis/invalidated").then().statusCode(204);
+
+        assertValue("redis/invalidated", "invalidated-2");
+        assertValue("redis/kept", "kept-1");
+    }
+
+    @Test
+    public void allEntriesAreInvalidated() {
+        assertValue("redis/first", "first-1");
+        assertValue("redis/second", "second-1");
+
+        RestAssured.delete("/quarkus-redis/cache/redis").then().statusCode(204);
+
+        assertValue("redis/first", "first-2");
+        assertValue("redis/second", "second-2");
+    }
+
+    @Test
+    public void entryExpires() {
+        assertValue("expiring/expiring", "expiring-1");
+        long ttl = Long.parseLong(RestAssured.get("/quarkus-redis/cache/expiring/expiring/ttl").asString());
+        if (ttl <= 0 || ttl > 1000) {
+            throw new AssertionError("Unexpected time to live: " + ttl);
+        }
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> RestAssured.get("/quarkus-redis/cache/expiring/expiring").asString().equals("expiring-2"));
+    }
+
+    @Test
+    public void nearCacheIsInvalidatedByOtherInstances() {
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> RestAssured.get("/quarkus-redis/cache/near/subscribers").asString().equals("1"));
+
+        assertValue("near/near", "near-1");
+
+        // Another instance writes in Redis: the near cache still holds the previous value.
+        RestAssured.given().body("remote").post("/quarkus-redis/cache/near/near/remote-write").then().statusCode(204);
+        assertValue("near/near", "near-1");
+
+        // Then it publishes the invalidation.
+        RestAssured.post("/quarkus-redis/cache/near/near/remote-invalidation").then().statusCode(204);
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> RestAssured.get("/quarkus-redis/cache/near/near").asString().equals("remote"));
+    }
+
+    private static void assertValue(String path, String expected) {
+        RestAssured.get("/quarkus-redis/cache/" + path)
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is(expected));
+    }
+}